@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api;
+
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Report;
+import com.smartsheet.api.models.enums.ReportInclusion;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>This interface provides asynchronous methods to access Report resources. See {@link ReportResources} for the
+ * meaning of each parameter and {@link AsyncSmartsheet} for how failures are reported.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncReportResources {
+
+    /**
+     * <p>Get a report.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /reports/{reportId}</p>
+     *
+     * @param reportId the reportId of the report
+     * @param includes used To specify the optional objects to include.
+     * @param pageSize page size parameter for pagination
+     * @param page     page parameter for pagination
+     * @param level    compatibility level
+     * @return the future report
+     */
+    CompletableFuture<Report> getReport(
+            long reportId,
+            EnumSet<ReportInclusion> includes,
+            Integer pageSize,
+            Integer page,
+            Integer level
+    );
+
+    /**
+     * <p>List all reports.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /reports</p>
+     *
+     * @param pagination    pagination parameters for paging result
+     * @param modifiedSince restrict results to reports modified on or after this date
+     * @return the future page of reports
+     */
+    CompletableFuture<PagedResult<Report>> listReports(PaginationParameters pagination, Date modifiedSince);
+}
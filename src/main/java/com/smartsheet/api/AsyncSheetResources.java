@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api;
+
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
+import com.smartsheet.api.models.enums.SourceInclusion;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>This interface provides asynchronous methods to access Sheet resources. See {@link SheetResources} for the
+ * meaning of each parameter and {@link AsyncSmartsheet} for how failures are reported.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetResources {
+
+    /**
+     * <p>List all sheets.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheets</p>
+     *
+     * @param includes      the source inclusion
+     * @param pagination    the object containing the pagination parameters
+     * @param modifiedSince restrict results to sheets modified on or after this date
+     * @return the future page of sheets
+     */
+    CompletableFuture<PagedResult<Sheet>> listSheets(
+            EnumSet<SourceInclusion> includes,
+            PaginationParameters pagination,
+            Date modifiedSince
+    );
+
+    /**
+     * <p>Get a sheet, loading all row and column data.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheets/{sheetId}</p>
+     *
+     * @param sheetId the id of the sheet
+     * @return the future sheet
+     */
+    CompletableFuture<Sheet> getSheet(long sheetId);
+
+    /**
+     * <p>Get a sheet.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheets/{sheetId}</p>
+     *
+     * @param sheetId        the id of the sheet
+     * @param includes       used to specify the optional objects to include.
+     * @param excludes       the exclude parameters
+     * @param rowIds         the row ids
+     * @param rowNumbers     the row numbers
+     * @param columnIds      the column ids
+     * @param pageSize       the page size
+     * @param page           the page number
+     * @param ifVersionAfter only fetch Sheet if more recent version available
+     * @param level          compatibility level
+     * @return the future sheet
+     */
+    CompletableFuture<Sheet> getSheet(
+            long sheetId,
+            EnumSet<SheetInclusion> includes,
+            EnumSet<ObjectExclusion> excludes,
+            Set<Long> rowIds,
+            Set<Integer> rowNumbers,
+            Set<Long> columnIds,
+            Integer pageSize,
+            Integer page,
+            Integer ifVersionAfter,
+            Integer level
+    );
+
+    /**
+     * <p>Create a sheet in default "Sheets" collection.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: POST /sheets</p>
+     *
+     * @param sheet the sheet to create
+     * @return the future created sheet
+     */
+    CompletableFuture<Sheet> createSheet(Sheet sheet);
+
+    /**
+     * <p>Update a sheet.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: PUT /sheets/{sheetId}</p>
+     *
+     * @param sheet the sheet to update
+     * @return the future updated sheet
+     */
+    CompletableFuture<Sheet> updateSheet(Sheet sheet);
+
+    /**
+     * <p>Delete a sheet.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: DELETE /sheets/{sheetId}</p>
+     *
+     * @param sheetId the id of the sheet
+     * @return the future which completes once the sheet is deleted
+     */
+    CompletableFuture<Void> deleteSheet(long sheetId);
+
+    /**
+     * <p>Return the AsyncSheetRowResources object that provides asynchronous access to Row resources associated with
+     * Sheet resources.</p>
+     *
+     * @return the associated row resources
+     */
+    AsyncSheetRowResources rowResources();
+}
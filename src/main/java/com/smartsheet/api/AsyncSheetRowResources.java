@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api;
+
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.RowInclusion;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>This interface provides asynchronous methods to access Row resources that are associated with a sheet object.
+ * See {@link SheetRowResources} for the meaning of each parameter and {@link AsyncSmartsheet} for how failures are
+ * reported.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSheetRowResources {
+
+    /**
+     * <p>Insert rows to a sheet.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: POST /sheets/{sheetId}/rows</p>
+     *
+     * @param sheetId  the sheet id
+     * @param rows     the list of rows to create
+     * @param includes optional objects to include
+     * @param excludes optional objects to exclude
+     * @return the future list of created rows
+     */
+    CompletableFuture<List<Row>> addRows(
+            long sheetId,
+            List<Row> rows,
+            EnumSet<RowInclusion> includes,
+            EnumSet<ObjectExclusion> excludes
+    );
+
+    /**
+     * <p>Get a row.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheets/{sheetId}/rows/{rowId}</p>
+     *
+     * @param sheetId  the id of the sheet
+     * @param rowId    the id of the row
+     * @param includes optional objects to include
+     * @param excludes optional objects to exclude
+     * @return the future row
+     */
+    CompletableFuture<Row> getRow(long sheetId, long rowId, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes);
+
+    /**
+     * <p>Update rows.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: PUT /sheets/{sheetId}/rows</p>
+     *
+     * @param sheetId  the id of the sheet
+     * @param rows     the list of rows
+     * @param includes optional objects to include
+     * @param excludes optional objects to exclude
+     * @return the future list of updated rows
+     */
+    CompletableFuture<List<Row>> updateRows(
+            long sheetId,
+            List<Row> rows,
+            EnumSet<RowInclusion> includes,
+            EnumSet<ObjectExclusion> excludes
+    );
+
+    /**
+     * <p>Delete rows.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: DELETE /sheets/{sheetId}/rows?ids={ids}</p>
+     *
+     * @param sheetId            the sheet id
+     * @param rowIds             the row ids
+     * @param ignoreRowsNotFound whether or not to ignore rows which cannot be found
+     * @return the future list of deleted row ids
+     */
+    CompletableFuture<List<Long>> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound);
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api;
+
+/**
+ * <p>This interface provides non-blocking access to sheets ({@link AsyncSheetResources}), their rows
+ * ({@link AsyncSheetRowResources}) and reports ({@link AsyncReportResources}); the other Smartsheet REST API resources
+ * are only available through the blocking {@link Smartsheet} interface. Every method returns a
+ * {@link java.util.concurrent.CompletableFuture} which completes once the response has been received and deserialized;
+ * failures complete the future exceptionally with a {@link java.util.concurrent.CompletionException} whose cause is the
+ * SmartsheetException the equivalent synchronous method would have thrown.</p>
+ *
+ * <p>Asynchronous access covers these methods only: listing, getting, creating, updating and deleting sheets; adding,
+ * getting, updating and deleting rows; getting and listing reports. Everything else, e.g. columns, attachments,
+ * workspaces or users, has no asynchronous equivalent yet.</p>
+ *
+ * <p>Requests are sent through the HttpClient configured on the owning {@link Smartsheet}, so they share its connection
+ * pool and retry settings. They are traced like blocking requests where that HttpClient supports tracing; the
+ * {@link com.smartsheet.api.internal.http.JdkHttpClient} does not.</p>
+ *
+ * <p>Thread Safety: Implementation of this interface must be thread safe.</p>
+ */
+public interface AsyncSmartsheet {
+
+    /**
+     * <p>Returns the AsyncSheetResources instance that provides asynchronous access to Sheet resources.</p>
+     *
+     * @return the sheet resources
+     */
+    AsyncSheetResources sheetResources();
+
+    /**
+     * <p>Returns the AsyncReportResources instance that provides asynchronous access to Report resources.</p>
+     *
+     * @return the report resources
+     */
+    AsyncReportResources reportResources();
+}
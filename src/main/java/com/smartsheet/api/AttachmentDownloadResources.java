@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api;
+
+import com.smartsheet.api.models.Attachment;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface AttachmentDownloadResources {
+
+    /**
+     * <p>Downloads the content of a file attachment to a file.</p>
+     *
+     * <p>The attachment must carry its download url, i.e. it must have been returned by one of the getAttachment
+     * methods, e.g. {@link SheetAttachmentResources#getAttachment(long, long)}. Large files are fetched as parallel
+     * byte ranges when the server supports them, an interrupted download resumes where it stopped when it is
+     * repeated, and the number of requests in flight across all downloads is bounded.</p>
+     *
+     * @param attachment the attachment
+     * @param target     the file to write, which is replaced once the download completes
+     * @return the number of bytes downloaded
+     * @throws IllegalArgumentException if any argument is null, or the attachment has no download url
+     * @throws IOException              if the file cannot be written or the content cannot be read
+     * @throws SmartsheetException      if the server returns an error
+     */
+    long downloadAttachment(Attachment attachment, Path target) throws IOException, SmartsheetException;
+
+    /**
+     * <p>Downloads the content behind an attachment download url to a file.</p>
+     *
+     * <p>The url is requested as-is, without the access token. Large files are fetched as parallel byte ranges when
+     * the server supports them, an interrupted download resumes where it stopped when it is repeated, and the number
+     * of requests in flight across all downloads is bounded.</p>
+     *
+     * @param url    the download url, e.g. {@link Attachment#getUrl()}
+     * @param target the file to write, which is replaced once the download completes
+     * @return the number of bytes downloaded
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws IOException              if the file cannot be written or the content cannot be read
+     * @throws SmartsheetException      if the server returns an error
+     */
+    long downloadAttachment(String url, Path target) throws IOException, SmartsheetException;
+}
@@ -20,7 +20,9 @@ import com.smartsheet.api.models.Attachment;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 
 /**
  * <p>This interface provides methods to access CommentAttachment resources.</p>
@@ -70,6 +72,26 @@ public interface CommentAttachmentResources {
      */
     Attachment attachFile(long sheetId, long commentId, File file, String contentType) throws FileNotFoundException, SmartsheetException;
 
+    /**
+     * <p>Attach a file to a comment.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: POST /sheets/{sheetId}/comments/{commentId}/attachments</p>
+     *
+     * @param sheetId     the id of the sheet
+     * @param commentId   the id of the comment
+     * @param file        the file to attach
+     * @param contentType the content type of the file
+     * @return the created attachment
+     * @throws IOException                 if the file does not exist or cannot be read
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    Attachment attachFile(long sheetId, long commentId, Path file, String contentType) throws IOException, SmartsheetException;
+
     /**
      * <p>Attach file for simple upload.</p>
      *
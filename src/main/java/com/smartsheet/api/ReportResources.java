@@ -21,6 +21,7 @@ import com.smartsheet.api.models.PaginationParameters;
 import com.smartsheet.api.models.Report;
 import com.smartsheet.api.models.ReportPublish;
 import com.smartsheet.api.models.SheetEmail;
+import com.smartsheet.api.models.enums.CellProperty;
 import com.smartsheet.api.models.enums.ReportInclusion;
 
 import java.io.OutputStream;
@@ -81,6 +82,38 @@ public interface ReportResources {
             Integer level
     ) throws SmartsheetException;
 
+    /**
+     * <p>Get a report, reading only the given properties of its cells.</p>
+     *
+     * <p>The other cell properties are skipped while the response is parsed instead of being bound. The column id and
+     * virtual column id of each cell are always read.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /report/{reportId}</p>
+     *
+     * @param reportId       the reportId of the report
+     * @param includes       used To specify the optional objects to include.
+     * @param pageSize       page size parameter for pagination
+     * @param page           page parameter for pagination
+     * @param level          compatibility level
+     * @param cellProperties the cell properties to read, or null to read them all
+     * @return the report (note that if there is no such resource, this method will throw ResourceNotFoundException
+     * rather than returning null)
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    Report getReport(
+            long reportId,
+            EnumSet<ReportInclusion> includes,
+            Integer pageSize,
+            Integer page,
+            Integer level,
+            EnumSet<CellProperty> cellProperties
+    ) throws SmartsheetException;
+
     /**
      * <p>Send a sheet as a PDF attachment via Email To the designated recipients.</p>
      *
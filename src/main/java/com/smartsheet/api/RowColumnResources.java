@@ -23,7 +23,9 @@ import com.smartsheet.api.models.enums.CellHistoryInclusion;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.EnumSet;
 
 /**
@@ -174,6 +176,32 @@ public interface RowColumnResources {
     void addImageToCell(long sheetId, long rowId, long columnId, File file, String contentType,
                         boolean overrideValidation, String altText) throws FileNotFoundException, SmartsheetException;
 
+    /**
+     * Add an image to a cell.
+     * <p>
+     * It mirrors the following Smartsheet REST API method: POST /sheets/{sheetId}/rows/{rowId}/columns/{columnId}/cellimages
+     * <p>
+     * Exceptions:
+     * InvalidRequestException : if there is any problem with the REST API request
+     * AuthorizationException : if there is any problem with the REST API authorization(access token)
+     * ResourceNotFoundException : if the resource can not be found
+     * ServiceUnavailableException : if the REST API service is not available (possibly due to rate limiting)
+     * SmartsheetRestException : if there is any other REST API related error occurred during the operation
+     * SmartsheetException : if there is any other error occurred during the operation
+     *
+     * @param sheetId            the sheet Id
+     * @param rowId              the row id
+     * @param columnId           the column id
+     * @param file               the file
+     * @param contentType        MIME type
+     * @param overrideValidation override column type validation if true
+     * @param altText            alternate description for the image
+     * @throws SmartsheetException   the smartsheet exception
+     * @throws IOException           if the file does not exist or cannot be read
+     */
+    void addImageToCell(long sheetId, long rowId, long columnId, Path file, String contentType,
+                        boolean overrideValidation, String altText) throws IOException, SmartsheetException;
+
     /**
      * Add an image to a cell.
      * <p>
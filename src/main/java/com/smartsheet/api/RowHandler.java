@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api;
+
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+
+/**
+ * <p>Receives a sheet one row at a time, see {@link SheetResources#streamSheet(long, RowHandler)}.</p>
+ *
+ * <p>The handler is called on the thread that streams the sheet. An exception thrown by the handler stops the
+ * stream and is passed on to the caller.</p>
+ */
+@FunctionalInterface
+public interface RowHandler {
+
+    /**
+     * <p>Called once, before the first row, with the sheet and its columns but without rows.</p>
+     *
+     * <p>Properties the server sends after the rows (e.g. discussions and attachments) are not set yet; they are
+     * set on the same instance, which is also returned by streamSheet, once the last row has been handled.</p>
+     *
+     * @param sheet the sheet
+     */
+    default void onSheet(Sheet sheet) {
+    }
+
+    /**
+     * <p>Called for each row, in the order the server returns them.</p>
+     *
+     * @param row the row
+     */
+    void onRow(Row row);
+}
@@ -25,6 +25,7 @@ import com.smartsheet.api.models.SheetEmail;
 import com.smartsheet.api.models.SheetPublish;
 import com.smartsheet.api.models.SortSpecifier;
 import com.smartsheet.api.models.UpdateRequest;
+import com.smartsheet.api.models.enums.CellProperty;
 import com.smartsheet.api.models.enums.CopyExclusion;
 import com.smartsheet.api.models.enums.ObjectExclusion;
 import com.smartsheet.api.models.enums.PaperSize;
@@ -34,6 +35,7 @@ import com.smartsheet.api.models.enums.SheetTemplateInclusion;
 import com.smartsheet.api.models.enums.SourceInclusion;
 
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.Set;
@@ -216,6 +218,46 @@ public interface SheetResources {
                    Integer ifVersionAfter,
                    Integer level) throws SmartsheetException;
 
+    /**
+     * <p>Get a sheet, reading only the given properties of its cells.</p>
+     *
+     * <p>The other cell properties (e.g. format, hyperlink, image) are skipped while the response is parsed instead of
+     * being bound, which saves time and memory on large sheets. The column id of each cell is always read.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id             the id of the sheet
+     * @param includes       used to specify the optional objects to include.
+     * @param excludes       the exclude parameters
+     * @param rowIds         the row ids
+     * @param rowNumbers     the row numbers
+     * @param columnIds      the column ids
+     * @param pageSize       the page size
+     * @param page           the page number
+     * @param ifVersionAfter only fetch Sheet if more recent version available
+     * @param level          compatibility level
+     * @param cellProperties the cell properties to read, or null to read them all
+     * @return the sheet resource (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    Sheet getSheet(long id,
+                   EnumSet<SheetInclusion> includes,
+                   EnumSet<ObjectExclusion> excludes,
+                   Set<Long> rowIds,
+                   Set<Integer> rowNumbers,
+                   Set<Long> columnIds,
+                   Integer pageSize,
+                   Integer page,
+                   Integer ifVersionAfter,
+                   Integer level,
+                   EnumSet<CellProperty> cellProperties) throws SmartsheetException;
+
     /**
      * <p>Get sheet by ID. Load all row and column data</p>
      *
@@ -231,6 +273,100 @@ public interface SheetResources {
      */
     Sheet getSheet(long sheetId) throws SmartsheetException;
 
+    /**
+     * <p>Get a sheet, handing its rows to a handler one at a time as they are read from the response.</p>
+     *
+     * <p>Unlike getSheet, the rows are never collected, so the memory used does not grow with the size of the sheet.
+     * The handler first receives the sheet with its columns, then each row.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id             the id of the sheet
+     * @param includes       used to specify the optional objects to include.
+     * @param excludes       the exclude parameters
+     * @param rowIds         the row ids
+     * @param rowNumbers     the row numbers
+     * @param columnIds      the column ids
+     * @param pageSize       the page size
+     * @param page           the page number
+     * @param level          compatibility level
+     * @param cellProperties the cell properties to read, or null to read them all
+     * @param handler        receives the sheet and then each row
+     * @return the sheet resource without rows (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    Sheet streamSheet(long id,
+                      EnumSet<SheetInclusion> includes,
+                      EnumSet<ObjectExclusion> excludes,
+                      Set<Long> rowIds,
+                      Set<Integer> rowNumbers,
+                      Set<Long> columnIds,
+                      Integer pageSize,
+                      Integer page,
+                      Integer level,
+                      EnumSet<CellProperty> cellProperties,
+                      RowHandler handler) throws SmartsheetException;
+
+    /**
+     * <p>Get a sheet, handing its rows to a handler one at a time as they are read from the response. All cell
+     * properties are read.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: GET /sheet/{id}</p>
+     *
+     * @param id         the id of the sheet
+     * @param includes   used to specify the optional objects to include.
+     * @param excludes   the exclude parameters
+     * @param rowIds     the row ids
+     * @param rowNumbers the row numbers
+     * @param columnIds  the column ids
+     * @param pageSize   the page size
+     * @param page       the page number
+     * @param level      compatibility level
+     * @param handler    receives the sheet and then each row
+     * @return the sheet resource without rows (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    default Sheet streamSheet(long id,
+                              EnumSet<SheetInclusion> includes,
+                              EnumSet<ObjectExclusion> excludes,
+                              Set<Long> rowIds,
+                              Set<Integer> rowNumbers,
+                              Set<Long> columnIds,
+                              Integer pageSize,
+                              Integer page,
+                              Integer level,
+                              RowHandler handler) throws SmartsheetException {
+        return streamSheet(id, includes, excludes, rowIds, rowNumbers, columnIds, pageSize, page, level, null, handler);
+    }
+
+    /**
+     * <p>Get a sheet by ID, handing all of its rows to a handler one at a time as they are read from the response.</p>
+     *
+     * @param sheetId id of the sheet to fetch
+     * @param handler receives the sheet and then each row
+     * @return the sheet resource without rows (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    Sheet streamSheet(long sheetId, RowHandler handler) throws SmartsheetException;
+
     /**
      * <p>Get a sheet as an Excel file.</p>
      *
@@ -332,6 +468,25 @@ public interface SheetResources {
      */
     Sheet importCsv(String file, String sheetName, Integer headerRowIndex, Integer primaryColumnIndex) throws SmartsheetException;
 
+    /**
+     * <p>Imports a sheet.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: POST /sheets/import</p>
+     *
+     * @param file               the CSV file
+     * @param sheetName          destination sheet name
+     * @param headerRowIndex     index (0 based) of row to be used for column names
+     * @param primaryColumnIndex index (0 based) of primary column
+     * @return the created sheet
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    Sheet importCsv(Path file, String sheetName, Integer headerRowIndex, Integer primaryColumnIndex) throws SmartsheetException;
+
     /**
      * <p>Imports a sheet.</p>
      *
@@ -351,6 +506,25 @@ public interface SheetResources {
      */
     Sheet importXlsx(String file, String sheetName, Integer headerRowIndex, Integer primaryColumnIndex) throws SmartsheetException;
 
+    /**
+     * <p>Imports a sheet.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: POST /sheets/import</p>
+     *
+     * @param file               the XLSX file
+     * @param sheetName          destination sheet name
+     * @param headerRowIndex     index (0 based) of row to be used for column names
+     * @param primaryColumnIndex index (0 based) of primary column
+     * @return the created sheet
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    Sheet importXlsx(Path file, String sheetName, Integer headerRowIndex, Integer primaryColumnIndex) throws SmartsheetException;
+
     /**
      * <p>Create a sheet in given folder.</p>
      *
@@ -412,6 +586,32 @@ public interface SheetResources {
             Integer primaryColumnIndex
     ) throws SmartsheetException;
 
+    /**
+     * <p>Imports a sheet in given folder.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: POST /folders/{folderId}/sheets/import</p>
+     *
+     * @param folderID           the folder id
+     * @param file               the CSV file
+     * @param sheetName          destination sheet name
+     * @param headerRowIndex     index (0 based) of row to be used for column names
+     * @param primaryColumnIndex index (0 based) of primary column
+     * @return the created sheet
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    Sheet importCsvInFolder(
+            long folderID,
+            Path file,
+            String sheetName,
+            Integer headerRowIndex,
+            Integer primaryColumnIndex
+    ) throws SmartsheetException;
+
     /**
      * <p>Imports a sheet in given folder.</p>
      *
@@ -438,6 +638,32 @@ public interface SheetResources {
             Integer primaryColumnIndex
     ) throws SmartsheetException;
 
+    /**
+     * <p>Imports a sheet in given folder.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: POST /folders/{folderId}/sheets/import</p>
+     *
+     * @param folderId           the folder id
+     * @param file               the XLSX file
+     * @param sheetName          destination sheet name
+     * @param headerRowIndex     index (0 based) of row to be used for column names
+     * @param primaryColumnIndex index (0 based) of primary column
+     * @return the created sheet
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    Sheet importXlsxInFolder(
+            long folderId,
+            Path file,
+            String sheetName,
+            Integer headerRowIndex,
+            Integer primaryColumnIndex
+    ) throws SmartsheetException;
+
     /**
      * <p>Create a sheet in given workspace.</p>
      *
@@ -503,6 +729,32 @@ public interface SheetResources {
             Integer primaryColumnIndex
     ) throws SmartsheetException;
 
+    /**
+     * <p>Imports a sheet in given workspace.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: POST /workspaces/{workspaceId}/sheets/import</p>
+     *
+     * @param workspaceId        the workspace id
+     * @param file               the CSV file
+     * @param sheetName          destination sheet name
+     * @param headerRowIndex     index (0 based) of row to be used for column names
+     * @param primaryColumnIndex index (0 based) of primary column
+     * @return the created sheet
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    Sheet importCsvInWorkspace(
+            long workspaceId,
+            Path file,
+            String sheetName,
+            Integer headerRowIndex,
+            Integer primaryColumnIndex
+    ) throws SmartsheetException;
+
     /**
      * <p>Imports a sheet in given workspace.</p>
      *
@@ -529,6 +781,32 @@ public interface SheetResources {
             Integer primaryColumnIndex
     ) throws SmartsheetException;
 
+    /**
+     * <p>Imports a sheet in given workspace.</p>
+     *
+     * <p>It mirrors to the following Smartsheet REST API method: POST /workspaces/{workspaceId}/sheets/import</p>
+     *
+     * @param workspaceId        the workspace id
+     * @param file               the XLSX file
+     * @param sheetName          destination sheet name
+     * @param headerRowIndex     index (0 based) of row to be used for column names
+     * @param primaryColumnIndex index (0 based) of primary column
+     * @return the created sheet
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    Sheet importXlsxInWorkspace(
+            long workspaceId,
+            Path file,
+            String sheetName,
+            Integer headerRowIndex,
+            Integer primaryColumnIndex
+    ) throws SmartsheetException;
+
     /**
      * <p>Delete a sheet.</p>
      *
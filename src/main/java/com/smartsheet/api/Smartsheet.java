@@ -16,6 +16,9 @@
 
 package com.smartsheet.api;
 
+import com.smartsheet.api.internal.AttachmentDownloadResourcesImpl;
+import com.smartsheet.api.internal.BlockingAsyncSmartsheet;
+
 /**
  * <p>This interface is the entry point of the Smartsheet SDK, it provides convenient methods to get XXXResources instances
  * for accessing different types of resources.</p>
@@ -27,6 +30,9 @@ public interface Smartsheet {
     /**
      * <p>Enable request/response tracing in client</p>
      *
+     * <p>Tracing is only supported by the default Apache based transport, not by the HTTP/2 transport enabled with
+     * {@code SmartsheetBuilder.setHttp2Enabled(true)} nor on Android.</p>
+     *
      * @param levels - what to trace (if anything; null if not tracing at all)
      */
     void setTraces(Trace... levels);
@@ -196,10 +202,33 @@ public interface Smartsheet {
      */
     PassthroughResources passthroughResources();
 
+    /**
+     * Returns the AttachmentDownloadResources instance that downloads attachment content to files. Implementations
+     * other than the SDK's own share an instance which downloads through a default HttpClient; download urls are
+     * requested without the access token, so it behaves the same.
+     *
+     * @return the attachment download resources instance
+     */
+    default AttachmentDownloadResources attachmentDownloadResources() {
+        return AttachmentDownloadResourcesImpl.shared();
+    }
+
     /**
      * Returns the EventResources instance that provides access to event resources
      *
      * @return the event resources instance
      */
     EventResources eventResources();
+
+    /**
+     * Returns the AsyncSmartsheet instance that provides non-blocking access to sheet, row and report resources; its
+     * requests share this instance's HttpClient, access token and settings. Implementations other than the SDK's own
+     * get an instance which runs their blocking methods on a shared pool of threads, so a request in flight holds a
+     * thread.
+     *
+     * @return the asynchronous smartsheet instance
+     */
+    default AsyncSmartsheet async() {
+        return new BlockingAsyncSmartsheet(this);
+    }
 }
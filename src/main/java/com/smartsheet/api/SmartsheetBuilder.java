@@ -17,7 +17,14 @@
 package com.smartsheet.api;
 
 import com.smartsheet.api.internal.SmartsheetImpl;
+import com.smartsheet.api.internal.http.AdaptiveConcurrencyLimiter;
+import com.smartsheet.api.internal.http.ConnectionPoolSettings;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
 import com.smartsheet.api.internal.http.HttpClient;
+import com.smartsheet.api.internal.http.JdkHttpClient;
+import com.smartsheet.api.internal.http.RateLimiter;
+import com.smartsheet.api.internal.http.RetryPolicy;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import com.smartsheet.api.internal.json.JsonSerializer;
 
 /**
@@ -76,6 +83,41 @@ public class SmartsheetBuilder {
      */
     private String changeAgent;
 
+    /**
+     * <p>Represents the connection pool and timeout settings for the default HttpClient.</p>
+     *
+     * <p>It is created on the first call to one of the connection pool setters.</p>
+     */
+    private ConnectionPoolSettings connectionPoolSettings;
+
+    /**
+     * <p>Represents whether the java.net.http based HTTP/2 transport is used instead of Apache HttpClient.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private boolean http2Enabled;
+
+    /**
+     * <p>Represents the client-side rate limiter.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private RateLimiter rateLimiter;
+
+    /**
+     * <p>Represents the adaptive concurrency limiter.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * <p>Represents the retry policy.</p>
+     *
+     * <p>It can be set using corresponding setter.</p>
+     */
+    private RetryPolicy retryPolicy;
+
     /** URI to prod-us API endpoints */
     public static final String US_BASE_URI = "https://api.smartsheet.com/2.0/";
     /** URI to prod-eu API endpoints */
@@ -180,6 +222,153 @@ public class SmartsheetBuilder {
         return this;
     }
 
+    /**
+     * <p>Set the maximum number of pooled connections (default 20).</p>
+     *
+     * <p>This setting, like the other connection pool settings, is only valid when no HttpClient is set.</p>
+     *
+     * @param maxConnections the maximum number of connections
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setMaxConnections(int maxConnections) {
+        getOrCreateConnectionPoolSettings().setMaxConnections(maxConnections);
+        return this;
+    }
+
+    /**
+     * <p>Set the maximum number of pooled connections per route (default 20).</p>
+     *
+     * @param maxConnectionsPerRoute the maximum number of connections per route
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        getOrCreateConnectionPoolSettings().setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+        return this;
+    }
+
+    /**
+     * <p>Set the total time to live of a pooled connection, after which it is never reused.</p>
+     *
+     * @param connectionTimeToLiveMillis the time to live in milliseconds
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setConnectionTimeToLiveMillis(long connectionTimeToLiveMillis) {
+        getOrCreateConnectionPoolSettings().setConnectionTimeToLiveMillis(connectionTimeToLiveMillis);
+        return this;
+    }
+
+    /**
+     * <p>Set the longest time an idle connection is kept alive for reuse (a shorter server Keep-Alive wins).</p>
+     *
+     * @param keepAliveMillis the keep-alive in milliseconds
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setKeepAliveMillis(long keepAliveMillis) {
+        getOrCreateConnectionPoolSettings().setKeepAliveMillis(keepAliveMillis);
+        return this;
+    }
+
+    /**
+     * <p>Evict pooled connections that have been idle for longer than the given time.</p>
+     *
+     * @param idleConnectionTimeoutMillis the idle timeout in milliseconds
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setIdleConnectionTimeoutMillis(long idleConnectionTimeoutMillis) {
+        getOrCreateConnectionPoolSettings().setIdleConnectionTimeoutMillis(idleConnectionTimeoutMillis);
+        return this;
+    }
+
+    /**
+     * <p>Set the timeout for establishing a connection.</p>
+     *
+     * @param connectTimeoutMillis the connect timeout in milliseconds
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setConnectTimeoutMillis(int connectTimeoutMillis) {
+        getOrCreateConnectionPoolSettings().setConnectTimeoutMillis(connectTimeoutMillis);
+        return this;
+    }
+
+    /**
+     * <p>Set the socket (read) timeout.</p>
+     *
+     * @param socketTimeoutMillis the socket timeout in milliseconds
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setSocketTimeoutMillis(int socketTimeoutMillis) {
+        getOrCreateConnectionPoolSettings().setSocketTimeoutMillis(socketTimeoutMillis);
+        return this;
+    }
+
+    /**
+     * <p>Set how long to wait for a free pooled connection before failing.</p>
+     *
+     * @param connectionRequestTimeoutMillis the connection request timeout in milliseconds
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setConnectionRequestTimeoutMillis(int connectionRequestTimeoutMillis) {
+        getOrCreateConnectionPoolSettings().setConnectionRequestTimeoutMillis(connectionRequestTimeoutMillis);
+        return this;
+    }
+
+    /**
+     * <p>Use the java.net.http based transport ({@link JdkHttpClient}) instead of the default Apache HttpClient.</p>
+     *
+     * <p>It negotiates HTTP/2 where the server supports it, multiplexing concurrent requests over a single connection
+     * per host, and sends asynchronous requests without blocking a thread. Of the connection pool settings only the
+     * connect and socket timeouts apply to it.</p>
+     *
+     * @param http2Enabled whether to use the HTTP/2 capable transport
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+        return this;
+    }
+
+    /**
+     * <p>Set a client-side token-bucket rate limiter which paces requests before they are sent, e.g.
+     * {@code new RateLimiter(300, 30)} for the documented 300 requests per minute per access token with bursts of at
+     * most 30.</p>
+     *
+     * <p>The limit applies per access token, so share one RateLimiter between all Smartsheet instances built with the
+     * same token. Its current permit levels can be read from the instance for monitoring.</p>
+     *
+     * @param rateLimiter the rate limiter
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * <p>Set an adaptive limiter on the number of requests in flight, e.g. {@code new AdaptiveConcurrencyLimiter(10, 1,
+     * 100)}. It grows while responses are successful and fast, and shrinks when the service reports overload
+     * (errors 4001-4004) or slows down, so batch jobs run at the highest throughput the service tolerates.</p>
+     *
+     * @param concurrencyLimiter the concurrency limiter
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        return this;
+    }
+
+    /**
+     * <p>Set the policy which decides whether, and after how long, failed requests are retried, in place of the
+     * built-in exponential backoff. {@code new JitterRetryPolicy()} honors Retry-After, spreads retries with
+     * decorrelated jitter, and limits retries to 10% of the requests made by the whole process.</p>
+     *
+     * @param retryPolicy the retry policy
+     * @return the smartsheet builder
+     */
+    public SmartsheetBuilder setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
     /**
      * <p>Gets the http client.</p>
      *
@@ -243,11 +432,56 @@ public class SmartsheetBuilder {
         return changeAgent;
     }
 
+    /**
+     * <p>Gets the connection pool settings.</p>
+     *
+     * @return the connection pool settings, or null if none were set
+     */
+    public ConnectionPoolSettings getConnectionPoolSettings() {
+        return connectionPoolSettings;
+    }
+
+    /**
+     * <p>Gets whether the java.net.http based HTTP/2 transport is used.</p>
+     *
+     * @return true if the HTTP/2 capable transport is used
+     */
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    /**
+     * <p>Gets the client-side rate limiter.</p>
+     *
+     * @return the rate limiter, or null if none was set
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * <p>Gets the adaptive concurrency limiter.</p>
+     *
+     * @return the concurrency limiter, or null if none was set
+     */
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * <p>Gets the retry policy.</p>
+     *
+     * @return the retry policy, or null if none was set
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
     /**
      * <p>Build the Smartsheet instance.</p>
      *
      * @return the Smartsheet instance
-     * @throws IllegalStateException if accessToken isn't set yet.
+     * @throws IllegalStateException if connection pool settings or HTTP/2 are combined with a custom HttpClient.
      */
     public Smartsheet build() {
         if (baseURI == null) {
@@ -258,7 +492,24 @@ public class SmartsheetBuilder {
             accessToken = System.getenv("SMARTSHEET_ACCESS_TOKEN");
         }
 
-        SmartsheetImpl smartsheet = new SmartsheetImpl(baseURI, accessToken, httpClient, jsonSerializer);
+        HttpClient client = httpClient;
+        JsonSerializer serializer = jsonSerializer;
+        if (connectionPoolSettings != null || http2Enabled) {
+            if (client != null) {
+                throw new IllegalStateException("connection pool and transport settings cannot be applied to a custom HttpClient");
+            }
+            if (serializer == null) {
+                serializer = new JacksonJsonSerializer();
+            }
+            ConnectionPoolSettings settings = connectionPoolSettings == null ? new ConnectionPoolSettings() : connectionPoolSettings;
+            if (http2Enabled) {
+                client = new JdkHttpClient(settings, serializer);
+            } else {
+                client = new DefaultHttpClient(settings, serializer);
+            }
+        }
+
+        SmartsheetImpl smartsheet = new SmartsheetImpl(baseURI, accessToken, client, serializer);
 
         if (changeAgent != null) {
             smartsheet.setChangeAgent(changeAgent);
@@ -269,7 +520,23 @@ public class SmartsheetBuilder {
         if (maxRetryTimeMillis != null) {
             smartsheet.setMaxRetryTimeMillis(maxRetryTimeMillis);
         }
+        if (rateLimiter != null) {
+            smartsheet.setRateLimiter(rateLimiter);
+        }
+        if (concurrencyLimiter != null) {
+            smartsheet.setConcurrencyLimiter(concurrencyLimiter);
+        }
+        if (retryPolicy != null) {
+            smartsheet.setRetryPolicy(retryPolicy);
+        }
 
         return smartsheet;
     }
+
+    private ConnectionPoolSettings getOrCreateConnectionPoolSettings() {
+        if (connectionPoolSettings == null) {
+            connectionPoolSettings = new ConnectionPoolSettings();
+        }
+        return connectionPoolSettings;
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.frame;
+
+/**
+ * <p>An aggregate computed per group by {@link FrameQuery#groupBy(long, Aggregation...)}.</p>
+ *
+ * <p>Sums, minimums and maximums are taken over the numbers in a column: every value of a NUMBER column, and the
+ * numbers among the values of a TEXT column. Empty cells, and anything that is not a number, are skipped.</p>
+ */
+public final class Aggregation {
+
+    /**
+     * The aggregate function.
+     */
+    public enum Function {
+        COUNT,
+        SUM,
+        MIN,
+        MAX
+    }
+
+    private final Function function;
+    private final Long columnId;
+
+    private Aggregation(Function function, Long columnId) {
+        this.function = function;
+        this.columnId = columnId;
+    }
+
+    /**
+     * The number of rows in the group.
+     *
+     * @return the aggregation
+     */
+    public static Aggregation count() {
+        return new Aggregation(Function.COUNT, null);
+    }
+
+    /**
+     * The number of rows in the group with a value in the column.
+     *
+     * @param columnId the column id
+     * @return the aggregation
+     */
+    public static Aggregation count(long columnId) {
+        return new Aggregation(Function.COUNT, columnId);
+    }
+
+    /**
+     * The sum of the numbers in the column, 0 if there are none.
+     *
+     * @param columnId the column id
+     * @return the aggregation
+     */
+    public static Aggregation sum(long columnId) {
+        return new Aggregation(Function.SUM, columnId);
+    }
+
+    /**
+     * The smallest number in the column, NaN if there are none.
+     *
+     * @param columnId the column id
+     * @return the aggregation
+     */
+    public static Aggregation min(long columnId) {
+        return new Aggregation(Function.MIN, columnId);
+    }
+
+    /**
+     * The largest number in the column, NaN if there are none.
+     *
+     * @param columnId the column id
+     * @return the aggregation
+     */
+    public static Aggregation max(long columnId) {
+        return new Aggregation(Function.MAX, columnId);
+    }
+
+    /**
+     * Gets the aggregate function.
+     *
+     * @return the function
+     */
+    public Function getFunction() {
+        return function;
+    }
+
+    /**
+     * Gets the id of the aggregated column.
+     *
+     * @return the column id, or null for {@link #count()}
+     */
+    public Long getColumnId() {
+        return columnId;
+    }
+}
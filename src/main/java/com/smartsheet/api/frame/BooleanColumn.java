@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.frame;
+
+import com.smartsheet.api.models.Column;
+
+/**
+ * A {@link FrameColumn} of checkbox values, stored as a bitmap with one bit per row.
+ */
+public final class BooleanColumn extends FrameColumn {
+    final long[] values;
+
+    BooleanColumn(Column column, long[] nulls, long[] formulas, int size, long[] values) {
+        super(column, nulls, formulas, size);
+        this.values = values;
+    }
+
+    @Override
+    public Kind getKind() {
+        return Kind.BOOLEAN;
+    }
+
+    /**
+     * Gets a checkbox value.
+     *
+     * @param row the row position in the frame
+     * @return the value, or false if the cell is empty
+     */
+    public boolean getBoolean(int row) {
+        checkRow(row);
+        return isSet(values, row);
+    }
+
+    @Override
+    Object value(int row) {
+        return isSet(values, row);
+    }
+
+    @Override
+    FrameColumn take(int[] rows) {
+        return new BooleanColumn(getColumn(), takeNulls(rows), takeFormulas(rows), rows.length, takeBits(values, rows));
+    }
+
+    static class Builder extends FrameColumn.Builder {
+        private long[] values = new long[1];
+
+        @Override
+        void grow(int capacity) {
+            // set() grows the bitmap
+        }
+
+        @Override
+        boolean store(int index, Object value) {
+            if (!(value instanceof Boolean)) {
+                return false;
+            }
+            if ((Boolean) value) {
+                values = set(values, index);
+            }
+            return true;
+        }
+
+        @Override
+        Object get(int index) {
+            return index >>> 6 < values.length && isSet(values, index);
+        }
+
+        @Override
+        FrameColumn build(Column column) {
+            return new BooleanColumn(column, trim(nulls, size), trim(formulas, size), size, trim(values, size));
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.frame;
+
+import com.smartsheet.api.models.Column;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/**
+ * <p>A {@link FrameColumn} of dates packed into a {@code long[]}: days since the epoch for DATE columns
+ * ({@link Kind#DATE}) and milliseconds since the epoch for DATETIME columns ({@link Kind#DATETIME}).</p>
+ *
+ * <p>Only values that format back to the exact string the server sent are packed, so {@link #getValue(int)} returns
+ * the original string; a column with any other value is stored as a {@link TextColumn}.</p>
+ */
+public final class DateColumn extends FrameColumn {
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final Kind kind;
+
+    final long[] values;
+
+    DateColumn(Column column, long[] nulls, long[] formulas, int size, Kind kind, long[] values) {
+        super(column, nulls, formulas, size);
+        this.kind = kind;
+        this.values = values;
+    }
+
+    @Override
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the packed value: days since the epoch for a DATE column, milliseconds since the epoch for a DATETIME one.
+     *
+     * @param row the row position in the frame
+     * @return the value, or 0 if the cell is empty
+     */
+    public long getLong(int row) {
+        checkRow(row);
+        return values[row];
+    }
+
+    /**
+     * Gets a date; for a DATETIME column, the UTC date.
+     *
+     * @param row the row position in the frame
+     * @return the date, or null if the cell is empty
+     */
+    public LocalDate getLocalDate(int row) {
+        if (isNull(row)) {
+            return null;
+        }
+        if (kind == Kind.DATE) {
+            return LocalDate.ofEpochDay(values[row]);
+        }
+        return LocalDate.ofEpochDay(Math.floorDiv(values[row], MILLIS_PER_DAY));
+    }
+
+    /**
+     * Gets a point in time; for a DATE column, the start of the day in UTC.
+     *
+     * @param row the row position in the frame
+     * @return the instant, or null if the cell is empty
+     */
+    public Instant getInstant(int row) {
+        if (isNull(row)) {
+            return null;
+        }
+        return Instant.ofEpochMilli(kind == Kind.DATE ? values[row] * MILLIS_PER_DAY : values[row]);
+    }
+
+    @Override
+    Object value(int row) {
+        return format(kind, values[row]);
+    }
+
+    private static String format(Kind kind, long value) {
+        return kind == Kind.DATE ? LocalDate.ofEpochDay(value).toString() : Instant.ofEpochMilli(value).toString();
+    }
+
+    @Override
+    FrameColumn take(int[] rows) {
+        long[] taken = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            taken[i] = values[rows[i]];
+        }
+        return new DateColumn(getColumn(), takeNulls(rows), takeFormulas(rows), rows.length, kind, taken);
+    }
+
+    static class Builder extends FrameColumn.Builder {
+        private final Kind kind;
+        private long[] values = new long[0];
+
+        Builder(Kind kind) {
+            this.kind = kind;
+        }
+
+        @Override
+        void grow(int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, capacity(values.length, capacity));
+            }
+        }
+
+        @Override
+        boolean store(int index, Object value) {
+            if (!(value instanceof String)) {
+                return false;
+            }
+            long packed;
+            try {
+                packed = kind == Kind.DATE ? LocalDate.parse((String) value).toEpochDay()
+                        : Instant.parse((String) value).toEpochMilli();
+            } catch (DateTimeParseException | ArithmeticException e) {
+                return false;
+            }
+            if (!format(kind, packed).equals(value)) {
+                return false;
+            }
+            values[index] = packed;
+            return true;
+        }
+
+        @Override
+        Object get(int index) {
+            return format(kind, values[index]);
+        }
+
+        @Override
+        FrameColumn build(Column column) {
+            return new DateColumn(column, trim(nulls, size), trim(formulas, size), size, kind, Arrays.copyOf(values, size));
+        }
+    }
+}
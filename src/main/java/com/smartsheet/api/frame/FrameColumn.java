@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.frame;
+
+import com.smartsheet.api.models.Column;
+
+import java.util.Arrays;
+
+/**
+ * <p>The values of one column of a {@link SheetFrame}, stored in primitive arrays rather than as cells.</p>
+ *
+ * <p>Each subclass holds one {@link Kind} of value; {@link #isNull(int)} tells whether a row has a value at all,
+ * and {@link #hasFormula(int)} whether it was calculated by a formula, each from a bitmap with one bit per row.</p>
+ */
+public abstract class FrameColumn {
+
+    /**
+     * How the values of a column are stored.
+     */
+    public enum Kind {
+        /**
+         * Numbers, as a {@code double[]}, see {@link NumberColumn}
+         */
+        NUMBER,
+        /**
+         * Dictionary-encoded values, mostly strings, see {@link TextColumn}
+         */
+        TEXT,
+        /**
+         * Dates, as days since the epoch, see {@link DateColumn}
+         */
+        DATE,
+        /**
+         * Date-times, as milliseconds since the epoch, see {@link DateColumn}
+         */
+        DATETIME,
+        /**
+         * Checkboxes, as a bitmap, see {@link BooleanColumn}
+         */
+        BOOLEAN
+    }
+
+    private final Column column;
+
+    /**
+     * One bit per row, set when the row has no value
+     */
+    final long[] nulls;
+
+    /**
+     * One bit per row, set when the cell has a formula
+     */
+    final long[] formulas;
+
+    final int size;
+
+    FrameColumn(Column column, long[] nulls, long[] formulas, int size) {
+        this.column = column;
+        this.nulls = nulls;
+        this.formulas = formulas;
+        this.size = size;
+    }
+
+    /**
+     * Gets the sheet column these values belong to.
+     *
+     * @return the column
+     */
+    public Column getColumn() {
+        return column;
+    }
+
+    /**
+     * Gets the column id.
+     *
+     * @return the column id
+     */
+    public long getId() {
+        return column.getId();
+    }
+
+    /**
+     * Gets the column title.
+     *
+     * @return the title
+     */
+    public String getTitle() {
+        return column.getTitle();
+    }
+
+    /**
+     * Gets how the values are stored.
+     *
+     * @return the kind
+     */
+    public abstract Kind getKind();
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Whether a row has no value in this column.
+     *
+     * @param row the row position in the frame
+     * @return true if the cell is empty
+     */
+    public boolean isNull(int row) {
+        checkRow(row);
+        return isSet(nulls, row);
+    }
+
+    /**
+     * Whether a row's cell in this column has a formula, so that its value is calculated by Smartsheet and cannot be
+     * written back.
+     *
+     * @param row the row position in the frame
+     * @return true if the cell has a formula
+     */
+    public boolean hasFormula(int row) {
+        checkRow(row);
+        return isSet(formulas, row);
+    }
+
+    /**
+     * Gets a value in the form {@link com.smartsheet.api.models.Cell#getValue()} uses, e.g. to write it back: a
+     * {@link Double}, {@link String} or {@link Boolean}; dates are ISO-8601 strings.
+     *
+     * @param row the row position in the frame
+     * @return the value, or null if the cell is empty
+     */
+    public Object getValue(int row) {
+        return isNull(row) ? null : value(row);
+    }
+
+    abstract Object value(int row);
+
+    /**
+     * Copy the values of the given rows, in that order, into a new column.
+     */
+    abstract FrameColumn take(int[] rows);
+
+    long[] takeNulls(int[] rows) {
+        return takeBits(nulls, rows);
+    }
+
+    long[] takeFormulas(int[] rows) {
+        return takeBits(formulas, rows);
+    }
+
+    static long[] takeBits(long[] bits, int[] rows) {
+        long[] taken = new long[(rows.length + 63) >>> 6];
+        for (int i = 0; i < rows.length; i++) {
+            if (isSet(bits, rows[i])) {
+                taken[i >>> 6] |= 1L << i;
+            }
+        }
+        return taken;
+    }
+
+    void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("row " + row + " of " + size);
+        }
+    }
+
+    static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    static long[] set(long[] bits, int index) {
+        long[] result = bits;
+        if ((index >>> 6) >= result.length) {
+            result = Arrays.copyOf(result, Math.max(result.length * 2, (index >>> 6) + 1));
+        }
+        result[index >>> 6] |= 1L << index;
+        return result;
+    }
+
+    static long[] trim(long[] bits, int size) {
+        return Arrays.copyOf(bits, (size + 63) >>> 6);
+    }
+
+    /**
+     * Collects the values of a column while a frame is built. A builder that is given a value it cannot store
+     * rejects it, and the frame copies what it has so far into a {@link TextColumn.Builder}.
+     */
+    abstract static class Builder {
+        long[] nulls = new long[1];
+        long[] formulas = new long[1];
+        int size;
+
+        /**
+         * Append a value.
+         *
+         * @param value the value, or null
+         * @return false if the value cannot be stored by this builder, in which case nothing was appended
+         */
+        boolean add(Object value) {
+            if (value == null) {
+                grow(size + 1);
+                nulls = set(nulls, size);
+            } else {
+                grow(size + 1);
+                if (!store(size, value)) {
+                    return false;
+                }
+            }
+            size++;
+            return true;
+        }
+
+        /**
+         * Mark the value at the given position as calculated by a formula.
+         */
+        void markFormula(int index) {
+            formulas = set(formulas, index);
+        }
+
+        /**
+         * Make room for the given number of values.
+         */
+        abstract void grow(int capacity);
+
+        /**
+         * Store a non-null value at the given position.
+         *
+         * @return false if the value cannot be stored
+         */
+        abstract boolean store(int index, Object value);
+
+        /**
+         * The cell value stored at the given position, which is not null.
+         */
+        abstract Object get(int index);
+
+        abstract FrameColumn build(Column column);
+
+        static int capacity(int current, int required) {
+            return Math.max(required, Math.max(16, current + (current >> 1)));
+        }
+    }
+}
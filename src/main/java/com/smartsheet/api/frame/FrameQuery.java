@@ -0,0 +1,806 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.frame;
+
+import com.smartsheet.api.internal.util.LongIntMap;
+import com.smartsheet.api.internal.util.Util;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoublePredicate;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * <p>A query over the rows of a {@link SheetFrame}: filters, then either a projection with sorting and a limit, or
+ * a group-by with aggregates. Start one with {@link SheetFrame#query()}:</p>
+ *
+ * <pre>{@code
+ * GroupResult totals = frame.query()
+ *     .whereText(statusColumnId, "Open"::equals)
+ *     .groupBy(ownerColumnId, Aggregation.count(), Aggregation.sum(amountColumnId));
+ *
+ * SheetFrame largest = frame.query()
+ *     .whereNumber(amountColumnId, amount -> amount > 0)
+ *     .orderBy(amountColumnId, false)
+ *     .limit(10)
+ *     .select(titleColumnId, amountColumnId)
+ *     .toFrame();
+ * }</pre>
+ *
+ * <p>Filters run as loops over a column's primitive arrays; a filter on a dictionary-encoded column tests each
+ * distinct value once. Empty cells never match a typed filter, and sort after every value in either direction.
+ * With {@link #parallel(boolean)}, filters and aggregates on large frames are split into row ranges run on the
+ * common fork-join pool.</p>
+ *
+ * <p>A query is not thread safe, but any number of queries can run on the same frame at once.</p>
+ */
+public final class FrameQuery {
+    /**
+     * The fewest rows a parallel query hands to one task
+     */
+    private static final int MIN_PARALLEL_CHUNK = 8192;
+
+    private final SheetFrame frame;
+    private final List<Filter> filters = new ArrayList<>();
+    private final List<RowComparator> sortKeys = new ArrayList<>();
+    private List<FrameColumn> selected;
+    private int limit = -1;
+    private boolean parallel;
+
+    FrameQuery(SheetFrame frame) {
+        this.frame = frame;
+    }
+
+    /**
+     * Keep rows whose number in the column matches. On a TEXT column the numbers among its values are tested, and
+     * other values never match.
+     *
+     * @param columnId  the id of a NUMBER or TEXT column
+     * @param predicate the test
+     * @return this query
+     * @throws IllegalArgumentException if there is no such column, or it holds neither numbers nor text
+     */
+    public FrameQuery whereNumber(long columnId, DoublePredicate predicate) {
+        Util.throwIfNull(predicate);
+        FrameColumn column = column(columnId);
+        if (column instanceof NumberColumn) {
+            double[] values = ((NumberColumn) column).values;
+            long[] nulls = column.nulls;
+            filters.add((rows, count) -> {
+                int kept = 0;
+                for (int i = 0; i < count; i++) {
+                    int row = rows[i];
+                    if (!FrameColumn.isSet(nulls, row) && predicate.test(values[row])) {
+                        rows[kept++] = row;
+                    }
+                }
+                return kept;
+            });
+        } else if (column instanceof TextColumn) {
+            addCodeFilter((TextColumn) column, value -> value instanceof Number
+                    && predicate.test(((Number) value).doubleValue()));
+        } else {
+            throw wrongKind(column, "whereNumber");
+        }
+        return this;
+    }
+
+    /**
+     * Keep rows whose text in the column matches. The predicate is called once per distinct value, with the value's
+     * string form.
+     *
+     * @param columnId  the id of a TEXT column
+     * @param predicate the test
+     * @return this query
+     * @throws IllegalArgumentException if there is no such column, or it is not a TEXT column
+     */
+    public FrameQuery whereText(long columnId, Predicate<String> predicate) {
+        Util.throwIfNull(predicate);
+        FrameColumn column = column(columnId);
+        if (!(column instanceof TextColumn)) {
+            throw wrongKind(column, "whereText");
+        }
+        addCodeFilter((TextColumn) column, value -> predicate.test(value.toString()));
+        return this;
+    }
+
+    /**
+     * Keep rows whose date in the column is within a range; for a DATETIME column, whose UTC date is.
+     *
+     * @param columnId the id of a DATE or DATETIME column
+     * @param from     the first date to keep, or null for no lower bound
+     * @param to       the last date to keep, or null for no upper bound
+     * @return this query
+     * @throws IllegalArgumentException if there is no such column, or it is not a DATE or DATETIME column
+     */
+    public FrameQuery whereDate(long columnId, LocalDate from, LocalDate to) {
+        FrameColumn column = column(columnId);
+        if (!(column instanceof DateColumn)) {
+            throw wrongKind(column, "whereDate");
+        }
+        boolean days = column.getKind() == FrameColumn.Kind.DATE;
+        long low = from == null ? Long.MIN_VALUE : startOf(from, days);
+        long high = to == null ? Long.MAX_VALUE : startOf(to.plusDays(1), days) - 1;
+        long[] values = ((DateColumn) column).values;
+        long[] nulls = column.nulls;
+        filters.add((rows, count) -> {
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                int row = rows[i];
+                if (!FrameColumn.isSet(nulls, row) && values[row] >= low && values[row] <= high) {
+                    rows[kept++] = row;
+                }
+            }
+            return kept;
+        });
+        return this;
+    }
+
+    /**
+     * Keep rows whose checkbox in the column has the given value.
+     *
+     * @param columnId the id of a BOOLEAN column
+     * @param value    the value to keep
+     * @return this query
+     * @throws IllegalArgumentException if there is no such column, or it is not a BOOLEAN column
+     */
+    public FrameQuery whereBoolean(long columnId, boolean value) {
+        FrameColumn column = column(columnId);
+        if (!(column instanceof BooleanColumn)) {
+            throw wrongKind(column, "whereBoolean");
+        }
+        long[] values = ((BooleanColumn) column).values;
+        long[] nulls = column.nulls;
+        filters.add((rows, count) -> {
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                int row = rows[i];
+                if (!FrameColumn.isSet(nulls, row) && FrameColumn.isSet(values, row) == value) {
+                    rows[kept++] = row;
+                }
+            }
+            return kept;
+        });
+        return this;
+    }
+
+    /**
+     * Keep rows whose value in the column matches, for tests the typed filters cannot express. The predicate is
+     * called for every row, with the value from {@link FrameColumn#getValue(int)}, which is null for an empty cell.
+     *
+     * @param columnId  the column id
+     * @param predicate the test
+     * @return this query
+     * @throws IllegalArgumentException if there is no such column
+     */
+    public FrameQuery where(long columnId, Predicate<Object> predicate) {
+        Util.throwIfNull(predicate);
+        FrameColumn column = column(columnId);
+        filters.add((rows, count) -> {
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                int row = rows[i];
+                if (predicate.test(column.getValue(row))) {
+                    rows[kept++] = row;
+                }
+            }
+            return kept;
+        });
+        return this;
+    }
+
+    /**
+     * Keep only the given columns, in this order, in {@link #toFrame()}. All columns are kept by default.
+     *
+     * @param columnIds the column ids
+     * @return this query
+     * @throws IllegalArgumentException if there is no such column
+     */
+    public FrameQuery select(long... columnIds) {
+        List<FrameColumn> columns = new ArrayList<>(columnIds.length);
+        for (long columnId : columnIds) {
+            columns.add(column(columnId));
+        }
+        selected = columns;
+        return this;
+    }
+
+    /**
+     * Sort by a column; call again to break ties by further columns. Rows that are still tied keep their order in
+     * the frame.
+     *
+     * @param columnId  the column id
+     * @param ascending false to sort in descending order
+     * @return this query
+     * @throws IllegalArgumentException if there is no such column
+     */
+    public FrameQuery orderBy(long columnId, boolean ascending) {
+        RowComparator values = comparator(column(columnId));
+        long[] nulls = column(columnId).nulls;
+        sortKeys.add((first, second) -> {
+            boolean firstNull = FrameColumn.isSet(nulls, first);
+            boolean secondNull = FrameColumn.isSet(nulls, second);
+            if (firstNull || secondNull) {
+                return Boolean.compare(firstNull, secondNull);
+            }
+            int result = values.compare(first, second);
+            return ascending ? result : -result;
+        });
+        return this;
+    }
+
+    /**
+     * Keep at most this many rows. After {@link #orderBy(long, boolean)}, the first rows are picked with a bounded
+     * heap rather than by sorting every row.
+     *
+     * @param limit the number of rows
+     * @return this query
+     */
+    public FrameQuery limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative");
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Split filters and aggregates of large frames into row ranges run in parallel on the common fork-join pool.
+     *
+     * @param parallel true to run in parallel
+     * @return this query
+     */
+    public FrameQuery parallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * Gets the positions in the frame of the rows that match, sorted and limited.
+     *
+     * @return the row positions
+     */
+    public int[] rows() {
+        int[] rows = filter();
+        if (sortKeys.isEmpty()) {
+            return limit >= 0 && limit < rows.length ? Arrays.copyOf(rows, limit) : rows;
+        }
+        RowComparator comparator = sortComparator();
+        if (limit >= 0 && limit < rows.length) {
+            return top(rows, limit, comparator);
+        }
+        sort(rows, comparator);
+        return rows;
+    }
+
+    /**
+     * Copy the rows that match, sorted and limited, with the selected columns into a new frame.
+     *
+     * @return the frame
+     */
+    public SheetFrame toFrame() {
+        return frame.take(rows(), selected == null ? frame.getColumns() : selected);
+    }
+
+    /**
+     * Count the rows that match, up to the limit.
+     *
+     * @return the number of rows
+     */
+    public int count() {
+        int count = filter().length;
+        return limit >= 0 ? Math.min(count, limit) : count;
+    }
+
+    /**
+     * Group the rows that match by the value of a column and compute aggregates for each group. Sorting, the limit
+     * and the selected columns do not apply.
+     *
+     * @param columnId     the id of the column to group by
+     * @param aggregations the aggregates to compute
+     * @return the groups
+     * @throws IllegalArgumentException if there is no such column, or a column to sum, min or max holds neither
+     *                                  numbers nor text
+     */
+    public GroupResult groupBy(long columnId, Aggregation... aggregations) {
+        FrameColumn key = column(columnId);
+        int[] rows = filter();
+        int[] groupOf = new int[rows.length];
+        int[] firstRows = assignGroups(key, rows, groupOf);
+        int groups = firstRows.length;
+
+        Accumulator[] accumulators = new Accumulator[aggregations.length];
+        for (int i = 0; i < aggregations.length; i++) {
+            accumulators[i] = accumulator(aggregations[i]);
+        }
+        Partial total = split(rows.length, Partial[]::new, (from, to) -> {
+            Partial partial = new Partial(groups, accumulators);
+            for (int i = from; i < to; i++) {
+                partial.counts[groupOf[i]]++;
+            }
+            for (int a = 0; a < accumulators.length; a++) {
+                accumulators[a].accumulate(rows, groupOf, from, to, partial.values[a]);
+            }
+            return partial;
+        }).stream().reduce((first, second) -> first.merge(second, accumulators)).orElse(new Partial(groups, accumulators));
+
+        Object[] keys = new Object[groups];
+        for (int group = 0; group < groups; group++) {
+            keys[group] = key.getValue(firstRows[group]);
+        }
+        for (int a = 0; a < accumulators.length; a++) {
+            accumulators[a].finish(total.values[a]);
+        }
+        return new GroupResult(keys, total.counts, total.values);
+    }
+
+    private int[] filter() {
+        List<int[]> parts = split(frame.getRowCount(), int[][]::new, (from, to) -> {
+            int[] rows = new int[to - from];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = from + i;
+            }
+            int count = rows.length;
+            for (Filter filter : filters) {
+                count = filter.apply(rows, count);
+            }
+            return count == rows.length ? rows : Arrays.copyOf(rows, count);
+        });
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        int[] rows = new int[parts.stream().mapToInt(part -> part.length).sum()];
+        int offset = 0;
+        for (int[] part : parts) {
+            System.arraycopy(part, 0, rows, offset, part.length);
+            offset += part.length;
+        }
+        return rows;
+    }
+
+    /**
+     * Run a task over [0, size), split into ranges run on the common pool if the query is parallel.
+     */
+    private <T> List<T> split(int size, IntFunction<T[]> arrayFactory, RangeTask<T> task) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (!parallel || parallelism < 2 || size < 2 * MIN_PARALLEL_CHUNK) {
+            return Collections.singletonList(task.run(0, size));
+        }
+        int chunk = Math.max(MIN_PARALLEL_CHUNK, size / (parallelism * 4) + 1);
+        int chunks = (size + chunk - 1) / chunk;
+        return Arrays.asList(IntStream.range(0, chunks).parallel()
+                .mapToObj(i -> task.run(i * chunk, Math.min(size, (i + 1) * chunk)))
+                .toArray(arrayFactory));
+    }
+
+    private void addCodeFilter(TextColumn column, Predicate<Object> predicate) {
+        boolean[] matches = new boolean[column.dictionary.length];
+        for (int code = 0; code < matches.length; code++) {
+            matches[code] = predicate.test(column.dictionary[code]);
+        }
+        int[] codes = column.codes;
+        filters.add((rows, count) -> {
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                int row = rows[i];
+                int code = codes[row];
+                if (code >= 0 && matches[code]) {
+                    rows[kept++] = row;
+                }
+            }
+            return kept;
+        });
+    }
+
+    /**
+     * Give each row the number of its group, numbering groups in order of first appearance.
+     *
+     * @return the first row of each group
+     */
+    private static int[] assignGroups(FrameColumn key, int[] rows, int[] groupOf) {
+        int[] firstRows = new int[16];
+        int groups = 0;
+        if (key instanceof TextColumn || key instanceof BooleanColumn) {
+            int[] codes = key instanceof TextColumn ? ((TextColumn) key).codes : null;
+            long[] bits = key instanceof BooleanColumn ? ((BooleanColumn) key).values : null;
+            int[] groupOfCode = new int[key instanceof TextColumn ? ((TextColumn) key).dictionary.length + 1 : 3];
+            Arrays.fill(groupOfCode, -1);
+            int nullCode = groupOfCode.length - 1;
+            for (int i = 0; i < rows.length; i++) {
+                int row = rows[i];
+                int code;
+                if (FrameColumn.isSet(key.nulls, row)) {
+                    code = nullCode;
+                } else if (codes != null) {
+                    code = codes[row];
+                } else {
+                    code = FrameColumn.isSet(bits, row) ? 1 : 0;
+                }
+                if (groupOfCode[code] < 0) {
+                    if (groups == firstRows.length) {
+                        firstRows = Arrays.copyOf(firstRows, groups * 2);
+                    }
+                    firstRows[groups] = row;
+                    groupOfCode[code] = groups++;
+                }
+                groupOf[i] = groupOfCode[code];
+            }
+        } else {
+            LongIntMap groupOfValue = new LongIntMap(16);
+            int nullGroup = -1;
+            for (int i = 0; i < rows.length; i++) {
+                int row = rows[i];
+                int group;
+                if (FrameColumn.isSet(key.nulls, row)) {
+                    group = nullGroup;
+                } else {
+                    group = groupOfValue.get(bits(key, row));
+                }
+                if (group < 0) {
+                    if (groups == firstRows.length) {
+                        firstRows = Arrays.copyOf(firstRows, groups * 2);
+                    }
+                    firstRows[groups] = row;
+                    group = groups++;
+                    if (FrameColumn.isSet(key.nulls, row)) {
+                        nullGroup = group;
+                    } else {
+                        groupOfValue.putIfAbsent(bits(key, row), group);
+                    }
+                }
+                groupOf[i] = group;
+            }
+        }
+        return Arrays.copyOf(firstRows, groups);
+    }
+
+    private static long startOf(LocalDate date, boolean days) {
+        return days ? date.toEpochDay() : date.atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static long bits(FrameColumn column, int row) {
+        if (column instanceof NumberColumn) {
+            double value = ((NumberColumn) column).values[row];
+            // 0.0 and -0.0 are one group
+            return Double.doubleToLongBits(value == 0 ? 0 : value);
+        }
+        return ((DateColumn) column).values[row];
+    }
+
+    private Accumulator accumulator(Aggregation aggregation) {
+        Util.throwIfNull(aggregation);
+        if (aggregation.getColumnId() == null) {
+            return new Accumulator(aggregation.getFunction(), null, null);
+        }
+        FrameColumn column = column(aggregation.getColumnId());
+        if (aggregation.getFunction() == Aggregation.Function.COUNT) {
+            return new Accumulator(Aggregation.Function.COUNT, column.nulls, null);
+        }
+        if (column instanceof NumberColumn) {
+            return new Accumulator(aggregation.getFunction(), column.nulls, ((NumberColumn) column).values);
+        }
+        if (!(column instanceof TextColumn)) {
+            throw wrongKind(column, aggregation.getFunction().name());
+        }
+        // take the numbers out of the dictionary once, so that the loops below only see doubles
+        TextColumn text = (TextColumn) column;
+        double[] values = new double[text.size];
+        long[] missing = new long[(text.size + 63) >>> 6];
+        for (int row = 0; row < text.size; row++) {
+            int code = text.codes[row];
+            if (code >= 0 && text.dictionary[code] instanceof Number) {
+                values[row] = ((Number) text.dictionary[code]).doubleValue();
+            } else {
+                missing[row >>> 6] |= 1L << row;
+            }
+        }
+        return new Accumulator(aggregation.getFunction(), missing, values);
+    }
+
+    private RowComparator comparator(FrameColumn column) {
+        if (column instanceof NumberColumn) {
+            double[] values = ((NumberColumn) column).values;
+            return (first, second) -> Double.compare(values[first], values[second]);
+        }
+        if (column instanceof DateColumn) {
+            long[] values = ((DateColumn) column).values;
+            return (first, second) -> Long.compare(values[first], values[second]);
+        }
+        if (column instanceof BooleanColumn) {
+            long[] values = ((BooleanColumn) column).values;
+            return (first, second) -> Boolean.compare(FrameColumn.isSet(values, first), FrameColumn.isSet(values, second));
+        }
+        // rank the dictionary once: numbers first, by value, then everything else by its string form
+        TextColumn text = (TextColumn) column;
+        Integer[] order = new Integer[text.dictionary.length];
+        for (int code = 0; code < order.length; code++) {
+            order[code] = code;
+        }
+        Comparator<Object> byValue = (first, second) -> {
+            boolean firstNumber = first instanceof Number;
+            boolean secondNumber = second instanceof Number;
+            if (firstNumber && secondNumber) {
+                return Double.compare(((Number) first).doubleValue(), ((Number) second).doubleValue());
+            }
+            if (firstNumber || secondNumber) {
+                return firstNumber ? -1 : 1;
+            }
+            return first.toString().compareTo(second.toString());
+        };
+        Arrays.sort(order, (first, second) -> byValue.compare(text.dictionary[first], text.dictionary[second]));
+        int[] rank = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            rank[order[i]] = i;
+        }
+        int[] codes = text.codes;
+        return (first, second) -> Integer.compare(rank[codes[first]], rank[codes[second]]);
+    }
+
+    private RowComparator sortComparator() {
+        RowComparator[] keys = sortKeys.toArray(new RowComparator[0]);
+        return (first, second) -> {
+            for (RowComparator key : keys) {
+                int result = key.compare(first, second);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(first, second);
+        };
+    }
+
+    /**
+     * Pick the first rows in sort order with a heap holding the worst of the rows kept so far at the top.
+     */
+    private static int[] top(int[] rows, int limit, RowComparator comparator) {
+        int[] heap = new int[limit];
+        int size = 0;
+        for (int row : rows) {
+            if (size < limit) {
+                heap[size] = row;
+                siftUp(heap, size++, comparator);
+            } else if (limit > 0 && comparator.compare(row, heap[0]) < 0) {
+                heap[0] = row;
+                siftDown(heap, size, comparator);
+            }
+        }
+        sort(heap, comparator);
+        return heap;
+    }
+
+    private static void siftUp(int[] heap, int index, RowComparator comparator) {
+        int row = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (comparator.compare(heap[parent], row) >= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = row;
+    }
+
+    private static void siftDown(int[] heap, int size, RowComparator comparator) {
+        int row = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && comparator.compare(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (comparator.compare(row, heap[child]) >= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = row;
+    }
+
+    /**
+     * Merge sort on the row positions themselves, so that sorting does not box them.
+     */
+    private static void sort(int[] rows, RowComparator comparator) {
+        mergeSort(rows, rows.clone(), 0, rows.length, comparator);
+    }
+
+    private static void mergeSort(int[] rows, int[] scratch, int from, int to, RowComparator comparator) {
+        if (to - from < 16) {
+            for (int i = from + 1; i < to; i++) {
+                int row = rows[i];
+                int j = i;
+                while (j > from && comparator.compare(rows[j - 1], row) > 0) {
+                    rows[j] = rows[j - 1];
+                    j--;
+                }
+                rows[j] = row;
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(rows, scratch, from, middle, comparator);
+        mergeSort(rows, scratch, middle, to, comparator);
+        if (comparator.compare(rows[middle - 1], rows[middle]) <= 0) {
+            return;
+        }
+        System.arraycopy(rows, from, scratch, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || left < middle && comparator.compare(scratch[left], scratch[right]) <= 0) {
+                rows[i] = scratch[left++];
+            } else {
+                rows[i] = scratch[right++];
+            }
+        }
+    }
+
+    private FrameColumn column(long columnId) {
+        FrameColumn column = frame.getColumn(columnId);
+        if (column == null) {
+            throw new IllegalArgumentException("The frame has no column " + columnId);
+        }
+        return column;
+    }
+
+    private static IllegalArgumentException wrongKind(FrameColumn column, String operation) {
+        return new IllegalArgumentException(operation + " is not supported on " + column.getKind() + " column "
+                + column.getId());
+    }
+
+    /**
+     * Removes the rows that do not match from the first count positions, keeping the order of the rest.
+     */
+    @FunctionalInterface
+    private interface Filter {
+        int apply(int[] rows, int count);
+    }
+
+    @FunctionalInterface
+    private interface RowComparator {
+        int compare(int first, int second);
+    }
+
+    @FunctionalInterface
+    private interface RangeTask<T> {
+        T run(int from, int to);
+    }
+
+    /**
+     * Computes one aggregate for the rows of a range into an array with one slot per group.
+     */
+    private static final class Accumulator {
+        private final Aggregation.Function function;
+        private final long[] missing;
+        private final double[] values;
+
+        private Accumulator(Aggregation.Function function, long[] missing, double[] values) {
+            this.function = function;
+            this.missing = missing;
+            this.values = values;
+        }
+
+        double initial() {
+            switch (function) {
+                case MIN:
+                    return Double.POSITIVE_INFINITY;
+                case MAX:
+                    return Double.NEGATIVE_INFINITY;
+                default:
+                    return 0;
+            }
+        }
+
+        void accumulate(int[] rows, int[] groupOf, int from, int to, double[] result) {
+            switch (function) {
+                case COUNT:
+                    for (int i = from; i < to; i++) {
+                        if (missing == null || !FrameColumn.isSet(missing, rows[i])) {
+                            result[groupOf[i]]++;
+                        }
+                    }
+                    break;
+                case SUM:
+                    for (int i = from; i < to; i++) {
+                        int row = rows[i];
+                        if (!FrameColumn.isSet(missing, row)) {
+                            result[groupOf[i]] += values[row];
+                        }
+                    }
+                    break;
+                case MIN:
+                    for (int i = from; i < to; i++) {
+                        int row = rows[i];
+                        if (!FrameColumn.isSet(missing, row) && values[row] < result[groupOf[i]]) {
+                            result[groupOf[i]] = values[row];
+                        }
+                    }
+                    break;
+                default:
+                    for (int i = from; i < to; i++) {
+                        int row = rows[i];
+                        if (!FrameColumn.isSet(missing, row) && values[row] > result[groupOf[i]]) {
+                            result[groupOf[i]] = values[row];
+                        }
+                    }
+                    break;
+            }
+        }
+
+        double merge(double first, double second) {
+            switch (function) {
+                case MIN:
+                    return Math.min(first, second);
+                case MAX:
+                    return Math.max(first, second);
+                default:
+                    return first + second;
+            }
+        }
+
+        void finish(double[] result) {
+            if (function == Aggregation.Function.MIN || function == Aggregation.Function.MAX) {
+                for (int group = 0; group < result.length; group++) {
+                    if (Double.isInfinite(result[group]) && result[group] == initial()) {
+                        result[group] = Double.NaN;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The row counts and aggregates of a range of rows.
+     */
+    private static final class Partial {
+        private final long[] counts;
+        private final double[][] values;
+
+        private Partial(int groups, Accumulator[] accumulators) {
+            counts = new long[groups];
+            values = new double[accumulators.length][];
+            for (int a = 0; a < accumulators.length; a++) {
+                values[a] = new double[groups];
+                Arrays.fill(values[a], accumulators[a].initial());
+            }
+        }
+
+        private Partial merge(Partial other, Accumulator[] accumulators) {
+            for (int group = 0; group < counts.length; group++) {
+                counts[group] += other.counts[group];
+            }
+            for (int a = 0; a < accumulators.length; a++) {
+                for (int group = 0; group < counts.length; group++) {
+                    values[a][group] = accumulators[a].merge(values[a][group], other.values[a][group]);
+                }
+            }
+            return this;
+        }
+    }
+}
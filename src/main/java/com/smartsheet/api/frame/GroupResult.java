@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.frame;
+
+/**
+ * The result of {@link FrameQuery#groupBy(long, Aggregation...)}: one group per distinct value of the grouping
+ * column, in the order each value first appears among the query's rows, with the aggregates in the order they were
+ * requested.
+ */
+public final class GroupResult {
+    private final Object[] keys;
+    private final long[] counts;
+    private final double[][] values;
+
+    GroupResult(Object[] keys, long[] counts, double[][] values) {
+        this.keys = keys;
+        this.counts = counts;
+        this.values = values;
+    }
+
+    /**
+     * Gets the number of groups.
+     *
+     * @return the number of groups
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Gets the value shared by the rows of a group, see {@link FrameColumn#getValue(int)}.
+     *
+     * @param group the group
+     * @return the key, null for the group of empty cells
+     */
+    public Object getKey(int group) {
+        return keys[group];
+    }
+
+    /**
+     * Gets the number of rows in a group.
+     *
+     * @param group the group
+     * @return the number of rows
+     */
+    public long getCount(int group) {
+        return counts[group];
+    }
+
+    /**
+     * Gets an aggregate of a group.
+     *
+     * @param group       the group
+     * @param aggregation the position of the aggregation in the groupBy call
+     * @return the aggregate
+     */
+    public double getValue(int group, int aggregation) {
+        return values[aggregation][group];
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.frame;
+
+import com.smartsheet.api.models.Column;
+
+import java.util.Arrays;
+
+/**
+ * A {@link FrameColumn} of numbers, stored as a {@code double[]}. Whole numbers come back as {@link Double}s from
+ * {@link #getValue(int)}, which the API accepts when they are written.
+ */
+public final class NumberColumn extends FrameColumn {
+    private static final long MAX_EXACT_LONG = 1L << 53;
+
+    final double[] values;
+
+    NumberColumn(Column column, long[] nulls, long[] formulas, int size, double[] values) {
+        super(column, nulls, formulas, size);
+        this.values = values;
+    }
+
+    @Override
+    public Kind getKind() {
+        return Kind.NUMBER;
+    }
+
+    /**
+     * Gets a number.
+     *
+     * @param row the row position in the frame
+     * @return the number, or 0 if the cell is empty
+     */
+    public double getDouble(int row) {
+        checkRow(row);
+        return values[row];
+    }
+
+    @Override
+    Object value(int row) {
+        return values[row];
+    }
+
+    @Override
+    FrameColumn take(int[] rows) {
+        double[] taken = new double[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            taken[i] = values[rows[i]];
+        }
+        return new NumberColumn(getColumn(), takeNulls(rows), takeFormulas(rows), rows.length, taken);
+    }
+
+    static class Builder extends FrameColumn.Builder {
+        private double[] values = new double[0];
+
+        @Override
+        void grow(int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, capacity(values.length, capacity));
+            }
+        }
+
+        @Override
+        boolean store(int index, Object value) {
+            if (value instanceof Double || value instanceof Integer || value instanceof Float
+                    || value instanceof Short || value instanceof Byte) {
+                values[index] = ((Number) value).doubleValue();
+                return true;
+            }
+            if (value instanceof Long && Math.abs((Long) value) <= MAX_EXACT_LONG) {
+                values[index] = (Long) value;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        Object get(int index) {
+            return values[index];
+        }
+
+        @Override
+        FrameColumn build(Column column) {
+            return new NumberColumn(column, trim(nulls, size), trim(formulas, size), size, Arrays.copyOf(values, size));
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.frame;
+
+import com.smartsheet.api.internal.util.LongIntMap;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.AbstractRow;
+import com.smartsheet.api.models.AbstractSheet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * <p>The parent/child tree of a sheet's rows, built from their {@code parentId}s in one pass.</p>
+ *
+ * <p>Rows are addressed by their position in the sheet's row list. Besides parents, children and depths, the index
+ * numbers the rows in tree order (an Euler tour): a row's subtree is the range of tree positions from
+ * {@link #getTreeIndex(int)} up to {@link #getSubtreeEnd(int)}, so whether one row is an ancestor of another takes
+ * two comparisons, and sums over every subtree take one pass, see {@link #rollUp(ToDoubleFunction)}.</p>
+ *
+ * <p>A row whose parent is not among the rows, e.g. because the sheet was read with a filter, is treated as a
+ * top-level row. Children keep the order they have in the sheet. The index is a snapshot: build it again after
+ * rows are added, removed or moved.</p>
+ *
+ * @param <TRow> the row type
+ */
+public final class RowHierarchy<TRow extends AbstractRow<?, ?>> {
+    private final List<TRow> rows;
+    private final LongIntMap positions;
+    private final int[] parents;
+    private final int[] childStarts;
+    private final int[] children;
+    private final int[] roots;
+    private final int[] depths;
+    private final int[] treeIndexes;
+    private final int[] subtreeEnds;
+    private final int[] tree;
+
+    private RowHierarchy(List<TRow> rows) {
+        int size = rows.size();
+        this.rows = rows;
+        positions = new LongIntMap(size);
+        for (int i = 0; i < size; i++) {
+            Long id = rows.get(i).getId();
+            if (id != null) {
+                positions.putIfAbsent(id, i);
+            }
+        }
+
+        // children of each row, in sheet order, as ranges of one array
+        parents = new int[size];
+        childStarts = new int[size + 1];
+        int rootCount = 0;
+        for (int i = 0; i < size; i++) {
+            Long parentId = rows.get(i).getParentId();
+            parents[i] = parentId == null ? -1 : positions.get(parentId);
+            if (parents[i] < 0) {
+                rootCount++;
+            } else {
+                childStarts[parents[i] + 1]++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            childStarts[i + 1] += childStarts[i];
+        }
+        children = new int[size - rootCount];
+        roots = new int[rootCount];
+        int[] filled = Arrays.copyOf(childStarts, size);
+        int rootsFilled = 0;
+        for (int i = 0; i < size; i++) {
+            if (parents[i] < 0) {
+                roots[rootsFilled++] = i;
+            } else {
+                children[filled[parents[i]]++] = i;
+            }
+        }
+
+        // depth-first walk from the top-level rows, without recursion so that deep trees cannot overflow the stack
+        depths = new int[size];
+        treeIndexes = new int[size];
+        subtreeEnds = new int[size];
+        tree = new int[size];
+        int[] stack = new int[size];
+        int top = 0;
+        int visited = 0;
+        for (int r = rootCount - 1; r >= 0; r--) {
+            stack[top++] = roots[r];
+        }
+        while (top > 0) {
+            int row = stack[--top];
+            depths[row] = parents[row] < 0 ? 0 : depths[parents[row]] + 1;
+            treeIndexes[row] = visited;
+            tree[visited++] = row;
+            for (int c = childStarts[row + 1] - 1; c >= childStarts[row]; c--) {
+                stack[top++] = children[c];
+            }
+        }
+        if (visited < size) {
+            throw new IllegalArgumentException("The parent ids of " + (size - visited) + " rows form a cycle");
+        }
+        // subtree sizes, children before parents
+        int[] subtreeSizes = new int[size];
+        for (int t = size - 1; t >= 0; t--) {
+            int row = tree[t];
+            subtreeSizes[row]++;
+            subtreeEnds[row] = treeIndexes[row] + subtreeSizes[row];
+            if (parents[row] >= 0) {
+                subtreeSizes[parents[row]] += subtreeSizes[row];
+            }
+        }
+    }
+
+    /**
+     * Build the hierarchy of a list of rows.
+     *
+     * @param rows the rows
+     * @param <TRow> the row type
+     * @return the hierarchy
+     * @throws IllegalArgumentException if the parent ids form a cycle
+     */
+    public static <TRow extends AbstractRow<?, ?>> RowHierarchy<TRow> of(List<TRow> rows) {
+        Util.throwIfNull(rows);
+        return new RowHierarchy<>(rows);
+    }
+
+    /**
+     * Build the hierarchy of a sheet's rows.
+     *
+     * @param sheet the sheet
+     * @param <TRow> the row type
+     * @return the hierarchy, empty if the sheet has no rows
+     * @throws IllegalArgumentException if the parent ids form a cycle
+     */
+    public static <TRow extends AbstractRow<?, ?>> RowHierarchy<TRow> of(AbstractSheet<TRow, ?, ?> sheet) {
+        Util.throwIfNull(sheet);
+        return new RowHierarchy<>(sheet.getRows() == null ? Collections.emptyList() : sheet.getRows());
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * Gets a row.
+     *
+     * @param row the row position in the sheet
+     * @return the row
+     */
+    public TRow getRow(int row) {
+        return rows.get(row);
+    }
+
+    /**
+     * Find the position of a row.
+     *
+     * @param rowId the row id
+     * @return the row position in the sheet, or -1 if there is no such row
+     */
+    public int indexOf(long rowId) {
+        return positions.get(rowId);
+    }
+
+    /**
+     * Gets the parent of a row.
+     *
+     * @param row the row position in the sheet
+     * @return the parent's position, or -1 for a top-level row
+     */
+    public int getParent(int row) {
+        return parents[row];
+    }
+
+    /**
+     * Gets the top-level rows.
+     *
+     * @return their positions, in sheet order
+     */
+    public int[] getRoots() {
+        return roots.clone();
+    }
+
+    /**
+     * Gets the children of a row.
+     *
+     * @param row the row position in the sheet
+     * @return their positions, in sheet order
+     */
+    public int[] getChildren(int row) {
+        return Arrays.copyOfRange(children, childStarts[row], childStarts[row + 1]);
+    }
+
+    /**
+     * Gets the number of children of a row.
+     *
+     * @param row the row position in the sheet
+     * @return the number of children
+     */
+    public int getChildCount(int row) {
+        return childStarts[row + 1] - childStarts[row];
+    }
+
+    /**
+     * Gets the depth of a row.
+     *
+     * @param row the row position in the sheet
+     * @return 0 for a top-level row, 1 for its children, and so on
+     */
+    public int getDepth(int row) {
+        return depths[row];
+    }
+
+    /**
+     * Gets the position of a row in tree order, where every row comes before its children and right after the
+     * subtree of its previous sibling.
+     *
+     * @param row the row position in the sheet
+     * @return the tree position
+     */
+    public int getTreeIndex(int row) {
+        return treeIndexes[row];
+    }
+
+    /**
+     * Gets the end of a row's subtree in tree order: its subtree holds the tree positions from
+     * {@link #getTreeIndex(int)}, the row itself, up to this one, exclusive.
+     *
+     * @param row the row position in the sheet
+     * @return the tree position after the subtree
+     */
+    public int getSubtreeEnd(int row) {
+        return subtreeEnds[row];
+    }
+
+    /**
+     * Gets the number of rows in a row's subtree, the row included.
+     *
+     * @param row the row position in the sheet
+     * @return the subtree size
+     */
+    public int getSubtreeSize(int row) {
+        return subtreeEnds[row] - treeIndexes[row];
+    }
+
+    /**
+     * Gets the row at a tree position.
+     *
+     * @param treeIndex the tree position
+     * @return the row position in the sheet
+     */
+    public int getRowAtTreeIndex(int treeIndex) {
+        return tree[treeIndex];
+    }
+
+    /**
+     * Gets the rows of a subtree in tree order, e.g. to plan moving it.
+     *
+     * @param row the row position in the sheet of the subtree's top row
+     * @return the rows, the top row first
+     */
+    public List<TRow> getSubtree(int row) {
+        List<TRow> subtree = new ArrayList<>(getSubtreeSize(row));
+        for (int t = treeIndexes[row]; t < subtreeEnds[row]; t++) {
+            subtree.add(rows.get(tree[t]));
+        }
+        return subtree;
+    }
+
+    /**
+     * Whether a row is an ancestor of another.
+     *
+     * @param ancestor   the position in the sheet of the possible ancestor
+     * @param descendant the position in the sheet of the possible descendant
+     * @return true if the first row is above the second one, false if they are the same row or unrelated
+     */
+    public boolean isAncestor(int ancestor, int descendant) {
+        return treeIndexes[ancestor] < treeIndexes[descendant] && treeIndexes[descendant] < subtreeEnds[ancestor];
+    }
+
+    /**
+     * Gets the ancestors of a row.
+     *
+     * @param row the row position in the sheet
+     * @return their positions, the parent first and the top-level row last
+     */
+    public int[] getAncestors(int row) {
+        int[] ancestors = new int[depths[row]];
+        int parent = parents[row];
+        for (int i = 0; i < ancestors.length; i++) {
+            ancestors[i] = parent;
+            parent = parents[parent];
+        }
+        return ancestors;
+    }
+
+    /**
+     * Sum a value over every row's subtree in one pass, e.g. to roll up costs or durations.
+     *
+     * @param value the value of a single row
+     * @return for each row position in the sheet, the sum over its subtree, the row included
+     */
+    public double[] rollUp(ToDoubleFunction<? super TRow> value) {
+        Util.throwIfNull(value);
+        double[] sums = new double[rows.size()];
+        for (int t = tree.length - 1; t >= 0; t--) {
+            int row = tree[t];
+            sums[row] += value.applyAsDouble(rows.get(row));
+            if (parents[row] >= 0) {
+                sums[parents[row]] += sums[row];
+            }
+        }
+        return sums;
+    }
+}
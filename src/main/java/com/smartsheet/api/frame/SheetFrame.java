@@ -0,0 +1,433 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.frame;
+
+import com.smartsheet.api.RowHandler;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ColumnType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A read-only, columnar copy of a sheet's cell values: row ids and numbers are kept in primitive arrays, and each
+ * column in a {@link FrameColumn} that packs its values by type, with numbers in a {@code double[]}, dates as
+ * {@code long}s, checkboxes as bits and text dictionary-encoded. This takes a fraction of the memory of
+ * {@link Row}s and {@link Cell}s, which matters for sheets with millions of cells.</p>
+ *
+ * <p>Only cell values ({@link Cell#getValue()}) are kept; formats, hyperlinks, object values and the like are not.
+ * Build a frame from a sheet with {@link #of(Sheet)}, or without holding the rows in memory at all by streaming
+ * them into a {@link SheetFrameBuilder}:</p>
+ *
+ * <pre>{@code
+ * SheetFrame.SheetFrameBuilder builder = new SheetFrame.SheetFrameBuilder();
+ * smartsheet.sheetResources().streamSheet(sheetId, builder);
+ * SheetFrame frame = builder.build();
+ * }</pre>
+ *
+ * <p>Rows are addressed by their position in the frame, from 0 to {@link #getRowCount()} - 1. Use
+ * {@link #toRow(int)} to turn a row back into a {@link Row} for an update.</p>
+ */
+public final class SheetFrame {
+    private final Long sheetId;
+    private final String name;
+    private final int rowCount;
+    private final long[] rowIds;
+    private final int[] rowNumbers;
+    private final long[] parentIds;
+    private final List<FrameColumn> columns;
+    private final Map<Long, FrameColumn> columnsById;
+
+    SheetFrame(Long sheetId, String name, long[] rowIds, int[] rowNumbers, long[] parentIds, List<FrameColumn> columns) {
+        this.sheetId = sheetId;
+        this.name = name;
+        this.rowCount = rowIds.length;
+        this.rowIds = rowIds;
+        this.rowNumbers = rowNumbers;
+        this.parentIds = parentIds;
+        this.columns = Collections.unmodifiableList(columns);
+        this.columnsById = new HashMap<>();
+        for (FrameColumn column : columns) {
+            columnsById.putIfAbsent(column.getId(), column);
+        }
+    }
+
+    /**
+     * Build a frame from a sheet's columns and rows.
+     *
+     * @param sheet the sheet
+     * @return the frame
+     */
+    public static SheetFrame of(Sheet sheet) {
+        Util.throwIfNull(sheet);
+        SheetFrameBuilder builder = new SheetFrameBuilder();
+        builder.onSheet(sheet);
+        if (sheet.getRows() != null) {
+            for (Row row : sheet.getRows()) {
+                builder.onRow(row);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets the id of the sheet.
+     *
+     * @return the sheet id
+     */
+    public Long getSheetId() {
+        return sheetId;
+    }
+
+    /**
+     * Gets the name of the sheet.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the id of a row.
+     *
+     * @param row the row position in the frame
+     * @return the row id
+     */
+    public long getRowId(int row) {
+        checkRow(row);
+        return rowIds[row];
+    }
+
+    /**
+     * Gets the row number of a row.
+     *
+     * @param row the row position in the frame
+     * @return the row number, or 0 if the server did not send one
+     */
+    public int getRowNumber(int row) {
+        checkRow(row);
+        return rowNumbers[row];
+    }
+
+    /**
+     * Gets the id of a row's parent.
+     *
+     * @param row the row position in the frame
+     * @return the parent row id, or 0 for a top-level row
+     */
+    public long getParentId(int row) {
+        checkRow(row);
+        return parentIds[row];
+    }
+
+    /**
+     * Gets the columns, in sheet order.
+     *
+     * @return the columns
+     */
+    public List<FrameColumn> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Get a column by ID.
+     *
+     * @param columnId the column id
+     * @return the column, or null if there is none
+     */
+    public FrameColumn getColumn(long columnId) {
+        return columnsById.get(columnId);
+    }
+
+    /**
+     * Get a column by title.
+     *
+     * @param title the column title
+     * @return the first column with the title, or null if there is none
+     */
+    public FrameColumn getColumnByTitle(String title) {
+        for (FrameColumn column : columns) {
+            if (column.getTitle() != null && column.getTitle().equals(title)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets a cell value, see {@link FrameColumn#getValue(int)}.
+     *
+     * @param row      the row position in the frame
+     * @param columnId the column id
+     * @return the value, or null if the cell is empty or there is no such column
+     */
+    public Object getValue(int row, long columnId) {
+        FrameColumn column = getColumn(columnId);
+        if (column == null) {
+            checkRow(row);
+            return null;
+        }
+        return column.getValue(row);
+    }
+
+    /**
+     * Start a query over the rows of this frame.
+     *
+     * @return the query
+     */
+    public FrameQuery query() {
+        return new FrameQuery(this);
+    }
+
+    /**
+     * Copy the given rows and columns into a new frame.
+     */
+    SheetFrame take(int[] rows, List<FrameColumn> selected) {
+        long[] takenIds = new long[rows.length];
+        int[] takenNumbers = new int[rows.length];
+        long[] takenParents = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            takenIds[i] = rowIds[rows[i]];
+            takenNumbers[i] = rowNumbers[rows[i]];
+            takenParents[i] = parentIds[rows[i]];
+        }
+        List<FrameColumn> takenColumns = new ArrayList<>(selected.size());
+        for (FrameColumn column : selected) {
+            takenColumns.add(column.take(rows));
+        }
+        return new SheetFrame(sheetId, name, takenIds, takenNumbers, takenParents, takenColumns);
+    }
+
+    /**
+     * Convert a row back to a {@link Row} with its id and a cell for every column that has a value, e.g. to update
+     * it with {@code sheetResources().rowResources().updateRows}. Values that Smartsheet calculates are left out, as
+     * the API rejects writes to them: those of system columns, columns with a formula and cells with a formula.
+     *
+     * @param row the row position in the frame
+     * @return the row
+     */
+    public Row toRow(int row) {
+        checkRow(row);
+        List<Cell> cells = new ArrayList<>(columns.size());
+        for (FrameColumn column : columns) {
+            addCell(cells, column, row);
+        }
+        return new Row(rowIds[row]).setCells(cells);
+    }
+
+    /**
+     * Convert a row back to a {@link Row} with a cell for each of the given columns that has a value, e.g. to update
+     * only the columns that were changed. Calculated values are left out as in {@link #toRow(int)}.
+     *
+     * @param row       the row position in the frame
+     * @param columnIds the ids of the columns to include
+     * @return the row
+     * @throws IllegalArgumentException if there is no column with one of the ids
+     */
+    public Row toRow(int row, long... columnIds) {
+        checkRow(row);
+        Util.throwIfNull(columnIds);
+        List<Cell> cells = new ArrayList<>(columnIds.length);
+        for (long columnId : columnIds) {
+            FrameColumn column = getColumn(columnId);
+            if (column == null) {
+                throw new IllegalArgumentException("No column with id " + columnId);
+            }
+            addCell(cells, column, row);
+        }
+        return new Row(rowIds[row]).setCells(cells);
+    }
+
+    /**
+     * Convert every row back to a {@link Row}, see {@link #toRow(int)}.
+     *
+     * @return the rows, in frame order
+     */
+    public List<Row> toRows() {
+        List<Row> rows = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            rows.add(toRow(row));
+        }
+        return rows;
+    }
+
+    private static void addCell(List<Cell> cells, FrameColumn column, int row) {
+        Column sheetColumn = column.getColumn();
+        if (sheetColumn.getSystemColumnType() != null || sheetColumn.getFormula() != null || column.hasFormula(row)) {
+            return;
+        }
+        Object value = column.getValue(row);
+        if (value != null) {
+            cells.add(new Cell().setColumnId(column.getId()).setValue(value));
+        }
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("row " + row + " of " + rowCount);
+        }
+    }
+
+    /**
+     * <p>Builds a {@link SheetFrame} from a sheet's rows as they arrive. Pass it to
+     * {@link com.smartsheet.api.SheetResources#streamSheet(long, RowHandler)} and call {@link #build()} once the
+     * stream is done, or call {@link #onSheet(Sheet)} and then {@link #onRow(Row)} for each row.</p>
+     *
+     * <p>Each column starts out in the layout its type suggests (numbers for TEXT_NUMBER, packed dates for DATE and
+     * DATETIME, bits for CHECKBOX) and switches to a {@link TextColumn} on the first value that layout cannot hold
+     * exactly. Everything else is dictionary-encoded.</p>
+     */
+    public static class SheetFrameBuilder implements RowHandler {
+        private Long sheetId;
+        private String name;
+        private List<Column> columns;
+        private FrameColumn.Builder[] builders;
+        private Map<Long, Integer> positions;
+        private Object[] values;
+        private boolean[] formulas;
+
+        private int rowCount;
+        private long[] rowIds = new long[0];
+        private int[] rowNumbers = new int[0];
+        private long[] parentIds = new long[0];
+
+        /**
+         * Start a frame for the sheet's columns; the sheet's rows, if any, are not added.
+         *
+         * @param sheet the sheet
+         */
+        @Override
+        public void onSheet(Sheet sheet) {
+            if (columns != null) {
+                throw new IllegalStateException("onSheet has already been called");
+            }
+            sheetId = sheet.getId();
+            name = sheet.getName();
+            columns = sheet.getColumns() == null ? Collections.emptyList() : new ArrayList<>(sheet.getColumns());
+            builders = new FrameColumn.Builder[columns.size()];
+            values = new Object[columns.size()];
+            formulas = new boolean[columns.size()];
+            positions = new HashMap<>();
+            for (int i = 0; i < builders.length; i++) {
+                builders[i] = newBuilder(columns.get(i).getType());
+                positions.putIfAbsent(columns.get(i).getId(), i);
+            }
+        }
+
+        /**
+         * Add a row.
+         *
+         * @param row the row
+         */
+        @Override
+        public void onRow(Row row) {
+            if (columns == null) {
+                throw new IllegalStateException("onSheet must be called before onRow");
+            }
+            if (rowCount == rowIds.length) {
+                int capacity = FrameColumn.Builder.capacity(rowCount, rowCount + 1);
+                rowIds = Arrays.copyOf(rowIds, capacity);
+                rowNumbers = Arrays.copyOf(rowNumbers, capacity);
+                parentIds = Arrays.copyOf(parentIds, capacity);
+            }
+            rowIds[rowCount] = row.getId() == null ? 0 : row.getId();
+            rowNumbers[rowCount] = row.getRowNumber() == null ? 0 : row.getRowNumber();
+            parentIds[rowCount] = row.getParentId() == null ? 0 : row.getParentId();
+
+            List<Cell> cells = row.getCells();
+            if (cells != null) {
+                for (int i = 0; i < cells.size(); i++) {
+                    Cell cell = cells.get(i);
+                    if (cell == null || cell.getColumnId() == null) {
+                        continue;
+                    }
+                    Integer position = i < columns.size() && cell.getColumnId().equals(columns.get(i).getId())
+                            ? Integer.valueOf(i) : positions.get(cell.getColumnId());
+                    if (position != null) {
+                        values[position] = cell.getValue();
+                        formulas[position] = cell.getFormula() != null;
+                    }
+                }
+            }
+            for (int i = 0; i < builders.length; i++) {
+                if (!builders[i].add(values[i])) {
+                    builders[i] = TextColumn.Builder.copyOf(builders[i]);
+                    builders[i].add(values[i]);
+                }
+                if (formulas[i]) {
+                    builders[i].markFormula(rowCount);
+                    formulas[i] = false;
+                }
+                values[i] = null;
+            }
+            rowCount++;
+        }
+
+        /**
+         * Build the frame from the rows added so far.
+         *
+         * @return the frame
+         */
+        public SheetFrame build() {
+            if (columns == null) {
+                throw new IllegalStateException("onSheet must be called before build");
+            }
+            List<FrameColumn> frameColumns = new ArrayList<>(builders.length);
+            for (int i = 0; i < builders.length; i++) {
+                frameColumns.add(builders[i].build(columns.get(i)));
+            }
+            return new SheetFrame(sheetId, name, Arrays.copyOf(rowIds, rowCount), Arrays.copyOf(rowNumbers, rowCount),
+                    Arrays.copyOf(parentIds, rowCount), frameColumns);
+        }
+
+        private static FrameColumn.Builder newBuilder(ColumnType type) {
+            if (type == null) {
+                return new TextColumn.Builder();
+            }
+            switch (type) {
+                case TEXT_NUMBER:
+                    return new NumberColumn.Builder();
+                case DATE:
+                    return new DateColumn.Builder(FrameColumn.Kind.DATE);
+                case DATETIME:
+                    return new DateColumn.Builder(FrameColumn.Kind.DATETIME);
+                case CHECKBOX:
+                    return new BooleanColumn.Builder();
+                default:
+                    return new TextColumn.Builder();
+            }
+        }
+    }
+}
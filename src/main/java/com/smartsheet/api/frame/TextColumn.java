@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.frame;
+
+import com.smartsheet.api.models.Column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A dictionary-encoded {@link FrameColumn}: every distinct value is stored once, and each row holds the
+ * {@code int} code of its value.</p>
+ *
+ * <p>Text, picklist and contact columns are stored this way, as are columns of other types that turn out to hold
+ * values of mixed types, e.g. a TEXT_NUMBER column with both numbers and text. Such values keep their type, so a
+ * number in a mixed column is still a number when it is written back.</p>
+ */
+public final class TextColumn extends FrameColumn {
+    final int[] codes;
+    final Object[] dictionary;
+
+    TextColumn(Column column, long[] nulls, long[] formulas, int size, int[] codes, Object[] dictionary) {
+        super(column, nulls, formulas, size);
+        this.codes = codes;
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public Kind getKind() {
+        return Kind.TEXT;
+    }
+
+    /**
+     * Gets a value as a string.
+     *
+     * @param row the row position in the frame
+     * @return the value, or null if the cell is empty
+     */
+    public String getString(int row) {
+        Object value = getValue(row);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Gets the dictionary code of a value.
+     *
+     * @param row the row position in the frame
+     * @return the code, or -1 if the cell is empty
+     */
+    public int getCode(int row) {
+        checkRow(row);
+        return codes[row];
+    }
+
+    /**
+     * Gets the number of distinct values.
+     *
+     * @return the dictionary size
+     */
+    public int getDictionarySize() {
+        return dictionary.length;
+    }
+
+    /**
+     * Gets the value for a dictionary code.
+     *
+     * @param code the code, see {@link #getCode(int)}
+     * @return the value
+     */
+    public Object getDictionaryValue(int code) {
+        return dictionary[code];
+    }
+
+    @Override
+    Object value(int row) {
+        return dictionary[codes[row]];
+    }
+
+    @Override
+    FrameColumn take(int[] rows) {
+        int[] taken = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            taken[i] = codes[rows[i]];
+        }
+        return new TextColumn(getColumn(), takeNulls(rows), takeFormulas(rows), rows.length, taken, dictionary);
+    }
+
+    static class Builder extends FrameColumn.Builder {
+        private final Map<Object, Integer> codesByValue = new HashMap<>();
+        private final List<Object> dictionary = new ArrayList<>();
+        private int[] codes = new int[0];
+
+        /**
+         * Create a builder holding the values collected so far by another builder.
+         */
+        static Builder copyOf(FrameColumn.Builder source) {
+            Builder builder = new Builder();
+            builder.grow(source.size);
+            for (int i = 0; i < source.size; i++) {
+                builder.add(isSet(source.nulls, i) ? null : source.get(i));
+            }
+            builder.formulas = source.formulas;
+            return builder;
+        }
+
+        @Override
+        boolean add(Object value) {
+            if (value == null) {
+                grow(size + 1);
+                codes[size] = -1;
+            }
+            return super.add(value);
+        }
+
+        @Override
+        void grow(int capacity) {
+            if (capacity > codes.length) {
+                codes = Arrays.copyOf(codes, capacity(codes.length, capacity));
+            }
+        }
+
+        @Override
+        boolean store(int index, Object value) {
+            Integer code = codesByValue.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                codesByValue.put(value, code);
+                dictionary.add(value);
+            }
+            codes[index] = code;
+            return true;
+        }
+
+        @Override
+        Object get(int index) {
+            return dictionary.get(codes[index]);
+        }
+
+        @Override
+        FrameColumn build(Column column) {
+            return new TextColumn(column, trim(nulls, size), trim(formulas, size), size, Arrays.copyOf(codes, size), dictionary.toArray());
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.HttpMethod;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.PagedResult;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * This is the base class of the asynchronous resources implementations. It mirrors the request primitives of
+ * {@link AbstractResources}, but hands each request to {@link com.smartsheet.api.internal.http.HttpClient#requestAsync}
+ * and returns a CompletableFuture instead of blocking for the response.
+ * <p>
+ * Every future completes exceptionally with a {@link CompletionException} whose cause is the SmartsheetException the
+ * equivalent synchronous call would have thrown (e.g. ResourceNotFoundException, ServiceUnavailableException).
+ * <p>
+ * Thread Safety: This class is thread safe because it is immutable and its base class is thread safe.
+ */
+public abstract class AbstractAsyncResources extends AbstractResources {
+
+    /**
+     * Constructor.
+     *
+     * @param smartsheet the smartsheet
+     */
+    protected AbstractAsyncResources(SmartsheetImpl smartsheet) {
+        super(smartsheet);
+    }
+
+    /**
+     * Get a resource from Smartsheet REST API.
+     *
+     * @param <T>         the generic type
+     * @param path        the relative path of the resource
+     * @param objectClass the resource object class
+     * @return the future resource
+     */
+    protected <T> CompletableFuture<T> getResourceAsync(String path, Class<T> objectClass) {
+        Util.throwIfNull(path, objectClass);
+        Util.throwIfEmpty(path);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+        return sendAsync(request, response -> this.smartsheet.getJsonSerializer().deserialize(
+                objectClass, response.getEntity().getContent()));
+    }
+
+    /**
+     * Create a resource using Smartsheet REST API.
+     *
+     * @param <T>         the generic type of object to return/deserialize
+     * @param <S>         the generic type of object to serialize
+     * @param path        the relative path of the resource collections
+     * @param objectClass the resource object class
+     * @param object      the object to create
+     * @return the future created resource
+     */
+    protected <T, S> CompletableFuture<T> createResourceAsync(String path, Class<T> objectClass, S object) {
+        return sendJsonAsync(path, HttpMethod.POST, object, response -> this.smartsheet.getJsonSerializer()
+                .deserializeResult(objectClass, response.getEntity().getContent()).getResult());
+    }
+
+    /**
+     * Update a resource using Smartsheet REST API.
+     *
+     * @param <T>         the generic type
+     * @param path        the relative path of the resource
+     * @param objectClass the resource object class
+     * @param object      the object to update
+     * @return the future updated resource
+     */
+    protected <T> CompletableFuture<T> updateResourceAsync(String path, Class<T> objectClass, T object) {
+        return sendJsonAsync(path, HttpMethod.PUT, object, response -> this.smartsheet.getJsonSerializer()
+                .deserializeResult(objectClass, response.getEntity().getContent()).getResult());
+    }
+
+    /**
+     * List resources Wrapper (supports paging info) using Smartsheet REST API.
+     *
+     * @param <T>         the generic type
+     * @param path        the relative path of the resource collections
+     * @param objectClass the resource object class
+     * @return the future page of resources
+     */
+    protected <T> CompletableFuture<PagedResult<T>> listResourcesWithWrapperAsync(String path, Class<T> objectClass) {
+        Util.throwIfNull(path, objectClass);
+        Util.throwIfEmpty(path);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+        return sendAsync(request, response -> this.smartsheet.getJsonSerializer().deserializeDataWrapper(
+                objectClass, response.getEntity().getContent()));
+    }
+
+    /**
+     * Delete a resource from Smartsheet REST API.
+     *
+     * @param <T>         the generic type
+     * @param path        the relative path of the resource
+     * @param objectClass the resource object class
+     * @return the future which completes once the resource is deleted
+     */
+    protected <T> CompletableFuture<Void> deleteResourceAsync(String path, Class<T> objectClass) {
+        Util.throwIfNull(path, objectClass);
+        Util.throwIfEmpty(path);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.DELETE);
+        return sendAsync(request, response -> {
+            this.smartsheet.getJsonSerializer().deserializeResult(objectClass, response.getEntity().getContent());
+            return null;
+        });
+    }
+
+    /**
+     * Delete resources and return a list from Smartsheet REST API.
+     *
+     * @param <T>         the generic type
+     * @param path        the relative path of the resource
+     * @param objectClass the resource object class
+     * @return the future list of deleted ids
+     */
+    protected <T> CompletableFuture<List<T>> deleteListResourcesAsync(String path, Class<T> objectClass) {
+        Util.throwIfNull(path, objectClass);
+        Util.throwIfEmpty(path);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.DELETE);
+        return sendAsync(request, response -> this.smartsheet.getJsonSerializer().deserializeListResult(
+                objectClass, response.getEntity().getContent()).getResult());
+    }
+
+    /**
+     * Post an object to Smartsheet REST API and receive a list of objects from response.
+     *
+     * @param <T>                  the generic type
+     * @param <S>                  the generic type
+     * @param path                 the relative path of the resource collections
+     * @param objectToPost         the object to post
+     * @param objectClassToReceive the resource object class to receive
+     * @return the future object list
+     */
+    protected <T, S> CompletableFuture<List<S>> postAndReceiveListAsync(String path, T objectToPost, Class<S> objectClassToReceive) {
+        Util.throwIfNull(objectClassToReceive);
+        return sendJsonAsync(path, HttpMethod.POST, objectToPost, response -> this.smartsheet.getJsonSerializer()
+                .deserializeListResult(objectClassToReceive, response.getEntity().getContent()).getResult());
+    }
+
+    /**
+     * Put an object to Smartsheet REST API and receive a list of objects from response.
+     *
+     * @param <T>                  the generic type
+     * @param <S>                  the generic type
+     * @param path                 the relative path of the resource collections
+     * @param objectToPut          the object to put
+     * @param objectClassToReceive the resource object class to receive
+     * @return the future object list
+     */
+    protected <T, S> CompletableFuture<List<S>> putAndReceiveListAsync(String path, T objectToPut, Class<S> objectClassToReceive) {
+        Util.throwIfNull(objectClassToReceive);
+        return sendJsonAsync(path, HttpMethod.PUT, objectToPut, response -> this.smartsheet.getJsonSerializer()
+                .deserializeListResult(objectClassToReceive, response.getEntity().getContent()).getResult());
+    }
+
+    private <T> CompletableFuture<T> sendJsonAsync(String path, HttpMethod method, Object object, ResponseHandler<T> handler) {
+        Util.throwIfNull(path, object);
+        Util.throwIfEmpty(path);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), method);
+        request.setEntity(createJsonEntity(object));
+        return sendAsync(request, handler);
+    }
+
+    /**
+     * Send a request and, once the response arrives, hand a successful response to the handler or translate an error
+     * response into the matching SmartsheetException. The response is always closed before the future completes.
+     */
+    private <T> CompletableFuture<T> sendAsync(HttpRequest request, ResponseHandler<T> handler) {
+        return this.smartsheet.getHttpClient().requestAsync(request).thenApply(response -> {
+            try (HttpResponse closeable = response) {
+                if (closeable.getStatusCode() == 200) {
+                    return handler.handle(closeable);
+                }
+                handleError(closeable);
+                return null;
+            } catch (SmartsheetException | IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Converts a successful (200) response into the result of an asynchronous call.
+     */
+    @FunctionalInterface
+    private interface ResponseHandler<T> {
+        T handle(HttpResponse response) throws SmartsheetException, IOException;
+    }
+}
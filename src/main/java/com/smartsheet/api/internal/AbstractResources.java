@@ -28,25 +28,28 @@ import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.http.RecordingSource;
+import com.smartsheet.api.internal.http.StreamingHttpEntity;
 import com.smartsheet.api.internal.json.JSONSerializerException;
-import com.smartsheet.api.internal.util.StreamUtil;
+import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.internal.util.BoundedTeeInputStream;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Attachment;
 import com.smartsheet.api.models.CopyOrMoveRowDirective;
 import com.smartsheet.api.models.CopyOrMoveRowResult;
 import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.Result;
-import org.apache.http.client.methods.CloseableHttpResponse;
+import com.smartsheet.api.models.enums.CellProperty;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.MIME;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
+import org.apache.http.entity.mime.content.AbstractContentBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -54,9 +57,13 @@ import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * This is the base class of the Smartsheet REST API resources.
@@ -207,6 +214,21 @@ public abstract class AbstractResources {
      * @throws SmartsheetException the smartsheet exception
      */
     protected <T> T getResource(String path, Class<T> objectClass) throws SmartsheetException {
+        return getResource(path, objectClass, null);
+    }
+
+    /**
+     * Get a resource from Smartsheet REST API, reading only the given properties of the cells it contains.
+     *
+     * @param <T>            the generic type
+     * @param path           the relative path of the resource.
+     * @param objectClass    the object class
+     * @param cellProperties the cell properties to read, or null to read them all
+     * @return the resource
+     * @throws SmartsheetException the smartsheet exception
+     */
+    protected <T> T getResource(String path, Class<T> objectClass, EnumSet<CellProperty> cellProperties)
+            throws SmartsheetException {
         Util.throwIfNull(path, objectClass);
 
         if (path.isEmpty()) {
@@ -218,27 +240,25 @@ public abstract class AbstractResources {
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
 
         T obj = null;
-        String content = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        BoundedTeeInputStream content = null;
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             InputStream inputStream = response.getEntity().getContent();
             switch (response.getStatusCode()) {
                 case 200:
                     try {
                         if (log.isInfoEnabled()) {
-                            ByteArrayOutputStream contentCopyStream = new ByteArrayOutputStream();
-                            inputStream = StreamUtil.cloneContent(inputStream, response.getEntity().getContentLength(), contentCopyStream);
-                            content = StreamUtil.toUtf8StringOrHex(contentCopyStream, getResponseLogLength());
+                            content = teeForLog(inputStream);
+                            inputStream = content;
                         }
-                        obj = this.smartsheet.getJsonSerializer().deserialize(objectClass, inputStream);
+                        obj = this.smartsheet.getJsonSerializer().deserialize(objectClass, inputStream, cellProperties);
                     } catch (JsonParseException e) {
-                        log.info("failure parsing '{}'", content, e);
+                        log.info("failure parsing '{}'", loggedContent(content), e);
                         throw new SmartsheetException(e);
                     } catch (JsonMappingException e) {
-                        log.info("failure mapping '{}'", content, e);
+                        log.info("failure mapping '{}'", loggedContent(content), e);
                         throw new SmartsheetException(e);
                     } catch (IOException e) {
-                        log.info("failure loading '{}'", content, e);
+                        log.info("failure loading '{}'", loggedContent(content), e);
                         throw new SmartsheetException(e);
                     }
                     break;
@@ -246,10 +266,64 @@ public abstract class AbstractResources {
                     handleError(response);
             }
         } catch (JSONSerializerException jsx) {
-            log.info("failed to parse '{}'", content, jsx);
+            log.info("failed to parse '{}'", loggedContent(content), jsx);
+            throw jsx;
+        }
+        return obj;
+    }
+
+    /**
+     * Get a resource from Smartsheet REST API, handing the elements of one of its array properties to a consumer as
+     * they are read from the response instead of collecting them in the resource.
+     * <p>
+     * Exceptions: -
+     * InvalidRequestException : if there is any problem with the REST API request
+     * AuthorizationException : if there is any problem with the REST API authorization(access token)
+     * ResourceNotFoundException : if the resource can not be found
+     * ServiceUnavailableException : if the REST API service is not available (possibly due to rate limiting)
+     * SmartsheetRestException : if there is any other REST API related error occurred during the operation
+     * SmartsheetException : if there is any other error occurred during the operation
+     *
+     * @param <T>             the generic type of the resource
+     * @param <E>             the generic type of the array elements
+     * @param path            the relative path of the resource
+     * @param objectClass     the resource object class
+     * @param arrayProperty   the name of the array property to stream
+     * @param elementClass    the array element class
+     * @param cellProperties  the cell properties to read, or null to read them all
+     * @param headerConsumer  receives the resource before the first element
+     * @param elementConsumer receives each element
+     * @return the resource, without the streamed array
+     * @throws SmartsheetException the smartsheet exception
+     */
+    protected <T, E> T streamResource(String path, Class<T> objectClass, String arrayProperty, Class<E> elementClass,
+                                      EnumSet<CellProperty> cellProperties, Consumer<? super T> headerConsumer,
+                                      Consumer<? super E> elementConsumer)
+            throws SmartsheetException {
+        Util.throwIfNull(path, objectClass, arrayProperty, elementClass, headerConsumer, elementConsumer);
+        Util.throwIfEmpty(path);
+
+        HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
+
+        T obj = null;
+        BoundedTeeInputStream content = null;
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
+            InputStream inputStream = response.getEntity().getContent();
+            switch (response.getStatusCode()) {
+                case 200:
+                    if (log.isInfoEnabled()) {
+                        content = teeForLog(inputStream);
+                        inputStream = content;
+                    }
+                    obj = this.smartsheet.getJsonSerializer().deserializeStreaming(objectClass, arrayProperty,
+                            elementClass, inputStream, cellProperties, headerConsumer, elementConsumer);
+                    break;
+                default:
+                    handleError(response);
+            }
+        } catch (JSONSerializerException jsx) {
+            log.info("failed to parse '{}'", loggedContent(content), jsx);
             throw jsx;
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
         return obj;
     }
@@ -279,33 +353,22 @@ public abstract class AbstractResources {
 
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
 
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(object, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType(JSON_CONTENT_TYPE);
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
+        request.setEntity(createJsonEntity(object));
 
         T obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200: {
                     InputStream inputStream = response.getEntity().getContent();
-                    String content = null;
+                    BoundedTeeInputStream content = null;
                     try {
                         if (log.isInfoEnabled()) {
-                            ByteArrayOutputStream contentCopyStream = new ByteArrayOutputStream();
-                            inputStream = StreamUtil.cloneContent(inputStream, response.getEntity().getContentLength(), contentCopyStream);
-                            content = StreamUtil.toUtf8StringOrHex(contentCopyStream, getResponseLogLength());
+                            content = teeForLog(inputStream);
+                            inputStream = content;
                         }
                         obj = this.smartsheet.getJsonSerializer().deserializeResult(objectClass, inputStream).getResult();
                     } catch (JSONSerializerException e) {
-                        log.info("failure parsing '{}'", content, e);
-                        throw new SmartsheetException(e);
-                    } catch (IOException e) {
-                        log.info("failure cloning content from inputStream '{}'", inputStream, e);
+                        log.info("failure parsing '{}'", loggedContent(content), e);
                         throw new SmartsheetException(e);
                     }
                     break;
@@ -313,8 +376,6 @@ public abstract class AbstractResources {
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
 
         return obj;
@@ -349,35 +410,74 @@ public abstract class AbstractResources {
     ) throws SmartsheetException {
         Util.throwIfNull(path, object);
         Util.throwIfEmpty(path);
+        return postMultipart(path, objectClass, object, partName, inputStream, contentType, attachmentName);
+    }
 
-        HttpRequest request;
-        final String boundary = "----" + System.currentTimeMillis();
-        CloseableHttpClient httpClient = HttpClients.createDefault();
-        HttpPost uploadFile = createHttpPost(this.getSmartsheet().getBaseURI().resolve(path));
+    /**
+     * Create a resource with an attached file using Smartsheet REST API. The file is re-opened, rather than buffered,
+     * if the request is retried.
+     *
+     * @param <T>         the generic type
+     * @param path        the relative path of the resource collections
+     * @param objectClass the resource object class
+     * @param object      the object to create
+     * @param partName    the name of the part holding the object
+     * @param file        the file to attach
+     * @param contentType the content type of the file
+     * @return the created resource
+     * @throws FileNotFoundException if the file does not exist
+     * @throws SmartsheetException   the smartsheet exception
+     */
+    protected <T> T createResourceWithAttachment(String path, Class<T> objectClass, T object, String partName, File file,
+                                                 String contentType) throws FileNotFoundException, SmartsheetException {
+        Util.throwIfNull(path, object, file);
+        Util.throwIfEmpty(path);
+        return postMultipart(path, objectClass, object, partName, createFileEntity(file, contentType), file.getName());
+    }
 
-        try {
-            uploadFile.setHeader(HEADER_CONTENT_TYPE, "multipart/form-data; boundary=" + boundary);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+    /**
+     * Post an object and an attachment read from a stream as a multipart request. The stream is sent as it is read,
+     * through a RecordingSource which keeps what was sent, so the request can be retried like any other.
+     */
+    private <T> T postMultipart(String path, Class<T> objectClass, Object object, String partName, InputStream inputStream,
+                                String contentType, String attachmentName) throws SmartsheetException {
+        Util.throwIfNull(inputStream, contentType);
+        try (RecordingSource source = new RecordingSource(inputStream)) {
+            return postMultipart(path, objectClass, object, partName,
+                    StreamingHttpEntity.ofSource(contentType, -1, source), attachmentName);
+        } catch (IOException e) {
+            throw new SmartsheetException(e);
         }
+    }
 
+    /**
+     * Post an object and an attachment as a multipart request through the configured HttpClient, so it shares the
+     * connection pool, retries and logging of every other request. The body is written while it is sent.
+     */
+    private <T> T postMultipart(String path, Class<T> objectClass, Object object, String partName,
+                                StreamingHttpEntity attachment, String attachmentName) throws SmartsheetException {
         MultipartEntityBuilder builder = MultipartEntityBuilder.create();
-        builder.setBoundary(boundary);
         builder.addTextBody(partName, this.getSmartsheet().getJsonSerializer().serialize(object), ContentType.APPLICATION_JSON);
-        builder.addBinaryBody("file", inputStream, ContentType.create(contentType), attachmentName);
+        builder.addPart("file", new EntityBody(attachment, attachmentName));
         org.apache.http.HttpEntity multipart = builder.build();
+        String multipartType = multipart.getContentType().getValue();
 
-        uploadFile.setEntity(multipart);
+        HttpRequest request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve(path), HttpMethod.POST);
+        request.getHeaders().put(HEADER_CONTENT_TYPE, multipartType);
+        // an attachment of unknown length is read from a stream, which is sent as it is read rather than copied first
+        request.setEntity(multipart.getContentLength() < 0 ? StreamingHttpEntity.streamed(multipartType, multipart::writeTo)
+                : new StreamingHttpEntity(multipartType, multipart.getContentLength(), multipart::writeTo));
 
         T obj = null;
-        //implement switch case
-        try {
-            CloseableHttpResponse response = httpClient.execute(uploadFile);
-            org.apache.http.HttpEntity responseEntity = response.getEntity();
-            obj = this.getSmartsheet().getJsonSerializer().deserializeResult(objectClass,
-                    responseEntity.getContent()).getResult();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        try (HttpResponse response = this.getSmartsheet().getHttpClient().request(request)) {
+            switch (response.getStatusCode()) {
+                case 200:
+                    obj = this.getSmartsheet().getJsonSerializer().deserializeResult(objectClass,
+                            response.getEntity().getContent()).getResult();
+                    break;
+                default:
+                    handleError(response);
+            }
         }
         return obj;
     }
@@ -408,17 +508,10 @@ public abstract class AbstractResources {
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.PUT);
 
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(object, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType(JSON_CONTENT_TYPE);
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
+        request.setEntity(createJsonEntity(object));
 
         T obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200:
                     obj = this.smartsheet.getJsonSerializer().deserializeResult(objectClass,
@@ -427,8 +520,6 @@ public abstract class AbstractResources {
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
 
         return obj;
@@ -459,8 +550,7 @@ public abstract class AbstractResources {
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
 
         List<T> obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200:
                     obj = this.smartsheet.getJsonSerializer().deserializeList(objectClass,
@@ -469,8 +559,6 @@ public abstract class AbstractResources {
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
 
         return obj;
@@ -494,8 +582,7 @@ public abstract class AbstractResources {
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
 
         PagedResult<T> obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200:
                     obj = this.smartsheet.getJsonSerializer().deserializeDataWrapper(objectClass,
@@ -504,8 +591,6 @@ public abstract class AbstractResources {
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
 
         return obj;
@@ -535,8 +620,7 @@ public abstract class AbstractResources {
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.DELETE);
 
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200:
                     this.smartsheet.getJsonSerializer().deserializeResult(objectClass,
@@ -545,8 +629,6 @@ public abstract class AbstractResources {
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
     }
 
@@ -575,8 +657,7 @@ public abstract class AbstractResources {
         Result<List<T>> obj = null;
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.DELETE);
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200:
                     obj = this.smartsheet.getJsonSerializer().deserializeListResult(objectClass,
@@ -585,8 +666,6 @@ public abstract class AbstractResources {
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
         return obj.getResult();
     }
@@ -621,17 +700,10 @@ public abstract class AbstractResources {
 
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
 
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(objectToPost, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType(JSON_CONTENT_TYPE);
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
+        request.setEntity(createJsonEntity(objectToPost));
 
         List<S> obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200:
                     obj = this.smartsheet.getJsonSerializer().deserializeListResult(objectClassToReceive,
@@ -640,8 +712,6 @@ public abstract class AbstractResources {
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
 
         return obj;
@@ -673,17 +743,10 @@ public abstract class AbstractResources {
 
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
 
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(objectToPost, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType(JSON_CONTENT_TYPE);
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
+        request.setEntity(createJsonEntity(objectToPost));
 
         CopyOrMoveRowResult obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200:
                     obj = this.smartsheet.getJsonSerializer().deserializeCopyOrMoveRow(
@@ -692,8 +755,6 @@ public abstract class AbstractResources {
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
 
         return obj;
@@ -722,17 +783,10 @@ public abstract class AbstractResources {
 
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.PUT);
 
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(objectToPut, objectBytesStream);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType(JSON_CONTENT_TYPE);
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
+        request.setEntity(createJsonEntity(objectToPut));
 
         List<S> obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200:
                     obj = this.smartsheet.getJsonSerializer().deserializeListResult(
@@ -741,8 +795,6 @@ public abstract class AbstractResources {
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
 
         return obj;
@@ -766,6 +818,27 @@ public abstract class AbstractResources {
         return request;
     }
 
+    /**
+     * Create a JSON request entity which serializes the object when the request is sent, rather than into an
+     * intermediate byte array: once, into a buffer which keeps large bodies in a temporary file and which retries send
+     * again. Serialization errors therefore surface when the request is made.
+     *
+     * @param object the object to serialize
+     * @return the http entity
+     */
+    protected HttpEntity createJsonEntity(Object object) {
+        Util.throwIfNull(object);
+        JsonSerializer serializer = this.smartsheet.getJsonSerializer();
+        return new StreamingHttpEntity(JSON_CONTENT_TYPE, outputStream -> {
+            try {
+                serializer.serialize(object, outputStream);
+            } catch (JSONSerializerException e) {
+                // report a failing connection as such rather than as a serialization error
+                throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e);
+            }
+        });
+    }
+
     protected HttpPost createHttpPost(URI uri) {
         HttpPost httpPost = new HttpPost(uri);
         Map<String, String> headers = createHeaders();
@@ -775,26 +848,79 @@ public abstract class AbstractResources {
         return httpPost;
     }
 
+    /**
+     * Create an entity which re-opens a file for every attempt of the request, so a retry neither copies the file
+     * into a buffer nor needs one.
+     *
+     * @param file        the file
+     * @param contentType the content type
+     * @return the entity
+     * @throws FileNotFoundException if the file does not exist or is not a regular file
+     */
+    protected static StreamingHttpEntity createFileEntity(File file, String contentType) throws FileNotFoundException {
+        if (!file.isFile()) {
+            throw new FileNotFoundException(file.getPath() + " (not a file)");
+        }
+        return StreamingHttpEntity.ofFile(contentType, file.toPath(), file.length());
+    }
+
+    /**
+     * Create an entity which re-opens a file for every attempt of the request, so a retry neither copies the file
+     * into a buffer nor needs one.
+     *
+     * @param file        the file
+     * @param contentType the content type
+     * @return the entity
+     * @throws IOException if the file does not exist, is not a regular file, or its size cannot be read
+     */
+    protected static StreamingHttpEntity createFileEntity(Path file, String contentType) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new FileNotFoundException(file + " (not a file)");
+        }
+        return StreamingHttpEntity.ofFile(contentType, file, Files.size(file));
+    }
+
     /**
      * Attach a file
      */
     public Attachment attachFile(String url, InputStream inputStream, String contentType, long contentLength, String attachmentName)
             throws SmartsheetException {
         Util.throwIfNull(inputStream, contentType);
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType(contentType);
+        entity.setContent(new LengthEnforcingInputStream(inputStream, contentLength));
+        entity.setContentLength(contentLength);
+        return attachEntity(url, entity, attachmentName);
+    }
+
+    /**
+     * Attach a file, which is re-opened rather than buffered if the request is retried
+     */
+    public Attachment attachFile(String url, File file, String contentType, String attachmentName)
+            throws FileNotFoundException, SmartsheetException {
+        Util.throwIfNull(file, contentType);
+        return attachEntity(url, createFileEntity(file, contentType), attachmentName);
+    }
+
+    /**
+     * Attach a file, which is re-opened rather than buffered if the request is retried
+     */
+    public Attachment attachFile(String url, Path file, String contentType, String attachmentName)
+            throws IOException, SmartsheetException {
+        Util.throwIfNull(file, contentType);
+        return attachEntity(url, createFileEntity(file, contentType), attachmentName);
+    }
+
+    private Attachment attachEntity(String url, HttpEntity entity, String attachmentName) throws SmartsheetException {
         HttpRequest request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve(url), HttpMethod.POST);
         request.getHeaders().put(
                 "Content-Disposition",
                 "attachment; filename=\"" + URLEncoder.encode(attachmentName, StandardCharsets.UTF_8) + "\""
         );
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType(contentType);
-        entity.setContent(new LengthEnforcingInputStream(inputStream, contentLength));
-        entity.setContentLength(contentLength);
         request.setEntity(entity);
 
         Attachment attachment = null;
-        try {
-            HttpResponse response = this.getSmartsheet().getHttpClient().request(request);
+        try (HttpResponse response = this.getSmartsheet().getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200:
                     attachment = this.getSmartsheet().getJsonSerializer().deserializeResult(Attachment.class,
@@ -803,8 +929,6 @@ public abstract class AbstractResources {
                 default:
                     handleError(response);
             }
-        } finally {
-            this.getSmartsheet().getHttpClient().releaseConnection();
         }
 
         return attachment;
@@ -823,36 +947,7 @@ public abstract class AbstractResources {
      */
     public <T> Attachment attachFile(String url, T t, String partName, InputStream inputstream, String contentType, String attachmentName)
             throws SmartsheetException {
-        Util.throwIfNull(inputstream, contentType);
-        Attachment attachment = null;
-        final String boundary = "----" + System.currentTimeMillis();
-
-        CloseableHttpClient httpClient = HttpClients.createDefault();
-        HttpPost uploadFile = createHttpPost(this.getSmartsheet().getBaseURI().resolve(url));
-
-        try {
-            uploadFile.setHeader(HEADER_CONTENT_TYPE, "multipart/form-data; boundary=" + boundary);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-
-        MultipartEntityBuilder builder = MultipartEntityBuilder.create();
-        builder.setBoundary(boundary);
-        builder.addTextBody(partName, this.getSmartsheet().getJsonSerializer().serialize(t), ContentType.APPLICATION_JSON);
-        builder.addBinaryBody("file", inputstream, ContentType.create(contentType), attachmentName);
-        org.apache.http.HttpEntity multipart = builder.build();
-
-        uploadFile.setEntity(multipart);
-
-        try {
-            CloseableHttpResponse response = httpClient.execute(uploadFile);
-            org.apache.http.HttpEntity responseEntity = response.getEntity();
-            attachment = this.getSmartsheet().getJsonSerializer().deserializeResult(Attachment.class,
-                    responseEntity.getContent()).getResult();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-        return attachment;
+        return postMultipart(url, Attachment.class, t, partName, inputstream, contentType, attachmentName);
     }
 
     /**
@@ -921,8 +1016,7 @@ public abstract class AbstractResources {
         request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve(path), HttpMethod.GET);
         request.getHeaders().put("Accept", fileType);
 
-        try {
-            HttpResponse response = getSmartsheet().getHttpClient().request(request);
+        try (HttpResponse response = getSmartsheet().getHttpClient().request(request)) {
 
             switch (response.getStatusCode()) {
                 case 200:
@@ -935,8 +1029,6 @@ public abstract class AbstractResources {
                 default:
                     handleError(response);
             }
-        } finally {
-            getSmartsheet().getHttpClient().releaseConnection();
         }
     }
 
@@ -988,8 +1080,55 @@ public abstract class AbstractResources {
         return headers;
     }
 
+    /**
+     * Wrap a response stream so that the part of it which would be logged is kept while it is parsed. One byte more
+     * than the log length is kept, so a truncated response is still logged with a trailing "...".
+     */
+    private BoundedTeeInputStream teeForLog(InputStream inputStream) {
+        int logLength = getResponseLogLength();
+        return new BoundedTeeInputStream(inputStream, logLength < 0 ? -1 : logLength + 1);
+    }
+
+    private String loggedContent(BoundedTeeInputStream content) {
+        return content == null ? null : content.toUtf8StringOrHex(getResponseLogLength());
+    }
+
     int getResponseLogLength() {
         // not cached to allow for it to be changed dynamically by client code
         return Integer.getInteger(PROPERTY_RESPONSE_LOG_CHARS, 1024);
     }
+
+    /**
+     * A multipart body part written by a StreamingHttpEntity, so the part can be written again if the request is retried.
+     */
+    private static final class EntityBody extends AbstractContentBody {
+        private final StreamingHttpEntity entity;
+        private final String filename;
+
+        private EntityBody(StreamingHttpEntity entity, String filename) {
+            super(ContentType.create(entity.getContentType()));
+            this.entity = entity;
+            this.filename = filename;
+        }
+
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            entity.writeTo(out);
+        }
+
+        @Override
+        public String getTransferEncoding() {
+            return MIME.ENC_BINARY;
+        }
+
+        @Override
+        public long getContentLength() {
+            return entity.getContentLength();
+        }
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.AsyncReportResources;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Report;
+import com.smartsheet.api.models.enums.ReportInclusion;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This is the implementation of the AsyncReportResources.
+ * <p>
+ * Thread Safety: This class is thread safe because it is immutable and its base class is thread safe.
+ */
+public class AsyncReportResourcesImpl extends AbstractAsyncResources implements AsyncReportResources {
+
+    /**
+     * Constructor.
+     *
+     * @param smartsheet the smartsheet
+     */
+    public AsyncReportResourcesImpl(SmartsheetImpl smartsheet) {
+        super(smartsheet);
+    }
+
+    @Override
+    public CompletableFuture<Report> getReport(
+            long reportId,
+            EnumSet<ReportInclusion> includes,
+            Integer pageSize,
+            Integer page,
+            Integer level
+    ) {
+        return this.getResourceAsync(ReportResourcesImpl.getReportPath(reportId, includes, pageSize, page, level), Report.class);
+    }
+
+    @Override
+    public CompletableFuture<PagedResult<Report>> listReports(PaginationParameters pagination, Date modifiedSince) {
+        return this.listResourcesWithWrapperAsync(ReportResourcesImpl.listReportsPath(pagination, modifiedSince), Report.class);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.AsyncSheetResources;
+import com.smartsheet.api.AsyncSheetRowResources;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
+import com.smartsheet.api.models.enums.SourceInclusion;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This is the implementation of the AsyncSheetResources.
+ * <p>
+ * Thread Safety: This class is thread safe because it is immutable and its base class is thread safe.
+ */
+public class AsyncSheetResourcesImpl extends AbstractAsyncResources implements AsyncSheetResources {
+
+    private static final String SHEETS = "sheets/";
+
+    /**
+     * Represents the AsyncSheetRowResources.
+     * <p>
+     * It will be initialized in constructor and will not change afterwards.
+     */
+    private final AsyncSheetRowResources rows;
+
+    /**
+     * Constructor.
+     *
+     * @param smartsheet the smartsheet
+     */
+    public AsyncSheetResourcesImpl(SmartsheetImpl smartsheet) {
+        super(smartsheet);
+        this.rows = new AsyncSheetRowResourcesImpl(smartsheet);
+    }
+
+    @Override
+    public CompletableFuture<PagedResult<Sheet>> listSheets(
+            EnumSet<SourceInclusion> includes,
+            PaginationParameters pagination,
+            Date modifiedSince
+    ) {
+        return this.listResourcesWithWrapperAsync(SheetResourcesImpl.listSheetsPath(includes, pagination, modifiedSince), Sheet.class);
+    }
+
+    @Override
+    public CompletableFuture<Sheet> getSheet(long sheetId) {
+        return getSheet(sheetId, null, null, null, null, null, null, null, null, null);
+    }
+
+    @Override
+    public CompletableFuture<Sheet> getSheet(
+            long sheetId,
+            EnumSet<SheetInclusion> includes,
+            EnumSet<ObjectExclusion> excludes,
+            Set<Long> rowIds,
+            Set<Integer> rowNumbers,
+            Set<Long> columnIds,
+            Integer pageSize,
+            Integer page,
+            Integer ifVersionAfter,
+            Integer level
+    ) {
+        return this.getResourceAsync(
+                SheetResourcesImpl.getSheetPath(sheetId, includes, excludes, rowIds, rowNumbers, columnIds, pageSize, page,
+                        ifVersionAfter, level),
+                Sheet.class
+        );
+    }
+
+    @Override
+    public CompletableFuture<Sheet> createSheet(Sheet sheet) {
+        return this.createResourceAsync("sheets", Sheet.class, sheet);
+    }
+
+    @Override
+    public CompletableFuture<Sheet> updateSheet(Sheet sheet) {
+        return this.updateResourceAsync(SHEETS + sheet.getId(), Sheet.class, sheet);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteSheet(long sheetId) {
+        return this.deleteResourceAsync(SHEETS + sheetId, Sheet.class);
+    }
+
+    @Override
+    public AsyncSheetRowResources rowResources() {
+        return this.rows;
+    }
+}
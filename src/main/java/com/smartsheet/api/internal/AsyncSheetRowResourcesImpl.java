@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.AsyncSheetRowResources;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.RowInclusion;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This is the implementation of the AsyncSheetRowResources.
+ * <p>
+ * Thread Safety: This class is thread safe because it is immutable and its base class is thread safe.
+ */
+public class AsyncSheetRowResourcesImpl extends AbstractAsyncResources implements AsyncSheetRowResources {
+
+    /**
+     * Constructor.
+     *
+     * @param smartsheet the smartsheet
+     */
+    public AsyncSheetRowResourcesImpl(SmartsheetImpl smartsheet) {
+        super(smartsheet);
+    }
+
+    @Override
+    public CompletableFuture<List<Row>> addRows(
+            long sheetId,
+            List<Row> rows,
+            EnumSet<RowInclusion> includes,
+            EnumSet<ObjectExclusion> excludes
+    ) {
+        return this.postAndReceiveListAsync(SheetRowResourcesImpl.rowsPath(sheetId, includes, excludes), rows, Row.class);
+    }
+
+    @Override
+    public CompletableFuture<Row> getRow(long sheetId, long rowId, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes) {
+        return this.getResourceAsync(SheetRowResourcesImpl.rowPath(sheetId, rowId, includes, excludes), Row.class);
+    }
+
+    @Override
+    public CompletableFuture<List<Row>> updateRows(
+            long sheetId,
+            List<Row> rows,
+            EnumSet<RowInclusion> includes,
+            EnumSet<ObjectExclusion> excludes
+    ) {
+        return this.putAndReceiveListAsync(SheetRowResourcesImpl.rowsPath(sheetId, includes, excludes), rows, Row.class);
+    }
+
+    @Override
+    public CompletableFuture<List<Long>> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound) {
+        return this.deleteListResourcesAsync(SheetRowResourcesImpl.deleteRowsPath(sheetId, rowIds, ignoreRowsNotFound), Long.class);
+    }
+}
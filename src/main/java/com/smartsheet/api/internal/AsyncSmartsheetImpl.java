@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.AsyncReportResources;
+import com.smartsheet.api.AsyncSheetResources;
+import com.smartsheet.api.AsyncSmartsheet;
+import com.smartsheet.api.internal.util.Util;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This is the implementation of the AsyncSmartsheet interface.
+ * <p>
+ * Thread Safety: This class is thread safe because the resources are created lazily through atomic references and
+ * the owning SmartsheetImpl is thread safe.
+ */
+public class AsyncSmartsheetImpl implements AsyncSmartsheet {
+
+    /**
+     * Represents the SmartsheetImpl whose settings and HttpClient are used for every request.
+     */
+    private final SmartsheetImpl smartsheet;
+
+    private final AtomicReference<AsyncSheetResources> sheets = new AtomicReference<>();
+
+    private final AtomicReference<AsyncReportResources> reports = new AtomicReference<>();
+
+    /**
+     * Constructor.
+     *
+     * @param smartsheet the smartsheet
+     */
+    public AsyncSmartsheetImpl(SmartsheetImpl smartsheet) {
+        this.smartsheet = Util.throwIfNull(smartsheet);
+    }
+
+    /**
+     * Returns the AsyncSheetResources instance that provides asynchronous access to Sheet resources.
+     *
+     * @return the sheet resources
+     */
+    public AsyncSheetResources sheetResources() {
+        if (sheets.get() == null) {
+            sheets.compareAndSet(null, new AsyncSheetResourcesImpl(smartsheet));
+        }
+        return sheets.get();
+    }
+
+    /**
+     * Returns the AsyncReportResources instance that provides asynchronous access to Report resources.
+     *
+     * @return the report resources
+     */
+    public AsyncReportResources reportResources() {
+        if (reports.get() == null) {
+            reports.compareAndSet(null, new AsyncReportResourcesImpl(smartsheet));
+        }
+        return reports.get();
+    }
+}
@@ -0,0 +1,550 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.AttachmentDownloadResources;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.SmartsheetFactory;
+import com.smartsheet.api.internal.http.HttpEntity;
+import com.smartsheet.api.internal.http.HttpMethod;
+import com.smartsheet.api.internal.http.HttpRequest;
+import com.smartsheet.api.internal.http.HttpResponse;
+import com.smartsheet.api.internal.util.StreamUtil;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Attachment;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This is the implementation of the AttachmentDownloadResources.
+ * <p>
+ * A download starts by asking for its first part as a byte range; a ranged GET rather than a HEAD probes the server,
+ * since pre-signed download urls are only signed for GET. A server which supports ranges (and advertises
+ * Accept-Ranges) answers 206 with the total size in Content-Range, and the remaining parts are then fetched in
+ * parallel and written at their offsets into a "{@code .part}" file through a FileChannel. A server which does not
+ * answers 200 with the whole content, which is streamed into the file instead.
+ * <p>
+ * Every completed part is recorded in a "{@code .part.state}" file, so repeating an interrupted download fetches only
+ * the missing parts, as long as the content kept its size and ETag; otherwise it starts again. The target is
+ * replaced by the complete file once every part has arrived.
+ * <p>
+ * Thread Safety: This class is thread safe. All its downloads share one limit on requests in flight.
+ */
+public class AttachmentDownloadResourcesImpl extends AbstractResources implements AttachmentDownloadResources {
+
+    /**
+     * The default size of the byte range fetched by each request.
+     */
+    public static final long DEFAULT_PART_SIZE = 8L * StreamUtil.ONE_MB;
+
+    /**
+     * The default limit on requests in flight across all downloads.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+
+    private static final String JSON_MIME_TYPE = "application/json";
+    private static final String PART_SUFFIX = ".part";
+    private static final String STATE_SUFFIX = ".part.state";
+    private static final long TRANSFER_CHUNK = StreamUtil.ONE_MB;
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+)");
+
+    private final long partSize;
+    private final int maxConcurrentRequests;
+    private final Semaphore requests;
+
+    /**
+     * Runs the parallel part requests; created on first use.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Constructor.
+     * <p>
+     * Exceptions: - IllegalArgumentException : if any argument is null
+     *
+     * @param smartsheet the smartsheet
+     */
+    public AttachmentDownloadResourcesImpl(SmartsheetImpl smartsheet) {
+        this(smartsheet, DEFAULT_MAX_CONCURRENT_REQUESTS, DEFAULT_PART_SIZE);
+    }
+
+    /**
+     * Constructor.
+     * <p>
+     * Exceptions: - IllegalArgumentException : if any argument is null, or a limit is not positive
+     *
+     * @param smartsheet            the smartsheet
+     * @param maxConcurrentRequests the limit on requests in flight across all downloads
+     * @param partSize              the size of the byte range fetched by each request
+     */
+    public AttachmentDownloadResourcesImpl(SmartsheetImpl smartsheet, int maxConcurrentRequests, long partSize) {
+        super(smartsheet);
+        if (maxConcurrentRequests < 1 || partSize < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests and partSize must be positive");
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.partSize = partSize;
+        this.requests = new Semaphore(maxConcurrentRequests, true);
+    }
+
+    /**
+     * Downloads the content of a file attachment to a file.
+     *
+     * @param attachment the attachment
+     * @param target     the file to write, which is replaced once the download completes
+     * @return the number of bytes downloaded
+     * @throws IllegalArgumentException if any argument is null, or the attachment has no download url
+     * @throws IOException              if the file cannot be written or the content cannot be read
+     * @throws SmartsheetException      if the server returns an error
+     */
+    public long downloadAttachment(Attachment attachment, Path target) throws IOException, SmartsheetException {
+        Util.throwIfNull(attachment, target);
+        if (attachment.getUrl() == null) {
+            throw new IllegalArgumentException("The attachment has no download url; get it with getAttachment");
+        }
+        return downloadAttachment(attachment.getUrl(), target);
+    }
+
+    /**
+     * Downloads the content behind an attachment download url to a file.
+     *
+     * @param url    the download url
+     * @param target the file to write, which is replaced once the download completes
+     * @return the number of bytes downloaded
+     * @throws IllegalArgumentException if any argument is null or empty string
+     * @throws IOException              if the file cannot be written or the content cannot be read
+     * @throws SmartsheetException      if the server returns an error
+     */
+    public long downloadAttachment(String url, Path target) throws IOException, SmartsheetException {
+        Util.throwIfNull(url, target);
+        Util.throwIfEmpty(url);
+
+        URI uri = URI.create(url);
+        Download download = new Download(uri, target);
+        if (!download.readState()) {
+            download.discard();
+        }
+        long size = download.run();
+        if (size < 0) {
+            // the content changed since the download was interrupted
+            download = new Download(uri, target);
+            download.discard();
+            size = download.run();
+        }
+        return size;
+    }
+
+    /**
+     * Gets the instance used by Smartsheet implementations other than the SDK's own. Download urls are requested
+     * without the access token, so it needs nothing from the caller's Smartsheet and downloads through a default
+     * HttpClient, created on first use.
+     *
+     * @return the shared attachment download resources
+     */
+    public static AttachmentDownloadResources shared() {
+        return SharedInstance.INSTANCE;
+    }
+
+    private void acquire() throws InterruptedIOException {
+        try {
+            requests.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to download");
+        }
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(maxConcurrentRequests, maxConcurrentRequests, 60,
+                    TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "smartsheet-download-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        }
+        return executor;
+    }
+
+    /**
+     * Write a response body into the file at a position.
+     *
+     * @param length the number of bytes to expect, or -1 to write everything
+     * @return the number of bytes written
+     */
+    private static long transfer(HttpResponse response, FileChannel channel, long position, long length) throws IOException {
+        HttpEntity entity = response.getEntity();
+        if (entity == null || entity.getContent() == null) {
+            if (length > 0) {
+                throw new EOFException("Expected " + length + " bytes at offset " + position + ", got none");
+            }
+            return 0;
+        }
+        ReadableByteChannel source = Channels.newChannel(entity.getContent());
+        long transferred = 0;
+        while (length < 0 || transferred < length) {
+            long count = length < 0 ? TRANSFER_CHUNK : Math.min(TRANSFER_CHUNK, length - transferred);
+            long written = channel.transferFrom(source, position + transferred, count);
+            if (written == 0) {
+                break;
+            }
+            transferred += written;
+        }
+        if (length >= 0 && transferred < length) {
+            throw new EOFException("Expected " + length + " bytes at offset " + position + ", got " + transferred);
+        }
+        return transferred;
+    }
+
+    private static String header(HttpResponse response, String name) {
+        if (response.getHeaders() != null) {
+            for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+                if (name.equalsIgnoreCase(header.getKey())) {
+                    return header.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parse the Content-Range of a partial response into its first byte, last byte and total size.
+     */
+    private static long[] contentRange(HttpResponse response) throws IOException {
+        String value = header(response, "Content-Range");
+        Matcher matcher = value == null ? null : CONTENT_RANGE.matcher(value);
+        if (matcher == null || !matcher.matches()) {
+            throw new IOException("Unsupported Content-Range: " + value);
+        }
+        return new long[]{Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)),
+            Long.parseLong(matcher.group(3))};
+    }
+
+    private static Path sibling(Path target, String suffix) {
+        return target.resolveSibling(target.getFileName() + suffix);
+    }
+
+    /**
+     * One download of a url to a file, with the parts completed so far.
+     */
+    private final class Download {
+        private final URI uri;
+        private final Path target;
+        private final Path partFile;
+        private final Path stateFile;
+
+        private long total;
+        private long size = partSize;
+        private String etag;
+
+        /**
+         * The parts already in the part file, or null until the total size is known; guarded by this.
+         */
+        private BitSet completed;
+
+        Download(URI uri, Path target) {
+            this.uri = uri;
+            this.target = target;
+            this.partFile = sibling(target, PART_SUFFIX);
+            this.stateFile = sibling(target, STATE_SUFFIX);
+        }
+
+        /**
+         * Read the state of an interrupted download.
+         *
+         * @return true if there is one which can be resumed
+         */
+        boolean readState() throws IOException {
+            if (!Files.isRegularFile(stateFile) || !Files.isRegularFile(partFile)) {
+                return false;
+            }
+            String state = new String(Files.readAllBytes(stateFile), StandardCharsets.US_ASCII);
+            // a line cut short by a crash is not a completed part
+            int end = state.lastIndexOf('\n');
+            if (end < 0) {
+                return false;
+            }
+            String[] lines = state.substring(0, end).split("\n");
+            String[] header = lines[0].split(" ", 3);
+            BitSet parts = new BitSet();
+            try {
+                total = Long.parseLong(header[0]);
+                size = Long.parseLong(header[1]);
+                etag = header.length > 2 && !header[2].isEmpty() ? header[2] : null;
+                for (int i = 1; i < lines.length; i++) {
+                    parts.set(Integer.parseInt(lines[i]));
+                }
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                return false;
+            }
+            if (size < 1 || Files.size(partFile) != total) {
+                return false;
+            }
+            completed = parts;
+            return true;
+        }
+
+        void discard() throws IOException {
+            Files.deleteIfExists(stateFile);
+            Files.deleteIfExists(partFile);
+            completed = null;
+            etag = null;
+            size = partSize;
+        }
+
+        /**
+         * Fetch the missing parts and move the complete file into place.
+         *
+         * @return the size of the content, or -1 if it changed since the download was interrupted
+         */
+        long run() throws IOException, SmartsheetException {
+            boolean resumed = completed != null;
+            int first = resumed ? completed.nextClearBit(0) : 0;
+            if (resumed && first >= partCount()) {
+                return finish();
+            }
+            try (FileChannel channel = FileChannel.open(partFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                long start = first * size;
+                long end = resumed ? end(first) : size - 1;
+                boolean ranged;
+                acquire();
+                try (HttpResponse response = get(start, end)) {
+                    switch (response.getStatusCode()) {
+                        case 200:
+                            // no support for ranges, or the content changed: take all of it
+                            Files.deleteIfExists(stateFile);
+                            channel.truncate(0);
+                            total = transfer(response, channel, 0, -1);
+                            ranged = false;
+                            break;
+                        case 206:
+                            long[] range = contentRange(response);
+                            String responseEtag = header(response, "ETag");
+                            if (resumed && (range[2] != total || etag != null && responseEtag != null
+                                    && !etag.equals(responseEtag))) {
+                                return -1;
+                            }
+                            if (range[0] != start || range[1] > end) {
+                                throw new IOException("Asked for bytes " + start + "-" + end + ", got " + range[0] + "-"
+                                        + range[1]);
+                            }
+                            if (!resumed) {
+                                total = range[2];
+                                etag = responseEtag;
+                                createState(channel);
+                            }
+                            transfer(response, channel, start, range[1] - start + 1);
+                            complete(first, channel);
+                            ranged = true;
+                            break;
+                        case 416:
+                            // the range starts past the end of the content, i.e. it is empty or it shrank
+                            if (resumed) {
+                                return -1;
+                            }
+                            total = 0;
+                            ranged = false;
+                            break;
+                        default:
+                            throw error(response);
+                    }
+                } finally {
+                    requests.release();
+                }
+                if (ranged) {
+                    fetchParts(channel);
+                }
+                channel.force(true);
+            }
+            return finish();
+        }
+
+        /**
+         * Fetch the missing parts in parallel, within the limit on requests in flight.
+         */
+        private void fetchParts(FileChannel channel) throws IOException, SmartsheetException {
+            List<Integer> missing = new ArrayList<>();
+            synchronized (this) {
+                for (int i = completed.nextClearBit(0); i < partCount(); i = completed.nextClearBit(i + 1)) {
+                    missing.add(i);
+                }
+            }
+            if (missing.isEmpty()) {
+                return;
+            }
+            AtomicInteger next = new AtomicInteger();
+            AtomicBoolean failed = new AtomicBoolean();
+            List<Callable<Void>> workers = new ArrayList<>();
+            for (int i = Math.min(maxConcurrentRequests, missing.size()); i > 0; i--) {
+                workers.add(() -> {
+                    try {
+                        for (int j = next.getAndIncrement(); j < missing.size() && !failed.get(); j = next.getAndIncrement()) {
+                            fetchPart(channel, missing.get(j));
+                        }
+                        return null;
+                    } catch (IOException | SmartsheetException | RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                });
+            }
+            try {
+                for (Future<Void> result : getExecutor().invokeAll(workers)) {
+                    result.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while downloading " + target);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                if (e.getCause() instanceof SmartsheetException) {
+                    throw (SmartsheetException) e.getCause();
+                }
+                throw new SmartsheetException(e);
+            }
+        }
+
+        private void fetchPart(FileChannel channel, int part) throws IOException, SmartsheetException {
+            long start = part * size;
+            long end = end(part);
+            acquire();
+            try (HttpResponse response = get(start, end)) {
+                if (response.getStatusCode() != 206) {
+                    if (response.getStatusCode() >= 400) {
+                        throw error(response);
+                    }
+                    throw new IOException("Asked for bytes " + start + "-" + end + ", got HTTP " + response.getStatusCode());
+                }
+                long[] range = contentRange(response);
+                if (range[0] != start || range[1] != end) {
+                    throw new IOException("Asked for bytes " + start + "-" + end + ", got " + range[0] + "-" + range[1]);
+                }
+                transfer(response, channel, start, end - start + 1);
+            } finally {
+                requests.release();
+            }
+            complete(part, channel);
+        }
+
+        private HttpResponse get(long start, long end) throws SmartsheetException {
+            HttpRequest request = new HttpRequest();
+            request.setUri(uri);
+            request.setMethod(HttpMethod.GET);
+            // no access token: the url carries its own signature, and may point at another host
+            Map<String, String> headers = new HashMap<>();
+            headers.put("Range", "bytes=" + start + "-" + end);
+            // ranges of a compressed response would be ranges of the compressed bytes
+            headers.put("Accept-Encoding", "identity");
+            if (etag != null && !etag.startsWith("W/")) {
+                // a changed content is sent whole rather than as a range of it
+                headers.put("If-Range", etag);
+            }
+            request.setHeaders(headers);
+            return smartsheet.getHttpClient().request(request);
+        }
+
+        private SmartsheetException error(HttpResponse response) throws SmartsheetException {
+            HttpEntity entity = response.getEntity();
+            if (entity != null && entity.getContentType() != null && entity.getContentType().startsWith(JSON_MIME_TYPE)) {
+                handleError(response);
+            }
+            return new SmartsheetException("Download of " + target.getFileName() + " failed with HTTP "
+                    + response.getStatusCode());
+        }
+
+        /**
+         * Record the size of the content, and make the part file that long so that parts can be written in any order.
+         */
+        private void createState(FileChannel channel) throws IOException {
+            if (total > 0) {
+                channel.write(ByteBuffer.wrap(new byte[1]), total - 1);
+            }
+            String header = total + " " + size + " " + (etag == null ? "" : etag) + "\n";
+            Files.write(stateFile, header.getBytes(StandardCharsets.US_ASCII));
+            synchronized (this) {
+                completed = new BitSet();
+            }
+        }
+
+        /**
+         * Record a part once it is on disk.
+         */
+        private void complete(int part, FileChannel channel) throws IOException {
+            channel.force(false);
+            synchronized (this) {
+                completed.set(part);
+                Files.write(stateFile, (part + "\n").getBytes(StandardCharsets.US_ASCII), StandardOpenOption.APPEND);
+            }
+        }
+
+        private long finish() throws IOException {
+            Files.move(partFile, target, StandardCopyOption.REPLACE_EXISTING);
+            Files.deleteIfExists(stateFile);
+            return total;
+        }
+
+        private int partCount() {
+            return (int) ((total + size - 1) / size);
+        }
+
+        private long end(int part) {
+            return Math.min(total, (part + 1) * size) - 1;
+        }
+    }
+
+    /**
+     * Holds the shared instance, which is created when it is first asked for.
+     */
+    private static final class SharedInstance {
+        private static final AttachmentDownloadResources INSTANCE =
+                new AttachmentDownloadResourcesImpl(new SmartsheetImpl(SmartsheetFactory.DEFAULT_BASE_URI, null));
+    }
+}
@@ -28,9 +28,7 @@ import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.PaginationParameters;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.InputStream;
 
 /**
  * This is the implementation of the AssociatedAttachmentResources.
@@ -127,43 +125,7 @@ public class AttachmentVersioningResourcesImpl extends AbstractResources impleme
         Util.throwIfNull(attachmentId, file, contentType);
         Util.throwIfEmpty(contentType);
 
-        return attachNewVersion(sheetId, attachmentId, new FileInputStream(file), contentType, file.length(), file.getName());
-    }
-
-    /**
-     * Attach a new version of an attachment.
-     * <p>
-     * It mirrors to the following Smartsheet REST API method: POST /attachment/{id}/versions
-     *
-     * @param sheetId        the id of the sheet
-     * @param attachmentId   the id of the object
-     * @param inputStream    the {@link InputStream} of the file to attach
-     * @param contentType    the content type of the file
-     * @param contentLength  the size of the file in bytes.
-     * @param attachmentName the name of the file.
-     * @return the created attachment
-     * @throws IllegalArgumentException    if any argument is null or empty string
-     * @throws InvalidRequestException     if there is any problem with the REST API request
-     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
-     * @throws ResourceNotFoundException   if the resource cannot be found
-     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
-     * @throws SmartsheetException         if there is any other error during the operation
-     */
-    private Attachment attachNewVersion(
-            long sheetId,
-            long attachmentId,
-            InputStream inputStream,
-            String contentType,
-            long contentLength,
-            String attachmentName
-    ) throws SmartsheetException {
-        return super.attachFile(
-                createPath(sheetId, attachmentId),
-                inputStream,
-                contentType,
-                contentLength,
-                attachmentName
-        );
+        return super.attachFile(createPath(sheetId, attachmentId), file, contentType, file.getName());
     }
 
     private String createPath(long sheetId, long attachmentId) {
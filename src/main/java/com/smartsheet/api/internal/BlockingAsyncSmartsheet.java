@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.AsyncReportResources;
+import com.smartsheet.api.AsyncSheetResources;
+import com.smartsheet.api.AsyncSheetRowResources;
+import com.smartsheet.api.AsyncSmartsheet;
+import com.smartsheet.api.Smartsheet;
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.ConnectionPoolSettings;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Report;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ObjectExclusion;
+import com.smartsheet.api.models.enums.ReportInclusion;
+import com.smartsheet.api.models.enums.RowInclusion;
+import com.smartsheet.api.models.enums.SheetInclusion;
+import com.smartsheet.api.models.enums.SourceInclusion;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An AsyncSmartsheet over the blocking methods of any {@link Smartsheet}, e.g. an implementation other than the SDK's
+ * own, which has no access to the HttpClient the SDK sends asynchronous requests through. Each call runs the
+ * equivalent blocking method on a bounded pool of daemon threads shared by every instance, so the futures complete
+ * as they would with the SDK's implementation, but a request in flight holds a thread.
+ * <p>
+ * Thread Safety: This class is thread safe if the wrapped Smartsheet is.
+ */
+public class BlockingAsyncSmartsheet implements AsyncSmartsheet {
+
+    private static ExecutorService executor;
+
+    private final AsyncSheetResources sheets;
+
+    private final AsyncReportResources reports;
+
+    /**
+     * Constructor.
+     *
+     * @param smartsheet the smartsheet whose blocking methods are called
+     */
+    public BlockingAsyncSmartsheet(Smartsheet smartsheet) {
+        Util.throwIfNull(smartsheet);
+        this.sheets = new Sheets(smartsheet);
+        this.reports = new Reports(smartsheet);
+    }
+
+    @Override
+    public AsyncSheetResources sheetResources() {
+        return sheets;
+    }
+
+    @Override
+    public AsyncReportResources reportResources() {
+        return reports;
+    }
+
+    /**
+     * A blocking call which may fail with a SmartsheetException.
+     */
+    @FunctionalInterface
+    private interface Call<T> {
+        T call() throws SmartsheetException;
+    }
+
+    private static <T> CompletableFuture<T> supply(Call<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return call.call();
+            } catch (SmartsheetException e) {
+                throw new CompletionException(e);
+            }
+        }, getExecutor());
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            int threads = ConnectionPoolSettings.DEFAULT_MAX_CONNECTIONS;
+            AtomicInteger threadNumber = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "smartsheet-blocking-async-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        }
+        return executor;
+    }
+
+    private static final class Sheets implements AsyncSheetResources {
+        private final Smartsheet smartsheet;
+        private final AsyncSheetRowResources rows;
+
+        Sheets(Smartsheet smartsheet) {
+            this.smartsheet = smartsheet;
+            this.rows = new Rows(smartsheet);
+        }
+
+        @Override
+        public CompletableFuture<PagedResult<Sheet>> listSheets(
+                EnumSet<SourceInclusion> includes,
+                PaginationParameters pagination,
+                Date modifiedSince
+        ) {
+            return supply(() -> smartsheet.sheetResources().listSheets(includes, pagination, modifiedSince));
+        }
+
+        @Override
+        public CompletableFuture<Sheet> getSheet(long sheetId) {
+            return supply(() -> smartsheet.sheetResources().getSheet(sheetId));
+        }
+
+        @Override
+        public CompletableFuture<Sheet> getSheet(
+                long sheetId,
+                EnumSet<SheetInclusion> includes,
+                EnumSet<ObjectExclusion> excludes,
+                Set<Long> rowIds,
+                Set<Integer> rowNumbers,
+                Set<Long> columnIds,
+                Integer pageSize,
+                Integer page,
+                Integer ifVersionAfter,
+                Integer level
+        ) {
+            return supply(() -> smartsheet.sheetResources().getSheet(sheetId, includes, excludes, rowIds, rowNumbers,
+                    columnIds, pageSize, page, ifVersionAfter, level));
+        }
+
+        @Override
+        public CompletableFuture<Sheet> createSheet(Sheet sheet) {
+            return supply(() -> smartsheet.sheetResources().createSheet(sheet));
+        }
+
+        @Override
+        public CompletableFuture<Sheet> updateSheet(Sheet sheet) {
+            return supply(() -> smartsheet.sheetResources().updateSheet(sheet));
+        }
+
+        @Override
+        public CompletableFuture<Void> deleteSheet(long sheetId) {
+            return supply(() -> {
+                smartsheet.sheetResources().deleteSheet(sheetId);
+                return null;
+            });
+        }
+
+        @Override
+        public AsyncSheetRowResources rowResources() {
+            return rows;
+        }
+    }
+
+    private static final class Rows implements AsyncSheetRowResources {
+        private final Smartsheet smartsheet;
+
+        Rows(Smartsheet smartsheet) {
+            this.smartsheet = smartsheet;
+        }
+
+        @Override
+        public CompletableFuture<List<Row>> addRows(
+                long sheetId,
+                List<Row> rows,
+                EnumSet<RowInclusion> includes,
+                EnumSet<ObjectExclusion> excludes
+        ) {
+            return supply(() -> smartsheet.sheetResources().rowResources().addRows(sheetId, rows, includes, excludes));
+        }
+
+        @Override
+        public CompletableFuture<Row> getRow(long sheetId, long rowId, EnumSet<RowInclusion> includes,
+                                             EnumSet<ObjectExclusion> excludes) {
+            return supply(() -> smartsheet.sheetResources().rowResources().getRow(sheetId, rowId, includes, excludes));
+        }
+
+        @Override
+        public CompletableFuture<List<Row>> updateRows(
+                long sheetId,
+                List<Row> rows,
+                EnumSet<RowInclusion> includes,
+                EnumSet<ObjectExclusion> excludes
+        ) {
+            return supply(() -> smartsheet.sheetResources().rowResources().updateRows(sheetId, rows, includes, excludes));
+        }
+
+        @Override
+        public CompletableFuture<List<Long>> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound) {
+            return supply(() -> smartsheet.sheetResources().rowResources().deleteRows(sheetId, rowIds, ignoreRowsNotFound));
+        }
+    }
+
+    private static final class Reports implements AsyncReportResources {
+        private final Smartsheet smartsheet;
+
+        Reports(Smartsheet smartsheet) {
+            this.smartsheet = smartsheet;
+        }
+
+        @Override
+        public CompletableFuture<Report> getReport(
+                long reportId,
+                EnumSet<ReportInclusion> includes,
+                Integer pageSize,
+                Integer page,
+                Integer level
+        ) {
+            return supply(() -> smartsheet.reportResources().getReport(reportId, includes, pageSize, page, level));
+        }
+
+        @Override
+        public CompletableFuture<PagedResult<Report>> listReports(PaginationParameters pagination, Date modifiedSince) {
+            return supply(() -> smartsheet.reportResources().listReports(pagination, modifiedSince));
+        }
+    }
+}
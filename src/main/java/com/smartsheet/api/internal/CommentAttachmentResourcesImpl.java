@@ -25,9 +25,10 @@ import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.Attachment;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 
 /**
  * This is the implementation of the CommentAttachmentResources.
@@ -86,7 +87,33 @@ public class CommentAttachmentResourcesImpl extends AbstractResources implements
         Util.throwIfNull(sheetId, commentId, file, contentType);
         Util.throwIfEmpty(contentType);
 
-        return attachFile(sheetId, commentId, new FileInputStream(file), contentType, file.length(), file.getName());
+        return super.attachFile("sheets/" + sheetId + "/comments/" + commentId + "/attachments", file, contentType, file.getName());
+    }
+
+    /**
+     * Attach a file to a comment with simple upload.
+     * <p>
+     * It mirrors to the following Smartsheet REST API method: POST /sheets/{sheetId}/comments/{commentId}/attachments
+     *
+     * @param sheetId     the id of the sheet
+     * @param commentId   the id of the comment
+     * @param file        the file to attach
+     * @param contentType the content type of the file
+     * @return the created attachment
+     * @throws IOException                 if the file does not exist or cannot be read
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    public Attachment attachFile(long sheetId, long commentId, Path file, String contentType) throws IOException, SmartsheetException {
+        Util.throwIfNull(sheetId, commentId, file, contentType);
+        Util.throwIfEmpty(contentType);
+
+        return super.attachFile("sheets/" + sheetId + "/comments/" + commentId + "/attachments", file, contentType,
+                file.getFileName().toString());
     }
 
     /**
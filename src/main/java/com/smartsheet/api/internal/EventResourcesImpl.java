@@ -94,8 +94,7 @@ public class EventResourcesImpl extends AbstractResources implements EventResour
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.GET);
 
         EventResult obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200:
                     obj = this.smartsheet.getJsonSerializer().deserializeEventResult(response.getEntity().getContent());
@@ -103,8 +102,6 @@ public class EventResourcesImpl extends AbstractResources implements EventResour
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
 
         return obj;
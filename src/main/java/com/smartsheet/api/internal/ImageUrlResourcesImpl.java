@@ -24,7 +24,6 @@ import com.smartsheet.api.InvalidRequestException;
 import com.smartsheet.api.ResourceNotFoundException;
 import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.SmartsheetException;
-import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
@@ -32,8 +31,6 @@ import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.ImageUrl;
 import com.smartsheet.api.models.ImageUrlMap;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
 
@@ -71,35 +68,27 @@ public class ImageUrlResourcesImpl extends AbstractResources implements ImageUrl
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve("imageurls"), HttpMethod.POST);
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(requestUrls, baos);
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(baos.toByteArray()));
-        entity.setContentLength(baos.size());
-        request.setEntity(entity);
-
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        request.setEntity(createJsonEntity(requestUrls));
 
         ImageUrlMap obj = null;
-
-        switch (response.getStatusCode()) {
-            case 200:
-                try {
-                    obj = this.smartsheet.getJsonSerializer().deserialize(ImageUrlMap.class,
-                            response.getEntity().getContent());
-                } catch (JsonParseException e) {
-                    throw new SmartsheetException(e);
-                } catch (JsonMappingException e) {
-                    throw new SmartsheetException(e);
-                } catch (IOException e) {
-                    throw new SmartsheetException(e);
-                }
-                break;
-            default:
-                handleError(response);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
+            switch (response.getStatusCode()) {
+                case 200:
+                    try {
+                        obj = this.smartsheet.getJsonSerializer().deserialize(ImageUrlMap.class,
+                                response.getEntity().getContent());
+                    } catch (JsonParseException e) {
+                        throw new SmartsheetException(e);
+                    } catch (JsonMappingException e) {
+                        throw new SmartsheetException(e);
+                    } catch (IOException e) {
+                        throw new SmartsheetException(e);
+                    }
+                    break;
+                default:
+                    handleError(response);
+            }
         }
-        smartsheet.getHttpClient().releaseConnection();
         return obj;
     }
 }
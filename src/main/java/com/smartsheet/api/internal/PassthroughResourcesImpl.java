@@ -152,8 +152,7 @@ public class PassthroughResourcesImpl extends AbstractResources implements Passt
         }
 
         String res = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200:
                     String readLine;
@@ -173,8 +172,6 @@ public class PassthroughResourcesImpl extends AbstractResources implements Passt
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
         return res;
     }
@@ -29,6 +29,7 @@ import com.smartsheet.api.models.PaginationParameters;
 import com.smartsheet.api.models.Report;
 import com.smartsheet.api.models.ReportPublish;
 import com.smartsheet.api.models.SheetEmail;
+import com.smartsheet.api.models.enums.CellProperty;
 import com.smartsheet.api.models.enums.ReportInclusion;
 
 import java.io.OutputStream;
@@ -123,6 +124,39 @@ public class ReportResourcesImpl extends AbstractResources implements ReportReso
             Integer page,
             Integer level
     ) throws SmartsheetException {
+        return this.getReport(reportId, includes, pageSize, page, level, null);
+    }
+
+    /**
+     * Get a report, reading only the given properties of its cells.
+     * <p>
+     * It mirrors to the following Smartsheet REST API method: GET /reports/{id}
+     *
+     * @param reportId       the report id
+     * @param includes       the optional objects to include in response
+     * @param pageSize       Number of rows per page
+     * @param page           page number to return
+     * @param level          compatibility level
+     * @param cellProperties the cell properties to read, or null to read them all
+     * @return the report (note that if there is no such resource, this method will throw ResourceNotFoundException
+     * rather than returning null)
+     * @throws SmartsheetException the smartsheet exception
+     */
+    public Report getReport(
+            long reportId,
+            EnumSet<ReportInclusion> includes,
+            Integer pageSize,
+            Integer page,
+            Integer level,
+            EnumSet<CellProperty> cellProperties
+    ) throws SmartsheetException {
+        return this.getResource(getReportPath(reportId, includes, pageSize, page, level), Report.class, cellProperties);
+    }
+
+    /**
+     * Build the relative path (including query string) used to get a report; shared with the asynchronous API.
+     */
+    static String getReportPath(long reportId, EnumSet<ReportInclusion> includes, Integer pageSize, Integer page, Integer level) {
         String path = REPORTS_PATH + reportId;
         Map<String, Object> parameters = new HashMap<>();
 
@@ -140,7 +174,7 @@ public class ReportResourcesImpl extends AbstractResources implements ReportReso
         }
 
         path += QueryUtil.generateUrl(null, parameters);
-        return this.getResource(path, Report.class);
+        return path;
     }
 
     /**
@@ -188,6 +222,13 @@ public class ReportResourcesImpl extends AbstractResources implements ReportReso
      * List all reports.
      */
     public PagedResult<Report> listReports(PaginationParameters pagination, Date modifiedSince) throws SmartsheetException {
+        return this.listResourcesWithWrapper(listReportsPath(pagination, modifiedSince), Report.class);
+    }
+
+    /**
+     * Build the relative path (including query string) used to list reports; shared with the asynchronous API.
+     */
+    static String listReportsPath(PaginationParameters pagination, Date modifiedSince) {
         String path = "reports";
 
         Map<String, Object> parameters = new HashMap<>();
@@ -200,7 +241,7 @@ public class ReportResourcesImpl extends AbstractResources implements ReportReso
         }
 
         path += QueryUtil.generateUrl(null, parameters);
-        return this.listResourcesWithWrapper(path, Report.class);
+        return path;
     }
 
     /**
@@ -28,9 +28,10 @@ import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.PaginationParameters;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 
 /**
  * This is the implementation of the RowAttachmentResources.
@@ -120,7 +121,32 @@ public class RowAttachmentResourcesImpl extends AbstractResources implements Row
         Util.throwIfNull(sheetId, rowId, file, contentType);
         Util.throwIfEmpty(contentType);
 
-        return attachFile(sheetId, rowId, new FileInputStream(file), contentType, file.length(), file.getName());
+        return super.attachFile(createPath(sheetId, rowId), file, contentType, file.getName());
+    }
+
+    /**
+     * Attach a file to a row with simple upload.
+     * <p>
+     * It mirrors to the following Smartsheet REST API method: POST /sheets/{sheetId}/rows/{rowId}/attachments
+     *
+     * @param sheetId     the id of the sheet
+     * @param rowId       the id of the comment
+     * @param file        the file to attach
+     * @param contentType the content type of the file
+     * @return the created attachment
+     * @throws IOException                 if the file does not exist or cannot be read
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    public Attachment attachFile(long sheetId, long rowId, Path file, String contentType) throws IOException, SmartsheetException {
+        Util.throwIfNull(sheetId, rowId, file, contentType);
+        Util.throwIfEmpty(contentType);
+
+        return super.attachFile(createPath(sheetId, rowId), file, contentType, file.getFileName().toString());
     }
 
     /**
@@ -30,11 +30,12 @@ import com.smartsheet.api.models.PaginationParameters;
 import com.smartsheet.api.models.enums.CellHistoryInclusion;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
@@ -165,7 +166,7 @@ public class RowColumnResourcesImpl extends AbstractResources implements RowColu
         Util.throwIfNull(file);
         File f = new File(file);
         String path = SHEETS_PATH + sheetId + ROWS_PATH + rowId + COLUMNS_PATH + columnId + CELL_IMAGES_PATH;
-        addImage(path, new FileInputStream(f), contentType, f.length(), false, null, file);
+        addImage(path, createFileEntity(f, contentType), false, null, file);
     }
 
     /**
@@ -203,7 +204,7 @@ public class RowColumnResourcesImpl extends AbstractResources implements RowColu
         Util.throwIfNull(file);
         File f = new File(file);
         String path = SHEETS_PATH + sheetId + ROWS_PATH + rowId + COLUMNS_PATH + columnId + CELL_IMAGES_PATH;
-        addImage(path, new FileInputStream(f), contentType, f.length(), overrideValidation, altText, file);
+        addImage(path, createFileEntity(f, contentType), overrideValidation, altText, file);
     }
 
     /**
@@ -233,7 +234,37 @@ public class RowColumnResourcesImpl extends AbstractResources implements RowColu
                                boolean overrideValidation, String altText) throws FileNotFoundException, SmartsheetException {
         Util.throwIfNull(file);
         String path = SHEETS_PATH + sheetId + ROWS_PATH + rowId + COLUMNS_PATH + columnId + CELL_IMAGES_PATH;
-        addImage(path, new FileInputStream(file), contentType, file.length(), overrideValidation, altText, file.getName());
+        addImage(path, createFileEntity(file, contentType), overrideValidation, altText, file.getName());
+    }
+
+    /**
+     * Add an image to a cell.
+     * <p>
+     * It mirrors the following Smartsheet REST API method: POST /sheets/{sheetId}/rows/{rowId}/columns/{columnId}/cellimages
+     * <p>
+     * Exceptions:
+     * InvalidRequestException : if there is any problem with the REST API request
+     * AuthorizationException : if there is any problem with the REST API authorization(access token)
+     * ResourceNotFoundException : if the resource can not be found
+     * ServiceUnavailableException : if the REST API service is not available (possibly due to rate limiting)
+     * SmartsheetRestException : if there is any other REST API related error occurred during the operation
+     * SmartsheetException : if there is any other error occurred during the operation
+     *
+     * @param sheetId            the sheet ID
+     * @param rowId              the row id
+     * @param columnId           the column id
+     * @param file               the file
+     * @param contentType        MIME type
+     * @param overrideValidation override column type validation if true
+     * @param altText            alternate description for the image
+     * @throws SmartsheetException   the smartsheet exception
+     * @throws IOException           if the file does not exist or cannot be read
+     */
+    public void addImageToCell(long sheetId, long rowId, long columnId, Path file, String contentType,
+                               boolean overrideValidation, String altText) throws IOException, SmartsheetException {
+        Util.throwIfNull(file);
+        String path = SHEETS_PATH + sheetId + ROWS_PATH + rowId + COLUMNS_PATH + columnId + CELL_IMAGES_PATH;
+        addImage(path, createFileEntity(file, contentType), overrideValidation, altText, file.getFileName().toString());
     }
 
     /**
@@ -271,8 +302,17 @@ public class RowColumnResourcesImpl extends AbstractResources implements RowColu
         if (imageName == null) {
             inputStream.toString();
         }
-        if (contentType == null) {
-            contentType = "application/octet-stream";
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType(contentType);
+        entity.setContent(inputStream);
+        entity.setContentLength(contentLength);
+        addImage(path, entity, overrideValidation, altText, imageName);
+    }
+
+    private void addImage(String path, HttpEntity entity, boolean overrideValidation, String altText, String imageName)
+            throws SmartsheetException {
+        if (entity.getContentType() == null) {
+            entity.setContentType("application/octet-stream");
         }
 
         Map<String, Object> parameters = new HashMap<>();
@@ -287,20 +327,15 @@ public class RowColumnResourcesImpl extends AbstractResources implements RowColu
         HttpRequest request = createHttpRequest(this.smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
         String contentDispositionValue = "attachment; filename=\"" + URLEncoder.encode(imageName, StandardCharsets.UTF_8) + "\"";
         request.getHeaders().put("Content-Disposition", contentDispositionValue);
-
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType(contentType);
-        entity.setContent(inputStream);
-        entity.setContentLength(contentLength);
         request.setEntity(entity);
 
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
-        switch (response.getStatusCode()) {
-            case 200:
-                break;
-            default:
-                handleError(response);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
+            switch (response.getStatusCode()) {
+                case 200:
+                    break;
+                default:
+                    handleError(response);
+            }
         }
-        smartsheet.getHttpClient().releaseConnection();
     }
 }
@@ -26,7 +26,6 @@ import com.smartsheet.api.models.PaginationParameters;
 import com.smartsheet.api.models.enums.DiscussionInclusion;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -98,9 +97,8 @@ public class RowDiscussionResourcesImpl extends AbstractResources implements Row
                 Discussion.class,
                 discussion,
                 "discussion",
-                new FileInputStream(file),
-                contentType,
-                file.getName()
+                file,
+                contentType
         );
     }
 
@@ -29,9 +29,10 @@ import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.PaginationParameters;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 
 /**
  * This is the implementation of the SheetAttachmentResources.
@@ -171,7 +172,31 @@ public class SheetAttachmentResourcesImpl extends AbstractResources implements S
         Util.throwIfNull(sheetId, file, contentType);
         Util.throwIfEmpty(contentType);
 
-        return attachFile(sheetId, new FileInputStream(file), contentType, file.length(), file.getName());
+        return super.attachFile(SHEETS_PATH + sheetId + ATTACHMENTS_PATH, file, contentType, file.getName());
+    }
+
+    /**
+     * Attach a file to a sheet with simple upload.
+     * <p>
+     * It mirrors to the following Smartsheet REST API method: POST /sheets/{sheetId}/attachments
+     *
+     * @param sheetId     the id of the sheet
+     * @param file        the file to attach
+     * @param contentType the content type of the file
+     * @return the created attachment
+     * @throws IOException                 if the file does not exist or cannot be read
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    public Attachment attachFile(long sheetId, Path file, String contentType) throws IOException, SmartsheetException {
+        Util.throwIfNull(sheetId, file, contentType);
+        Util.throwIfEmpty(contentType);
+
+        return super.attachFile(SHEETS_PATH + sheetId + ATTACHMENTS_PATH, file, contentType, file.getFileName().toString());
     }
 
     /**
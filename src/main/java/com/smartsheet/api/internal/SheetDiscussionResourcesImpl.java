@@ -32,9 +32,7 @@ import com.smartsheet.api.models.PaginationParameters;
 import com.smartsheet.api.models.enums.DiscussionInclusion;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
@@ -108,24 +106,7 @@ public class SheetDiscussionResourcesImpl extends AbstractResources implements S
         Util.throwIfNull(discussion, file, contentType);
         String path = SHEETS_PATH + sheetId + "/" + DISCUSSIONS;
 
-        return this.createDiscussionWithAttachment(path, discussion, new FileInputStream(file), contentType, file.getName());
-    }
-
-    private Discussion createDiscussionWithAttachment(
-            String path, Discussion discussion,
-            InputStream inputStream,
-            String contentType,
-            String attachmentName
-    ) throws SmartsheetException {
-        return this.createResourceWithAttachment(
-                path,
-                Discussion.class,
-                discussion,
-                "discussion",
-                inputStream,
-                contentType,
-                attachmentName
-        );
+        return this.createResourceWithAttachment(path, Discussion.class, discussion, "discussion", file, contentType);
     }
 
     /**
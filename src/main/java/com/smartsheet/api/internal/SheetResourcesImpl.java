@@ -19,6 +19,7 @@ package com.smartsheet.api.internal;
 import com.smartsheet.api.AuthorizationException;
 import com.smartsheet.api.InvalidRequestException;
 import com.smartsheet.api.ResourceNotFoundException;
+import com.smartsheet.api.RowHandler;
 import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.ShareResources;
 import com.smartsheet.api.SheetAttachmentResources;
@@ -35,7 +36,6 @@ import com.smartsheet.api.SheetUpdateRequestResources;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.SmartsheetRestException;
 import com.smartsheet.api.UserResources;
-import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
@@ -45,11 +45,13 @@ import com.smartsheet.api.models.ContainerDestination;
 import com.smartsheet.api.models.MultiRowEmail;
 import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Row;
 import com.smartsheet.api.models.Sheet;
 import com.smartsheet.api.models.SheetEmail;
 import com.smartsheet.api.models.SheetPublish;
 import com.smartsheet.api.models.SortSpecifier;
 import com.smartsheet.api.models.UpdateRequest;
+import com.smartsheet.api.models.enums.CellProperty;
 import com.smartsheet.api.models.enums.CopyExclusion;
 import com.smartsheet.api.models.enums.ObjectExclusion;
 import com.smartsheet.api.models.enums.PaperSize;
@@ -58,14 +60,11 @@ import com.smartsheet.api.models.enums.SheetInclusion;
 import com.smartsheet.api.models.enums.SheetTemplateInclusion;
 import com.smartsheet.api.models.enums.SourceInclusion;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.EnumSet;
@@ -231,6 +230,13 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
             PaginationParameters pagination,
             Date modifiedSince
     ) throws SmartsheetException {
+        return this.listResourcesWithWrapper(listSheetsPath(includes, pagination, modifiedSince), Sheet.class);
+    }
+
+    /**
+     * Build the relative path (including query string) used to list sheets; shared with the asynchronous API.
+     */
+    static String listSheetsPath(EnumSet<SourceInclusion> includes, PaginationParameters pagination, Date modifiedSince) {
         String path = SHEETS;
 
         Map<String, Object> parameters = new HashMap<>();
@@ -244,7 +250,7 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         parameters.put(INCLUDE, QueryUtil.generateCommaSeparatedList(includes));
 
         path += QueryUtil.generateUrl(null, parameters);
-        return this.listResourcesWithWrapper(path, Sheet.class);
+        return path;
     }
 
     /**
@@ -379,7 +385,69 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
             Integer ifVersionAfter,
             Integer level
     ) throws SmartsheetException {
+        return this.getSheet(id, includes, excludes, rowIds, rowNumbers, columnIds, pageSize, page, ifVersionAfter, level, null);
+    }
+
+    /**
+     * Get a sheet, reading only the given properties of its cells.
+     * <p>
+     * It mirrors to the following Smartsheet REST API method: GET /sheet/{id}
+     *
+     * @param id             the id of the sheet
+     * @param includes       used to specify the optional objects to include.
+     * @param excludes       the exclude parameters
+     * @param rowIds         the row ids
+     * @param rowNumbers     the row numbers
+     * @param columnIds      the column ids
+     * @param pageSize       the page size
+     * @param page           the page number
+     * @param ifVersionAfter only fetch Sheet if more recent version available
+     * @param level          compatibility level
+     * @param cellProperties the cell properties to read, or null to read them all
+     * @return the sheet resource (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    public Sheet getSheet(
+            long id,
+            EnumSet<SheetInclusion> includes,
+            EnumSet<ObjectExclusion> excludes,
+            Set<Long> rowIds,
+            Set<Integer> rowNumbers,
+            Set<Long> columnIds,
+            Integer pageSize,
+            Integer page,
+            Integer ifVersionAfter,
+            Integer level,
+            EnumSet<CellProperty> cellProperties
+    ) throws SmartsheetException {
+        return this.getResource(
+                getSheetPath(id, includes, excludes, rowIds, rowNumbers, columnIds, pageSize, page, ifVersionAfter, level),
+                Sheet.class,
+                cellProperties
+        );
+    }
 
+    /**
+     * Build the relative path (including query string) used to get a sheet; shared with the asynchronous API.
+     */
+    static String getSheetPath(
+            long id,
+            EnumSet<SheetInclusion> includes,
+            EnumSet<ObjectExclusion> excludes,
+            Set<Long> rowIds,
+            Set<Integer> rowNumbers,
+            Set<Long> columnIds,
+            Integer pageSize,
+            Integer page,
+            Integer ifVersionAfter,
+            Integer level
+    ) {
         String path = SHEETS + "/" + id;
 
         // Add the parameters to a map and build the query string at the end
@@ -397,8 +465,7 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
 
         // Iterate through the map of parameters and generate the query string
         path += QueryUtil.generateUrl(null, parameters);
-
-        return this.getResource(path, Sheet.class);
+        return path;
     }
 
     /**
@@ -418,6 +485,69 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         return getSheet(sheetId, null, null, null, null, null, null, null, null, null);
     }
 
+    /**
+     * Get a sheet, handing its rows to a handler one at a time as they are read from the response.
+     * <p>
+     * It mirrors to the following Smartsheet REST API method: GET /sheet/{id}
+     *
+     * @param id             the id of the sheet
+     * @param includes       used to specify the optional objects to include.
+     * @param excludes       the exclude parameters
+     * @param rowIds         the row ids
+     * @param rowNumbers     the row numbers
+     * @param columnIds      the column ids
+     * @param pageSize       the page size
+     * @param page           the page number
+     * @param level          compatibility level
+     * @param cellProperties the cell properties to read, or null to read them all
+     * @param handler        receives the sheet and then each row
+     * @return the sheet resource without rows (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    public Sheet streamSheet(
+            long id,
+            EnumSet<SheetInclusion> includes,
+            EnumSet<ObjectExclusion> excludes,
+            Set<Long> rowIds,
+            Set<Integer> rowNumbers,
+            Set<Long> columnIds,
+            Integer pageSize,
+            Integer page,
+            Integer level,
+            EnumSet<CellProperty> cellProperties,
+            RowHandler handler
+    ) throws SmartsheetException {
+        Util.throwIfNull(handler);
+        return this.streamResource(
+                getSheetPath(id, includes, excludes, rowIds, rowNumbers, columnIds, pageSize, page, null, level),
+                Sheet.class, "rows", Row.class, cellProperties, handler::onSheet, handler::onRow
+        );
+    }
+
+    /**
+     * Get a sheet by ID, handing all of its rows to a handler one at a time as they are read from the response.
+     *
+     * @param sheetId id of the sheet to fetch
+     * @param handler receives the sheet and then each row
+     * @return the sheet resource without rows (note that if there is no such resource, this method will throw
+     * ResourceNotFoundException rather than returning null).
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    public Sheet streamSheet(long sheetId, RowHandler handler) throws SmartsheetException {
+        return streamSheet(sheetId, null, null, null, null, null, null, null, null, null, handler);
+    }
+
     /**
      * Get a sheet as an Excel file.
      * <p>
@@ -524,6 +654,27 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         return importFile("sheets/import", file, TEXT_CSV, sheetName, headerRowIndex, primaryColumnIndex);
     }
 
+    /**
+     * Imports a sheet.
+     * <p>
+     * It mirrors to the following Smartsheet REST API method: POST /sheets/import
+     *
+     * @param file               the CSV file
+     * @param sheetName          destination sheet name
+     * @param headerRowIndex     index (0 based) of row to be used for column names
+     * @param primaryColumnIndex index (0 based) of primary column
+     * @return the created sheet
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    public Sheet importCsv(Path file, String sheetName, Integer headerRowIndex, Integer primaryColumnIndex) throws SmartsheetException {
+        return importFile("sheets/import", file, TEXT_CSV, sheetName, headerRowIndex, primaryColumnIndex);
+    }
+
     /**
      * Imports a sheet.
      * <p>
@@ -546,6 +697,28 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
                 sheetName, headerRowIndex, primaryColumnIndex);
     }
 
+    /**
+     * Imports a sheet.
+     * <p>
+     * It mirrors to the following Smartsheet REST API method: POST /sheets/import
+     *
+     * @param file               the XLSX file
+     * @param sheetName          destination sheet name
+     * @param headerRowIndex     index (0 based) of row to be used for column names
+     * @param primaryColumnIndex index (0 based) of primary column
+     * @return the created sheet
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    public Sheet importXlsx(Path file, String sheetName, Integer headerRowIndex, Integer primaryColumnIndex) throws SmartsheetException {
+        return importFile("sheets/import", file, XLSX_CONTENT_TYPE,
+                sheetName, headerRowIndex, primaryColumnIndex);
+    }
+
     /**
      * Create a sheet in given folder.
      * <p>
@@ -633,6 +806,41 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         );
     }
 
+    /**
+     * Imports a sheet in given folder.
+     * <p>
+     * It mirrors to the following Smartsheet REST API method: POST /folders/{folderId}/sheets/import
+     *
+     * @param folderId           the folder id
+     * @param file               the CSV file
+     * @param sheetName          destination sheet name
+     * @param headerRowIndex     index (0 based) of row to be used for column names
+     * @param primaryColumnIndex index (0 based) of primary column
+     * @return the created sheet
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    public Sheet importCsvInFolder(
+            long folderId,
+            Path file,
+            String sheetName,
+            Integer headerRowIndex,
+            Integer primaryColumnIndex
+    ) throws SmartsheetException {
+        return importFile(
+                FOLDERS + "/" + folderId + "/" + SHEETS + "/" + IMPORT,
+                file,
+                TEXT_CSV,
+                sheetName,
+                headerRowIndex,
+                primaryColumnIndex
+        );
+    }
+
     /**
      * Imports a sheet in given folder.
      * <p>
@@ -668,6 +876,41 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         );
     }
 
+    /**
+     * Imports a sheet in given folder.
+     * <p>
+     * It mirrors to the following Smartsheet REST API method: POST /folders/{folderId}/sheets/import
+     *
+     * @param folderId           the folder id
+     * @param file               the XLSX file
+     * @param sheetName          destination sheet name
+     * @param headerRowIndex     index (0 based) of row to be used for column names
+     * @param primaryColumnIndex index (0 based) of primary column
+     * @return the created sheet
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    public Sheet importXlsxInFolder(
+            long folderId,
+            Path file,
+            String sheetName,
+            Integer headerRowIndex,
+            Integer primaryColumnIndex
+    ) throws SmartsheetException {
+        return importFile(
+                FOLDERS + "/" + folderId + "/" + SHEETS + "/" + IMPORT,
+                file,
+                XLSX_CONTENT_TYPE,
+                sheetName,
+                headerRowIndex,
+                primaryColumnIndex
+        );
+    }
+
     /**
      * Create a sheet in given workspace.
      * <p>
@@ -754,6 +997,41 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         );
     }
 
+    /**
+     * Imports a sheet in given workspace.
+     * <p>
+     * It mirrors to the following Smartsheet REST API method: POST /workspaces/{workspaceId}/sheets/import
+     *
+     * @param workspaceId        the workspace id
+     * @param file               the CSV file
+     * @param sheetName          destination sheet name
+     * @param headerRowIndex     index (0 based) of row to be used for column names
+     * @param primaryColumnIndex index (0 based) of primary column
+     * @return the created sheet
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    public Sheet importCsvInWorkspace(
+            long workspaceId,
+            Path file,
+            String sheetName,
+            Integer headerRowIndex,
+            Integer primaryColumnIndex
+    ) throws SmartsheetException {
+        return importFile(
+                WORKSPACES + "/" + workspaceId + "/" + SHEETS + "/" + IMPORT,
+                file,
+                TEXT_CSV,
+                sheetName,
+                headerRowIndex,
+                primaryColumnIndex
+        );
+    }
+
     /**
      * Imports a sheet in given workspace.
      * <p>
@@ -789,6 +1067,41 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         );
     }
 
+    /**
+     * Imports a sheet in given workspace.
+     * <p>
+     * It mirrors to the following Smartsheet REST API method: POST /workspaces/{workspaceId}/sheets/import
+     *
+     * @param workspaceId        the workspace id
+     * @param file               the XLSX file
+     * @param sheetName          destination sheet name
+     * @param headerRowIndex     index (0 based) of row to be used for column names
+     * @param primaryColumnIndex index (0 based) of primary column
+     * @return the created sheet
+     * @throws IllegalArgumentException    if any argument is null or empty string
+     * @throws InvalidRequestException     if there is any problem with the REST API request
+     * @throws AuthorizationException      if there is any problem with  the REST API authorization (access token)
+     * @throws ResourceNotFoundException   if the resource cannot be found
+     * @throws ServiceUnavailableException if the REST API service is not available (possibly due to rate limiting)
+     * @throws SmartsheetException         if there is any other error during the operation
+     */
+    public Sheet importXlsxInWorkspace(
+            long workspaceId,
+            Path file,
+            String sheetName,
+            Integer headerRowIndex,
+            Integer primaryColumnIndex
+    ) throws SmartsheetException {
+        return importFile(
+                WORKSPACES + "/" + workspaceId + "/" + SHEETS + "/" + IMPORT,
+                file,
+                XLSX_CONTENT_TYPE,
+                sheetName,
+                headerRowIndex,
+                primaryColumnIndex
+        );
+    }
+
     /**
      * Delete a sheet.
      * <p>
@@ -1065,18 +1378,10 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
 
         HttpRequest request = createHttpRequest(smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
 
-        ByteArrayOutputStream objectBytesStream = new ByteArrayOutputStream();
-        this.smartsheet.getJsonSerializer().serialize(sortSpecifier, objectBytesStream);
-
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(objectBytesStream.toByteArray()));
-        entity.setContentLength(objectBytesStream.size());
-        request.setEntity(entity);
+        request.setEntity(createJsonEntity(sortSpecifier));
 
         Sheet obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200: {
                     InputStream inputStream = response.getEntity().getContent();
@@ -1090,8 +1395,6 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
         return obj;
     }
@@ -1225,10 +1528,30 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         Util.throwIfNull(path, file, contentType);
         Util.throwIfEmpty(path, file, contentType);
 
-        File f = new File(file);
+        return importFile(path, new File(file).toPath(), contentType, sheetName, headerRowIndex, primaryColumnIndex);
+    }
+
+    /**
+     * Internal function used by all the import routines. The file is re-opened, rather than buffered, if the request
+     * is retried.
+     *
+     * @param path               endpoint for import
+     * @param file               the file
+     * @param contentType        content type of the file being imported (either CSV or XLSX)
+     * @param sheetName          sheetName from caller (can be null)
+     * @param headerRowIndex     headerRowIndex from caller (can be null)
+     * @param primaryColumnIndex primaryColumnIndex from caller (can be null)
+     * @return the new imported sheet
+     * @throws SmartsheetException : if the file cannot be read, or there is any other error during the operation
+     */
+    private Sheet importFile(String path, Path file, String contentType, String sheetName, Integer headerRowIndex,
+                             Integer primaryColumnIndex) throws SmartsheetException {
+        Util.throwIfNull(path, file, contentType);
+        Util.throwIfEmpty(path, contentType);
+
         Map<String, Object> parameters = new HashMap<>();
         if (sheetName == null) {
-            sheetName = f.getName();
+            sheetName = file.getFileName().toString();
         }
         parameters.put("sheetName", sheetName);
         parameters.put("headerRowIndex", headerRowIndex);
@@ -1238,22 +1561,14 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         request.getHeaders().put("Content-Disposition", "attachment");
         request.getHeaders().put("Content-Type", contentType);
 
-        InputStream is = null;
         try {
-            is = new FileInputStream(f);
-        } catch (FileNotFoundException e) {
+            request.setEntity(createFileEntity(file, contentType));
+        } catch (IOException e) {
             throw new SmartsheetException(e);
         }
 
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType(contentType);
-        entity.setContent(is);
-        entity.setContentLength(f.length());
-        request.setEntity(entity);
-
         Sheet obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200:
                     obj = this.smartsheet.getJsonSerializer().deserializeResult(Sheet.class,
@@ -1262,8 +1577,6 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
 
         return obj;
@@ -1297,21 +1610,19 @@ public class SheetResourcesImpl extends AbstractResources implements SheetResour
         request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve(path), HttpMethod.GET);
         request.getHeaders().put("Accept", contentType);
 
-        com.smartsheet.api.internal.http.HttpResponse response = getSmartsheet().getHttpClient().request(request);
-
-        switch (response.getStatusCode()) {
-            case 200:
-                try {
-                    copyStream(response.getEntity().getContent(), outputStream);
-                } catch (IOException e) {
-                    throw new SmartsheetException(e);
-                }
-                break;
-            default:
-                handleError(response);
+        try (com.smartsheet.api.internal.http.HttpResponse response = getSmartsheet().getHttpClient().request(request)) {
+            switch (response.getStatusCode()) {
+                case 200:
+                    try {
+                        copyStream(response.getEntity().getContent(), outputStream);
+                    } catch (IOException e) {
+                        throw new SmartsheetException(e);
+                    }
+                    break;
+                default:
+                    handleError(response);
+            }
         }
-
-        getSmartsheet().getHttpClient().releaseConnection();
     }
 
     /**
@@ -26,7 +26,6 @@ import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.SheetRowResources;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.SmartsheetRestException;
-import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
@@ -48,8 +47,6 @@ import com.smartsheet.api.models.enums.RowCopyInclusion;
 import com.smartsheet.api.models.enums.RowInclusion;
 import com.smartsheet.api.models.enums.RowMoveInclusion;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -130,15 +127,7 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
             EnumSet<RowInclusion> includes,
             EnumSet<ObjectExclusion> excludes
     ) throws SmartsheetException {
-        String path = SHEETS_PATH + sheetId + "/" + ROWS;
-
-        Map<String, Object> parameters = new HashMap<>();
-
-        parameters.put(INCLUDE, QueryUtil.generateCommaSeparatedList(includes));
-        parameters.put(EXCLUDE, QueryUtil.generateCommaSeparatedList(excludes));
-
-        path += QueryUtil.generateUrl(null, parameters);
-        return this.postAndReceiveList(path, rows, Row.class);
+        return this.postAndReceiveList(rowsPath(sheetId, includes, excludes), rows, Row.class);
     }
 
     /**
@@ -212,15 +201,7 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
             EnumSet<RowInclusion> includes,
             EnumSet<ObjectExclusion> excludes
     ) throws SmartsheetException {
-        String path = SHEETS_PATH + sheetId + "/" + ROWS + "/" + rowId;
-
-        Map<String, Object> parameters = new HashMap<>();
-
-        parameters.put(INCLUDE, QueryUtil.generateCommaSeparatedList(includes));
-        parameters.put(EXCLUDE, QueryUtil.generateCommaSeparatedList(excludes));
-
-        path += QueryUtil.generateUrl(null, parameters);
-        return this.getResource(path, Row.class);
+        return this.getResource(rowPath(sheetId, rowId, includes, excludes), Row.class);
     }
 
     /**
@@ -260,6 +241,28 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
      * @throws SmartsheetException         : if there is any other error occurred during the operation
      */
     public List<Long> deleteRows(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound) throws SmartsheetException {
+        return this.deleteListResources(deleteRowsPath(sheetId, rowIds, ignoreRowsNotFound), Long.class);
+    }
+
+    /**
+     * Build the relative path (including query string) of the rows collection of a sheet; shared with the
+     * asynchronous API.
+     */
+    static String rowsPath(long sheetId, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes) {
+        return withIncludesAndExcludes(SHEETS_PATH + sheetId + "/" + ROWS, includes, excludes);
+    }
+
+    /**
+     * Build the relative path (including query string) of a single row; shared with the asynchronous API.
+     */
+    static String rowPath(long sheetId, long rowId, EnumSet<RowInclusion> includes, EnumSet<ObjectExclusion> excludes) {
+        return withIncludesAndExcludes(SHEETS_PATH + sheetId + "/" + ROWS + "/" + rowId, includes, excludes);
+    }
+
+    /**
+     * Build the relative path (including query string) used to delete rows; shared with the asynchronous API.
+     */
+    static String deleteRowsPath(long sheetId, Set<Long> rowIds, boolean ignoreRowsNotFound) {
         Util.throwIfNull(rowIds);
         Map<String, Object> parameters = new HashMap<>();
         String path = SHEETS_PATH + sheetId + "/" + ROWS + "/";
@@ -267,8 +270,20 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
         parameters.put(IGNORE_ROWS_NOT_FOUND, ignoreRowsNotFound);
 
         path += QueryUtil.generateUrl(null, parameters);
+        return path;
+    }
+
+    private static String withIncludesAndExcludes(
+            String path,
+            EnumSet<RowInclusion> includes,
+            EnumSet<ObjectExclusion> excludes
+    ) {
+        Map<String, Object> parameters = new HashMap<>();
+
+        parameters.put(INCLUDE, QueryUtil.generateCommaSeparatedList(includes));
+        parameters.put(EXCLUDE, QueryUtil.generateCommaSeparatedList(excludes));
 
-        return this.deleteListResources(path, Long.class);
+        return path + QueryUtil.generateUrl(null, parameters);
     }
 
     /**
@@ -352,15 +367,7 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
             EnumSet<RowInclusion> includes,
             EnumSet<ObjectExclusion> excludes
     ) throws SmartsheetException {
-        String path = SHEETS_PATH + sheetId + "/" + ROWS;
-
-        Map<String, Object> parameters = new HashMap<>();
-
-        parameters.put(INCLUDE, QueryUtil.generateCommaSeparatedList(includes));
-        parameters.put(EXCLUDE, QueryUtil.generateCommaSeparatedList(excludes));
-
-        path += QueryUtil.generateUrl(null, parameters);
-        return this.putAndReceiveList(path, rows, Row.class);
+        return this.putAndReceiveList(rowsPath(sheetId, includes, excludes), rows, Row.class);
     }
 
     /**
@@ -501,47 +508,37 @@ public class SheetRowResourcesImpl extends AbstractResources implements SheetRow
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), method);
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-        this.smartsheet.getJsonSerializer().serialize(rows, baos);
-
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(baos.toByteArray()));
-        entity.setContentLength(baos.size());
-        request.setEntity(entity);
-
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        request.setEntity(createJsonEntity(rows));
 
         PartialRowUpdateResult result = null;
-        switch (response.getStatusCode()) {
-            case 200:
-                BulkItemResult<Row> bulkItemResult;
-                bulkItemResult = this.smartsheet.getJsonSerializer().deserializeBulkItemResult(Row.class,
-                        response.getEntity().getContent());
-                result = new PartialRowUpdateResult();
-                result.setResult(bulkItemResult.getResult());
-                result.setResultCode(bulkItemResult.getResultCode());
-                result.setMessage(bulkItemResult.getMessage());
-                result.setVersion(bulkItemResult.getVersion());
-                if (bulkItemResult.getFailedItems() != null) {
-                    List<BulkRowFailedItem> failedItems = new ArrayList<>();
-                    for (BulkItemFailure bulkItemFailure : bulkItemResult.getFailedItems()) {
-                        BulkRowFailedItem bulkRowFailedItem = new BulkRowFailedItem();
-                        bulkRowFailedItem.setError(bulkItemFailure.getError());
-                        bulkRowFailedItem.setIndex(bulkItemFailure.getIndex());
-                        bulkRowFailedItem.setRowId(bulkItemFailure.getRowId());
-                        failedItems.add(bulkRowFailedItem);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
+            switch (response.getStatusCode()) {
+                case 200:
+                    BulkItemResult<Row> bulkItemResult;
+                    bulkItemResult = this.smartsheet.getJsonSerializer().deserializeBulkItemResult(Row.class,
+                            response.getEntity().getContent());
+                    result = new PartialRowUpdateResult();
+                    result.setResult(bulkItemResult.getResult());
+                    result.setResultCode(bulkItemResult.getResultCode());
+                    result.setMessage(bulkItemResult.getMessage());
+                    result.setVersion(bulkItemResult.getVersion());
+                    if (bulkItemResult.getFailedItems() != null) {
+                        List<BulkRowFailedItem> failedItems = new ArrayList<>();
+                        for (BulkItemFailure bulkItemFailure : bulkItemResult.getFailedItems()) {
+                            BulkRowFailedItem bulkRowFailedItem = new BulkRowFailedItem();
+                            bulkRowFailedItem.setError(bulkItemFailure.getError());
+                            bulkRowFailedItem.setIndex(bulkItemFailure.getIndex());
+                            bulkRowFailedItem.setRowId(bulkItemFailure.getRowId());
+                            failedItems.add(bulkRowFailedItem);
+                        }
+                        result.setFailedItems(failedItems);
                     }
-                    result.setFailedItems(failedItems);
-                }
-                break;
-            default:
-                handleError(response);
+                    break;
+                default:
+                    handleError(response);
+            }
         }
 
-        smartsheet.getHttpClient().releaseConnection();
-
         return result;
     }
 
@@ -37,10 +37,7 @@ import com.smartsheet.api.models.SummaryField;
 import com.smartsheet.api.models.enums.SummaryFieldExclusion;
 import com.smartsheet.api.models.enums.SummaryFieldInclusion;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.net.URLEncoder;
@@ -301,9 +298,7 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
         File f = new File(file);
         return addSheetSummaryFieldImage(
                 SHEETS_PATH + sheetId + "/" + SUMMARY + "/" + FIELDS + "/" + fieldId + "/" + IMAGES,
-                new FileInputStream(f),
-                contentType,
-                f.length(),
+                createFileEntity(f, contentType),
                 altText,
                 file
         );
@@ -337,9 +332,7 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
         Util.throwIfNull(file);
         return addSheetSummaryFieldImage(
                 SHEETS_PATH + sheetId + "/" + SUMMARY + "/" + FIELDS + "/" + fieldId + "/" + IMAGES,
-                new FileInputStream(file),
-                contentType,
-                file.length(),
+                createFileEntity(file, contentType),
                 altText,
                 file.getName()
         );
@@ -388,8 +381,17 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
         if (imageName == null) {
             inputStream.toString();
         }
-        if (contentType == null) {
-            contentType = "application/octet-stream";
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType(contentType);
+        entity.setContent(inputStream);
+        entity.setContentLength(contentLength);
+        return addSheetSummaryFieldImage(path, entity, altText, imageName);
+    }
+
+    private Result<SummaryField> addSheetSummaryFieldImage(String path, HttpEntity entity, String altText, String imageName)
+            throws SmartsheetException {
+        if (entity.getContentType() == null) {
+            entity.setContentType("application/octet-stream");
         }
 
         Map<String, Object> parameters = new HashMap<>();
@@ -401,24 +403,19 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
         HttpRequest request = createHttpRequest(this.smartsheet.getBaseURI().resolve(path), HttpMethod.POST);
         String contentDispositionValue = "attachment; filename=\"" + URLEncoder.encode(imageName, StandardCharsets.UTF_8) + "\"";
         request.getHeaders().put("Content-Disposition", contentDispositionValue);
-
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType(contentType);
-        entity.setContent(inputStream);
-        entity.setContentLength(contentLength);
         request.setEntity(entity);
 
         Result<SummaryField> obj = null;
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
-        switch (response.getStatusCode()) {
-            case 200:
-                obj = this.smartsheet.getJsonSerializer().deserializeResult(SummaryField.class,
-                        response.getEntity().getContent());
-                break;
-            default:
-                handleError(response);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
+            switch (response.getStatusCode()) {
+                case 200:
+                    obj = this.smartsheet.getJsonSerializer().deserializeResult(SummaryField.class,
+                            response.getEntity().getContent());
+                    break;
+                default:
+                    handleError(response);
+            }
         }
-        smartsheet.getHttpClient().releaseConnection();
         return obj;
     }
 
@@ -438,30 +435,20 @@ public class SheetSummaryResourcesImpl extends AbstractResources implements Shee
         HttpRequest request;
         request = createHttpRequest(smartsheet.getBaseURI().resolve(path), method);
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-        this.smartsheet.getJsonSerializer().serialize(fields, baos);
-
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType("application/json");
-        entity.setContent(new ByteArrayInputStream(baos.toByteArray()));
-        entity.setContentLength(baos.size());
-        request.setEntity(entity);
-
-        HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        request.setEntity(createJsonEntity(fields));
 
         BulkItemResult<SummaryField> result = null;
-        switch (response.getStatusCode()) {
-            case 200:
-                result = this.smartsheet.getJsonSerializer().deserializeBulkItemResult(SummaryField.class,
-                        response.getEntity().getContent());
-                break;
-            default:
-                handleError(response);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
+            switch (response.getStatusCode()) {
+                case 200:
+                    result = this.smartsheet.getJsonSerializer().deserializeBulkItemResult(SummaryField.class,
+                            response.getEntity().getContent());
+                    break;
+                default:
+                    handleError(response);
+            }
         }
 
-        smartsheet.getHttpClient().releaseConnection();
-
         return result;
     }
 }
@@ -16,6 +16,8 @@
 
 package com.smartsheet.api.internal;
 
+import com.smartsheet.api.AsyncSmartsheet;
+import com.smartsheet.api.AttachmentDownloadResources;
 import com.smartsheet.api.ContactResources;
 import com.smartsheet.api.EventResources;
 import com.smartsheet.api.FavoriteResources;
@@ -36,14 +38,18 @@ import com.smartsheet.api.Trace;
 import com.smartsheet.api.UserResources;
 import com.smartsheet.api.WebhookResources;
 import com.smartsheet.api.WorkspaceResources;
+import com.smartsheet.api.internal.http.AdaptiveConcurrencyLimiter;
 import com.smartsheet.api.internal.http.AndroidHttpClient;
+import com.smartsheet.api.internal.http.ConnectionPoolSettings;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
 import com.smartsheet.api.internal.http.HttpClient;
+import com.smartsheet.api.internal.http.JdkHttpClient;
+import com.smartsheet.api.internal.http.RateLimiter;
+import com.smartsheet.api.internal.http.RetryPolicy;
 import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import com.smartsheet.api.internal.json.JsonSerializer;
 import com.smartsheet.api.internal.util.CleanerUtil;
 import com.smartsheet.api.internal.util.Util;
-import org.apache.http.impl.client.HttpClients;
 
 import java.io.IOException;
 import java.net.URI;
@@ -263,6 +269,15 @@ public class SmartsheetImpl implements Smartsheet {
      */
     private final AtomicReference<PassthroughResources> passthrough;
 
+    /**
+     * Represents the AtomicReference for AttachmentDownloadResources.
+     * <p>
+     * It will be initialized in constructor and will not change afterward. The underlying value will be initially set
+     * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
+     * effectively the underlying value is lazily created in a thread safe manner.
+     */
+    private final AtomicReference<AttachmentDownloadResources> attachmentDownloads;
+
     /**
      * Represents the AtomicReference for EventResources.
      * <p>
@@ -272,6 +287,15 @@ public class SmartsheetImpl implements Smartsheet {
      */
     private final AtomicReference<EventResources> events;
 
+    /**
+     * Represents the AtomicReference to AsyncSmartsheet
+     * <p>
+     * It will be initialized in constructor and will not change afterward. The underlying value will be initially set
+     * as null, and will be initialized to non-null at the first time it is accessed via corresponding getter, therefore
+     * effectively the underlying value is lazily created in a thread safe manner.
+     */
+    private final AtomicReference<AsyncSmartsheet> async;
+
     private static final String INVALID_OPERATION_FOR_CLASS = "Invalid operation for class ";
 
     /**
@@ -304,7 +328,7 @@ public class SmartsheetImpl implements Smartsheet {
         this.accessToken = new AtomicReference<>(accessToken);
         this.jsonSerializer = (jsonSerializer == null) ? new JacksonJsonSerializer() : jsonSerializer;
         this.httpClient = (httpClient == null)
-                ? new DefaultHttpClient(HttpClients.createDefault(), this.jsonSerializer) : httpClient;
+                ? new DefaultHttpClient(new ConnectionPoolSettings(), this.jsonSerializer) : httpClient;
         CleanerUtil.register(this, CleanerUtil.closeQuietly(this.httpClient));
 
         this.assumedUser = new AtomicReference<>(null);
@@ -329,7 +353,9 @@ public class SmartsheetImpl implements Smartsheet {
         this.imageUrls = new AtomicReference<>();
         this.webhooks = new AtomicReference<>();
         this.passthrough = new AtomicReference<>();
+        this.attachmentDownloads = new AtomicReference<>();
         this.events = new AtomicReference<>();
+        this.async = new AtomicReference<>();
     }
 
     /**
@@ -446,6 +472,59 @@ public class SmartsheetImpl implements Smartsheet {
             ((DefaultHttpClient) this.httpClient).setMaxRetryTimeMillis(maxRetryTimeMillis);
         } else if (this.httpClient instanceof AndroidHttpClient) {
             ((AndroidHttpClient) this.httpClient).setMaxRetryTimeMillis(maxRetryTimeMillis);
+        } else if (this.httpClient instanceof JdkHttpClient) {
+            ((JdkHttpClient) this.httpClient).setMaxRetryTimeMillis(maxRetryTimeMillis);
+        } else {
+            throw new UnsupportedOperationException(INVALID_OPERATION_FOR_CLASS + this.httpClient.getClass());
+        }
+    }
+
+    /**
+     * Sets the client-side rate limiter which paces the requests sent with this instance's access token.
+     *
+     * @param rateLimiter the rate limiter, or null for none
+     */
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        if (this.httpClient instanceof DefaultHttpClient) {
+            ((DefaultHttpClient) this.httpClient).setRateLimiter(rateLimiter);
+        } else if (this.httpClient instanceof AndroidHttpClient) {
+            ((AndroidHttpClient) this.httpClient).setRateLimiter(rateLimiter);
+        } else if (this.httpClient instanceof JdkHttpClient) {
+            ((JdkHttpClient) this.httpClient).setRateLimiter(rateLimiter);
+        } else {
+            throw new UnsupportedOperationException(INVALID_OPERATION_FOR_CLASS + this.httpClient.getClass());
+        }
+    }
+
+    /**
+     * Sets the adaptive limiter which bounds the number of requests in flight based on the service's feedback.
+     *
+     * @param concurrencyLimiter the concurrency limiter, or null for none
+     */
+    public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        if (this.httpClient instanceof DefaultHttpClient) {
+            ((DefaultHttpClient) this.httpClient).setConcurrencyLimiter(concurrencyLimiter);
+        } else if (this.httpClient instanceof AndroidHttpClient) {
+            ((AndroidHttpClient) this.httpClient).setConcurrencyLimiter(concurrencyLimiter);
+        } else if (this.httpClient instanceof JdkHttpClient) {
+            ((JdkHttpClient) this.httpClient).setConcurrencyLimiter(concurrencyLimiter);
+        } else {
+            throw new UnsupportedOperationException(INVALID_OPERATION_FOR_CLASS + this.httpClient.getClass());
+        }
+    }
+
+    /**
+     * Sets the policy which decides whether, and after how long, failed requests are retried.
+     *
+     * @param retryPolicy the retry policy, or null for the built-in exponential backoff
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        if (this.httpClient instanceof DefaultHttpClient) {
+            ((DefaultHttpClient) this.httpClient).setRetryPolicy(retryPolicy);
+        } else if (this.httpClient instanceof AndroidHttpClient) {
+            ((AndroidHttpClient) this.httpClient).setRetryPolicy(retryPolicy);
+        } else if (this.httpClient instanceof JdkHttpClient) {
+            ((JdkHttpClient) this.httpClient).setRetryPolicy(retryPolicy);
         } else {
             throw new UnsupportedOperationException(INVALID_OPERATION_FOR_CLASS + this.httpClient.getClass());
         }
@@ -677,6 +756,18 @@ public class SmartsheetImpl implements Smartsheet {
         return passthrough.get();
     }
 
+    /**
+     * Returns the AttachmentDownloadResources instance that downloads attachment content to files.
+     *
+     * @return the attachment download resources
+     */
+    public AttachmentDownloadResources attachmentDownloadResources() {
+        if (attachmentDownloads.get() == null) {
+            attachmentDownloads.compareAndSet(null, new AttachmentDownloadResourcesImpl(this));
+        }
+        return attachmentDownloads.get();
+    }
+
     /**
      * Returns the EventResources instance that provides access to events resources.
      *
@@ -689,6 +780,18 @@ public class SmartsheetImpl implements Smartsheet {
         return events.get();
     }
 
+    /**
+     * Returns the AsyncSmartsheet instance that provides non-blocking access to resources.
+     *
+     * @return the asynchronous smartsheet
+     */
+    public AsyncSmartsheet async() {
+        if (async.get() == null) {
+            async.compareAndSet(null, new AsyncSmartsheetImpl(this));
+        }
+        return async.get();
+    }
+
     /**
      * Compose a User-Agent string that represents this version of the SDK (along with platform info)
      *
@@ -22,7 +22,6 @@ import com.smartsheet.api.ResourceNotFoundException;
 import com.smartsheet.api.ServiceUnavailableException;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.UserResources;
-import com.smartsheet.api.internal.http.HttpEntity;
 import com.smartsheet.api.internal.http.HttpMethod;
 import com.smartsheet.api.internal.http.HttpRequest;
 import com.smartsheet.api.internal.http.HttpResponse;
@@ -39,9 +38,7 @@ import com.smartsheet.api.models.enums.ListUserInclusion;
 import com.smartsheet.api.models.enums.UserInclusion;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
@@ -439,8 +436,7 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
                 USERS + "/" + userId + "/" + ALTERNATE_EMAILS + "/" + altEmailId + "/makeprimary"), HttpMethod.POST);
 
         Object obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200:
                     obj = this.smartsheet.getJsonSerializer().deserializeResult(AlternateEmail.class,
@@ -449,8 +445,6 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
 
         return (AlternateEmail) obj;
@@ -488,18 +482,10 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
         String attachmentHeaderValue = "attachment; filename=\"" + URLEncoder.encode(file, StandardCharsets.UTF_8) + "\"";
         request.getHeaders().put("Content-Disposition", attachmentHeaderValue);
 
-        File f = new File(file);
-        InputStream is = new FileInputStream(f);
-
-        HttpEntity entity = new HttpEntity();
-        entity.setContentType(contentType);
-        entity.setContent(is);
-        entity.setContentLength(f.length());
-        request.setEntity(entity);
+        request.setEntity(createFileEntity(new File(file), contentType));
 
         User obj = null;
-        try {
-            HttpResponse response = this.smartsheet.getHttpClient().request(request);
+        try (HttpResponse response = this.smartsheet.getHttpClient().request(request)) {
             switch (response.getStatusCode()) {
                 case 200:
                     obj = this.smartsheet.getJsonSerializer().deserializeResult(User.class,
@@ -508,8 +494,6 @@ public class UserResourcesImpl extends AbstractResources implements UserResource
                 default:
                     handleError(response);
             }
-        } finally {
-            smartsheet.getHttpClient().releaseConnection();
         }
 
         return obj;
@@ -161,27 +161,25 @@ public class WebhookResourcesImpl extends AbstractResources implements WebhookRe
         HttpRequest request = createHttpRequest(this.getSmartsheet().getBaseURI().resolve(WEBHOOKS_PATH +
                 webhookId + "/resetsharedsecret"), HttpMethod.POST);
 
-        HttpResponse response = getSmartsheet().getHttpClient().request(request);
-
         WebhookSharedSecret secret = null;
-        switch (response.getStatusCode()) {
-            case 200:
-                try {
-                    secret = this.smartsheet.getJsonSerializer().deserialize(WebhookSharedSecret.class,
-                            response.getEntity().getContent());
-                } catch (JsonParseException e) {
-                    throw new SmartsheetException(e);
-                } catch (JsonMappingException e) {
-                    throw new SmartsheetException(e);
-                } catch (IOException e) {
-                    throw new SmartsheetException(e);
-                }
-                break;
-            default:
-                handleError(response);
+        try (HttpResponse response = getSmartsheet().getHttpClient().request(request)) {
+            switch (response.getStatusCode()) {
+                case 200:
+                    try {
+                        secret = this.smartsheet.getJsonSerializer().deserialize(WebhookSharedSecret.class,
+                                response.getEntity().getContent());
+                    } catch (JsonParseException e) {
+                        throw new SmartsheetException(e);
+                    } catch (JsonMappingException e) {
+                        throw new SmartsheetException(e);
+                    } catch (IOException e) {
+                        throw new SmartsheetException(e);
+                    }
+                    break;
+                default:
+                    handleError(response);
+            }
         }
-
-        getSmartsheet().getHttpClient().releaseConnection();
         return secret;
     }
 }
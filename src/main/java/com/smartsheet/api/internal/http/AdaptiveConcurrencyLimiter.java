@@ -0,0 +1,340 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * An AIMD (additive increase, multiplicative decrease) limit on the number of requests in flight, which adapts to
+ * what the service currently tolerates instead of relying on a fixed, hand-tuned concurrency.
+ * <p>
+ * Every response is a sample. The limit grows by roughly one per limit's worth of successful, fast responses and is
+ * multiplied by the backoff ratio when the service signals overload: the errors which the retry logic treats as
+ * transient (4001 maintenance, 4002 timeout, 4003 rate limit and 4004 unexpected error, which arrive as HTTP 429, 500
+ * and 503), any other 5xx, or a response slower than latencyTolerance times the best latency seen recently for the same
+ * kind of request. The limit is decreased at most once per round trip so a burst of failures from one overloaded moment
+ * only counts once.
+ * <p>
+ * Requests differ widely in how long they take when the service is healthy, e.g. getting a large sheet against
+ * getting a single row, so the latency baseline is kept per request class, see {@link #requestClass(String, URI)}.
+ * <p>
+ * A permit is held from just before a request is sent until its response status arrives; callers over the limit wait
+ * in arrival order. One instance should be shared by every HttpClient that talks to the same service.
+ * <p>
+ * Thread Safety: This class is thread safe.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * The number of samples after which the latency baseline is re-learnt, so it can follow lasting changes.
+     */
+    private static final int BASELINE_WINDOW = 500;
+
+    /**
+     * The number of request classes whose baselines are kept; others share one baseline.
+     */
+    private static final int MAX_BASELINES = 256;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final LongSupplier nanoClock;
+
+    private volatile double backoffRatio = 0.9;
+
+    private volatile double latencyTolerance = 2.0;
+
+    private double limit;
+
+    private int inFlight;
+
+    private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+    private final Map<String, Baseline> baselines = new HashMap<>();
+
+    private final Baseline sharedBaseline = new Baseline();
+
+    private long lastDecreaseNanos;
+
+    private long lastLatencyNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param initialLimit the number of requests allowed in flight before any feedback has been received
+     * @param minLimit     the lowest the limit may be decreased to
+     * @param maxLimit     the highest the limit may be increased to
+     * @throws IllegalArgumentException if the limits are not positive or not ordered
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, LongSupplier nanoClock) {
+        if (minLimit <= 0 || initialLimit < minLimit || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("limits must satisfy 0 < minLimit <= initialLimit <= maxLimit");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Set the factor applied to the limit on overload.
+     *
+     * @param backoffRatio the factor, greater than 0 and less than 1 (default 0.9)
+     * @return this limiter
+     */
+    public AdaptiveConcurrencyLimiter setBackoffRatio(double backoffRatio) {
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+        }
+        this.backoffRatio = backoffRatio;
+        return this;
+    }
+
+    /**
+     * Set how many times slower than the baseline a successful response may be before it counts as overload.
+     *
+     * @param latencyTolerance the tolerance, greater than 1 (default 2.0)
+     * @return this limiter
+     */
+    public AdaptiveConcurrencyLimiter setLatencyTolerance(double latencyTolerance) {
+        if (latencyTolerance <= 1) {
+            throw new IllegalArgumentException("latencyTolerance must be greater than 1");
+        }
+        this.latencyTolerance = latencyTolerance;
+        return this;
+    }
+
+    /**
+     * Get the current number of requests allowed in flight.
+     *
+     * @return the limit
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getWaiting() {
+        return waiters.size();
+    }
+
+    /**
+     * Take a permit, waiting while the limit is reached.
+     *
+     * @throws HttpClientException if the calling thread is interrupted while waiting
+     */
+    public void acquire() throws HttpClientException {
+        CompletableFuture<Void> permit = acquireAsync();
+        try {
+            permit.get();
+        } catch (InterruptedException e) {
+            if (!permit.cancel(false)) {
+                // the permit was granted concurrently, give it back
+                releaseWithoutSample();
+            }
+            Thread.currentThread().interrupt();
+            throw new HttpClientException("Interrupted while waiting for a concurrency permit", e);
+        } catch (ExecutionException e) {
+            throw new HttpClientException("Error occurred.", e.getCause());
+        }
+    }
+
+    /**
+     * Take a permit without blocking the calling thread; the returned future completes once it is granted.
+     *
+     * @return the future which completes when the permit is granted
+     */
+    public synchronized CompletableFuture<Void> acquireAsync() {
+        if (waiters.isEmpty() && inFlight < (int) limit) {
+            inFlight++;
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        waiters.add(permit);
+        return permit;
+    }
+
+    /**
+     * Return a permit and adjust the limit from the response it was used for, comparing its latency with that of all
+     * the other requests released without a request class.
+     *
+     * @param statusCode   the HTTP status code of the response
+     * @param latencyNanos the time from sending the request to receiving the response status
+     */
+    public void release(int statusCode, long latencyNanos) {
+        release(null, statusCode, latencyNanos);
+    }
+
+    /**
+     * Return a permit and adjust the limit from the response it was used for, comparing its latency with that of
+     * earlier requests of the same class.
+     *
+     * @param requestClass the class of the request, see {@link #requestClass(String, URI)}, or null for the baseline
+     *                     shared by requests without one
+     * @param statusCode   the HTTP status code of the response
+     * @param latencyNanos the time from sending the request to receiving the response status
+     */
+    public void release(String requestClass, int statusCode, long latencyNanos) {
+        List<CompletableFuture<Void>> granted;
+        synchronized (this) {
+            inFlight--;
+            if (isOverload(statusCode) || isSlow(baseline(requestClass), latencyNanos)) {
+                decrease(latencyNanos);
+            } else if (statusCode < 400 && inFlight + 1 >= limit / 2) {
+                // only grow while the limit is actually being used
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            granted = grantWaiters();
+        }
+        complete(granted);
+    }
+
+    /**
+     * Return a permit without adjusting the limit, e.g. when the request failed before a response arrived.
+     */
+    public void releaseWithoutSample() {
+        List<CompletableFuture<Void>> granted;
+        synchronized (this) {
+            inFlight--;
+            granted = grantWaiters();
+        }
+        complete(granted);
+    }
+
+    private void complete(List<CompletableFuture<Void>> granted) {
+        for (CompletableFuture<Void> permit : granted) {
+            if (!permit.complete(null)) {
+                // the waiter gave up after the permit was assigned to it
+                releaseWithoutSample();
+            }
+        }
+    }
+
+    private static boolean isOverload(int statusCode) {
+        return statusCode == 429 || statusCode >= 500;
+    }
+
+    /**
+     * Gets the class of a request whose latency is comparable with that of other requests of the class: its method
+     * and path, with each id in the path replaced by an asterisk, e.g. {@code GET /2.0/sheets/*} for getting any sheet.
+     *
+     * @param method the HTTP method
+     * @param uri    the request URI
+     * @return the request class
+     */
+    public static String requestClass(String method, URI uri) {
+        String path = uri.getPath();
+        StringBuilder requestClass = new StringBuilder(method.length() + path.length() + 1).append(method).append(' ');
+        int start = 0;
+        while (start < path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            requestClass.append(isId(path, start, end) ? "*" : path.substring(start, end));
+            if (end < path.length()) {
+                requestClass.append('/');
+            }
+            start = end + 1;
+        }
+        return requestClass.toString();
+    }
+
+    private static boolean isId(String path, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (!Character.isDigit(path.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Baseline baseline(String requestClass) {
+        if (requestClass == null) {
+            return sharedBaseline;
+        }
+        Baseline baseline = baselines.get(requestClass);
+        if (baseline == null) {
+            if (baselines.size() >= MAX_BASELINES) {
+                return sharedBaseline;
+            }
+            baseline = new Baseline();
+            baselines.put(requestClass, baseline);
+        }
+        return baseline;
+    }
+
+    private boolean isSlow(Baseline baseline, long latencyNanos) {
+        lastLatencyNanos = latencyNanos;
+        if (++baseline.samples >= BASELINE_WINDOW) {
+            baseline.samples = 0;
+            baseline.latencyNanos = latencyNanos;
+        } else if (latencyNanos < baseline.latencyNanos) {
+            baseline.latencyNanos = latencyNanos;
+        }
+        return latencyNanos > baseline.latencyNanos * latencyTolerance;
+    }
+
+    private void decrease(long latencyNanos) {
+        long now = nanoClock.getAsLong();
+        if (now - lastDecreaseNanos >= Math.max(latencyNanos, lastLatencyNanos)) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            lastDecreaseNanos = now;
+        }
+    }
+
+    private List<CompletableFuture<Void>> grantWaiters() {
+        List<CompletableFuture<Void>> granted = new ArrayList<>();
+        while (inFlight < (int) limit && !waiters.isEmpty()) {
+            CompletableFuture<Void> permit = waiters.poll();
+            // skip waiters which gave up
+            if (!permit.isDone()) {
+                inFlight++;
+                granted.add(permit);
+            }
+        }
+        return granted;
+    }
+
+    /**
+     * The best latency seen recently for one class of request.
+     */
+    private static final class Baseline {
+        private long latencyNanos = Long.MAX_VALUE;
+        private int samples;
+    }
+}
@@ -26,6 +26,7 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okio.BufferedSink;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,9 +35,17 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class AndroidHttpClient implements HttpClient {
 
@@ -57,14 +66,36 @@ public class AndroidHttpClient implements HttpClient {
      */
     private final OkHttpClient client;
 
+    protected JsonSerializer jsonSerializer;
+
+    protected long maxRetryTimeMillis = 15000;
+
     /**
-     * The okhttp http response.
+     * Paces requests to stay within the API rate limit; null when no client-side limit is applied.
      */
-    private Response currentResponse;
+    private volatile RateLimiter rateLimiter;
 
-    protected JsonSerializer jsonSerializer;
+    /**
+     * Decides on retries in place of the built-in exponential backoff; null to use the built-in backoff.
+     */
+    private volatile RetryPolicy retryPolicy;
 
-    protected long maxRetryTimeMillis = 15000;
+    /**
+     * Adapts the number of requests in flight to the service's feedback; null when concurrency is not limited.
+     */
+    private volatile AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * Whether a subclass overrides {@link #shouldRetry}, which the retry loop then calls in place of
+     * {@link #retryBackoffMillis}.
+     */
+    private final boolean shouldRetryOverridden = DefaultHttpClient.overrides(getClass(), AndroidHttpClient.class, "shouldRetry",
+            int.class, long.class, HttpResponse.class);
+
+    /**
+     * Runs asynchronous requests; created on first use so that purely synchronous callers never start a thread.
+     */
+    private ExecutorService asyncExecutor;
 
     /**
      * Constructor.
@@ -89,10 +120,10 @@ public class AndroidHttpClient implements HttpClient {
     public void logRequest(Request request, Response response, long durationMillis) {
         logger.info("{} {}, Response Code:{}, Request completed in {} ms", request.method(), request.url(),
                 response.code(), durationMillis);
-        if (response.code() != 200) {
+        if (!DefaultHttpClient.isSuccess(response.code())) {
             // log the request and response on error
             try {
-                logger.warn(this.currentResponse.peekBody(4096).string());
+                logger.warn(response.peekBody(4096).string());
             } catch (IOException e) {
                 e.printStackTrace();
             }
@@ -100,7 +131,8 @@ public class AndroidHttpClient implements HttpClient {
     }
 
     /**
-     * Make an HTTP request and return the response.
+     * Make an HTTP request and return the response. Between retries the calling thread waits without holding a
+     * connection.
      *
      * @param smartsheetRequest the smartsheet request
      * @return the HTTP response
@@ -108,133 +140,207 @@ public class AndroidHttpClient implements HttpClient {
      */
     @Override
     public HttpResponse request(HttpRequest smartsheetRequest) throws HttpClientException {
+        return createRetryLoop(smartsheetRequest).run(rateLimiter, this::attempt);
+    }
+
+    private RetryLoop createRetryLoop(HttpRequest smartsheetRequest) {
         Util.throwIfNull(smartsheetRequest);
         if (smartsheetRequest.getUri() == null) {
             throw new IllegalArgumentException("A Request URI is required.");
         }
+        RetryPolicy policy = retryPolicy;
+        if (policy != null) {
+            policy.onRequest();
+        }
+        return new RetryLoop(smartsheetRequest);
+    }
+
+    /**
+     * Make one attempt of the request.
+     *
+     * @return the final response, or null if the request is to be attempted again
+     */
+    private HttpResponse attempt(RetryLoop retry) throws HttpClientException {
+        HttpRequest smartsheetRequest = retry.getRequest();
+        InputStream bodyStream = retry.getBodyStream();
 
-        int attempt = 0;
-        long start = System.currentTimeMillis();
+        // Create our new request
+        Request.Builder builder = new Request.Builder();
+        try {
+            builder.url(smartsheetRequest.getUri().toURL());
+        } catch (MalformedURLException e) {
+            throw new HttpClientException(ERROR_OCCURRED, e);
+        }
 
-        InputStream bodyStream = null;
-        if (smartsheetRequest.getEntity() != null && smartsheetRequest.getEntity().getContent() != null) {
-            bodyStream = smartsheetRequest.getEntity().getContent();
+        // Clone our headers to request
+        for (Map.Entry<String, String> entry : smartsheetRequest.getHeaders().entrySet()) {
+            builder.addHeader(entry.getKey(), entry.getValue());
         }
-        // the retry logic will consume the body stream so we make sure it supports mark/reset and mark it
-        boolean canRetryRequest = bodyStream == null || bodyStream.markSupported();
-        if (!canRetryRequest) {
-            try {
-                // attempt to wrap the body stream in a input-stream that does support mark/reset
-                bodyStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(bodyStream));
-                // close the old stream (just to be tidy) and then replace it with a reset-able stream
-                smartsheetRequest.getEntity().getContent().close();
-                smartsheetRequest.getEntity().setContent(bodyStream);
-                canRetryRequest = true;
-            } catch (IOException ignore) {
+
+        try {
+            switch (smartsheetRequest.getMethod()) {
+                case GET:
+                    builder.get();
+                    break;
+                case POST:
+                    builder.post(getRequestBody(retry));
+                    break;
+                case PUT:
+                    builder.put(getRequestBody(retry));
+                    break;
+                case DELETE:
+                    builder.delete();
+                    break;
+                default:
+                    // This switch is exhaustive, but the checkstyle doesn't know that
+                    throw new UnsupportedOperationException("Unsupported method: " + smartsheetRequest.getMethod());
             }
+        } catch (IOException e) {
+            throw new HttpClientException(ERROR_OCCURRED, e);
         }
 
-        HttpResponse smartsheetResponse;
-        while (true) {
+        // mark the body so we can reset on retry
+        if (retry.canRetryRequest() && bodyStream != null) {
+            bodyStream.mark((int) smartsheetRequest.getEntity().getContentLength());
+        }
 
-            // Create our new request
-            Request.Builder builder = new Request.Builder();
-            try {
-                builder.url(smartsheetRequest.getUri().toURL());
-            } catch (MalformedURLException e) {
-                throw new HttpClientException(ERROR_OCCURRED, e);
+        try {
+            // Create API request
+            Request request = builder.build();
+            long startTime = System.currentTimeMillis();
+            Response response = execute(retry, request);
+            long endTime = System.currentTimeMillis();
+
+            HttpResponse smartsheetResponse = new HttpResponse();
+            // bind the okhttp response to this response so concurrent requests never close each other's bodies
+            smartsheetResponse.setConnection(response);
+            smartsheetResponse.setStatusCode(response.code());
+            Map<String, String> headers = new HashMap<>();
+            for (int i = 0; i < response.headers().size(); i++) {
+                headers.put(response.headers().name(i), response.headers().value(i));
             }
-
-            // Clone our headers to request
-            for (Map.Entry<String, String> entry : smartsheetRequest.getHeaders().entrySet()) {
-                builder.addHeader(entry.getKey(), entry.getValue());
+            smartsheetResponse.setHeaders(headers);
+            if (response.body().contentLength() != 0) {
+                // Package response details
+                HttpEntity entity = new HttpEntity();
+                entity.setContentType(response.body().contentType().toString());
+                entity.setContentLength(response.body().contentLength());
+                entity.setContent(response.body().byteStream());
+                smartsheetResponse.setEntity(entity);
             }
 
-            try {
-                switch (smartsheetRequest.getMethod()) {
-                    case GET:
-                        builder.get();
-                        break;
-                    case POST:
-                        builder.post(getRequestBody(smartsheetRequest));
-                        break;
-                    case PUT:
-                        builder.put(getRequestBody(smartsheetRequest));
-                        break;
-                    case DELETE:
-                        builder.delete();
-                        break;
-                    default:
-                        // This switch is exhaustive, but the checkstyle doesn't know that
-                        throw new UnsupportedOperationException("Unsupported method: " + smartsheetRequest.getMethod());
-                }
-            } catch (IOException e) {
-                throw new HttpClientException(ERROR_OCCURRED, e);
-            }
+            long responseTime = endTime - startTime;
+            logRequest(request, response, responseTime);
 
-            // mark the body so we can reset on retry
-            if (canRetryRequest && bodyStream != null) {
-                bodyStream.mark((int) smartsheetRequest.getEntity().getContentLength());
+            if (DefaultHttpClient.isSuccess(smartsheetResponse.getStatusCode())) {
+                // call successful (e.g. 206 for a ranged download), exit the retry loop
+                return smartsheetResponse;
             }
 
+            // the retry logic might consume the content stream so we make sure it supports mark/reset and mark it
+            InputStream contentStream = smartsheetResponse.getEntity().getContent();
+            if (!contentStream.markSupported()) {
+                // wrap the response stream in a input-stream that does support mark/reset
+                contentStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(contentStream));
+                // close the old stream (just to be tidy) and then replace it with a reset-able stream
+                smartsheetResponse.getEntity().getContent().close();
+                smartsheetResponse.getEntity().setContent(contentStream);
+            }
+            long backoffMillis;
             try {
-                // Create API request
-                Request request = builder.build();
-                long startTime = System.currentTimeMillis();
-                this.currentResponse = client.newCall(request).execute();
-                long endTime = System.currentTimeMillis();
-
-                smartsheetResponse = new HttpResponse();
-                smartsheetResponse.setStatusCode(this.currentResponse.code());
-                if (this.currentResponse.body().contentLength() != 0) {
-                    // Package response details
-                    HttpEntity entity = new HttpEntity();
-                    entity.setContentType(this.currentResponse.body().contentType().toString());
-                    entity.setContentLength(this.currentResponse.body().contentLength());
-                    entity.setContent(this.currentResponse.body().byteStream());
-                    smartsheetResponse.setEntity(entity);
+                contentStream.mark((int) smartsheetResponse.getEntity().getContentLength());
+                if (shouldRetryOverridden) {
+                    // a subclass customizing the blocking retry decision, which sleeps through its own backoff
+                    backoffMillis = shouldRetry(retry.countAttempt(), retry.getElapsedMillis(), smartsheetResponse) ? 0 : -1;
+                } else {
+                    backoffMillis = retryBackoffMillis(retry.countAttempt(), retry.getElapsedMillis(),
+                            retry.getPreviousBackoffMillis(), smartsheetResponse);
+                }
+            } finally {
+                if (bodyStream != null) {
+                    bodyStream.reset();
                 }
+                contentStream.reset();
+            }
+            if (backoffMillis < 0) {
+                // should not retry, or retry time exceeded, exit the retry loop
+                return smartsheetResponse;
+            }
+            // release the connection before waiting for the retry
+            smartsheetResponse.close();
+            logger.info("HttpError StatusCode=" + smartsheetResponse.getStatusCode() + ": Retrying in " + backoffMillis + " milliseconds");
+            retry.retryAfter(backoffMillis);
+            return null;
+
+        } catch (IOException ex) {
+            throw new HttpClientException(ERROR_OCCURRED, ex);
+        }
+    }
 
-                long responseTime = endTime - startTime;
-                logRequest(request, this.currentResponse, responseTime);
+    /**
+     * Send a file as an OkHttp file body, stream any other streaming entity of known length straight to the
+     * connection, and have one created with {@link StreamingHttpEntity#streamed} write straight to it. Any other is
+     * written once into the retry loop's buffer, and every attempt sends that with its Content-Length.
+     */
+    private RequestBody getStreamingRequestBody(RetryLoop retry, StreamingHttpEntity original) throws IOException {
+        StreamingHttpEntity entity = original.getContentLength() < 0 && !original.isStreamed()
+                ? retry.bufferContent(original) : original;
+        // e.g. a multipart upload, which carries its boundary in its content type
+        MediaType mediaType = entity.getContentType() == null ? MEDIA_TYPE_JSON : MediaType.parse(entity.getContentType());
+        Path file = entity.getFile();
+        if (file != null && file.getFileSystem() == FileSystems.getDefault()) {
+            return RequestBody.create(mediaType, file.toFile());
+        }
+        long contentLength = entity.getContentLength();
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return mediaType;
+            }
 
-                if (smartsheetResponse.getStatusCode() == 200) {
-                    // call successful, exit the retry loop
-                    break;
-                }
+            @Override
+            public long contentLength() {
+                return contentLength;
+            }
 
-                // the retry logic might consume the content stream so we make sure it supports mark/reset and mark it
-                InputStream contentStream = smartsheetResponse.getEntity().getContent();
-                if (!contentStream.markSupported()) {
-                    // wrap the response stream in a input-stream that does support mark/reset
-                    contentStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(contentStream));
-                    // close the old stream (just to be tidy) and then replace it with a reset-able stream
-                    smartsheetResponse.getEntity().getContent().close();
-                    smartsheetResponse.getEntity().setContent(contentStream);
-                }
-                try {
-                    contentStream.mark((int) smartsheetResponse.getEntity().getContentLength());
-                    long timeSpent = System.currentTimeMillis() - start;
-                    if (!shouldRetry(++attempt, timeSpent, smartsheetResponse)) {
-                        // should not retry, or retry time exceeded, exit the retry loop
-                        break;
-                    }
-                } finally {
-                    if (bodyStream != null) {
-                        bodyStream.reset();
-                    }
-                    contentStream.reset();
-                }
-                this.releaseConnection();
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                entity.writeTo(sink.outputStream());
+            }
+        };
+    }
 
-            } catch (IOException ex) {
-                throw new HttpClientException(ERROR_OCCURRED, ex);
+    /**
+     * Execute the request within the adaptive concurrency limit (if any), feeding the limiter the response status and
+     * the time until it arrived. An asynchronous attempt has been given its permit by the retry loop already.
+     */
+    private Response execute(RetryLoop retry, Request request) throws IOException, HttpClientException {
+        AdaptiveConcurrencyLimiter limiter = retry.takeConcurrencyPermit();
+        if (limiter == null) {
+            limiter = concurrencyLimiter;
+            if (limiter == null) {
+                return client.newCall(request).execute();
             }
+            limiter.acquire();
+        }
+        long startNanos = System.nanoTime();
+        Response response;
+        try {
+            response = client.newCall(request).execute();
+        } catch (IOException | RuntimeException e) {
+            limiter.releaseWithoutSample();
+            throw e;
         }
-        return smartsheetResponse;
+        limiter.release(AdaptiveConcurrencyLimiter.requestClass(request.method(), request.url().uri()), response.code(),
+                System.nanoTime() - startNanos);
+        return response;
     }
 
-    private RequestBody getRequestBody(HttpRequest apiRequest) throws IOException {
+    private RequestBody getRequestBody(RetryLoop retry) throws IOException {
+        HttpRequest apiRequest = retry.getRequest();
+        if (apiRequest.getEntity() instanceof StreamingHttpEntity) {
+            return getStreamingRequestBody(retry, (StreamingHttpEntity) apiRequest.getEntity());
+        }
         int sizRead;
         byte[] buffer = new byte[16384];
         ByteArrayOutputStream bao = new ByteArrayOutputStream();
@@ -244,6 +350,47 @@ public class AndroidHttpClient implements HttpClient {
         return RequestBody.create(MEDIA_TYPE_JSON, bao.toByteArray());
     }
 
+    /**
+     * Set the rate limiter which every request attempt (retries included) must take a permit from before it is sent.
+     *
+     * @param rateLimiter the rate limiter, or null for none
+     */
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Set the adaptive limiter which every request attempt must take a permit from before it is sent, and which is
+     * fed the status and latency of each response.
+     *
+     * @param concurrencyLimiter the concurrency limiter, or null for none
+     */
+    public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * Set the policy which decides whether, and after how long, failed requests are retried. It replaces the
+     * built-in exponential backoff of {@link #retryBackoffMillis}.
+     *
+     * @param retryPolicy the retry policy, or null for the built-in exponential backoff
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
     /**
      * Set the max retry time for API calls which fail and are retry-able.
      */
@@ -270,25 +417,33 @@ public class AndroidHttpClient implements HttpClient {
     }
 
     /**
-     * Called when an API request fails to determine if it can retry the request.
-     * Calls calcBackoff to determine the time to wait in between retries.
+     * Called when an API request fails to determine if it can be retried, and after how long. Calls calcBackoff to
+     * determine the time to wait in between retries, unless a {@link RetryPolicy} is set. This does not wait; the
+     * retry is scheduled by the caller. Override this method to customize the retry logic.
      *
      * @param previousAttempts       number of attempts (including this one) to execute request
      * @param totalElapsedTimeMillis total time spent in millis for all previous (and this) attempt
+     * @param previousBackoffMillis  the backoff before this attempt, or 0 if it was the first one
      * @param response               the failed HttpResponse
-     * @return true if this request can be retried
+     * @return the backoff in milliseconds, or -1 if this request should not be retried
      */
-    public boolean shouldRetry(int previousAttempts, long totalElapsedTimeMillis, HttpResponse response) {
+    protected long retryBackoffMillis(int previousAttempts, long totalElapsedTimeMillis, long previousBackoffMillis,
+                                      HttpResponse response) {
         String contentType = response.getEntity().getContentType();
         if (contentType != null && !contentType.startsWith("application/json")) {
             // it's not JSON; don't even try to parse it
-            return false;
+            return -1;
         }
         Error error;
         try {
             error = jsonSerializer.deserialize(Error.class, response.getEntity().getContent());
         } catch (IOException e) {
-            return false;
+            return -1;
+        }
+        RetryPolicy policy = retryPolicy;
+        if (policy != null) {
+            return policy.getBackoffMillis(previousAttempts, previousBackoffMillis,
+                    maxRetryTimeMillis - totalElapsedTimeMillis, response, error);
         }
         switch (error.getErrorCode()) {
             // Smartsheet.com is currently offline for system maintenance. Please check back again shortly.
@@ -300,12 +455,26 @@ public class AndroidHttpClient implements HttpClient {
                 // An unexpected error has occurred. Please retry your request.
                 // If you encounter this error repeatedly, please contact api@smartsheet.com for assistance.
             case 4004:
-                break;
+                return calcBackoff(previousAttempts, totalElapsedTimeMillis, error);
             default:
-                return false;
+                return -1;
         }
+    }
 
-        long backoffMillis = calcBackoff(previousAttempts, totalElapsedTimeMillis, error);
+    /**
+     * Called when an API request fails to determine if it can retry the request, sleeping for the backoff if so.
+     *
+     * @param previousAttempts       number of attempts (including this one) to execute request
+     * @param totalElapsedTimeMillis total time spent in millis for all previous (and this) attempt
+     * @param response               the failed HttpResponse
+     * @return true if this request can be retried
+     * @deprecated the retry loop calls this method only when a subclass overrides it, in which case the override
+     *     decides on every retry and its backoff blocks the calling thread, including an asynchronous worker; override
+     *     {@link #retryBackoffMillis} instead so that retries are scheduled without blocking
+     */
+    @Deprecated
+    public boolean shouldRetry(int previousAttempts, long totalElapsedTimeMillis, HttpResponse response) {
+        long backoffMillis = retryBackoffMillis(previousAttempts, totalElapsedTimeMillis, 0, response);
         if (backoffMillis < 0) {
             return false;
         }
@@ -321,28 +490,46 @@ public class AndroidHttpClient implements HttpClient {
     }
 
     /**
-     * Close the HttpClient.
+     * Make an HTTP request on a bounded pool of worker threads, one for each request the OkHttp dispatcher allows to a
+     * single host ({@code maxRequestsPerHost}, 5 by default). Every request goes to the API host, so asynchronous
+     * requests stay within the limit the dispatcher applies to its own asynchronous calls, which it does not apply to
+     * the blocking calls each attempt makes. Requests submitted while every worker is busy, backing off between
+     * retries, or waiting for a rate limiter permit do not hold a thread.
+     *
+     * @param smartsheetRequest the request
+     * @return the future http response
      */
     @Override
-    public void close() {
-        this.client.connectionPool().evictAll();
+    public CompletableFuture<HttpResponse> requestAsync(HttpRequest smartsheetRequest) {
+        return createRetryLoop(smartsheetRequest).runAsync(rateLimiter, concurrencyLimiter, getAsyncExecutor(), this::attempt);
     }
 
-    /* (non-Javadoc)
-     * @see com.smartsheet.api.internal.http.HttpClient#releaseConnection()
-     */
-    @Override
-    public void releaseConnection() {
-        this.closeCurrentResponse();
+    private synchronized ExecutorService getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            int threads = client.dispatcher().getMaxRequestsPerHost();
+            AtomicInteger threadNumber = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "smartsheet-async-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            asyncExecutor = executor;
+        }
+        return asyncExecutor;
     }
 
-    private void closeCurrentResponse() {
-        Response response = this.currentResponse;
-        if (response != null) {
-            if (response.body() != null) {
-                response.body().close();
+    /**
+     * Close the HttpClient.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (asyncExecutor != null) {
+                asyncExecutor.shutdown();
             }
-            this.currentResponse = null;
         }
+        this.client.connectionPool().evictAll();
     }
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+/**
+ * Connection pool and timeout settings used to create the pooled Apache client behind {@link DefaultHttpClient}.
+ * <p>
+ * Durations are in milliseconds; a negative value means "not configured", in which case the Apache HttpClient default
+ * (usually unlimited) applies.
+ * <p>
+ * Thread Safety: This class is not thread safe since it's mutable.
+ */
+public class ConnectionPoolSettings {
+
+    /**
+     * The default maximum number of pooled connections (in total, and per route since the SDK talks to a single host).
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS = 20;
+
+    private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+    private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS;
+    private long connectionTimeToLiveMillis = -1;
+    private long keepAliveMillis = -1;
+    private long idleConnectionTimeoutMillis = -1;
+    private int connectTimeoutMillis = -1;
+    private int socketTimeoutMillis = -1;
+    private int connectionRequestTimeoutMillis = -1;
+
+    /**
+     * Gets the maximum number of connections in the pool.
+     *
+     * @return the maximum number of connections
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maximum number of connections in the pool.
+     *
+     * @param maxConnections the maximum number of connections, must be positive
+     * @return this settings object
+     */
+    public ConnectionPoolSettings setMaxConnections(int maxConnections) {
+        this.maxConnections = requirePositive(maxConnections);
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of connections per route (host).
+     *
+     * @return the maximum number of connections per route
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maximum number of connections per route (host).
+     *
+     * @param maxConnectionsPerRoute the maximum number of connections per route, must be positive
+     * @return this settings object
+     */
+    public ConnectionPoolSettings setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = requirePositive(maxConnectionsPerRoute);
+        return this;
+    }
+
+    /**
+     * Gets the total time to live of a pooled connection, regardless of its keep-alive.
+     *
+     * @return the time to live in milliseconds, or a negative value if not configured
+     */
+    public long getConnectionTimeToLiveMillis() {
+        return connectionTimeToLiveMillis;
+    }
+
+    /**
+     * Sets the total time to live of a pooled connection, regardless of its keep-alive.
+     *
+     * @param connectionTimeToLiveMillis the time to live in milliseconds
+     * @return this settings object
+     */
+    public ConnectionPoolSettings setConnectionTimeToLiveMillis(long connectionTimeToLiveMillis) {
+        this.connectionTimeToLiveMillis = connectionTimeToLiveMillis;
+        return this;
+    }
+
+    /**
+     * Gets the longest time an idle connection is kept alive for reuse.
+     *
+     * @return the keep-alive in milliseconds, or a negative value if not configured
+     */
+    public long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    /**
+     * Sets the longest time an idle connection is kept alive for reuse. A shorter Keep-Alive timeout sent by the server
+     * still takes precedence.
+     *
+     * @param keepAliveMillis the keep-alive in milliseconds
+     * @return this settings object
+     */
+    public ConnectionPoolSettings setKeepAliveMillis(long keepAliveMillis) {
+        this.keepAliveMillis = keepAliveMillis;
+        return this;
+    }
+
+    /**
+     * Gets the idle time after which a background thread evicts pooled connections.
+     *
+     * @return the idle timeout in milliseconds, or a negative value if idle connections are not evicted
+     */
+    public long getIdleConnectionTimeoutMillis() {
+        return idleConnectionTimeoutMillis;
+    }
+
+    /**
+     * Sets the idle time after which a background thread evicts pooled connections (expired connections are evicted
+     * as well).
+     *
+     * @param idleConnectionTimeoutMillis the idle timeout in milliseconds
+     * @return this settings object
+     */
+    public ConnectionPoolSettings setIdleConnectionTimeoutMillis(long idleConnectionTimeoutMillis) {
+        this.idleConnectionTimeoutMillis = idleConnectionTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Gets the timeout for establishing a connection.
+     *
+     * @return the connect timeout in milliseconds, or a negative value if not configured
+     */
+    public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    /**
+     * Sets the timeout for establishing a connection.
+     *
+     * @param connectTimeoutMillis the connect timeout in milliseconds
+     * @return this settings object
+     */
+    public ConnectionPoolSettings setConnectTimeoutMillis(int connectTimeoutMillis) {
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Gets the maximum period of inactivity between two consecutive data packets.
+     *
+     * @return the socket timeout in milliseconds, or a negative value if not configured
+     */
+    public int getSocketTimeoutMillis() {
+        return socketTimeoutMillis;
+    }
+
+    /**
+     * Sets the maximum period of inactivity between two consecutive data packets.
+     *
+     * @param socketTimeoutMillis the socket timeout in milliseconds
+     * @return this settings object
+     */
+    public ConnectionPoolSettings setSocketTimeoutMillis(int socketTimeoutMillis) {
+        this.socketTimeoutMillis = socketTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Gets the timeout for leasing a connection from the pool.
+     *
+     * @return the connection request timeout in milliseconds, or a negative value if not configured
+     */
+    public int getConnectionRequestTimeoutMillis() {
+        return connectionRequestTimeoutMillis;
+    }
+
+    /**
+     * Sets the timeout for leasing a connection from the pool, which bounds how long a caller waits when every pooled
+     * connection is in use.
+     *
+     * @param connectionRequestTimeoutMillis the connection request timeout in milliseconds
+     * @return this settings object
+     */
+    public ConnectionPoolSettings setConnectionRequestTimeoutMillis(int connectionRequestTimeoutMillis) {
+        this.connectionRequestTimeoutMillis = connectionRequestTimeoutMillis;
+        return this;
+    }
+
+    private static int requirePositive(int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("value must be positive: " + value);
+        }
+        return value;
+    }
+}
@@ -35,10 +35,15 @@ import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpRequestWrapper;
+import org.apache.http.entity.AbstractHttpEntity;
 import org.apache.http.entity.ContentType;
+import org.apache.http.entity.EntityTemplate;
 import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.protocol.BasicHttpContext;
 import org.apache.http.protocol.HttpContext;
 import org.jetbrains.annotations.Nullable;
@@ -55,12 +60,19 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This is the Apache HttpClient based HttpClient implementation.
  * <p>
- * Thread Safety: This class is thread safe because it is immutable and the underlying Apache CloseableHttpClient is
- * thread safe.
+ * Thread Safety: This class is thread safe because it is immutable, the underlying Apache CloseableHttpClient is
+ * thread safe, and every Apache response is bound to the HttpResponse returned for its own request (rather than being
+ * held by this client), so a single instance can serve many concurrent callers over one connection pool.
  *
  * @see <a href="http://hc.apache.org/httpcomponents-client-ga/index.html">Apache HttpClient</a>
  */
@@ -88,9 +100,43 @@ public class DefaultHttpClient implements HttpClient {
     private final CloseableHttpClient httpClient;
 
     /**
-     * The apache http response.
+     * The timeouts the underlying client was created with (null if it was supplied by the caller); since a per-request
+     * RequestConfig replaces the client default entirely, each request config is derived from this one.
      */
-    private CloseableHttpResponse apacheHttpResponse;
+    private RequestConfig defaultRequestConfig;
+
+    /**
+     * The number of threads used to run asynchronous requests. Apache HttpClient 4 is a blocking client, so each
+     * in-flight request occupies a thread; there is no point in running more of them than there are pooled connections.
+     */
+    private int asyncThreads = ConnectionPoolSettings.DEFAULT_MAX_CONNECTIONS;
+
+    /**
+     * Runs asynchronous requests; created on first use so that purely synchronous callers never start a thread.
+     */
+    private ExecutorService asyncExecutor;
+
+    /**
+     * Paces requests to stay within the API rate limit; null when no client-side limit is applied.
+     */
+    private volatile RateLimiter rateLimiter;
+
+    /**
+     * Decides on retries in place of the built-in exponential backoff; null to use the built-in backoff.
+     */
+    private volatile RetryPolicy retryPolicy;
+
+    /**
+     * Adapts the number of requests in flight to the service's feedback; null when concurrency is not limited.
+     */
+    private volatile AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * Whether a subclass overrides {@link #shouldRetry}, which the retry loop then calls in place of
+     * {@link #retryBackoffMillis}.
+     */
+    private final boolean shouldRetryOverridden = overrides(getClass(), DefaultHttpClient.class, "shouldRetry",
+            int.class, long.class, HttpResponse.class);
 
     /**
      * to avoid creating new sets for each call (we use Sets for practical and perf reasons)
@@ -142,7 +188,19 @@ public class DefaultHttpClient implements HttpClient {
      * Constructor.
      */
     public DefaultHttpClient() {
-        this(HttpClients.createDefault(), new JacksonJsonSerializer());
+        this(new ConnectionPoolSettings(), new JacksonJsonSerializer());
+    }
+
+    /**
+     * Constructor which creates a pooled Apache CloseableHttpClient from the given settings.
+     *
+     * @param settings       the connection pool and timeout settings
+     * @param jsonSerializer the json serializer
+     */
+    public DefaultHttpClient(ConnectionPoolSettings settings, JsonSerializer jsonSerializer) {
+        this(createPooledHttpClient(settings), jsonSerializer);
+        this.defaultRequestConfig = createRequestConfig(settings);
+        this.asyncThreads = settings.getMaxConnections();
     }
 
     /**
@@ -159,6 +217,48 @@ public class DefaultHttpClient implements HttpClient {
         this.jsonSerializer = jsonSerializer;
     }
 
+    /**
+     * Create an Apache CloseableHttpClient backed by a PoolingHttpClientConnectionManager configured from the given
+     * settings.
+     *
+     * @param settings the connection pool and timeout settings
+     * @return the pooled http client
+     */
+    public static CloseableHttpClient createPooledHttpClient(ConnectionPoolSettings settings) {
+        Util.throwIfNull(settings);
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                settings.getConnectionTimeToLiveMillis(), TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(settings.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(settings.getMaxConnectionsPerRoute());
+
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(createRequestConfig(settings));
+
+        long keepAliveMillis = settings.getKeepAliveMillis();
+        if (keepAliveMillis >= 0) {
+            builder.setKeepAliveStrategy((response, context) -> {
+                // honor a shorter Keep-Alive timeout sent by the server, otherwise use the configured one
+                long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+            });
+        }
+        if (settings.getIdleConnectionTimeoutMillis() >= 0) {
+            builder.evictExpiredConnections();
+            builder.evictIdleConnections(settings.getIdleConnectionTimeoutMillis(), TimeUnit.MILLISECONDS);
+        }
+        return builder.build();
+    }
+
+    private static RequestConfig createRequestConfig(ConnectionPoolSettings settings) {
+        return RequestConfig.custom()
+                .setConnectTimeout(settings.getConnectTimeoutMillis())
+                .setSocketTimeout(settings.getSocketTimeoutMillis())
+                .setConnectionRequestTimeout(settings.getConnectionRequestTimeoutMillis())
+                .build();
+    }
+
     /**
      * Log to the SLF4J logger (level based upon response status code). Override this function to add logging
      * or capture performance metrics.
@@ -174,165 +274,214 @@ public class DefaultHttpClient implements HttpClient {
 
         logger.info("{} {}, Response Code:{}, Request completed in {} ms", request.getMethod(), request.getURI(),
                 response.getStatusCode(), durationMillis);
-        logger.debug(LOG_ARG, RequestAndResponseData.of(request, requestEntity, response, responseEntity, REQUEST_RESPONSE_SUMMARY));
+        // the snapshots copy the bodies only when asked to, so build the summary only if it will be logged
+        if (logger.isDebugEnabled()) {
+            logger.debug(LOG_ARG, RequestAndResponseData.of(request, requestEntity, response, responseEntity, REQUEST_RESPONSE_SUMMARY));
+        }
     }
 
     /**
-     * Make an HTTP request and return the response.
+     * Make an HTTP request and return the response. Between retries the calling thread waits without holding a
+     * connection.
      *
      * @param smartsheetRequest the smartsheet request
      * @return the HTTP response
      * @throws HttpClientException the HTTP client exception
      */
     public HttpResponse request(HttpRequest smartsheetRequest) throws HttpClientException {
+        return createRetryLoop(smartsheetRequest).run(rateLimiter, this::attempt);
+    }
+
+    private RetryLoop createRetryLoop(HttpRequest smartsheetRequest) {
         Util.throwIfNull(smartsheetRequest);
         if (smartsheetRequest.getUri() == null) {
             throw new IllegalArgumentException("A Request URI is required.");
         }
+        RetryPolicy policy = retryPolicy;
+        if (policy != null) {
+            policy.onRequest();
+        }
+        return new RetryLoop(smartsheetRequest);
+    }
 
-        long start = System.currentTimeMillis();
+    /**
+     * Make one attempt of the request.
+     *
+     * @return the final response, or null if the request is to be attempted again
+     */
+    private HttpResponse attempt(RetryLoop retry) throws HttpClientException {
+        HttpRequest smartsheetRequest = retry.getRequest();
+        InputStream bodyStream = retry.getBodyStream();
+        boolean canRetryRequest = retry.canRetryRequest();
 
-        HttpRequestBase apacheHttpRequest;
-        HttpResponse smartsheetResponse;
+        HttpRequestBase apacheHttpRequest = createApacheRequest(smartsheetRequest);
 
-        InputStream bodyStream = null;
-        if (smartsheetRequest.getEntity() != null && smartsheetRequest.getEntity().getContent() != null) {
-            bodyStream = smartsheetRequest.getEntity().getContent();
-        }
-        // the retry logic will consume the body stream so we make sure it supports mark/reset and mark it
-        boolean canRetryRequest = bodyStream == null || bodyStream.markSupported();
-        if (!canRetryRequest) {
-            try {
-                // attempt to wrap the body stream in a input-stream that does support mark/reset
-                bodyStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(bodyStream));
-                // close the old stream (just to be tidy) and then replace it with a reset-able stream
-                smartsheetRequest.getEntity().getContent().close();
-                smartsheetRequest.getEntity().setContent(bodyStream);
-                canRetryRequest = true;
-            } catch (IOException ignore) {
+        // Set HTTP headers
+        if (smartsheetRequest.getHeaders() != null) {
+            for (Map.Entry<String, String> header : smartsheetRequest.getHeaders().entrySet()) {
+                apacheHttpRequest.addHeader(header.getKey(), header.getValue());
             }
         }
 
-        // the retry loop
-        while (true) {
-            int attempt = 0;
-            apacheHttpRequest = createApacheRequest(smartsheetRequest);
+        HttpEntitySnapshot responseEntityCopy = null;
+        // Set HTTP entity
+        HttpEntitySnapshot requestEntityCopy = copyRequestEntity(retry, apacheHttpRequest);
 
-            // Set HTTP headers
-            if (smartsheetRequest.getHeaders() != null) {
-                for (Map.Entry<String, String> header : smartsheetRequest.getHeaders().entrySet()) {
-                    apacheHttpRequest.addHeader(header.getKey(), header.getValue());
-                }
-            }
-
-            HttpEntitySnapshot responseEntityCopy = null;
-            // Set HTTP entity
-            HttpEntitySnapshot requestEntityCopy = copyRequestEntity(smartsheetRequest, apacheHttpRequest);
+        // mark the body so we can reset on retry
+        if (canRetryRequest && bodyStream != null) {
+            bodyStream.mark((int) smartsheetRequest.getEntity().getContentLength());
+        }
 
-            // mark the body so we can reset on retry
-            if (canRetryRequest && bodyStream != null) {
-                bodyStream.mark((int) smartsheetRequest.getEntity().getContentLength());
+        // Make the HTTP request
+        HttpResponse smartsheetResponse = new HttpResponse();
+        HttpContext context = new BasicHttpContext();
+        try {
+            long startTime = System.currentTimeMillis();
+            CloseableHttpResponse apacheHttpResponse = execute(retry, apacheHttpRequest, context);
+            long endTime = System.currentTimeMillis();
+
+            // bind the connection to this response so concurrent requests never release each other's connections
+            smartsheetResponse.setConnection(apacheHttpResponse);
+            HttpEntitySnapshot newResponseCopy = updateWithResponse(apacheHttpRequest, apacheHttpResponse, context,
+                    smartsheetResponse);
+            if (newResponseCopy != null) {
+                responseEntityCopy = newResponseCopy;
             }
 
-            // Make the HTTP request
-            smartsheetResponse = new HttpResponse();
-            HttpContext context = new BasicHttpContext();
-            try {
-                long startTime = System.currentTimeMillis();
-                apacheHttpResponse = this.httpClient.execute(apacheHttpRequest, context);
-                long endTime = System.currentTimeMillis();
-
-                HttpEntitySnapshot newResponseCopy = updateWithResponse(apacheHttpRequest, context, smartsheetResponse);
-                if (newResponseCopy != null) {
-                    responseEntityCopy = newResponseCopy;
-                }
+            long responseTime = endTime - startTime;
+            logRequest(apacheHttpRequest, requestEntityCopy, smartsheetResponse, responseEntityCopy, responseTime);
 
-                long responseTime = endTime - startTime;
-                logRequest(apacheHttpRequest, requestEntityCopy, smartsheetResponse, responseEntityCopy, responseTime);
+            // trace-logging of request and response (if so configured)
+            if (traces.size() > 0) {
+                RequestAndResponseData requestAndResponseData = RequestAndResponseData.of(apacheHttpRequest,
+                        requestEntityCopy, smartsheetResponse, responseEntityCopy, traces);
+                traceWriter.println(requestAndResponseData.toString(tracePrettyPrint));
+            }
 
-                // trace-logging of request and response (if so configured)
-                if (traces.size() > 0) {
-                    RequestAndResponseData requestAndResponseData = RequestAndResponseData.of(apacheHttpRequest,
-                            requestEntityCopy, smartsheetResponse, responseEntityCopy, traces);
-                    traceWriter.println(requestAndResponseData.toString(tracePrettyPrint));
-                }
+            if (isSuccess(smartsheetResponse.getStatusCode())) {
+                // call successful (e.g. 206 for a ranged download), exit the retry loop
+                return smartsheetResponse;
+            }
 
-                if (smartsheetResponse.getStatusCode() == 200) {
-                    // call successful, exit the retry loop
-                    break;
+            if (responseEntityCopy != null) {
+                // copy the error body before the retry logic reads it, so that it can still be logged afterwards;
+                // this also replaces a JSON body that does not support mark/reset with one that does
+                responseEntityCopy.getContentArray();
+            }
+            // the retry logic might consume the content stream so we make sure it supports mark/reset and mark it
+            InputStream contentStream = smartsheetResponse.getEntity().getContent();
+            if (!contentStream.markSupported()) {
+                // wrap the response stream in a input-stream that does support mark/reset
+                contentStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(contentStream));
+                // close the old stream (just to be tidy) and then replace it with a reset-able stream
+                smartsheetResponse.getEntity().getContent().close();
+                smartsheetResponse.getEntity().setContent(contentStream);
+            }
+            long backoffMillis;
+            try {
+                contentStream.mark((int) smartsheetResponse.getEntity().getContentLength());
+                if (shouldRetryOverridden) {
+                    // a subclass customizing the blocking retry decision, which sleeps through its own backoff
+                    backoffMillis = shouldRetry(retry.countAttempt(), retry.getElapsedMillis(), smartsheetResponse) ? 0 : -1;
+                } else {
+                    backoffMillis = retryBackoffMillis(retry.countAttempt(), retry.getElapsedMillis(),
+                            retry.getPreviousBackoffMillis(), smartsheetResponse);
                 }
-
-                // the retry logic might consume the content stream so we make sure it supports mark/reset and mark it
-                InputStream contentStream = smartsheetResponse.getEntity().getContent();
-                if (!contentStream.markSupported()) {
-                    // wrap the response stream in a input-stream that does support mark/reset
-                    contentStream = new ByteArrayInputStream(StreamUtil.readBytesFromStream(contentStream));
-                    // close the old stream (just to be tidy) and then replace it with a reset-able stream
-                    smartsheetResponse.getEntity().getContent().close();
-                    smartsheetResponse.getEntity().setContent(contentStream);
+            } finally {
+                if (bodyStream != null) {
+                    bodyStream.reset();
                 }
-                try {
-                    contentStream.mark((int) smartsheetResponse.getEntity().getContentLength());
-                    long timeSpent = System.currentTimeMillis() - start;
-                    if (!shouldRetry(++attempt, timeSpent, smartsheetResponse)) {
-                        // should not retry, or retry time exceeded, exit the retry loop
-                        break;
-                    }
-                } finally {
+                contentStream.reset();
+            }
+            if (backoffMillis < 0) {
+                // should not retry, or retry time exceeded, exit the retry loop
+                return smartsheetResponse;
+            }
+            // release the connection before waiting for the retry
+            smartsheetResponse.close();
+            logger.info("HttpError StatusCode={}: Retrying in {} milliseconds", smartsheetResponse.getStatusCode(), backoffMillis);
+            retry.retryAfter(backoffMillis);
+            return null;
+
+        } catch (ClientProtocolException e) {
+            smartsheetResponse.close();
+            logger.warn("ClientProtocolException " + e.getMessage());
+            logger.warn(LOG_ARG, RequestAndResponseData.of(apacheHttpRequest, requestEntityCopy, smartsheetResponse,
+                    responseEntityCopy, REQUEST_RESPONSE_SUMMARY));
+            try {
+                // if this is a PUT and was retried by the http client, the body content stream is at the
+                // end and is a NonRepeatableRequest. If we marked the body content stream prior to execute,
+                // reset and retry
+                if (canRetryRequest && e.getCause() instanceof NonRepeatableRequestException) {
                     if (bodyStream != null) {
                         bodyStream.reset();
                     }
-                    contentStream.reset();
-                }
-                // moving this to finally causes issues because socket is closed (which means response stream is closed)
-                this.releaseConnection();
-
-            } catch (ClientProtocolException e) {
-                logger.warn("ClientProtocolException " + e.getMessage());
-                logger.warn(LOG_ARG, RequestAndResponseData.of(apacheHttpRequest, requestEntityCopy, smartsheetResponse,
-                        responseEntityCopy, REQUEST_RESPONSE_SUMMARY));
-                try {
-                    // if this is a PUT and was retried by the http client, the body content stream is at the
-                    // end and is a NonRepeatableRequest. If we marked the body content stream prior to execute,
-                    // reset and retry
-                    if (canRetryRequest && e.getCause() instanceof NonRepeatableRequestException) {
-                        if (smartsheetRequest.getEntity() != null) {
-                            smartsheetRequest.getEntity().getContent().reset();
-                        }
-                        continue;
-                    }
-                } catch (IOException ignore) {
+                    retry.retryNow();
+                    return null;
                 }
-                throw new HttpClientException(ERROR_OCCURRED, e);
-            } catch (NoHttpResponseException e) {
-                logger.warn("NoHttpResponseException {}", e.getMessage());
-                logger.warn(LOG_ARG, RequestAndResponseData.of(apacheHttpRequest, requestEntityCopy, smartsheetResponse,
-                        responseEntityCopy, REQUEST_RESPONSE_SUMMARY));
-                try {
-                    // check to see if the response was empty and this was a POST. All other HTTP methods
-                    // will be automatically retried by the http client.
-                    // (POST is non-idempotent and is not retried automatically, but is safe for us to retry)
-                    if (canRetryRequest && smartsheetRequest.getMethod() == HttpMethod.POST) {
-                        if (smartsheetRequest.getEntity() != null) {
-                            smartsheetRequest.getEntity().getContent().reset();
-                        }
-                        continue;
+            } catch (IOException ignore) {
+            }
+            throw new HttpClientException(ERROR_OCCURRED, e);
+        } catch (NoHttpResponseException e) {
+            smartsheetResponse.close();
+            logger.warn("NoHttpResponseException {}", e.getMessage());
+            logger.warn(LOG_ARG, RequestAndResponseData.of(apacheHttpRequest, requestEntityCopy, smartsheetResponse,
+                    responseEntityCopy, REQUEST_RESPONSE_SUMMARY));
+            try {
+                // check to see if the response was empty and this was a POST. All other HTTP methods
+                // will be automatically retried by the http client.
+                // (POST is non-idempotent and is not retried automatically, but is safe for us to retry)
+                if (canRetryRequest && smartsheetRequest.getMethod() == HttpMethod.POST) {
+                    if (bodyStream != null) {
+                        bodyStream.reset();
                     }
-                } catch (IOException ignore) {
+                    retry.retryNow();
+                    return null;
                 }
-                throw new HttpClientException(ERROR_OCCURRED, e);
-            } catch (IOException e) {
-                logger.warn(LOG_ARG, RequestAndResponseData.of(apacheHttpRequest, requestEntityCopy, smartsheetResponse,
-                        responseEntityCopy, REQUEST_RESPONSE_SUMMARY));
-                throw new HttpClientException(ERROR_OCCURRED, e);
+            } catch (IOException ignore) {
+            }
+            throw new HttpClientException(ERROR_OCCURRED, e);
+        } catch (IOException e) {
+            smartsheetResponse.close();
+            logger.warn(LOG_ARG, RequestAndResponseData.of(apacheHttpRequest, requestEntityCopy, smartsheetResponse,
+                    responseEntityCopy, REQUEST_RESPONSE_SUMMARY));
+            throw new HttpClientException(ERROR_OCCURRED, e);
+        }
+    }
+
+    /**
+     * Execute the request within the adaptive concurrency limit (if any), feeding the limiter the response status and
+     * the time until it arrived. An asynchronous attempt has been given its permit by the retry loop already.
+     */
+    private CloseableHttpResponse execute(RetryLoop retry, HttpRequestBase apacheHttpRequest, HttpContext context)
+            throws IOException, HttpClientException {
+        AdaptiveConcurrencyLimiter limiter = retry.takeConcurrencyPermit();
+        if (limiter == null) {
+            limiter = concurrencyLimiter;
+            if (limiter == null) {
+                return this.httpClient.execute(apacheHttpRequest, context);
             }
+            limiter.acquire();
         }
-        return smartsheetResponse;
+        long startNanos = System.nanoTime();
+        CloseableHttpResponse apacheHttpResponse;
+        try {
+            apacheHttpResponse = this.httpClient.execute(apacheHttpRequest, context);
+        } catch (IOException | RuntimeException e) {
+            limiter.releaseWithoutSample();
+            throw e;
+        }
+        limiter.release(AdaptiveConcurrencyLimiter.requestClass(apacheHttpRequest.getMethod(), apacheHttpRequest.getURI()),
+                apacheHttpResponse.getStatusLine().getStatusCode(), System.nanoTime() - startNanos);
+        return apacheHttpResponse;
     }
 
-    private HttpEntitySnapshot copyRequestEntity(HttpRequest smartsheetRequest, HttpRequestBase apacheHttpRequest) {
-        final HttpEntity entity = smartsheetRequest.getEntity();
+    private HttpEntitySnapshot copyRequestEntity(RetryLoop retry, HttpRequestBase apacheHttpRequest) throws HttpClientException {
+        final HttpEntity entity = retry.getRequest().getEntity();
         HttpEntitySnapshot requestEntityCopy = null;
+        if (apacheHttpRequest instanceof HttpEntityEnclosingRequestBase && entity instanceof StreamingHttpEntity) {
+            return copyStreamingEntity(retry, (StreamingHttpEntity) entity, (HttpEntityEnclosingRequestBase) apacheHttpRequest);
+        }
         if (apacheHttpRequest instanceof HttpEntityEnclosingRequestBase && entity != null && entity.getContent() != null) {
             try {
                 // we need access to the original request stream so we can log it (in the event of errors and/or tracing)
@@ -349,9 +498,28 @@ public class DefaultHttpClient implements HttpClient {
         return requestEntityCopy;
     }
 
+    /**
+     * Stream a streaming entity of known length straight to the connection, and have one created with
+     * {@link StreamingHttpEntity#streamed} write straight to it with chunked transfer encoding. Any other is written
+     * once into the retry loop's buffer, and every attempt sends that with its Content-Length.
+     */
+    private HttpEntitySnapshot copyStreamingEntity(RetryLoop retry, StreamingHttpEntity entity,
+                                                   HttpEntityEnclosingRequestBase apacheHttpRequest) throws HttpClientException {
+        StreamingHttpEntity sent = entity;
+        if (entity.getContentLength() < 0 && !entity.isStreamed()) {
+            try {
+                sent = retry.bufferContent(entity);
+            } catch (IOException e) {
+                throw new HttpClientException(ERROR_OCCURRED, e);
+            }
+        }
+        apacheHttpRequest.setEntity(sent.getContentLength() >= 0 ? new KnownLengthEntity(sent) : new EntityTemplate(sent::writeTo));
+        return HttpEntitySnapshot.lazy(sent);
+    }
+
     @Nullable
-    private HttpEntitySnapshot updateWithResponse(HttpRequestBase apacheHttpRequest, HttpContext context,
-                                                  HttpResponse smartsheetResponse) throws IOException {
+    private HttpEntitySnapshot updateWithResponse(HttpRequestBase apacheHttpRequest, CloseableHttpResponse apacheHttpResponse,
+                                                  HttpContext context, HttpResponse smartsheetResponse) throws IOException {
         // Set request headers to values ACTUALLY SENT (not just created by us), this would include:
         // 'Connection', 'Accept-Encoding', etc. However, if a proxy is used, this may be the proxy's CONNECT
         // request, hence the test for HTTP method first
@@ -385,7 +553,8 @@ public class DefaultHttpClient implements HttpClient {
             httpEntity.setContentLength(apacheHttpResponse.getEntity().getContentLength());
             httpEntity.setContent(apacheHttpResponse.getEntity().getContent());
             smartsheetResponse.setEntity(httpEntity);
-            return new HttpEntitySnapshot(httpEntity);
+            // copied only if traced or logged before the caller reads the response
+            return HttpEntitySnapshot.lazy(httpEntity);
         }
 
         return null;
@@ -422,6 +591,8 @@ public class DefaultHttpClient implements HttpClient {
         RequestConfig.Builder builder = RequestConfig.custom();
         if (apacheHttpRequest.getConfig() != null) {
             builder = RequestConfig.copy(apacheHttpRequest.getConfig());
+        } else if (defaultRequestConfig != null) {
+            builder = RequestConfig.copy(defaultRequestConfig);
         }
         builder.setRedirectsEnabled(true);
         RequestConfig config = builder.build();
@@ -429,6 +600,47 @@ public class DefaultHttpClient implements HttpClient {
         return apacheHttpRequest;
     }
 
+    /**
+     * Set the rate limiter which every request attempt (retries included) must take a permit from before it is sent.
+     *
+     * @param rateLimiter the rate limiter, or null for none
+     */
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Set the adaptive limiter which every request attempt must take a permit from before it is sent, and which is
+     * fed the status and latency of each response.
+     *
+     * @param concurrencyLimiter the concurrency limiter, or null for none
+     */
+    public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * Set the policy which decides whether, and after how long, failed requests are retried. It replaces the
+     * built-in exponential backoff of {@link #retryBackoffMillis}.
+     *
+     * @param retryPolicy the retry policy, or null for the built-in exponential backoff
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
     /**
      * Set the max retry time for API calls which fail and are retry-able.
      */
@@ -459,25 +671,60 @@ public class DefaultHttpClient implements HttpClient {
     }
 
     /**
-     * Called when an API request fails to determine if it can retry the request.
-     * Calls calcBackoff to determine the time to wait in between retries.
+     * Whether a status code ends the retry loop as a success, e.g. 200, or 206 for a ranged download.
+     *
+     * @param statusCode the HTTP status code
+     * @return true for a 2xx status code
+     */
+    static boolean isSuccess(int statusCode) {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * Whether a class overrides a public method declared by one of its superclasses.
+     *
+     * @param type           the class, e.g. the runtime class of an HttpClient
+     * @param base           the superclass which declares the method
+     * @param name           the method name
+     * @param parameterTypes the method parameter types
+     * @return true if the method is declared below base
+     */
+    static boolean overrides(Class<?> type, Class<?> base, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes).getDeclaringClass() != base;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Called when an API request fails to determine if it can be retried, and after how long. Calls calcBackoff to
+     * determine the time to wait in between retries, unless a {@link RetryPolicy} is set. This does not wait; the
+     * retry is scheduled by the caller. Override this method to customize the retry logic.
      *
      * @param previousAttempts       number of attempts (including this one) to execute request
      * @param totalElapsedTimeMillis total time spent in millis for all previous (and this) attempt
+     * @param previousBackoffMillis  the backoff before this attempt, or 0 if it was the first one
      * @param response               the failed HttpResponse
-     * @return true if this request can be retried
+     * @return the backoff in milliseconds, or -1 if this request should not be retried
      */
-    public boolean shouldRetry(int previousAttempts, long totalElapsedTimeMillis, HttpResponse response) {
+    protected long retryBackoffMillis(int previousAttempts, long totalElapsedTimeMillis, long previousBackoffMillis,
+                                      HttpResponse response) {
         String contentType = response.getEntity().getContentType();
         if (contentType != null && !contentType.startsWith(JSON_MIME_TYPE)) {
             // it's not JSON; don't even try to parse it
-            return false;
+            return -1;
         }
         Error error;
         try {
             error = jsonSerializer.deserialize(Error.class, response.getEntity().getContent());
         } catch (IOException e) {
-            return false;
+            return -1;
+        }
+        RetryPolicy policy = retryPolicy;
+        if (policy != null) {
+            return policy.getBackoffMillis(previousAttempts, previousBackoffMillis,
+                    maxRetryTimeMillis - totalElapsedTimeMillis, response, error);
         }
         switch (error.getErrorCode()) {
             case 4001:
@@ -489,12 +736,26 @@ public class DefaultHttpClient implements HttpClient {
             case 4004:
                 // An unexpected error has occurred. Please retry your request
                 // If you encounter this error repeatedly, please contact api@smartsheet.com for assistance
-                break;
+                return calcBackoff(previousAttempts, totalElapsedTimeMillis, error);
             default:
-                return false;
+                return -1;
         }
+    }
 
-        long backoffMillis = calcBackoff(previousAttempts, totalElapsedTimeMillis, error);
+    /**
+     * Called when an API request fails to determine if it can retry the request, sleeping for the backoff if so.
+     *
+     * @param previousAttempts       number of attempts (including this one) to execute request
+     * @param totalElapsedTimeMillis total time spent in millis for all previous (and this) attempt
+     * @param response               the failed HttpResponse
+     * @return true if this request can be retried
+     * @deprecated the retry loop calls this method only when a subclass overrides it, in which case the override
+     *     decides on every retry and its backoff blocks the calling thread, including an asynchronous worker; override
+     *     {@link #retryBackoffMillis} instead so that retries are scheduled without blocking
+     */
+    @Deprecated
+    public boolean shouldRetry(int previousAttempts, long totalElapsedTimeMillis, HttpResponse response) {
+        long backoffMillis = retryBackoffMillis(previousAttempts, totalElapsedTimeMillis, 0, response);
         if (backoffMillis < 0) {
             return false;
         }
@@ -510,28 +771,46 @@ public class DefaultHttpClient implements HttpClient {
     }
 
     /**
-     * Close the HttpClient.
+     * Make an HTTP request on a bounded pool of worker threads sized to the connection pool. Requests submitted while
+     * every worker is busy, backing off between retries, or waiting for a rate limiter permit hold neither a thread nor
+     * a connection.
      *
-     * @throws IOException Signals that an I/O exception has occurred.
+     * @param smartsheetRequest the request
+     * @return the future http response
      */
     @Override
-    public void close() throws IOException {
-        this.httpClient.close();
+    public CompletableFuture<HttpResponse> requestAsync(HttpRequest smartsheetRequest) {
+        return createRetryLoop(smartsheetRequest).runAsync(rateLimiter, concurrencyLimiter, getAsyncExecutor(), this::attempt);
     }
 
-    /* (non-Javadoc)
-     * @see com.smartsheet.api.internal.http.HttpClient#releaseConnection()
+    private synchronized ExecutorService getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(asyncThreads, asyncThreads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "smartsheet-async-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            asyncExecutor = executor;
+        }
+        return asyncExecutor;
+    }
+
+    /**
+     * Close the HttpClient.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
      */
     @Override
-    public void releaseConnection() {
-        if (apacheHttpResponse != null) {
-            try {
-                apacheHttpResponse.close();
-                apacheHttpResponse = null;
-            } catch (IOException e) {
-                logger.error("error closing Apache HttpResponse", e);
+    public void close() throws IOException {
+        synchronized (this) {
+            if (asyncExecutor != null) {
+                asyncExecutor.shutdown();
             }
         }
+        this.httpClient.close();
     }
 
     /**
@@ -563,4 +842,40 @@ public class DefaultHttpClient implements HttpClient {
     public static void setTraceStream(OutputStream traceStream) {
         traceWriter = new PrintWriter(traceStream, true);
     }
+
+    /**
+     * An Apache entity over a StreamingHttpEntity of known length, which opens the content afresh for every attempt.
+     */
+    private static final class KnownLengthEntity extends AbstractHttpEntity {
+        private final StreamingHttpEntity entity;
+
+        private KnownLengthEntity(StreamingHttpEntity entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public long getContentLength() {
+            return entity.getContentLength();
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return entity.openContent();
+        }
+
+        @Override
+        public void writeTo(OutputStream outputStream) throws IOException {
+            entity.writeTo(outputStream);
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return false;
+        }
+    }
 }
@@ -17,6 +17,7 @@
 package com.smartsheet.api.internal.http;
 
 import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface defines methods to make an HTTP request.
@@ -29,7 +30,8 @@ public interface HttpClient extends Closeable {
      * <p>
      * Parameters: - request : the HTTP request
      * <p>
-     * Returns: the HTTP response
+     * Returns: the HTTP response, which is bound to the connection used for this request and must be closed by the
+     * caller once its content has been consumed
      * <p>
      * Exceptions: - IllegalArgumentException : if any argument is null - HttpClientException : if there is any other
      * error occurred during the operation
@@ -41,7 +43,30 @@ public interface HttpClient extends Closeable {
     HttpResponse request(HttpRequest request) throws HttpClientException;
 
     /**
-     * Release connection.
+     * Make an HTTP request without blocking the calling thread for the round trip.
+     * <p>
+     * The returned future completes with the HTTP response (which must be closed by the consumer, exactly as for
+     * {@link #request(HttpRequest)}) or exceptionally with the HttpClientException raised by the transport. The
+     * default implementation performs the request on the calling thread and returns an already completed future;
+     * implementations backed by a transport with its own dispatcher override it.
+     *
+     * @param request the request
+     * @return the future http response
+     */
+    default CompletableFuture<HttpResponse> requestAsync(HttpRequest request) {
+        try {
+            return CompletableFuture.completedFuture(request(request));
+        } catch (HttpClientException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Does nothing. Each {@link HttpResponse} holds its own connection, which is released when the response is closed.
+     *
+     * @deprecated close the {@link HttpResponse} returned by {@link #request(HttpRequest)} instead
      */
-    void releaseConnection();
+    @Deprecated
+    default void releaseConnection() {
+    }
 }
@@ -21,6 +21,7 @@ import org.apache.http.entity.ContentType;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
@@ -28,6 +29,9 @@ import java.util.Arrays;
 /**
  * this extension of HttpEntity is only for the purpose of creating a copy of its data stream so that the original can
  * be used as-received and this duplicate can be logged if needed
+ * <p>
+ * a snapshot made with {@link #lazy(HttpEntity)} copies nothing until its content is first asked for, so a body which
+ * is neither traced nor logged is never copied; if the original content has been read by then it is reported as such
  */
 public class HttpEntitySnapshot extends HttpEntity {
     private static final String JSON_MIME_TYPE = ContentType.APPLICATION_JSON.getMimeType();
@@ -35,19 +39,65 @@ public class HttpEntitySnapshot extends HttpEntity {
 
     private byte[] contentArray;
 
+    /**
+     * the entity a lazy snapshot copies from once its content is asked for, null once copied
+     */
+    private HttpEntity original;
+
+    /**
+     * the stream a lazy snapshot put in place of the original content, to tell whether it was read before being copied
+     */
+    private ReadTrackingInputStream originalContent;
+
     /**
      * this ctor creates a snapshot of the original entity (which requires its stream either support reset or it must be
      * entirely consumed and replaced with an exact copy)
      */
     public HttpEntitySnapshot(HttpEntity original) throws IOException {
+        super.setContentLength(original.getContentLength());
+        super.setContentType(original.getContentType());
+        contentArray = copy(original);
+    }
+
+    private HttpEntitySnapshot(HttpEntity original, ReadTrackingInputStream originalContent) {
+        super.setContentLength(original.getContentLength());
+        super.setContentType(original.getContentType());
+        this.original = original;
+        this.originalContent = originalContent;
+    }
+
+    /**
+     * create a snapshot which copies the original entity only when its content is first asked for, e.g. when a request
+     * is traced or logged, rather than straight away
+     *
+     * @param original the entity to copy
+     * @return the snapshot
+     */
+    public static HttpEntitySnapshot lazy(HttpEntity original) {
+        ReadTrackingInputStream originalContent = null;
+        if (!(original instanceof StreamingHttpEntity) && isJson(original.getContentType()) && original.getContent() != null) {
+            originalContent = new ReadTrackingInputStream(original.getContent());
+            original.setContent(originalContent);
+        }
+        return new HttpEntitySnapshot(original, originalContent);
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null && contentType.startsWith(JSON_MIME_TYPE);
+    }
+
+    private static byte[] copy(HttpEntity original) throws IOException {
         final String contentType = original.getContentType();
         final InputStream contentStream = original.getContent();
         final long contentLength = original.getContentLength();
 
-        super.setContentLength(contentLength);
-        super.setContentType(contentType);
-
-        if (contentType != null && contentType.startsWith(JSON_MIME_TYPE)) {
+        byte[] contentArray;
+        if (original instanceof StreamingHttpEntity) {
+            // the content is written while it is sent; write just enough of it again to log
+            contentArray = isJson(contentType)
+                    ? ((StreamingHttpEntity) original).preview(MAX_SNAPSHOT_SIZE)
+                    : String.format("**contentType '%s' not logged**", contentType).getBytes();
+        } else if (isJson(contentType)) {
             // we need to read and then reset (if possible) the original entity's content stream (or replace it with an exact copy)
             // if contentLength > Integer.MAX_VALUE we have MUCH bigger problems than long->int rollover
             boolean sourceSupportsMark = contentStream.markSupported();
@@ -55,7 +105,7 @@ public class HttpEntitySnapshot extends HttpEntity {
                 // here we can read up to a limited contents
                 contentArray = new byte[MAX_SNAPSHOT_SIZE];
                 contentStream.mark(MAX_SNAPSHOT_SIZE + 1);
-                int bytesRead = contentStream.read(contentArray, 0, MAX_SNAPSHOT_SIZE);
+                int bytesRead = Math.max(0, contentStream.read(contentArray, 0, MAX_SNAPSHOT_SIZE));
                 contentStream.reset();
 
                 // trim content array to actual size
@@ -66,7 +116,7 @@ public class HttpEntitySnapshot extends HttpEntity {
                 // here we must read everything and then repackage the byte[] into an input stream to replace the original
                 byte[] fullContentArray;
                 try {
-                    fullContentArray = StreamUtil.readBytesFromStream(contentStream, StreamUtil.ONE_MB);
+                    fullContentArray = contentStream.readAllBytes();
                 } finally {
                     contentStream.close();
                 }
@@ -83,11 +133,30 @@ public class HttpEntitySnapshot extends HttpEntity {
         } else {
             contentArray = String.format("**contentType '%s' not logged**", contentType).getBytes();
         }
+        return contentArray;
+    }
+
+    /**
+     * copy the original entity of a lazy snapshot, unless its content has already been read
+     */
+    private void copyOriginal() {
+        if (originalContent != null && originalContent.wasRead()) {
+            contentArray = "**content read before it was logged**".getBytes();
+        } else {
+            try {
+                contentArray = copy(original);
+            } catch (IOException iox) {
+                LoggerFactory.getLogger(HttpEntitySnapshot.class).error("failed to make copy of original entity", iox);
+                contentArray = "**content could not be copied**".getBytes();
+            }
+        }
+        original = null;
+        originalContent = null;
     }
 
     @Override
     public InputStream getContent() {
-        return new ByteArrayInputStream(contentArray);
+        return new ByteArrayInputStream(getContentArray());
     }
 
     @Override
@@ -110,6 +179,42 @@ public class HttpEntitySnapshot extends HttpEntity {
      * defeat the purpose of having a method like this for performance reasons.
      */
     public byte[] getContentArray() {
+        if (original != null) {
+            copyOriginal();
+        }
         return contentArray;
     }
+
+    /**
+     * notes whether any of a stream has been read
+     */
+    private static final class ReadTrackingInputStream extends FilterInputStream {
+        private boolean read;
+
+        private ReadTrackingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            read = true;
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            read = true;
+            return in.read(buffer, offset, length);
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            read = true;
+            return in.skip(count);
+        }
+
+        private boolean wasRead() {
+            return read;
+        }
+    }
 }
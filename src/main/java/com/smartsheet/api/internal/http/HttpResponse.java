@@ -16,12 +16,21 @@
 
 package com.smartsheet.api.internal.http;
 
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+
 /**
  * This class represents an HTTP response.
  * <p>
+ * Each response is bound to the connection that produced it; closing the response releases that connection back to
+ * the underlying pool. Callers should close every response returned by {@link HttpClient#request(HttpRequest)},
+ * preferably with try-with-resources.
+ * <p>
  * Thread Safety: This class is not thread safe since it's mutable.
  */
-public class HttpResponse extends HttpMessage {
+public class HttpResponse extends HttpMessage implements Closeable {
     /**
      * Represents the response status code.
      * <p>
@@ -30,6 +39,13 @@ public class HttpResponse extends HttpMessage {
     private int statusCode;
     private String statusText;
 
+    /**
+     * Represents the transport-level response (and therefore the connection) this response was read from.
+     * <p>
+     * It is set by the HttpClient which created this response and released when this response is closed.
+     */
+    private Closeable connection;
+
     /**
      * Gets the status code.
      *
@@ -68,4 +84,28 @@ public class HttpResponse extends HttpMessage {
         this.statusText = statusText;
     }
 
+    /**
+     * Sets the transport-level handle which will be released when this response is closed.
+     *
+     * @param connection the handle holding the underlying connection, may be null
+     */
+    public void setConnection(Closeable connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Release the connection this response was read from. Calling this method more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        Closeable toClose = connection;
+        connection = null;
+        if (toClose != null) {
+            try {
+                toClose.close();
+            } catch (IOException e) {
+                LoggerFactory.getLogger(HttpResponse.class).error("error closing HttpResponse", e);
+            }
+        }
+    }
 }
@@ -0,0 +1,634 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.internal.json.JsonSerializer;
+import com.smartsheet.api.internal.util.StreamUtil;
+import com.smartsheet.api.internal.util.Util;
+import com.smartsheet.api.models.Error;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * This is the java.net.http based HttpClient implementation. It negotiates HTTP/2 with servers that support it, so
+ * concurrent requests to the same host are multiplexed over a single connection instead of each occupying its own, and
+ * its asynchronous requests are sent without holding a thread while waiting for the response.
+ * <p>
+ * Retries of failed requests are scheduled with a delayed executor rather than by sleeping, so the retry behaviour of
+ * {@link #requestAsync(HttpRequest)} is non-blocking as well. A GET, HEAD or OPTIONS request whose connection fails is
+ * sent again straight away, up to three times; other methods are not, since they may already have reached the server.
+ * <p>
+ * Request and response tracing ({@link com.smartsheet.api.Smartsheet#setTraces}) is not supported by this transport.
+ * <p>
+ * Thread Safety: This class is thread safe because the underlying java.net.http.HttpClient is thread safe and every
+ * response body is bound to the HttpResponse returned for its own request.
+ */
+public class JdkHttpClient implements HttpClient {
+
+    /**
+     * logger for general errors, warnings, etc
+     */
+    protected static final Logger logger = LoggerFactory.getLogger(JdkHttpClient.class);
+
+    private static final String ERROR_OCCURRED = "Error occurred.";
+
+    private static final String CLIENT_CLOSED = "The HttpClient has been closed.";
+
+    /**
+     * The number of times an idempotent request whose connection failed is sent again.
+     */
+    private static final int MAX_CONNECTION_RETRIES = 3;
+
+    /**
+     * Methods which can be sent again after a connection failure without risk of applying a change twice.
+     */
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private static final String CONTENT_TYPE = "Content-Type";
+
+    /**
+     * Headers which java.net.http computes itself and refuses to accept from the caller.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    /**
+     * Represents the underlying java.net.http.HttpClient.
+     * <p>
+     * It will be initialized in constructor and will not change afterwards.
+     */
+    private final java.net.http.HttpClient client;
+
+    /**
+     * The timeout applied to each request, or null for none.
+     */
+    private final Duration requestTimeout;
+
+    /**
+     * The threads this instance created for the java.net.http.HttpClient, shut down on close; null if the client was
+     * passed in.
+     */
+    private final ExecutorService executor;
+
+    private final AtomicInteger requestsInFlight = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    private final Random random = new Random();
+
+    protected JsonSerializer jsonSerializer;
+
+    protected long maxRetryTimeMillis = 15000;
+
+    /**
+     * Paces requests to stay within the API rate limit; null when no client-side limit is applied.
+     */
+    private volatile RateLimiter rateLimiter;
+
+    /**
+     * Adapts the number of requests in flight to the service's feedback; null when concurrency is not limited.
+     */
+    private volatile AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * Decides on retries in place of the built-in exponential backoff; null to use the built-in backoff.
+     */
+    private volatile RetryPolicy retryPolicy;
+
+    /**
+     * Constructor.
+     */
+    public JdkHttpClient() {
+        this(new ConnectionPoolSettings(), new JacksonJsonSerializer());
+    }
+
+    /**
+     * Constructor which creates a java.net.http.HttpClient preferring HTTP/2 from the given settings. Only the connect
+     * and socket timeouts apply; the JDK client manages its own connection pool, and HTTP/2 needs a single connection
+     * per host.
+     *
+     * @param settings       the connection and timeout settings
+     * @param jsonSerializer the json serializer
+     */
+    public JdkHttpClient(ConnectionPoolSettings settings, JsonSerializer jsonSerializer) {
+        this(settings, jsonSerializer, newExecutor());
+    }
+
+    private JdkHttpClient(ConnectionPoolSettings settings, JsonSerializer jsonSerializer, ExecutorService executor) {
+        this(createHttpClient(settings, executor), jsonSerializer, toDuration(settings.getSocketTimeoutMillis()), executor);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param client         the java.net.http.HttpClient to use
+     * @param jsonSerializer the json serializer
+     * @param requestTimeout the timeout applied to each request, or null for none
+     */
+    public JdkHttpClient(java.net.http.HttpClient client, JsonSerializer jsonSerializer, Duration requestTimeout) {
+        this(client, jsonSerializer, requestTimeout, null);
+    }
+
+    private JdkHttpClient(java.net.http.HttpClient client, JsonSerializer jsonSerializer, Duration requestTimeout,
+                          ExecutorService executor) {
+        this.client = Util.throwIfNull(client);
+        this.jsonSerializer = jsonSerializer;
+        this.requestTimeout = requestTimeout;
+        this.executor = executor;
+    }
+
+    /**
+     * Create a java.net.http.HttpClient which prefers HTTP/2 and falls back to HTTP/1.1 when the server does not
+     * support it.
+     *
+     * @param settings the connection and timeout settings
+     * @return the http client
+     */
+    public static java.net.http.HttpClient createHttpClient(ConnectionPoolSettings settings) {
+        return createHttpClient(settings, null);
+    }
+
+    private static java.net.http.HttpClient createHttpClient(ConnectionPoolSettings settings, ExecutorService executor) {
+        Util.throwIfNull(settings);
+
+        java.net.http.HttpClient.Builder builder = java.net.http.HttpClient.newBuilder()
+                .version(java.net.http.HttpClient.Version.HTTP_2)
+                .followRedirects(java.net.http.HttpClient.Redirect.NORMAL);
+        Duration connectTimeout = toDuration(settings.getConnectTimeoutMillis());
+        if (connectTimeout != null) {
+            builder.connectTimeout(connectTimeout);
+        }
+        if (executor != null) {
+            builder.executor(executor);
+        }
+        return builder.build();
+    }
+
+    private static ExecutorService newExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "smartsheet-http2-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Duration toDuration(int millis) {
+        return millis > 0 ? Duration.ofMillis(millis) : null;
+    }
+
+    /**
+     * Log to the SLF4J logger (level based upon response status code). Override this function to add logging
+     * or capture performance metrics.
+     *
+     * @param request        request
+     * @param response       response
+     * @param durationMillis response time in ms
+     */
+    public void logRequest(java.net.http.HttpRequest request, java.net.http.HttpResponse<InputStream> response, long durationMillis) {
+        logger.info("{} {} {}, Response Code:{}, Request completed in {} ms", request.method(), request.uri(),
+                response.version(), response.statusCode(), durationMillis);
+    }
+
+    /**
+     * Make an HTTP request and return the response.
+     *
+     * @param smartsheetRequest the smartsheet request
+     * @return the HTTP response
+     * @throws HttpClientException the HTTP client exception
+     */
+    @Override
+    public HttpResponse request(HttpRequest smartsheetRequest) throws HttpClientException {
+        try {
+            return requestAsync(smartsheetRequest).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof HttpClientException) {
+                throw (HttpClientException) e.getCause();
+            }
+            throw new HttpClientException(ERROR_OCCURRED, e.getCause());
+        }
+    }
+
+    /**
+     * Make an HTTP request using the non-blocking java.net.http sendAsync; no thread waits for the response or for
+     * the backoff between retries.
+     *
+     * @param smartsheetRequest the smartsheet request
+     * @return the future HTTP response
+     */
+    @Override
+    public CompletableFuture<HttpResponse> requestAsync(HttpRequest smartsheetRequest) {
+        Util.throwIfNull(smartsheetRequest);
+        if (smartsheetRequest.getUri() == null) {
+            throw new IllegalArgumentException("A Request URI is required.");
+        }
+        // counted before checking for close, so that close never shuts the executor down under a request
+        requestsInFlight.incrementAndGet();
+        if (closed) {
+            requestDone();
+            return CompletableFuture.failedFuture(new HttpClientException(CLIENT_CLOSED));
+        }
+
+        // the body is sent once per attempt, so it must be replayable: a stream, or streaming content of unknown
+        // length, is copied into a buffer which keeps a large body on disk, and deleted once the request is done
+        BodyPublisher body = null;
+        SpillingBuffer buffer = null;
+        HttpEntity entity = smartsheetRequest.getEntity();
+        try {
+            if (entity instanceof StreamingHttpEntity && entity.getContentLength() >= 0) {
+                body = getStreamingBody((StreamingHttpEntity) entity);
+            } else if (entity instanceof StreamingHttpEntity) {
+                // written in a single pass; the JDK client cannot have content written to the connection as it is
+                // produced, so an entity created with StreamingHttpEntity.streamed is buffered as well
+                buffer = ((StreamingHttpEntity) entity).buffer();
+            } else if (entity != null && entity.getContent() != null) {
+                buffer = SpillingBuffer.of(entity.getContent());
+            }
+            if (buffer != null) {
+                body = BodyPublishers.fromPublisher(BodyPublishers.ofInputStream(opener(buffer::openStream)), buffer.size());
+            }
+        } catch (IOException e) {
+            requestDone();
+            return CompletableFuture.failedFuture(new HttpClientException(ERROR_OCCURRED, e));
+        }
+        RetryPolicy policy = retryPolicy;
+        if (policy != null) {
+            policy.onRequest();
+        }
+        CompletableFuture<HttpResponse> result;
+        try {
+            result = send(createJdkRequest(smartsheetRequest, body), 0, 0, System.currentTimeMillis(), 0);
+        } catch (RuntimeException e) {
+            requestDone();
+            throw e;
+        }
+        SpillingBuffer spilled = buffer;
+        result.whenComplete((response, throwable) -> {
+            if (spilled != null) {
+                try {
+                    spilled.close();
+                } catch (IOException ignore) {
+                }
+            }
+            requestDone();
+        });
+        return result;
+    }
+
+    /**
+     * Count a request as done, shutting down the executor if the client was closed while it was in flight.
+     */
+    private void requestDone() {
+        if (requestsInFlight.decrementAndGet() == 0 && closed && executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Send a file through the file publisher, which reads it through a FileChannel, and stream any other streaming
+     * entity of known length, opening its content afresh for every attempt.
+     */
+    private static BodyPublisher getStreamingBody(StreamingHttpEntity entity) throws IOException {
+        Path file = entity.getFile();
+        if (file != null && file.getFileSystem() == FileSystems.getDefault()) {
+            return BodyPublishers.ofFile(file);
+        }
+        return BodyPublishers.fromPublisher(BodyPublishers.ofInputStream(opener(entity::openContent)),
+                entity.getContentLength());
+    }
+
+    private static Supplier<InputStream> opener(StreamingHttpEntity.ContentSource source) {
+        return () -> {
+            try {
+                return source.open();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private CompletableFuture<HttpResponse> send(java.net.http.HttpRequest request, int previousAttempts,
+                                                 long previousBackoffMillis, long start, int connectionRetries) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new HttpClientException(CLIENT_CLOSED));
+        }
+        // wait for (or fail without) a permit from the client-side rate limiter, without holding a thread
+        RateLimiter limiter = rateLimiter;
+        CompletableFuture<Void> permit = limiter == null ? CompletableFuture.completedFuture(null) : limiter.acquireAsync();
+        return permit.thenCompose(granted -> sendAttempt(request, previousAttempts, previousBackoffMillis, start,
+                connectionRetries));
+    }
+
+    private CompletableFuture<HttpResponse> sendAttempt(java.net.http.HttpRequest request, int previousAttempts,
+                                                        long previousBackoffMillis, long start, int connectionRetries) {
+        long startTime = System.currentTimeMillis();
+        return sendWithinLimit(request)
+                .handle((jdkResponse, throwable) -> {
+                    if (throwable != null) {
+                        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                        if (connectionRetries < MAX_CONNECTION_RETRIES && isRetryable(request, cause)) {
+                            logger.warn("{} {} failed ({}), sending it again", request.method(), request.uri(), cause.toString());
+                            return send(request, previousAttempts, previousBackoffMillis, start, connectionRetries + 1);
+                        }
+                        return CompletableFuture.<HttpResponse>failedFuture(new HttpClientException(ERROR_OCCURRED, cause));
+                    }
+                    logRequest(request, jdkResponse, System.currentTimeMillis() - startTime);
+                    return retryOnError(request, toSmartsheetResponse(jdkResponse), previousAttempts, start,
+                            previousBackoffMillis, connectionRetries);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    /**
+     * Return a successful response, or schedule the retry of a failed one if the error allows it.
+     */
+    private CompletableFuture<HttpResponse> retryOnError(java.net.http.HttpRequest request, HttpResponse response,
+                                                         int previousAttempts, long start, long previousBackoffMillis,
+                                                         int connectionRetries) {
+        if (DefaultHttpClient.isSuccess(response.getStatusCode())) {
+            return CompletableFuture.completedFuture(response);
+        }
+        int attempt = previousAttempts + 1;
+        long backoffMillis = retryBackoffMillis(attempt, System.currentTimeMillis() - start, previousBackoffMillis, response);
+        if (backoffMillis < 0) {
+            return CompletableFuture.completedFuture(response);
+        }
+        response.close();
+        logger.info("HttpError StatusCode={}: Retrying in {} milliseconds", response.getStatusCode(), backoffMillis);
+        return CompletableFuture.supplyAsync(() -> request, CompletableFuture.delayedExecutor(backoffMillis, TimeUnit.MILLISECONDS))
+                .thenCompose(retry -> send(retry, attempt, backoffMillis, start, connectionRetries));
+    }
+
+    /**
+     * Whether a request which failed with the given exception may be sent again straight away. Only idempotent methods
+     * are resent: the exception does not tell whether a POST, PUT or DELETE reached the server, and sending it again
+     * could apply it twice. Timeouts, unknown hosts, refused connections and TLS failures are not retried either.
+     */
+    private static boolean isRetryable(java.net.http.HttpRequest request, Throwable cause) {
+        return IDEMPOTENT_METHODS.contains(request.method())
+                && cause instanceof IOException
+                && !(cause instanceof HttpTimeoutException)
+                && !(cause instanceof InterruptedIOException)
+                && !(cause instanceof UnknownHostException)
+                && !(cause instanceof ConnectException)
+                && !(cause instanceof SSLException);
+    }
+
+    /**
+     * Send the request within the adaptive concurrency limit (if any), feeding the limiter the response status and
+     * the time until it arrived. Waiting for a permit does not hold a thread.
+     */
+    private CompletableFuture<java.net.http.HttpResponse<InputStream>> sendWithinLimit(java.net.http.HttpRequest request) {
+        AdaptiveConcurrencyLimiter limiter = concurrencyLimiter;
+        if (limiter == null) {
+            return client.sendAsync(request, BodyHandlers.ofInputStream());
+        }
+        return limiter.acquireAsync().thenCompose(granted -> {
+            long startNanos = System.nanoTime();
+            CompletableFuture<java.net.http.HttpResponse<InputStream>> response;
+            try {
+                response = client.sendAsync(request, BodyHandlers.ofInputStream());
+            } catch (RuntimeException e) {
+                limiter.releaseWithoutSample();
+                throw e;
+            }
+            return response.whenComplete((jdkResponse, throwable) -> {
+                if (jdkResponse != null) {
+                    limiter.release(AdaptiveConcurrencyLimiter.requestClass(request.method(), request.uri()),
+                            jdkResponse.statusCode(), System.nanoTime() - startNanos);
+                } else {
+                    limiter.releaseWithoutSample();
+                }
+            });
+        });
+    }
+
+    private java.net.http.HttpRequest createJdkRequest(HttpRequest smartsheetRequest, BodyPublisher body) {
+        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(smartsheetRequest.getUri());
+        if (requestTimeout != null) {
+            builder.timeout(requestTimeout);
+        }
+        if (smartsheetRequest.getHeaders() != null) {
+            for (Map.Entry<String, String> header : smartsheetRequest.getHeaders().entrySet()) {
+                if (!RESTRICTED_HEADERS.contains(header.getKey().toLowerCase())) {
+                    builder.setHeader(header.getKey(), header.getValue());
+                }
+            }
+        }
+        if (smartsheetRequest.getEntity() != null && smartsheetRequest.getEntity().getContentType() != null) {
+            builder.setHeader(CONTENT_TYPE, smartsheetRequest.getEntity().getContentType());
+        }
+
+        BodyPublisher publisher = body == null ? BodyPublishers.noBody() : body;
+        switch (smartsheetRequest.getMethod()) {
+            case GET:
+                builder.GET();
+                break;
+            case POST:
+                builder.POST(publisher);
+                break;
+            case PUT:
+                builder.PUT(publisher);
+                break;
+            case DELETE:
+                builder.DELETE();
+                break;
+            default:
+                // This switch is exhaustive, but the checkstyle doesn't know that
+                throw new UnsupportedOperationException("Unsupported method: " + smartsheetRequest.getMethod());
+        }
+        return builder.build();
+    }
+
+    private static HttpResponse toSmartsheetResponse(java.net.http.HttpResponse<InputStream> jdkResponse) {
+        HttpResponse smartsheetResponse = new HttpResponse();
+        // closing the body stream returns the connection (or HTTP/2 stream) to the JDK client
+        smartsheetResponse.setConnection(jdkResponse.body());
+        smartsheetResponse.setStatusCode(jdkResponse.statusCode());
+
+        // HTTP/2 header names are lower case, so make lookups case insensitive
+        Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, List<String>> header : jdkResponse.headers().map().entrySet()) {
+            if (!header.getValue().isEmpty()) {
+                headers.put(header.getKey(), header.getValue().get(0));
+            }
+        }
+        smartsheetResponse.setHeaders(headers);
+
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType(headers.get(CONTENT_TYPE));
+        entity.setContentLength(jdkResponse.headers().firstValueAsLong("Content-Length").orElse(-1));
+        entity.setContent(jdkResponse.body());
+        smartsheetResponse.setEntity(entity);
+        return smartsheetResponse;
+    }
+
+    /**
+     * Set the rate limiter which every request attempt (retries included) must take a permit from before it is sent.
+     *
+     * @param rateLimiter the rate limiter, or null for none
+     */
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Set the adaptive limiter which every request attempt must take a permit from before it is sent, and which is
+     * fed the status and latency of each response.
+     *
+     * @param concurrencyLimiter the concurrency limiter, or null for none
+     */
+    public void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * Set the policy which decides whether, and after how long, failed requests are retried.
+     *
+     * @param retryPolicy the retry policy, or null for the built-in exponential backoff
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Set the max retry time for API calls which fail and are retry-able.
+     */
+    public void setMaxRetryTimeMillis(long maxRetryTimeMillis) {
+        this.maxRetryTimeMillis = maxRetryTimeMillis;
+    }
+
+    /**
+     * The backoff calculation routine. Uses exponential backoff. If the maximum elapsed time
+     * has expired, this calculation returns -1 causing the caller to fall out of the retry loop.
+     *
+     * @return -1 to fall out of retry loop, positive number indicates backoff time
+     */
+    public long calcBackoff(int previousAttempts, long totalElapsedTimeMillis, Error error) {
+
+        long backoffMillis = (long) (Math.pow(2, previousAttempts) * 1000) + random.nextInt(1000);
+
+        if (totalElapsedTimeMillis + backoffMillis > maxRetryTimeMillis) {
+            logger.info("Elapsed time {} + backoff time {} exceeds max retry time {}, exiting retry loop",
+                    totalElapsedTimeMillis, backoffMillis, maxRetryTimeMillis);
+            return -1;
+        }
+        return backoffMillis;
+    }
+
+    /**
+     * Called when an API request fails to determine if it can be retried, and after how long. Unlike the blocking
+     * transports this does not wait; the caller schedules the retry. The response content is left readable either way.
+     *
+     * @param previousAttempts       number of attempts (including this one) to execute request
+     * @param totalElapsedTimeMillis total time spent in millis for all previous (and this) attempt
+     * @param previousBackoffMillis  the backoff before this attempt, or 0 if it was the first one
+     * @param response               the failed HttpResponse
+     * @return the backoff in milliseconds, or -1 if this request should not be retried
+     */
+    protected long retryBackoffMillis(int previousAttempts, long totalElapsedTimeMillis, long previousBackoffMillis,
+                                      HttpResponse response) {
+        String contentType = response.getEntity().getContentType();
+        if (contentType != null && !contentType.startsWith("application/json")) {
+            // it's not JSON; don't even try to parse it
+            return -1;
+        }
+        Error error;
+        try {
+            // error bodies are small; buffer it so it can still be read by the caller if we do not retry
+            byte[] content = StreamUtil.readBytesFromStream(response.getEntity().getContent());
+            response.getEntity().setContent(new ByteArrayInputStream(content));
+            error = jsonSerializer.deserialize(Error.class, new ByteArrayInputStream(content));
+        } catch (IOException e) {
+            return -1;
+        }
+        RetryPolicy policy = retryPolicy;
+        if (policy != null) {
+            return policy.getBackoffMillis(previousAttempts, previousBackoffMillis,
+                    maxRetryTimeMillis - totalElapsedTimeMillis, response, error);
+        }
+        switch (error.getErrorCode()) {
+            // Smartsheet.com is currently offline for system maintenance. Please check back again shortly.
+            case 4001:
+                // Server timeout exceeded. Request has failed
+            case 4002:
+                // Rate limit exceeded.
+            case 4003:
+                // An unexpected error has occurred. Please retry your request.
+                // If you encounter this error repeatedly, please contact api@smartsheet.com for assistance.
+            case 4004:
+                return calcBackoff(previousAttempts, totalElapsedTimeMillis, error);
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Close the HttpClient. Requests made afterwards fail, as do retries which have not been sent yet. Once the
+     * requests in flight are done, the threads created for the java.net.http.HttpClient are shut down, which lets it
+     * release its connections; a java.net.http.HttpClient passed to the constructor is left to its owner. Read or close
+     * the responses received before closing the client.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (requestsInFlight.get() == 0 && executor != null) {
+            executor.shutdown();
+        }
+    }
+}
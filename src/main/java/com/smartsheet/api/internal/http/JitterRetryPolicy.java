@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.models.Error;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link RetryPolicy} which retries the transient Smartsheet errors (4001 - 4004) with decorrelated jitter, i.e.
+ * each backoff is drawn at random between {@code baseMillis} and three times the previous backoff, capped at
+ * {@code capMillis}. Spreading the retries of many clients out this way avoids the synchronized waves plain exponential
+ * backoff produces.
+ * <p>
+ * A {@code Retry-After} header (in seconds or as an HTTP date) on the error response takes precedence over the jitter.
+ * Every retry is also drawn from a {@link RetryBudget}, which by default is the one shared by the whole process.
+ * <p>
+ * Thread Safety: This class is thread safe.
+ */
+public class JitterRetryPolicy implements RetryPolicy {
+    private static final Logger logger = LoggerFactory.getLogger(JitterRetryPolicy.class);
+
+    public static final long DEFAULT_BASE_MILLIS = 500;
+    public static final long DEFAULT_CAP_MILLIS = 30000;
+
+    private static final String RETRY_AFTER = "Retry-After";
+
+    private final long baseMillis;
+    private final long capMillis;
+    private final RetryBudget budget;
+
+    /**
+     * Constructor, using the default base and cap and the process-wide retry budget.
+     */
+    public JitterRetryPolicy() {
+        this(DEFAULT_BASE_MILLIS, DEFAULT_CAP_MILLIS, RetryBudget.processWide());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param baseMillis the shortest backoff
+     * @param capMillis  the longest backoff
+     * @param budget     the budget retries are drawn from, or null to retry without a budget
+     * @throws IllegalArgumentException if baseMillis is not positive or capMillis is less than baseMillis
+     */
+    public JitterRetryPolicy(long baseMillis, long capMillis, RetryBudget budget) {
+        if (baseMillis <= 0) {
+            throw new IllegalArgumentException("baseMillis must be positive");
+        }
+        if (capMillis < baseMillis) {
+            throw new IllegalArgumentException("capMillis must not be less than baseMillis");
+        }
+        this.baseMillis = baseMillis;
+        this.capMillis = capMillis;
+        this.budget = budget;
+    }
+
+    @Override
+    public void onRequest() {
+        if (budget != null) {
+            budget.deposit();
+        }
+    }
+
+    @Override
+    public long getBackoffMillis(int previousAttempts, long previousBackoffMillis, long remainingRetryTimeMillis,
+                                 HttpResponse response, Error error) {
+        if (!RetryPolicy.isRetryable(error)) {
+            return NO_RETRY;
+        }
+
+        long backoffMillis = getRetryAfterMillis(response);
+        if (backoffMillis < 0) {
+            long upper = Math.min(capMillis, Math.max(baseMillis, previousBackoffMillis) * 3);
+            backoffMillis = ThreadLocalRandom.current().nextLong(baseMillis, upper + 1);
+        }
+        if (backoffMillis > remainingRetryTimeMillis) {
+            logger.info("Backoff time {} exceeds remaining retry time {}, exiting retry loop",
+                    backoffMillis, remainingRetryTimeMillis);
+            return NO_RETRY;
+        }
+        if (budget != null && !budget.tryWithdraw()) {
+            logger.info("Retry budget exhausted, not retrying error {}", error.getErrorCode());
+            return NO_RETRY;
+        }
+        return backoffMillis;
+    }
+
+    public long getBaseMillis() {
+        return baseMillis;
+    }
+
+    public long getCapMillis() {
+        return capMillis;
+    }
+
+    public RetryBudget getBudget() {
+        return budget;
+    }
+
+    /**
+     * Read the {@code Retry-After} header of a response.
+     *
+     * @param response the response
+     * @return the delay it asks for in milliseconds (0 for a date in the past), or -1 if it is missing or malformed
+     */
+    static long getRetryAfterMillis(HttpResponse response) {
+        Map<String, String> headers = response.getHeaders();
+        if (headers == null) {
+            return -1;
+        }
+        String value = null;
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (RETRY_AFTER.equalsIgnoreCase(header.getKey())) {
+                value = header.getValue();
+                break;
+            }
+        }
+        if (value == null || value.trim().isEmpty()) {
+            return -1;
+        }
+        value = value.trim();
+        try {
+            long seconds = Long.parseLong(value);
+            return seconds < 0 ? -1 : TimeUnit.SECONDS.toMillis(seconds);
+        } catch (NumberFormatException e) {
+            // not delay-seconds, try an HTTP date
+        }
+        try {
+            Instant retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return Math.max(0, retryAt.toEpochMilli() - System.currentTimeMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+/**
+ * This is the exception thrown by HttpClient when a request is rejected by a client-side {@link RateLimiter} because
+ * no permit is available and the limiter is configured to fail rather than wait.
+ * <p>
+ * Thread safety: Exceptions are not thread safe.
+ */
+public class RateLimitExceededException extends HttpClientException {
+
+    /**
+     * The Constant serialVersionUID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor.
+     *
+     * @param message the message
+     */
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A token-bucket rate limiter which paces requests before they are sent, so that the per access token request budget
+ * of the Smartsheet API is not exceeded in the first place (rather than discovered through 4003 errors).
+ * <p>
+ * The bucket holds up to maxBurst permits and is refilled continuously at permitsPerMinute. Each attempt of a request,
+ * retries included, takes one permit. When the bucket is empty a caller either waits for its reserved permit (the
+ * default; waiters are served in arrival order and the rate stays smooth) or, if failWhenExhausted is set, gets a
+ * {@link RateLimitExceededException}.
+ * <p>
+ * One instance should be shared by every HttpClient that uses the same access token.
+ * <p>
+ * Thread Safety: This class is thread safe.
+ */
+public class RateLimiter {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final int permitsPerMinute;
+
+    private final int maxBurst;
+
+    private final LongSupplier nanoClock;
+
+    private volatile boolean failWhenExhausted;
+
+    /**
+     * The number of permits in the bucket; negative when permits have been reserved by waiting callers.
+     */
+    private double permits;
+
+    private long lastRefillNanos;
+
+    /**
+     * Constructor. The bucket starts full.
+     *
+     * @param permitsPerMinute the sustained number of requests allowed per minute
+     * @param maxBurst         the maximum number of requests which may be sent back to back
+     * @throws IllegalArgumentException if either argument is not positive
+     */
+    public RateLimiter(int permitsPerMinute, int maxBurst) {
+        this(permitsPerMinute, maxBurst, System::nanoTime);
+    }
+
+    RateLimiter(int permitsPerMinute, int maxBurst, LongSupplier nanoClock) {
+        if (permitsPerMinute <= 0 || maxBurst <= 0) {
+            throw new IllegalArgumentException("permitsPerMinute and maxBurst must be greater than zero");
+        }
+        this.permitsPerMinute = permitsPerMinute;
+        this.maxBurst = maxBurst;
+        this.nanoClock = nanoClock;
+        this.permits = maxBurst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Set whether a request fails with a RateLimitExceededException instead of waiting when no permit is available.
+     *
+     * @param failWhenExhausted true to fail rather than wait
+     * @return this rate limiter
+     */
+    public RateLimiter setFailWhenExhausted(boolean failWhenExhausted) {
+        this.failWhenExhausted = failWhenExhausted;
+        return this;
+    }
+
+    public boolean isFailWhenExhausted() {
+        return failWhenExhausted;
+    }
+
+    public int getPermitsPerMinute() {
+        return permitsPerMinute;
+    }
+
+    public int getMaxBurst() {
+        return maxBurst;
+    }
+
+    /**
+     * Get the number of permits which can currently be taken without waiting.
+     *
+     * @return the available permits
+     */
+    public synchronized int getAvailablePermits() {
+        refill();
+        return permits > 0 ? (int) permits : 0;
+    }
+
+    /**
+     * Get the number of permits reserved by callers which are still waiting for them.
+     *
+     * @return the reserved permits
+     */
+    public synchronized int getReservedPermits() {
+        refill();
+        return permits < 0 ? (int) Math.ceil(-permits) : 0;
+    }
+
+    /**
+     * Take a permit, waiting for one if the bucket is empty.
+     *
+     * @throws RateLimitExceededException if no permit is available and the limiter fails when exhausted
+     * @throws HttpClientException        if the calling thread is interrupted while waiting
+     */
+    public void acquire() throws HttpClientException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new HttpClientException("Interrupted while waiting for a rate limit permit", e);
+            }
+        }
+    }
+
+    /**
+     * Take a permit without blocking the calling thread. The returned future completes once the permit is available,
+     * or fails with a RateLimitExceededException if there is none and the limiter fails when exhausted.
+     *
+     * @return the future which completes when the permit is granted
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        long waitNanos;
+        try {
+            waitNanos = reserve();
+        } catch (RateLimitExceededException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (waitNanos <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Take a permit, reserving a future one if the bucket is empty.
+     *
+     * @return the nanoseconds until the permit may be used (zero if it is available now)
+     */
+    private synchronized long reserve() throws RateLimitExceededException {
+        refill();
+        if (permits < 1 && failWhenExhausted) {
+            throw new RateLimitExceededException("Rate limit of " + permitsPerMinute + " requests per minute exceeded");
+        }
+        permits -= 1;
+        if (permits >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-permits * NANOS_PER_MINUTE / permitsPerMinute);
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            permits = Math.min(maxBurst, permits + (double) elapsed * permitsPerMinute / NANOS_PER_MINUTE);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.internal.util.Util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A {@link StreamingHttpEntity.ContentSource} over a stream which can only be read once, e.g. an upload handed to the
+ * SDK as an InputStream. Unlike {@link SpillingBuffer}, which copies the whole stream before the request is sent, the
+ * first attempt reads the stream itself and what it reads is recorded on the way through: in memory up to the memory
+ * threshold, in a temporary file beyond it. A later attempt replays the recording and then carries on with whatever
+ * the stream has left, so the upload is never read ahead of the connection.
+ * <p>
+ * The source must be closed once the request is done with it, which closes the stream and deletes the temporary file.
+ * <p>
+ * Thread Safety: This class is not thread safe; the attempts of a request open it one after another.
+ */
+public final class RecordingSource implements StreamingHttpEntity.ContentSource, Closeable {
+
+    private final InputStream source;
+    private final int memoryThreshold;
+
+    private byte[] memory = new byte[0];
+    private int memorySize;
+    private Path file;
+    private OutputStream fileOut;
+    private long recorded;
+    private boolean exhausted;
+
+    /**
+     * Constructor which keeps up to {@link SpillingBuffer#DEFAULT_MEMORY_THRESHOLD} bytes of the recording in memory.
+     *
+     * @param source the stream, which is closed with this source
+     */
+    public RecordingSource(InputStream source) {
+        this(source, SpillingBuffer.DEFAULT_MEMORY_THRESHOLD);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param source          the stream, which is closed with this source
+     * @param memoryThreshold the largest part of the recording kept in memory
+     */
+    public RecordingSource(InputStream source, int memoryThreshold) {
+        this.source = Util.throwIfNull(source);
+        this.memoryThreshold = memoryThreshold;
+    }
+
+    /**
+     * Open a new stream positioned at the start of the content. Any stream opened before must no longer be read.
+     *
+     * @return the content stream, which the caller closes
+     * @throws IOException if the recording cannot be opened, e.g. because this source was closed
+     */
+    @Override
+    public InputStream open() throws IOException {
+        if (fileOut != null) {
+            fileOut.flush();
+        }
+        return new Replay();
+    }
+
+    /**
+     * Gets the number of bytes read from the stream so far.
+     *
+     * @return the size of the recording
+     */
+    public long recorded() {
+        return recorded;
+    }
+
+    /**
+     * Whether part of the recording was spilled to a temporary file.
+     *
+     * @return true if the recording is partly on disk
+     */
+    public boolean isSpilled() {
+        return file != null;
+    }
+
+    /**
+     * Close the stream and delete the temporary file, if any.
+     *
+     * @throws IOException if the stream cannot be closed or the file cannot be deleted
+     */
+    @Override
+    public void close() throws IOException {
+        try (InputStream in = source) {
+            if (fileOut != null) {
+                fileOut.close();
+            }
+        } finally {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private void record(byte[] b, int off, int len) throws IOException {
+        int inMemory = Math.min(len, memoryThreshold - memorySize);
+        if (inMemory > 0) {
+            if (memorySize + inMemory > memory.length) {
+                int capacity = Math.max(memorySize + inMemory, Math.min(memoryThreshold, Math.max(8192, memory.length * 2)));
+                memory = Arrays.copyOf(memory, capacity);
+            }
+            System.arraycopy(b, off, memory, memorySize, inMemory);
+            memorySize += inMemory;
+        }
+        if (len > inMemory) {
+            if (fileOut == null) {
+                file = Files.createTempFile("smartsheet-body", ".tmp");
+                fileOut = Files.newOutputStream(file);
+            }
+            fileOut.write(b, off + inMemory, len - inMemory);
+        }
+        recorded += len;
+    }
+
+    /**
+     * Reads the recording from the start, then continues with the stream and records what it reads.
+     */
+    private final class Replay extends InputStream {
+        private long position;
+        private InputStream spilled;
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (position < memorySize) {
+                int n = (int) Math.min(len, memorySize - position);
+                System.arraycopy(memory, (int) position, b, off, n);
+                position += n;
+                return n;
+            }
+            if (position < recorded) {
+                if (spilled == null) {
+                    spilled = Files.newInputStream(file);
+                }
+                int n = spilled.read(b, off, (int) Math.min(len, recorded - position));
+                if (n > 0) {
+                    position += n;
+                }
+                return n;
+            }
+            if (exhausted) {
+                return -1;
+            }
+            int n = source.read(b, off, len);
+            if (n == -1) {
+                exhausted = true;
+                return -1;
+            }
+            record(b, off, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (spilled != null) {
+                spilled.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A retry budget caps retries at a fraction of the requests made, so that a struggling API is not hit by a storm of
+ * retries on top of the regular traffic. Every request deposits {@code retryRatio} of a token and every retry withdraws
+ * a whole one; a small per-second reserve lets retries through while traffic is too low to have earned any.
+ * <p>
+ * {@link #processWide()} is shared by every client in the JVM which doesn't configure a budget of its own.
+ * <p>
+ * Thread Safety: This class is thread safe.
+ */
+public class RetryBudget {
+
+    /**
+     * Deposits are capped at what this many requests earn, so a long quiet period can't bank an unbounded burst.
+     */
+    private static final int DEPOSIT_WINDOW = 1000;
+
+    /**
+     * Balances are kept in millionths of a retry, so repeated deposits of e.g. 0.1 add up exactly.
+     */
+    private static final long UNIT = 1_000_000;
+
+    private static final RetryBudget PROCESS_WIDE = new RetryBudget(0.1, 1);
+
+    private final double retryRatio;
+    private final int minRetriesPerSecond;
+    private final long deposit;
+    private final long maxBalance;
+    private final LongSupplier nanoClock;
+
+    private long balance;
+    private long reserve;
+    private long lastRefillNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param retryRatio          the retries allowed per request, e.g. 0.1 for 10%
+     * @param minRetriesPerSecond retries allowed per second regardless of the ratio
+     * @throws IllegalArgumentException if retryRatio is negative or not finite, or minRetriesPerSecond is negative
+     */
+    public RetryBudget(double retryRatio, int minRetriesPerSecond) {
+        this(retryRatio, minRetriesPerSecond, System::nanoTime);
+    }
+
+    RetryBudget(double retryRatio, int minRetriesPerSecond, LongSupplier nanoClock) {
+        if (!(retryRatio >= 0) || Double.isInfinite(retryRatio)) {
+            throw new IllegalArgumentException("retryRatio must be a non-negative number");
+        }
+        if (minRetriesPerSecond < 0) {
+            throw new IllegalArgumentException("minRetriesPerSecond must not be negative");
+        }
+        this.retryRatio = retryRatio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.deposit = Math.round(retryRatio * UNIT);
+        this.maxBalance = Math.max(UNIT, deposit * DEPOSIT_WINDOW);
+        this.nanoClock = nanoClock;
+        this.reserve = minRetriesPerSecond * UNIT;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * The budget shared by the whole process: retries are limited to 10% of requests, plus one per second.
+     *
+     * @return the process-wide budget
+     */
+    public static RetryBudget processWide() {
+        return PROCESS_WIDE;
+    }
+
+    /**
+     * Record a request, earning {@code retryRatio} of a retry.
+     */
+    public synchronized void deposit() {
+        balance = Math.min(maxBalance, balance + deposit);
+    }
+
+    /**
+     * Take one retry out of the budget.
+     *
+     * @return true if the retry may proceed, false if the budget is exhausted
+     */
+    public synchronized boolean tryWithdraw() {
+        refillReserve();
+        if (balance >= UNIT) {
+            balance -= UNIT;
+            return true;
+        }
+        if (reserve >= UNIT) {
+            reserve -= UNIT;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of retries currently available.
+     *
+     * @return the available retries, rounded down
+     */
+    public synchronized int getAvailableRetries() {
+        refillReserve();
+        return (int) (balance / UNIT + reserve / UNIT);
+    }
+
+    public double getRetryRatio() {
+        return retryRatio;
+    }
+
+    public int getMinRetriesPerSecond() {
+        return minRetriesPerSecond;
+    }
+
+    private void refillReserve() {
+        long now = nanoClock.getAsLong();
+        double refill = (double) (now - lastRefillNanos) / TimeUnit.SECONDS.toNanos(1) * minRetriesPerSecond * UNIT;
+        reserve = (long) Math.min(minRetriesPerSecond * UNIT, reserve + refill);
+        lastRefillNanos = now;
+    }
+}
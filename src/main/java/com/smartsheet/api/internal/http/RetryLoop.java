@@ -0,0 +1,320 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The retry loop of one request on a blocking transport, i.e. the state carried from one attempt to the next, and the
+ * two ways of driving the attempts: {@link #run} on the calling thread and {@link #runAsync} on an executor.
+ * <p>
+ * An attempt either returns the final response, or asks for another attempt with {@link #retryAfter} or
+ * {@link #retryNow} and returns null, having closed the failed response first so that no connection is held while
+ * waiting. The asynchronous loop waits on the JDK's shared delay scheduler rather than in a sleeping thread, so any
+ * number of requests can back off at once without occupying the executor. It also waits for rate limiter and
+ * concurrency limiter permits before handing an attempt to the executor, so the executor's threads never block on a
+ * limiter either.
+ * <p>
+ * Thread Safety: This class is not thread safe; its attempts run one after another, never concurrently.
+ */
+final class RetryLoop {
+
+    /**
+     * Performs one attempt of a request.
+     */
+    @FunctionalInterface
+    interface Attempt {
+        /**
+         * Send the request once.
+         *
+         * @param retry the retry loop of the request
+         * @return the final response, or null to attempt again after the backoff set on the loop
+         * @throws HttpClientException if the request failed and must not be retried
+         */
+        HttpResponse send(RetryLoop retry) throws HttpClientException;
+    }
+
+    private final HttpRequest request;
+    private final InputStream bodyStream;
+    private final boolean canRetryRequest;
+    private SpillingBuffer spillingBuffer;
+
+    /**
+     * The request entity sent from the spilling buffer, once a streaming entity of unknown length was buffered.
+     */
+    private StreamingHttpEntity bufferedEntity;
+    private final long start = System.currentTimeMillis();
+
+    private int attempts;
+    private long previousBackoffMillis;
+    private long backoffMillis;
+
+    /**
+     * The concurrency limiter which granted the current attempt its permit in advance, null if none did.
+     */
+    private AdaptiveConcurrencyLimiter permitLimiter;
+
+    /**
+     * Constructor. The retry logic will consume the body stream, so a stream which does not support mark/reset is
+     * copied into a {@link SpillingBuffer}, which keeps a large body on disk rather than on the heap, and the request
+     * entity is replaced by one which re-opens that copy for every attempt. A {@link StreamingHttpEntity} needs no such
+     * copy since it can write its content again; one of unknown length is buffered by {@link #bufferContent} instead.
+     *
+     * @param request the request
+     */
+    RetryLoop(HttpRequest request) {
+        this.request = request;
+        InputStream body = null;
+        SpillingBuffer buffer = null;
+        if (request.getEntity() instanceof StreamingHttpEntity) {
+            // the content is written afresh for every attempt
+            this.bodyStream = null;
+            this.canRetryRequest = true;
+            this.spillingBuffer = null;
+            return;
+        }
+        if (request.getEntity() != null && request.getEntity().getContent() != null) {
+            body = request.getEntity().getContent();
+        }
+        boolean canRetry = body == null || body.markSupported();
+        if (!canRetry) {
+            try {
+                // copy the body stream (closing it) and send that copy instead
+                buffer = SpillingBuffer.of(body);
+                request.setEntity(StreamingHttpEntity.ofSource(request.getEntity().getContentType(), buffer.size(),
+                        buffer::openStream));
+                body = null;
+                canRetry = true;
+            } catch (IOException ignore) {
+            }
+        }
+        this.bodyStream = body;
+        this.canRetryRequest = canRetry;
+        this.spillingBuffer = buffer;
+    }
+
+    HttpRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Gets the request body, which supports mark/reset if {@link #canRetryRequest()}.
+     *
+     * @return the body stream, or null if the request has none
+     */
+    InputStream getBodyStream() {
+        return bodyStream;
+    }
+
+    boolean canRetryRequest() {
+        return canRetryRequest;
+    }
+
+    /**
+     * Gets a streaming entity of unknown length as an entity of known length, writing its content into a
+     * {@link SpillingBuffer} on the first call. Every attempt then sends the same copy with a Content-Length, and the
+     * copy is deleted once the loop is done.
+     *
+     * @param entity the request entity
+     * @return an entity which re-opens the buffered content for every attempt
+     * @throws IOException if the content cannot be written
+     */
+    StreamingHttpEntity bufferContent(StreamingHttpEntity entity) throws IOException {
+        if (bufferedEntity == null) {
+            spillingBuffer = entity.buffer();
+            bufferedEntity = StreamingHttpEntity.ofSource(entity.getContentType(), spillingBuffer.size(),
+                    spillingBuffer::openStream);
+        }
+        return bufferedEntity;
+    }
+
+    /**
+     * Count a failed attempt.
+     *
+     * @return the number of attempts so far, including this one
+     */
+    int countAttempt() {
+        return ++attempts;
+    }
+
+    long getElapsedMillis() {
+        return System.currentTimeMillis() - start;
+    }
+
+    /**
+     * Gets the backoff which preceded the current attempt.
+     *
+     * @return the backoff in milliseconds, or 0 before the first retry
+     */
+    long getPreviousBackoffMillis() {
+        return previousBackoffMillis;
+    }
+
+    /**
+     * Take over the concurrency permit which {@link #runAsync} acquired for the current attempt, if any; the caller
+     * then returns it to the limiter once the response arrives.
+     *
+     * @return the limiter the permit was taken from, or null if the attempt has no permit yet
+     */
+    AdaptiveConcurrencyLimiter takeConcurrencyPermit() {
+        AdaptiveConcurrencyLimiter limiter = permitLimiter;
+        permitLimiter = null;
+        return limiter;
+    }
+
+    /**
+     * Attempt the request again once the backoff has elapsed.
+     *
+     * @param backoffMillis the backoff in milliseconds
+     */
+    void retryAfter(long backoffMillis) {
+        this.backoffMillis = backoffMillis;
+        this.previousBackoffMillis = backoffMillis;
+    }
+
+    /**
+     * Attempt the request again straight away, e.g. after a connection level failure.
+     */
+    void retryNow() {
+        this.backoffMillis = 0;
+    }
+
+    /**
+     * Run the attempts on the calling thread, sleeping in between.
+     *
+     * @param rateLimiter the rate limiter every attempt takes a permit from, or null
+     * @param attempt     the attempt
+     * @return the final response
+     * @throws HttpClientException if an attempt failed, or the thread was interrupted while waiting to retry
+     */
+    HttpResponse run(RateLimiter rateLimiter, Attempt attempt) throws HttpClientException {
+        try {
+            return sendAll(rateLimiter, attempt);
+        } finally {
+            releaseBuffer();
+        }
+    }
+
+    private HttpResponse sendAll(RateLimiter rateLimiter, Attempt attempt) throws HttpClientException {
+        while (true) {
+            // wait for (or fail without) a permit from the client-side rate limiter
+            if (rateLimiter != null) {
+                rateLimiter.acquire();
+            }
+            HttpResponse response = attempt.send(this);
+            if (response != null) {
+                return response;
+            }
+            if (backoffMillis > 0) {
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new HttpClientException("Interrupted while waiting to retry the request", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Run the attempts on the executor. Neither the backoff nor the wait for a rate limiter or concurrency limiter
+     * permit holds a thread. The concurrency permit is handed to the attempt through {@link #takeConcurrencyPermit()};
+     * if the attempt does not take it, it is returned without a sample.
+     *
+     * @param rateLimiter        the rate limiter every attempt takes a permit from, or null
+     * @param concurrencyLimiter the concurrency limiter every attempt takes a permit from, or null
+     * @param executor           the executor which runs the attempts
+     * @param attempt            the attempt
+     * @return the future final response; cancelling it stops any further attempts
+     */
+    CompletableFuture<HttpResponse> runAsync(RateLimiter rateLimiter, AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                             Executor executor, Attempt attempt) {
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        result.whenComplete((response, throwable) -> releaseBuffer());
+        sendAsync(rateLimiter, concurrencyLimiter, executor, attempt, result);
+        return result;
+    }
+
+    /**
+     * Delete the spilled copy of the body, if any, once no further attempt will read it.
+     */
+    private void releaseBuffer() {
+        if (spillingBuffer != null) {
+            try {
+                spillingBuffer.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    private void sendAsync(RateLimiter rateLimiter, AdaptiveConcurrencyLimiter concurrencyLimiter, Executor executor,
+                           Attempt attempt, CompletableFuture<HttpResponse> result) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<Void> permit = rateLimiter == null ? CompletableFuture.completedFuture(null) : rateLimiter.acquireAsync();
+        if (concurrencyLimiter != null) {
+            permit = permit.thenCompose(granted -> concurrencyLimiter.acquireAsync())
+                    .thenRun(() -> permitLimiter = concurrencyLimiter);
+        }
+        permit.thenRunAsync(() -> {
+            HttpResponse response = null;
+            HttpClientException failure = null;
+            try {
+                response = attempt.send(this);
+            } catch (HttpClientException e) {
+                failure = e;
+            } finally {
+                // returned before the result completes, so whoever waits on it sees the permit back
+                releaseUnusedPermit();
+            }
+            if (failure != null) {
+                result.completeExceptionally(failure);
+                return;
+            }
+            if (response != null) {
+                if (!result.complete(response)) {
+                    response.close();
+                }
+                return;
+            }
+            if (backoffMillis > 0) {
+                // the next attempt is handed to the executor by sendAsync, so a rejection still fails the result
+                CompletableFuture.delayedExecutor(backoffMillis, TimeUnit.MILLISECONDS)
+                        .execute(() -> sendAsync(rateLimiter, concurrencyLimiter, executor, attempt, result));
+            } else {
+                sendAsync(rateLimiter, concurrencyLimiter, executor, attempt, result);
+            }
+        }, executor).exceptionally(throwable -> {
+            // e.g. the executor rejected the attempt, which then never took its permit
+            releaseUnusedPermit();
+            result.completeExceptionally(throwable instanceof CompletionException ? throwable.getCause() : throwable);
+            return null;
+        });
+    }
+
+    private void releaseUnusedPermit() {
+        AdaptiveConcurrencyLimiter limiter = takeConcurrencyPermit();
+        if (limiter != null) {
+            limiter.releaseWithoutSample();
+        }
+    }
+}
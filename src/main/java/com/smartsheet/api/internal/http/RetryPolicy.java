@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.models.Error;
+
+/**
+ * Decides whether a failed request is retried, and after how long. Set one on an HttpClient to replace its built-in
+ * exponential backoff; {@link JitterRetryPolicy} is the provided implementation.
+ * <p>
+ * Thread Safety: Implementation of this interface must be thread safe, since one instance serves every request of a
+ * client.
+ */
+public interface RetryPolicy {
+
+    /**
+     * Returned by {@link #getBackoffMillis} when the request must not be retried.
+     */
+    long NO_RETRY = -1;
+
+    /**
+     * Called once for every request before its first attempt, e.g. to fund a retry budget.
+     */
+    default void onRequest() {
+    }
+
+    /**
+     * Decide whether to retry a request which failed with an error response.
+     *
+     * @param previousAttempts         number of attempts (including this one) to execute the request
+     * @param previousBackoffMillis    the backoff before the failed attempt, or 0 if it was the first one
+     * @param remainingRetryTimeMillis how much of the client's max retry time is left; a longer backoff must not be used
+     * @param response                 the failed response (its headers may be inspected, its content was already read)
+     * @param error                    the error deserialized from the response
+     * @return the backoff in milliseconds, or {@link #NO_RETRY}
+     */
+    long getBackoffMillis(int previousAttempts, long previousBackoffMillis, long remainingRetryTimeMillis,
+                          HttpResponse response, Error error);
+
+    /**
+     * Whether the error is one of those Smartsheet documents as transient and safe to retry.
+     *
+     * @param error the error
+     * @return true for 4001 (maintenance), 4002 (server timeout), 4003 (rate limit) and 4004 (unexpected error)
+     */
+    static boolean isRetryable(Error error) {
+        Integer errorCode = error.getErrorCode();
+        return errorCode != null && errorCode >= 4001 && errorCode <= 4004;
+    }
+}
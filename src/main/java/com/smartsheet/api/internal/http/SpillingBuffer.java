@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.internal.util.StreamUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A replayable copy of a body stream which can only be read once, e.g. an upload handed to the SDK as an InputStream.
+ * Small content is kept in memory; anything larger than the memory threshold is spilled to a temporary file, so a
+ * request can be retried without holding a large upload on the heap.
+ * <p>
+ * The buffer must be closed once the request is done with it, which deletes the temporary file.
+ * <p>
+ * Thread Safety: This class is thread safe; streams opened from it are not.
+ */
+public final class SpillingBuffer implements Closeable {
+
+    /**
+     * The largest content kept in memory by {@link #of(InputStream)}.
+     */
+    public static final int DEFAULT_MEMORY_THRESHOLD = StreamUtil.ONE_MB;
+
+    private final byte[] memory;
+    private final Path file;
+    private final long size;
+
+    private SpillingBuffer(byte[] memory, Path file, long size) {
+        this.memory = memory;
+        this.file = file;
+        this.size = size;
+    }
+
+    /**
+     * Read a stream to its end into a buffer, keeping up to {@link #DEFAULT_MEMORY_THRESHOLD} bytes in memory.
+     *
+     * @param source the stream, which is closed
+     * @return the buffer
+     * @throws IOException if the stream cannot be read or the temporary file cannot be written
+     */
+    public static SpillingBuffer of(InputStream source) throws IOException {
+        return of(source, DEFAULT_MEMORY_THRESHOLD);
+    }
+
+    /**
+     * Read a stream to its end into a buffer.
+     *
+     * @param source          the stream, which is closed
+     * @param memoryThreshold the largest content kept in memory
+     * @return the buffer
+     * @throws IOException if the stream cannot be read or the temporary file cannot be written
+     */
+    public static SpillingBuffer of(InputStream source, int memoryThreshold) throws IOException {
+        try (InputStream in = source) {
+            return of(in::transferTo, memoryThreshold);
+        }
+    }
+
+    /**
+     * Write content into a buffer in a single pass. It is kept in memory until it grows beyond the memory threshold, and
+     * moved to a temporary file, which the writer then continues, once it does.
+     *
+     * @param writer          the writer which produces the content
+     * @param memoryThreshold the largest content kept in memory
+     * @return the buffer
+     * @throws IOException if the writer fails or the temporary file cannot be written
+     */
+    public static SpillingBuffer of(StreamingHttpEntity.ContentWriter writer, int memoryThreshold) throws IOException {
+        SpillingOutputStream out = new SpillingOutputStream(memoryThreshold);
+        try {
+            writer.writeTo(out);
+            out.close();
+        } catch (IOException | RuntimeException e) {
+            out.discard();
+            throw e;
+        }
+        return out.file == null ? new SpillingBuffer(out.memory.toByteArray(), null, out.size)
+                : new SpillingBuffer(null, out.file, out.size);
+    }
+
+    /**
+     * Gets the size of the content.
+     *
+     * @return the size in bytes
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Whether the content was spilled to a temporary file.
+     *
+     * @return true if the content is on disk
+     */
+    public boolean isSpilled() {
+        return file != null;
+    }
+
+    /**
+     * Open a new stream positioned at the start of the content.
+     *
+     * @return the content stream, which the caller closes
+     * @throws IOException if the temporary file cannot be opened, e.g. because the buffer was closed
+     */
+    public InputStream openStream() throws IOException {
+        return file == null ? new ByteArrayInputStream(memory) : Files.newInputStream(file);
+    }
+
+    /**
+     * Delete the temporary file, if any.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    @Override
+    public void close() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Keeps what is written in memory until it exceeds the memory threshold, then moves it to a temporary file and
+     * writes everything after it there.
+     */
+    private static final class SpillingOutputStream extends OutputStream {
+        private final ByteArrayOutputStream memory = new ByteArrayOutputStream();
+        private final int memoryThreshold;
+        private Path file;
+        private OutputStream fileOut;
+        private long size;
+
+        SpillingOutputStream(int memoryThreshold) {
+            this.memoryThreshold = memoryThreshold;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (fileOut == null) {
+                if (len <= memoryThreshold - memory.size()) {
+                    memory.write(b, off, len);
+                    size += len;
+                    return;
+                }
+                file = Files.createTempFile("smartsheet-body", ".tmp");
+                fileOut = Files.newOutputStream(file);
+                memory.writeTo(fileOut);
+                memory.reset();
+            }
+            fileOut.write(b, off, len);
+            size += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (fileOut != null) {
+                fileOut.close();
+            }
+        }
+
+        void discard() throws IOException {
+            try {
+                close();
+            } finally {
+                if (file != null) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
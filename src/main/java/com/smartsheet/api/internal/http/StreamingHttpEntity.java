@@ -0,0 +1,331 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.internal.util.Util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * An HttpEntity whose content is produced by a {@link ContentWriter} while the request is sent, e.g. an object
+ * serialized straight to the connection rather than into an intermediate buffer, or by a {@link ContentSource} which
+ * re-opens its data, e.g. a file. Either can run any number of times, so a retry replays the content without a copy
+ * being kept.
+ * <p>
+ * Content of a known length is streamed with that Content-Length. Otherwise transports write the content once into a
+ * {@link SpillingBuffer}, which keeps up to {@link #BUFFER_THRESHOLD} bytes in memory and the rest in a temporary file,
+ * and send it from there with a Content-Length, unless the entity was created with {@link #streamed} to be sent with
+ * chunked transfer encoding instead. Code which is not aware of this class reads it through {@link #getContent()},
+ * which opens the source, or writes the whole content into memory once.
+ * <p>
+ * Thread Safety: This class is not thread safe since it's mutable.
+ */
+public class StreamingHttpEntity extends HttpEntity {
+
+    /**
+     * The largest content of unknown length a transport keeps in memory; larger content is buffered in a file.
+     */
+    public static final int BUFFER_THRESHOLD = 256 * 1024;
+
+    /**
+     * Writes the content of a StreamingHttpEntity.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Write the content. The output stream must not be closed.
+         *
+         * @param outputStream the output stream
+         * @throws IOException if the content cannot be written
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Opens the content of a StreamingHttpEntity.
+     */
+    @FunctionalInterface
+    public interface ContentSource {
+        /**
+         * Open a new stream positioned at the start of the content.
+         *
+         * @return the content stream, which the caller closes
+         * @throws IOException if the content cannot be opened
+         */
+        InputStream open() throws IOException;
+    }
+
+    private final ContentWriter writer;
+
+    /**
+     * The source of the content, or null if it is only produced by the writer.
+     */
+    private final ContentSource source;
+
+    /**
+     * The file holding the content, or null if the content is not a file.
+     */
+    private final Path file;
+
+    /**
+     * Whether content of unknown length is sent as it is written rather than buffered first.
+     */
+    private final boolean streamed;
+
+    /**
+     * Constructor for content of unknown length.
+     *
+     * @param contentType the content type
+     * @param writer      the writer which produces the content
+     */
+    public StreamingHttpEntity(String contentType, ContentWriter writer) {
+        this(contentType, -1, writer, null, null, false);
+    }
+
+    /**
+     * Constructor for content of known length, e.g. a multipart body whose parts all have a known length.
+     *
+     * @param contentType   the content type
+     * @param contentLength the content length
+     * @param writer        the writer which produces the content
+     */
+    public StreamingHttpEntity(String contentType, long contentLength, ContentWriter writer) {
+        this(contentType, contentLength, writer, null, null, false);
+    }
+
+    private StreamingHttpEntity(String contentType, long contentLength, ContentWriter writer, ContentSource source, Path file,
+                                boolean streamed) {
+        this.writer = Util.throwIfNull(writer);
+        this.source = source;
+        this.file = file;
+        this.streamed = streamed;
+        setContentType(contentType);
+        setContentLength(contentLength);
+    }
+
+    /**
+     * Create an entity which opens its content from a source, e.g. a file, for every attempt.
+     *
+     * @param contentType   the content type
+     * @param contentLength the content length
+     * @param source        the source of the content
+     * @return the entity
+     */
+    public static StreamingHttpEntity ofSource(String contentType, long contentLength, ContentSource source) {
+        Util.throwIfNull(source);
+        return new StreamingHttpEntity(contentType, contentLength, outputStream -> {
+            try (InputStream content = source.open()) {
+                content.transferTo(outputStream);
+            }
+        }, source, null, false);
+    }
+
+    /**
+     * Create an entity which sends a file, re-opening it for every attempt. Transports which can send a file directly
+     * (see {@link #getFile()}) do so instead of copying it through the entity's streams.
+     *
+     * @param contentType   the content type
+     * @param file          the file
+     * @param contentLength the size of the file
+     * @return the entity
+     */
+    public static StreamingHttpEntity ofFile(String contentType, Path file, long contentLength) {
+        Util.throwIfNull(file);
+        return new StreamingHttpEntity(contentType, contentLength, outputStream -> Files.copy(file, outputStream),
+                () -> Files.newInputStream(file), file, false);
+    }
+
+    /**
+     * Create an entity of unknown length which transports send with chunked transfer encoding while it is written,
+     * rather than buffer to learn its length, e.g. an upload read from a stream which must not be copied ahead of the
+     * connection.
+     *
+     * @param contentType the content type
+     * @param writer      the writer which produces the content
+     * @return the entity
+     */
+    public static StreamingHttpEntity streamed(String contentType, ContentWriter writer) {
+        return new StreamingHttpEntity(contentType, -1, writer, null, null, true);
+    }
+
+    /**
+     * Gets the file holding the content.
+     *
+     * @return the file, or null if the content is not a file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Whether content of unknown length is sent while it is written, with chunked transfer encoding, rather than
+     * buffered first.
+     *
+     * @return true if the entity was created with {@link #streamed}
+     */
+    public boolean isStreamed() {
+        return streamed;
+    }
+
+    /**
+     * Write the content into a buffer in a single pass, e.g. to send content of unknown length with a Content-Length.
+     *
+     * @return the buffer, which the caller closes
+     * @throws IOException if the content cannot be written
+     */
+    public SpillingBuffer buffer() throws IOException {
+        return SpillingBuffer.of(this::writeTo, BUFFER_THRESHOLD);
+    }
+
+    /**
+     * Write the content to an output stream, which is left open.
+     *
+     * @param outputStream the output stream
+     * @throws IOException if the content cannot be written
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        writer.writeTo(new FilterOutputStream(outputStream) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                // serializers close their target when done; the connection's stream is not theirs to close
+                flush();
+            }
+        });
+    }
+
+    /**
+     * Write the content into memory if it is not longer than maxBytes.
+     *
+     * @param maxBytes the maximum length to buffer
+     * @return the content, or null if it is longer than maxBytes
+     * @throws IOException if the content cannot be written
+     */
+    public byte[] toByteArray(int maxBytes) throws IOException {
+        BoundedBuffer buffer = new BoundedBuffer(maxBytes);
+        return buffer.writeFrom(this) ? buffer.toByteArray() : null;
+    }
+
+    /**
+     * Write at most the first maxBytes of the content into memory, e.g. for logging.
+     *
+     * @param maxBytes the maximum length to buffer
+     * @return the beginning of the content
+     * @throws IOException if the content cannot be written
+     */
+    public byte[] preview(int maxBytes) throws IOException {
+        BoundedBuffer buffer = new BoundedBuffer(maxBytes);
+        buffer.writeFrom(this);
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Open a new stream over the content: the source's if there is one, otherwise the content written into memory.
+     *
+     * @return the content stream
+     * @throws IOException if the content cannot be opened or written
+     */
+    public InputStream openContent() throws IOException {
+        if (source != null) {
+            return source.open();
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        writeTo(buffer);
+        setContentLength(buffer.size());
+        return new ByteArrayInputStream(buffer.toByteArray());
+    }
+
+    /**
+     * Gets the content, opening it on first use.
+     *
+     * @return the content
+     * @throws UncheckedIOException if the content cannot be opened or written
+     */
+    @Override
+    public InputStream getContent() {
+        InputStream content = super.getContent();
+        if (content == null) {
+            try {
+                content = openContent();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            setContent(content);
+        }
+        return content;
+    }
+
+    /**
+     * A buffer which keeps the first maxBytes written to it and then aborts the writer.
+     */
+    private static class BoundedBuffer extends OutputStream {
+        private final ByteArrayOutputStream buffer;
+        private final int maxBytes;
+        private boolean exceeded;
+
+        BoundedBuffer(int maxBytes) {
+            this.buffer = new ByteArrayOutputStream(Math.min(maxBytes, 8192));
+            this.maxBytes = maxBytes;
+        }
+
+        /**
+         * @return true if the whole content fit in the buffer
+         */
+        boolean writeFrom(StreamingHttpEntity entity) throws IOException {
+            try {
+                entity.writeTo(this);
+                return true;
+            } catch (IOException | RuntimeException e) {
+                // serializers may wrap the abort in their own exception
+                if (exceeded) {
+                    return false;
+                }
+                throw e;
+            }
+        }
+
+        byte[] toByteArray() {
+            return buffer.toByteArray();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            int remaining = maxBytes - buffer.size();
+            buffer.write(b, off, Math.min(len, remaining));
+            if (len > remaining) {
+                exceeded = true;
+                throw new IOException("content exceeds buffer limit of " + maxBytes + " bytes");
+            }
+        }
+    }
+}
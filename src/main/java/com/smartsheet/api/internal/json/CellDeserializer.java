@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Cell deserializer which, when the reader carries a {@link #PROPERTIES_ATTRIBUTE} attribute, only binds the named
+ * properties and skips the others at the token level, so their values (formats, hyperlinks, images...) are never
+ * built.
+ * <p>
+ * Without the attribute everything is passed along to the default deserializer.
+ */
+public class CellDeserializer extends DelegatingDeserializer {
+
+    /**
+     * The reader attribute holding the Set of JSON property names to bind.
+     */
+    public static final String PROPERTIES_ATTRIBUTE = CellDeserializer.class.getName() + ".properties";
+
+    /**
+     * Constructor
+     */
+    public CellDeserializer(JsonDeserializer<?> defaultDeserializer) {
+        super(defaultDeserializer);
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+        return new CellDeserializer(newDelegatee);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Set<String> properties = (Set<String>) ctxt.getAttribute(PROPERTIES_ATTRIBUTE);
+        JsonToken token = p.currentToken();
+        if (properties == null || !(_delegatee instanceof BeanDeserializerBase)
+                || (token != JsonToken.START_OBJECT && token != JsonToken.FIELD_NAME)) {
+            return _delegatee.deserialize(p, ctxt);
+        }
+
+        BeanDeserializerBase beanDeserializer = (BeanDeserializerBase) _delegatee;
+        Object cell = beanDeserializer.getValueInstantiator().createUsingDefault(ctxt);
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        }
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.getCurrentName();
+            p.nextToken();
+            SettableBeanProperty property = properties.contains(name) ? beanDeserializer.findProperty(name) : null;
+            if (property == null) {
+                p.skipChildren();
+            } else {
+                property.deserializeAndSet(p, ctxt, cell);
+            }
+        }
+        return cell;
+    }
+}
@@ -23,12 +23,43 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.smartsheet.api.models.format.Format;
 
 import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Deserializes format strings into Format objects. A sheet typically uses a few dozen distinct formats across all of
+ * its cells, rows and columns, so each distinct format string is parsed once and the resulting Format is shared. This
+ * is safe because a Format cannot be modified; a changed format is built from a copy with
+ * {@link Format.FormatBuilder#withFormat(Format)}.
+ * <p>
+ * The cache holds at most {@link #MAX_CACHED_FORMATS} format strings; formats beyond that are created per value.
+ */
 public class FormatDeserializer extends JsonDeserializer<Format> {
 
+    /**
+     * The maximum number of distinct format strings whose Format is shared.
+     */
+    static final int MAX_CACHED_FORMATS = 1024;
+
+    private static final ConcurrentMap<String, Format> FORMATS = new ConcurrentHashMap<>();
+
     @Override
     public Format deserialize(JsonParser jsonParser, DeserializationContext ctx) throws IOException, JsonProcessingException {
-        return new Format(jsonParser.getValueAsString());
+        String original = jsonParser.getValueAsString();
+        if (original == null) {
+            return new Format(original);
+        }
+        Format format = FORMATS.get(original);
+        if (format == null) {
+            format = new Format(original);
+            if (FORMATS.size() < MAX_CACHED_FORMATS) {
+                Format cached = FORMATS.putIfAbsent(original, format);
+                if (cached != null) {
+                    format = cached;
+                }
+            }
+        }
+        return format;
     }
 
 }
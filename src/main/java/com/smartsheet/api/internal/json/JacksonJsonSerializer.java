@@ -19,13 +19,19 @@ package com.smartsheet.api.internal.json;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.Version;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.smartsheet.api.internal.util.Util;
 import com.smartsheet.api.models.BulkItemResult;
 import com.smartsheet.api.models.CopyOrMoveRowResult;
@@ -39,14 +45,22 @@ import com.smartsheet.api.models.PrimitiveObjectValue;
 import com.smartsheet.api.models.Recipient;
 import com.smartsheet.api.models.Result;
 import com.smartsheet.api.models.WidgetContent;
+import com.smartsheet.api.models.enums.CellProperty;
 import com.smartsheet.api.models.format.Format;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.SimpleDateFormat;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 
 /**
  * This is the Jackson based JsonSerializer implementation.
@@ -65,6 +79,18 @@ public class JacksonJsonSerializer implements JsonSerializer {
      */
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+    /**
+     * ObjectReaders built from OBJECT_MAPPER, per wrapper (e.g. Result) and per class of the wrapped object. A reader
+     * holds its resolved type and root deserializer, so reading through it skips the type construction and lookup
+     * that OBJECT_MAPPER.readValue does on every call.
+     */
+    private static final Map<Wrapper, ConcurrentMap<Class<?>, ObjectReader>> READERS = new EnumMap<>(Wrapper.class);
+
+    /**
+     * ObjectWriters built from OBJECT_MAPPER, per class of the object written (e.g. ArrayList for a list of rows).
+     */
+    private static final ConcurrentMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
     static {
         // Allow deserialization if there are properties that can't be deserialized
         OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
@@ -114,9 +140,17 @@ public class JacksonJsonSerializer implements JsonSerializer {
         module.setSerializerModifier(new CellSerializerModifier());
         OBJECT_MAPPER.registerModule(module);
 
+        module = new SimpleModule("CellDeserializerModule", Version.unknownVersion());
+        module.setDeserializerModifier(new CellDeserializerModifier());
+        OBJECT_MAPPER.registerModule(module);
+
         module = new SimpleModule("ErrorDetailDeserializerModule", Version.unknownVersion());
         module.addDeserializer(com.smartsheet.api.models.Error.class, new ErrorDeserializer());
         OBJECT_MAPPER.registerModule(module);
+
+        for (Wrapper wrapper : Wrapper.values()) {
+            READERS.put(wrapper, new ConcurrentHashMap<>());
+        }
     }
 
     /**
@@ -126,6 +160,11 @@ public class JacksonJsonSerializer implements JsonSerializer {
      */
     public static void setFailOnUnknownProperties(boolean value) {
         OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, value);
+        // readers and writers keep the configuration they were built with
+        for (ConcurrentMap<Class<?>, ObjectReader> readers : READERS.values()) {
+            readers.clear();
+        }
+        WRITERS.clear();
     }
 
     /**
@@ -159,7 +198,7 @@ public class JacksonJsonSerializer implements JsonSerializer {
         Util.throwIfNull(object, outputStream);
 
         try {
-            OBJECT_MAPPER.writeValue(outputStream, object);
+            writer(object).writeValue(outputStream, object);
         } catch (JsonGenerationException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -190,7 +229,7 @@ public class JacksonJsonSerializer implements JsonSerializer {
         String value;
 
         try {
-            value = OBJECT_MAPPER.writeValueAsString(object);
+            value = writer(object).writeValueAsString(object);
         } catch (JsonGenerationException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -217,7 +256,28 @@ public class JacksonJsonSerializer implements JsonSerializer {
     public <T> T deserialize(Class<T> objectClass, java.io.InputStream inputStream) throws IOException {
         Util.throwIfNull(objectClass, inputStream);
 
-        return OBJECT_MAPPER.readValue(inputStream, objectClass);
+        return reader(Wrapper.NONE, objectClass).readValue(inputStream);
+    }
+
+    /**
+     * De-serialize an object from JSON, reading only some of the properties of the cells it contains.
+     * <p>
+     * Returns: the de-serialized object
+     * <p>
+     * Exceptions:
+     * - IllegalArgumentException : if any argument is null
+     * - JSONSerializerException : if there is any other error occurred during the operation
+     *
+     * @param inputStream    the input stream from which the JSON will be read
+     * @param objectClass    the class of the object to de-serialize
+     * @param cellProperties the cell properties to read, or null to read them all
+     */
+    @Override
+    public <T> T deserialize(Class<T> objectClass, java.io.InputStream inputStream, EnumSet<CellProperty> cellProperties)
+            throws IOException {
+        Util.throwIfNull(objectClass, inputStream);
+
+        return reader(Wrapper.NONE, objectClass, cellProperties).readValue(inputStream);
     }
 
     /**
@@ -241,8 +301,7 @@ public class JacksonJsonSerializer implements JsonSerializer {
 
         try {
             // Read the json input stream into a List.
-            list = OBJECT_MAPPER.readValue(inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, objectClass));
+            list = reader(Wrapper.LIST, objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -268,12 +327,7 @@ public class JacksonJsonSerializer implements JsonSerializer {
 
         try {
             // Read the json input stream into a List.
-            rw = OBJECT_MAPPER.readValue(
-                    inputStream,
-                    OBJECT_MAPPER
-                            .getTypeFactory()
-                            .constructParametrizedType(PagedResult.class, PagedResult.class, objectClass)
-            );
+            rw = reader(Wrapper.PAGED_RESULT, objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -295,8 +349,7 @@ public class JacksonJsonSerializer implements JsonSerializer {
         Map<String, Object> map = null;
 
         try {
-            map = OBJECT_MAPPER.readValue(inputStream, new TypeReference<Map<String, Object>>() {
-            });
+            map = reader(Wrapper.MAP, Object.class).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -327,8 +380,7 @@ public class JacksonJsonSerializer implements JsonSerializer {
         Result<T> result = null;
 
         try {
-            result = OBJECT_MAPPER.readValue(inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructParametrizedType(Result.class, Result.class, objectClass));
+            result = reader(Wrapper.RESULT, objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -362,10 +414,7 @@ public class JacksonJsonSerializer implements JsonSerializer {
         Result<List<T>> result = null;
 
         try {
-            result = OBJECT_MAPPER.readValue(
-                    inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructParametrizedType(Result.class, Result.class,
-                            OBJECT_MAPPER.getTypeFactory().constructParametrizedType(List.class, List.class, objectClass)));
+            result = reader(Wrapper.LIST_RESULT, objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -381,8 +430,7 @@ public class JacksonJsonSerializer implements JsonSerializer {
             throws JSONSerializerException {
         BulkItemResult<T> result = null;
         try {
-            result = OBJECT_MAPPER.readValue(inputStream,
-                    OBJECT_MAPPER.getTypeFactory().constructParametrizedType(BulkItemResult.class, BulkItemResult.class, objectClass));
+            result = reader(Wrapper.BULK_ITEM_RESULT, objectClass).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -406,7 +454,7 @@ public class JacksonJsonSerializer implements JsonSerializer {
 
         try {
             // Read the json input stream into a List.
-            rw = OBJECT_MAPPER.readValue(inputStream, CopyOrMoveRowResult.class);
+            rw = reader(Wrapper.NONE, CopyOrMoveRowResult.class).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -429,7 +477,7 @@ public class JacksonJsonSerializer implements JsonSerializer {
 
         try {
             // Read the json input stream into a List.
-            rw = OBJECT_MAPPER.readValue(inputStream, EventResult.class);
+            rw = reader(Wrapper.NONE, EventResult.class).readValue(inputStream);
         } catch (JsonParseException e) {
             throw new JSONSerializerException(e);
         } catch (JsonMappingException e) {
@@ -440,4 +488,148 @@ public class JacksonJsonSerializer implements JsonSerializer {
 
         return rw;
     }
+
+    /**
+     * De-serialize an object from JSON, streaming the elements of one of its array properties to a consumer.
+     * <p>
+     * The properties around the array are buffered as tokens and bound once the array starts (those before it) and
+     * once the object ends (those after it); each element is bound straight from the parser and then dropped.
+     */
+    @Override
+    public <T, E> T deserializeStreaming(Class<T> objectClass, String arrayProperty, Class<E> elementClass,
+                                         java.io.InputStream inputStream, EnumSet<CellProperty> cellProperties,
+                                         Consumer<? super T> headerConsumer, Consumer<? super E> elementConsumer)
+            throws JSONSerializerException {
+        Util.throwIfNull(objectClass, arrayProperty, elementClass, inputStream, headerConsumer, elementConsumer);
+
+        ObjectReader reader = reader(Wrapper.NONE, objectClass, cellProperties);
+        ObjectReader elementReader = reader(Wrapper.NONE, elementClass, cellProperties);
+
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JSONSerializerException("Expected a JSON object but found " + parser.currentToken());
+            }
+            T object = null;
+            TokenBuffer properties = startObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (object == null && value == JsonToken.START_ARRAY && arrayProperty.equals(name)) {
+                    object = bind(reader, properties);
+                    headerConsumer.accept(object);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        E element = elementReader.readValue(parser);
+                        if (element != null) {
+                            elementConsumer.accept(element);
+                        }
+                    }
+                    properties = startObject();
+                } else {
+                    properties.writeFieldName(name);
+                    properties.copyCurrentStructure(parser);
+                }
+            }
+            if (object == null) {
+                object = bind(reader, properties);
+                headerConsumer.accept(object);
+            } else {
+                properties.writeEndObject();
+                reader.withValueToUpdate(object).readValue(properties.asParser());
+            }
+            return object;
+        } catch (JsonParseException e) {
+            throw new JSONSerializerException(e);
+        } catch (JsonMappingException e) {
+            throw new JSONSerializerException(e);
+        } catch (IOException e) {
+            throw new JSONSerializerException(e);
+        }
+    }
+
+    private static TokenBuffer startObject() throws IOException {
+        TokenBuffer buffer = new TokenBuffer(OBJECT_MAPPER, false);
+        buffer.writeStartObject();
+        return buffer;
+    }
+
+    private static <T> T bind(ObjectReader reader, TokenBuffer properties) throws IOException {
+        properties.writeEndObject();
+        return reader.readValue(properties.asParser());
+    }
+
+    /**
+     * A reader which, given cell properties, has the CellDeserializer skip all other cell properties.
+     */
+    private static ObjectReader reader(Wrapper wrapper, Class<?> objectClass, EnumSet<CellProperty> cellProperties) {
+        ObjectReader reader = reader(wrapper, objectClass);
+        if (cellProperties == null) {
+            return reader;
+        }
+        Set<String> properties = new HashSet<>();
+        properties.add("columnId");
+        properties.add("virtualColumnId");
+        for (CellProperty cellProperty : cellProperties) {
+            properties.add(cellProperty.toString());
+        }
+        return reader.withAttribute(CellDeserializer.PROPERTIES_ATTRIBUTE, properties);
+    }
+
+    private static ObjectReader reader(Wrapper wrapper, Class<?> objectClass) {
+        ConcurrentMap<Class<?>, ObjectReader> readers = READERS.get(wrapper);
+        ObjectReader reader = readers.get(objectClass);
+        if (reader == null) {
+            reader = OBJECT_MAPPER.readerFor(wrapper.type(OBJECT_MAPPER.getTypeFactory(), objectClass));
+            ObjectReader cached = readers.putIfAbsent(objectClass, reader);
+            if (cached != null) {
+                reader = cached;
+            }
+        }
+        return reader;
+    }
+
+    private static ObjectWriter writer(Object object) {
+        Class<?> objectClass = object.getClass();
+        ObjectWriter writer = WRITERS.get(objectClass);
+        if (writer == null) {
+            writer = OBJECT_MAPPER.writerFor(objectClass);
+            ObjectWriter cached = WRITERS.putIfAbsent(objectClass, writer);
+            if (cached != null) {
+                writer = cached;
+            }
+        }
+        return writer;
+    }
+
+    /**
+     * The types the API wraps a de-serialized object in.
+     */
+    private enum Wrapper {
+        NONE,
+        LIST,
+        MAP,
+        RESULT,
+        LIST_RESULT,
+        PAGED_RESULT,
+        BULK_ITEM_RESULT;
+
+        JavaType type(TypeFactory typeFactory, Class<?> objectClass) {
+            switch (this) {
+                case LIST:
+                    return typeFactory.constructCollectionType(List.class, objectClass);
+                case MAP:
+                    return typeFactory.constructMapType(Map.class, String.class, objectClass);
+                case RESULT:
+                    return typeFactory.constructParametrizedType(Result.class, Result.class, objectClass);
+                case LIST_RESULT:
+                    return typeFactory.constructParametrizedType(Result.class, Result.class,
+                            typeFactory.constructParametrizedType(List.class, List.class, objectClass));
+                case PAGED_RESULT:
+                    return typeFactory.constructParametrizedType(PagedResult.class, PagedResult.class, objectClass);
+                case BULK_ITEM_RESULT:
+                    return typeFactory.constructParametrizedType(BulkItemResult.class, BulkItemResult.class, objectClass);
+                default:
+                    return typeFactory.constructType(objectClass);
+            }
+        }
+    }
 }
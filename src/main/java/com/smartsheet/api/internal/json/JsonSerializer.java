@@ -23,11 +23,14 @@ import com.smartsheet.api.models.CopyOrMoveRowResult;
 import com.smartsheet.api.models.EventResult;
 import com.smartsheet.api.models.PagedResult;
 import com.smartsheet.api.models.Result;
+import com.smartsheet.api.models.enums.CellProperty;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * This interface defines methods to handle JSON serialization/de-serialization.
@@ -103,6 +106,27 @@ public interface JsonSerializer {
     <T> T deserialize(Class<T> objectClass, java.io.InputStream inputStream) throws JsonParseException,
             JsonMappingException, IOException;
 
+    /**
+     * De-serialize an object from JSON, reading only the given properties of the cells it contains. The other cell
+     * properties are skipped without being de-serialized.
+     * <p>
+     * The default implementation ignores cellProperties and calls {@link #deserialize(Class, InputStream)}.
+     *
+     * @param <T>            the generic type
+     * @param objectClass    the object class
+     * @param inputStream    the input stream
+     * @param cellProperties the cell properties to read, or null to read them all
+     * @return the t
+     * @throws JsonParseException   the json parse exception
+     * @throws JsonMappingException the json mapping exception
+     * @throws IOException          Signals that an I/O exception has occurred.
+     */
+    default <T> T deserialize(Class<T> objectClass, java.io.InputStream inputStream, EnumSet<CellProperty> cellProperties)
+            throws JsonParseException, JsonMappingException, IOException {
+        // serializers that do not override this read every cell property
+        return deserialize(objectClass, inputStream);
+    }
+
     /**
      * De-serialize an object list from JSON.
      * <p>
@@ -218,4 +242,30 @@ public interface JsonSerializer {
     EventResult deserializeEventResult(java.io.InputStream inputStream)
             throws JSONSerializerException;
 
+    /**
+     * De-serialize an object from JSON, handing the elements of one of its array properties to a consumer one at a
+     * time instead of collecting them, so the memory used does not grow with the number of elements.
+     * <p>
+     * The object built from the properties that precede the array is handed to the header consumer before the first
+     * element. Properties that follow the array are set on the same instance once the array has been read.
+     * <p>
+     * Exceptions: - IllegalArgumentException : if any argument is null - JSONSerializerException : if there is any
+     * other error occurred during the operation
+     *
+     * @param <T>             the generic type of the object
+     * @param <E>             the generic type of the array elements
+     * @param objectClass     the object class
+     * @param arrayProperty   the name of the array property to stream, e.g. "rows"
+     * @param elementClass    the array element class
+     * @param inputStream     the input stream
+     * @param cellProperties  the cell properties to read, or null to read them all
+     * @param headerConsumer  receives the object before the first element
+     * @param elementConsumer receives each element
+     * @return the object, without the streamed array
+     * @throws JSONSerializerException the JSON serializer exception
+     */
+    <T, E> T deserializeStreaming(Class<T> objectClass, String arrayProperty, Class<E> elementClass,
+                                  java.io.InputStream inputStream, EnumSet<CellProperty> cellProperties,
+                                  Consumer<? super T> headerConsumer, Consumer<? super E> elementConsumer)
+            throws JSONSerializerException;
 }
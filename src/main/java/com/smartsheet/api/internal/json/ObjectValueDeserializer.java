@@ -20,9 +20,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartsheet.api.models.BooleanObjectValue;
 import com.smartsheet.api.models.ContactObjectValue;
 import com.smartsheet.api.models.DateObjectValue;
@@ -40,118 +38,229 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Deserializes an ObjectValue in a single pass over the parser's tokens. The attributes of every object type are
+ * collected as they come (objectType may appear after them), then the matching ObjectValue is built. Predecessors are
+ * read through the enclosing DeserializationContext, so no ObjectMapper is created per value.
+ */
 public class ObjectValueDeserializer extends JsonDeserializer<ObjectValue> {
 
     @Override
     public ObjectValue deserialize(JsonParser jp, DeserializationContext ctxt)
             throws IOException, JsonProcessingException {
 
-        final ObjectValue objectValue;
-        ContactObjectValue contactObjectValue = null;
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return deserializeObject(jp, ctxt);
+        } else if (token.isBoolean()) {
+            return new BooleanObjectValue(jp.getBooleanValue());
+        } else if (token.isNumeric()) {
+            return new NumberObjectValue(jp.getNumberValue());
+        } else {
+            return new StringObjectValue(jp.getText());
+        }
+    }
 
-        if (jp.getCurrentToken() == JsonToken.START_OBJECT) {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static ObjectValue deserializeObject(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        // This needs to be read as a string so that any new object types added won't completely break the API
+        String objectType = null;
 
-            ObjectValueAttributeSuperset superset = mapper.readValue(jp, ObjectValueAttributeSuperset.class);
+        // PREDECESSOR_LIST specific attributes
+        List<Predecessor> predecessors = null;
 
-            ObjectValueType parsedObjectType;
-            try {
-                parsedObjectType = ObjectValueType.valueOf(superset.objectType);
-            } catch (IllegalArgumentException e) {
-                // If a new object type is introduced to the Smartsheet API that this version of the SDK doesn't support,
-                // return null instead of throwing an exception.
-                return null;
-            }
+        // DURATION specific attributes
+        Boolean negative = null;
+        Boolean elapsed = null;
+        Double weeks = null;
+        Double days = null;
+        Double hours = null;
+        Double minutes = null;
+        Double seconds = null;
+        Double milliseconds = null;
 
-            switch (parsedObjectType) {
-                case DURATION:
-                    objectValue = new Duration(
-                            superset.negative,
-                            superset.elapsed,
-                            superset.weeks,
-                            superset.days,
-                            superset.hours,
-                            superset.minutes,
-                            superset.seconds,
-                            superset.milliseconds);
-                    break;
+        // CONTACT specific attributes
+        String id = null;
+        String name = null;
+        String email = null;
 
-                case PREDECESSOR_LIST:
-                    objectValue = new PredecessorList(superset.predecessors);
-                    break;
+        // MULTI_CONTACT and MULTI_PICKLIST
+        List<ContactObjectValue> contacts = null;
+        List<String> strings = null;
 
-                case CONTACT:
-                    contactObjectValue = new ContactObjectValue();
-                    contactObjectValue.setName(superset.name);
-                    contactObjectValue.setEmail(superset.email);
-                    contactObjectValue.setId(superset.id);
-                    objectValue = contactObjectValue;
-                    break;
+        // Various other types
+        String value = null;
 
-                case DATE:
-                    // Intentional fallthrough
-                case DATETIME:
-                    // Intentional fallthrough
-                case ABSTRACT_DATETIME:
-                    objectValue = new DateObjectValue(parsedObjectType, superset.value);
+        for (JsonToken token = jp.nextToken(); token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String field = jp.getCurrentName();
+            JsonToken valueToken = jp.nextToken();
+            if (valueToken == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            if (valueToken.isStructStart() && !"predecessors".equals(field) && !"values".equals(field)) {
+                // every other field is a scalar; an object or array in its place is skipped like an unknown field
+                jp.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "objectType":
+                    objectType = jp.getValueAsString();
                     break;
-
-                case MULTI_CONTACT:
-                    List<ContactObjectValue> contactObjectValues = new ArrayList<>();
-                    for (Object contact : superset.values) {
-                        contactObjectValue = mapper.convertValue(contact, ContactObjectValue.class);
-                        contactObjectValues.add(contactObjectValue);
-                    }
-                    objectValue = new MultiContactObjectValue(contactObjectValues);
+                case "predecessors":
+                    predecessors = readPredecessors(jp, ctxt);
                     break;
-
-                case MULTI_PICKLIST:
-                    objectValue = new MultiPicklistObjectValue((List<String>) superset.values);
+                case "negative":
+                    negative = jp.getValueAsBoolean();
+                    break;
+                case "elapsed":
+                    elapsed = jp.getValueAsBoolean();
+                    break;
+                case "weeks":
+                    weeks = jp.getValueAsDouble();
+                    break;
+                case "days":
+                    days = jp.getValueAsDouble();
+                    break;
+                case "hours":
+                    hours = jp.getValueAsDouble();
+                    break;
+                case "minutes":
+                    minutes = jp.getValueAsDouble();
+                    break;
+                case "seconds":
+                    seconds = jp.getValueAsDouble();
+                    break;
+                case "milliseconds":
+                    milliseconds = jp.getValueAsDouble();
+                    break;
+                case "id":
+                    id = jp.getValueAsString();
+                    break;
+                case "name":
+                    name = jp.getValueAsString();
+                    break;
+                case "email":
+                    email = jp.getValueAsString();
+                    break;
+                case "value":
+                    value = jp.getValueAsString();
+                    break;
+                case "values":
+                    // the elements are contacts for MULTI_CONTACT and strings for MULTI_PICKLIST
+                    if (valueToken == JsonToken.START_ARRAY) {
+                        contacts = new ArrayList<>();
+                        strings = new ArrayList<>();
+                        readValues(jp, contacts, strings);
+                    } else {
+                        jp.skipChildren();
+                    }
                     break;
-
                 default:
-                    objectValue = null;
-            }
-        } else {
-            JsonToken token = jp.getCurrentToken();
-            if (token.isBoolean()) {
-                objectValue = new BooleanObjectValue(jp.getBooleanValue());
-            } else if (token.isNumeric()) {
-                objectValue = new NumberObjectValue(jp.getNumberValue());
-            } else {
-                objectValue = new StringObjectValue(jp.getText());
+                    jp.skipChildren();
             }
         }
-        return objectValue;
-    }
 
-    private static class ObjectValueAttributeSuperset {
-        // This needs to be represented as a string so that any new object types added won't completely break the API
-        public String objectType;
+        ObjectValueType parsedObjectType;
+        try {
+            parsedObjectType = ObjectValueType.valueOf(objectType);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            // If a new object type is introduced to the Smartsheet API that this version of the SDK doesn't support,
+            // return null instead of throwing an exception.
+            return null;
+        }
 
-        // PREDECESSOR_LIST specific attributes
-        public List<Predecessor> predecessors;
+        switch (parsedObjectType) {
+            case DURATION:
+                return new Duration(negative, elapsed, weeks, days, hours, minutes, seconds, milliseconds);
 
-        // DURATION specific attributes
-        public Boolean negative;
-        public Boolean elapsed;
-        public Double weeks;
-        public Double days;
-        public Double hours;
-        public Double minutes;
-        public Double seconds;
-        public Double milliseconds;
+            case PREDECESSOR_LIST:
+                return new PredecessorList(predecessors);
 
-        // CONTACT specific attributes
-        public String id;
-        public String name;
-        public String email;
+            case CONTACT:
+                ContactObjectValue contactObjectValue = new ContactObjectValue();
+                contactObjectValue.setName(name);
+                contactObjectValue.setEmail(email);
+                contactObjectValue.setId(id);
+                return contactObjectValue;
 
-        // MULTI_CONTACT
-        public List<?> values;
+            case DATE:
+                // Intentional fallthrough
+            case DATETIME:
+                // Intentional fallthrough
+            case ABSTRACT_DATETIME:
+                return new DateObjectValue(parsedObjectType, value);
 
-        // Various other types
-        public String value;
+            case MULTI_CONTACT:
+                return new MultiContactObjectValue(contacts);
+
+            case MULTI_PICKLIST:
+                return new MultiPicklistObjectValue(strings);
+
+            default:
+                return null;
+        }
+    }
+
+    private static List<Predecessor> readPredecessors(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        if (jp.getCurrentToken() != JsonToken.START_ARRAY) {
+            jp.skipChildren();
+            return null;
+        }
+        List<Predecessor> predecessors = new ArrayList<>();
+        while (jp.nextToken() != JsonToken.END_ARRAY) {
+            predecessors.add(ctxt.readValue(jp, Predecessor.class));
+        }
+        return predecessors;
+    }
+
+    /**
+     * Read the elements of a "values" array, keeping objects as contacts and scalars as strings.
+     */
+    private static void readValues(JsonParser jp, List<ContactObjectValue> contacts, List<String> strings)
+            throws IOException {
+        for (JsonToken token = jp.nextToken(); token != JsonToken.END_ARRAY; token = jp.nextToken()) {
+            if (token == JsonToken.START_OBJECT) {
+                contacts.add(readContact(jp));
+            } else if (token.isScalarValue()) {
+                strings.add(token == JsonToken.VALUE_NULL ? null : jp.getValueAsString());
+            } else {
+                jp.skipChildren();
+            }
+        }
+    }
+
+    private static ContactObjectValue readContact(JsonParser jp) throws IOException {
+        ContactObjectValue contact = new ContactObjectValue();
+        for (JsonToken token = jp.nextToken(); token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String field = jp.getCurrentName();
+            JsonToken valueToken = jp.nextToken();
+            if (valueToken == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            if (valueToken.isStructStart()) {
+                // the fields of a contact are all scalars
+                jp.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case "id":
+                    contact.setId(jp.getValueAsString());
+                    break;
+                case "name":
+                    contact.setName(jp.getValueAsString());
+                    break;
+                case "email":
+                    contact.setEmail(jp.getValueAsString());
+                    break;
+                case "refIndex":
+                    contact.setRefIndex(jp.getValueAsInt());
+                    break;
+                case "imageId":
+                    contact.setImageId(jp.getValueAsString());
+                    break;
+                default:
+                    jp.skipChildren();
+            }
+        }
+        return contact;
     }
 }
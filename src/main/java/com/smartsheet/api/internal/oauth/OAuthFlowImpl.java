@@ -370,9 +370,13 @@ public class OAuthFlowImpl implements OAuthFlow {
         HttpResponse response = httpClient.request(request);
 
         // Create a map of the response
-        InputStream inputStream = response.getEntity().getContent();
-        Map<String, Object> map = jsonSerializer.deserializeMap(inputStream);
-        httpClient.releaseConnection();
+        Map<String, Object> map;
+        try {
+            InputStream inputStream = response.getEntity().getContent();
+            map = jsonSerializer.deserializeMap(inputStream);
+        } finally {
+            response.close();
+        }
 
         // Check for a error response and throw it.
         if (response.getStatusCode() != 200 && map.get(ERROR) != null) {
@@ -441,13 +445,11 @@ public class OAuthFlowImpl implements OAuthFlow {
 
         request.setHeaders(new HashMap<>());
         request.getHeaders().put("Authorization", "Bearer " + token.getAccessToken());
-        HttpResponse response = httpClient.request(request);
-
-        if (response.getStatusCode() != 200) {
-            throw new OAuthTokenException("Token request failed with http error code: " + response.getStatusCode());
+        try (HttpResponse response = httpClient.request(request)) {
+            if (response.getStatusCode() != 200) {
+                throw new OAuthTokenException("Token request failed with http error code: " + response.getStatusCode());
+            }
         }
-
-        httpClient.releaseConnection();
     }
 
     /**
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * an InputStream which passes its source through unchanged while keeping a copy of only the first bytes read, e.g. so
+ * the start of a response can be logged if parsing it fails without the whole response being copied
+ */
+public final class BoundedTeeInputStream extends FilterInputStream {
+    private static final int SKIP_BUFFER_SIZE = 8 * StreamUtil.ONE_KB;
+
+    private final ByteArrayOutputStream head;
+    private final int maxBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param source   the stream to read
+     * @param maxBytes the number of bytes to keep (-1 means keep everything)
+     */
+    public BoundedTeeInputStream(InputStream source, int maxBytes) {
+        super(source);
+        this.maxBytes = maxBytes < 0 ? Integer.MAX_VALUE : maxBytes;
+        this.head = new ByteArrayOutputStream(Math.min(this.maxBytes, StreamUtil.ONE_KB));
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = in.read();
+        if (value != -1 && head.size() < maxBytes) {
+            head.write(value);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int count = in.read(buffer, offset, length);
+        if (count > 0 && head.size() < maxBytes) {
+            head.write(buffer, offset, Math.min(count, maxBytes - head.size()));
+        }
+        return count;
+    }
+
+    /**
+     * skipped bytes are read (and kept) while the copy is not yet full
+     */
+    @Override
+    public long skip(long count) throws IOException {
+        if (head.size() >= maxBytes) {
+            return in.skip(count);
+        }
+        byte[] buffer = new byte[(int) Math.min(count, SKIP_BUFFER_SIZE)];
+        return Math.max(0, read(buffer, 0, buffer.length));
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        // not supported; a reset would feed the copy the same bytes twice
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * the bytes read so far, up to the limit, as a String (see {@link StreamUtil#toUtf8StringOrHex})
+     *
+     * @param maxLen the point at which to truncate the string (-1 means don't truncate)
+     * @return the String read from the stream
+     */
+    public String toUtf8StringOrHex(int maxLen) {
+        return StreamUtil.toUtf8StringOrHex(head, maxLen);
+    }
+}
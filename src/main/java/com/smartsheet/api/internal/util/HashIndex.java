@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A {@link ListIndex} keyed by an object property, e.g. a column title, backed by a {@link HashMap}. Elements whose
+ * key is null are not indexed.
+ *
+ * @param <K> the key type
+ * @param <V> the element type
+ */
+public final class HashIndex<K, V> extends ListIndex<V, Map<K, V>> {
+    private final Function<? super V, ? extends K> keyFunction;
+
+    /**
+     * Create an index keyed by the given property.
+     *
+     * @param keyFunction returns the key of an element, or null
+     */
+    public HashIndex(Function<? super V, ? extends K> keyFunction) {
+        Util.throwIfNull(keyFunction);
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Find the first element of the list with the given key.
+     *
+     * @param list the list to search, may be null
+     * @param key  the key, may be null
+     * @return the element, or null if none has the key
+     */
+    public V get(List<? extends V> list, K key) {
+        Map<K, V> values = key == null ? null : table(list);
+        if (values == null) {
+            return null;
+        }
+        V value = values.get(key);
+        if (value != null && !Objects.equals(keyFunction.apply(value), key)) {
+            value = rebuild(list).get(key);
+        }
+        return value;
+    }
+
+    @Override
+    protected Map<K, V> index(List<? extends V> list) {
+        Map<K, V> index = new HashMap<>(Math.max(16, list.size() * 4 / 3 + 1));
+        for (V value : list) {
+            K key = value == null ? null : keyFunction.apply(value);
+            if (key != null) {
+                index.putIfAbsent(key, value);
+            }
+        }
+        return index;
+    }
+}
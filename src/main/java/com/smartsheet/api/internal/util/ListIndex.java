@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.util;
+
+import java.util.List;
+
+/**
+ * Base class for an index over the elements of a model list, e.g. a sheet's rows, which is built on first use and
+ * rebuilt when the list it was built from is replaced or changes size. Hits are checked against the element's current
+ * key and rebuild a stale index, but misses are not: after replacing an element or changing its key in place, set the
+ * list again (e.g. with {@code setRows}) to find it by its new key. When several elements share a key the first one
+ * wins, as with a linear scan.
+ *
+ * <p>Lookups may run on several threads at once, as long as the list is not modified meanwhile. A rebuild indexes
+ * into new tables and publishes them, together with the list they were built from, in a single volatile write, so a
+ * lookup sees either a complete index or none; two threads that find the index stale may both rebuild it.</p>
+ *
+ * @param <V> the element type
+ * @param <T> the type of the table the elements are indexed in, which is never modified once built
+ */
+public abstract class ListIndex<V, T> {
+    private volatile Snapshot<T> snapshot;
+
+    /**
+     * Get the table for the given list, rebuilding it if it was built from another list or the list changed size.
+     *
+     * @param list the list to index, may be null
+     * @return the table, or null if the list is null
+     */
+    protected final T table(List<? extends V> list) {
+        if (list == null) {
+            return null;
+        }
+        Snapshot<T> current = snapshot;
+        if (current == null || current.source != list || current.sourceSize != list.size()) {
+            return rebuild(list);
+        }
+        return current.table;
+    }
+
+    /**
+     * Rebuild the table from the given list.
+     *
+     * @param list the list to index
+     * @return the new table
+     */
+    protected final T rebuild(List<? extends V> list) {
+        int size = list.size();
+        T table = index(list);
+        snapshot = new Snapshot<>(list, size, table);
+        return table;
+    }
+
+    /**
+     * Index the elements of the given list into a new table.
+     *
+     * @param list the list to index
+     * @return the table
+     */
+    protected abstract T index(List<? extends V> list);
+
+    private static final class Snapshot<T> {
+        private final List<?> source;
+        private final int sourceSize;
+        private final T table;
+
+        private Snapshot(List<?> source, int sourceSize, T table) {
+            this.source = source;
+            this.sourceSize = sourceSize;
+            this.table = table;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.util;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@link ListIndex} keyed by a numeric property, e.g. a row id or a row number, which maps each key to the position
+ * of its element in a {@link LongIntMap}, so that neither building it nor looking up a key boxes. Elements whose key is
+ * null are not indexed.
+ *
+ * @param <V> the element type
+ */
+public final class LongIndex<V> extends ListIndex<V, LongIntMap> {
+    private final Function<? super V, ? extends Number> keyFunction;
+
+    /**
+     * Create an index keyed by the given property.
+     *
+     * @param keyFunction returns the key of an element, or null
+     */
+    public LongIndex(Function<? super V, ? extends Number> keyFunction) {
+        Util.throwIfNull(keyFunction);
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Find the first element of the list with the given key.
+     *
+     * @param list the list to search, may be null
+     * @param key  the key
+     * @return the element, or null if none has the key
+     */
+    public V get(List<? extends V> list, long key) {
+        LongIntMap positions = table(list);
+        if (positions == null) {
+            return null;
+        }
+        int position = positions.get(key);
+        if (position >= 0 && !hasKey(list.get(position), key)) {
+            // the element at that position was replaced since the index was built
+            position = rebuild(list).get(key);
+        }
+        return position < 0 ? null : list.get(position);
+    }
+
+    @Override
+    protected LongIntMap index(List<? extends V> list) {
+        LongIntMap positions = new LongIntMap(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            V value = list.get(i);
+            Number key = value == null ? null : keyFunction.apply(value);
+            if (key != null) {
+                positions.putIfAbsent(key.longValue(), i);
+            }
+        }
+        return positions;
+    }
+
+    private boolean hasKey(V value, long key) {
+        Number current = value == null ? null : keyFunction.apply(value);
+        return current != null && current.longValue() == key;
+    }
+}
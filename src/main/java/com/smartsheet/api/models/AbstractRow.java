@@ -17,9 +17,14 @@
 package com.smartsheet.api.models;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.smartsheet.api.internal.util.LongIndex;
 import com.smartsheet.api.models.enums.AccessLevel;
 import com.smartsheet.api.models.format.Format;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
 import java.util.List;
 
@@ -87,6 +92,13 @@ public abstract class AbstractRow<TColumn extends Column, TCell extends Cell> ex
      */
     private List<TColumn> columns;
 
+    /**
+     * Indexes over {@link #cells} and {@link #columns}, created on first lookup and dropped when the lists are set
+     */
+    private volatile LongIndex<TCell> cellsByColumnId;
+    private volatile LongIndex<TColumn> columnsById;
+    private volatile LongIndex<TColumn> columnsByIndex;
+
     /**
      * Represents the date and time the row was created.
      */
@@ -259,10 +271,7 @@ public abstract class AbstractRow<TColumn extends Column, TCell extends Cell> ex
      * @return the column by index
      */
     public TColumn getColumnByIndex(int index) {
-        if (columns == null) {
-            return null;
-        }
-        return columns.stream().filter(column -> column.getIndex() == index).findFirst().orElse(null);
+        return columnsByIndex().get(columns, index);
     }
 
     /**
@@ -272,10 +281,123 @@ public abstract class AbstractRow<TColumn extends Column, TCell extends Cell> ex
      * @return the column by id
      */
     public TColumn getColumnById(long columnId) {
-        if (columns == null) {
+        return columnsById().get(columns, columnId);
+    }
+
+    /**
+     * Get the cell for a column.
+     *
+     * @param columnId the column id
+     * @return the cell, or null if the row has no cell for the column
+     */
+    public TCell getCellByColumnId(long columnId) {
+        return cellsByColumnId().get(cells, columnId);
+    }
+
+    private LongIndex<TCell> cellsByColumnId() {
+        LongIndex<TCell> index = cellsByColumnId;
+        if (index == null) {
+            index = new LongIndex<>(Cell::getColumnId);
+            cellsByColumnId = index;
+        }
+        return index;
+    }
+
+    private LongIndex<TColumn> columnsById() {
+        LongIndex<TColumn> index = columnsById;
+        if (index == null) {
+            index = new LongIndex<>(Column::getId);
+            columnsById = index;
+        }
+        return index;
+    }
+
+    private LongIndex<TColumn> columnsByIndex() {
+        LongIndex<TColumn> index = columnsByIndex;
+        if (index == null) {
+            index = new LongIndex<>(Column::getIndex);
+            columnsByIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Get the value of the cell for a column, see {@link Cell#getValue()}.
+     *
+     * @param columnId the column id
+     * @return the value, or null if the cell is empty or the row has no cell for the column
+     */
+    public Object getValue(long columnId) {
+        TCell cell = getCellByColumnId(columnId);
+        return cell == null ? null : cell.getValue();
+    }
+
+    /**
+     * Get the value of the cell for a column as a string.
+     *
+     * @param columnId the column id
+     * @return the value's string form, or null if the cell is empty
+     */
+    public String getString(long columnId) {
+        Object value = getValue(columnId);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Get the number in the cell for a column.
+     *
+     * @param columnId the column id
+     * @return the number, or null if the cell is empty or does not hold a number
+     */
+    public Double getDouble(long columnId) {
+        Object value = getValue(columnId);
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+
+    /**
+     * Get the checkbox value of the cell for a column.
+     *
+     * @param columnId the column id
+     * @return the value, or null if the cell is empty or does not hold a boolean
+     */
+    public Boolean getBoolean(long columnId) {
+        Object value = getValue(columnId);
+        return value instanceof Boolean ? (Boolean) value : null;
+    }
+
+    /**
+     * Get the date in the cell for a column: the value of a DATE cell, or the UTC date of a DATETIME cell.
+     *
+     * @param columnId the column id
+     * @return the date, or null if the cell is empty or does not hold a date
+     */
+    public LocalDate getLocalDate(long columnId) {
+        Object value = getValue(columnId);
+        if (!(value instanceof String)) {
             return null;
         }
-        return columns.stream().filter(column -> column.getId() == columnId).findFirst().orElse(null);
+        String text = (String) value;
+        try {
+            if (text.indexOf('T') < 0) {
+                return LocalDate.parse(text);
+            }
+            return LocalDate.ofInstant(Instant.parse(text), ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the cell for a column, looking first at the given position, where the sheet's columns put it.
+     */
+    TCell getCell(long columnId, int position) {
+        if (cells != null && position >= 0 && position < cells.size()) {
+            TCell cell = cells.get(position);
+            if (cell != null && cell.getColumnId() != null && cell.getColumnId() == columnId) {
+                return cell;
+            }
+        }
+        return getCellByColumnId(columnId);
     }
 
     /**
@@ -355,6 +477,7 @@ public abstract class AbstractRow<TColumn extends Column, TCell extends Cell> ex
     @SuppressWarnings("unchecked")
     public <T extends AbstractRow<TColumn, TCell>> T setCells(List<TCell> cells) {
         this.cells = cells;
+        cellsByColumnId = null;
         return (T) this;
     }
 
@@ -415,6 +538,8 @@ public abstract class AbstractRow<TColumn extends Column, TCell extends Cell> ex
     @SuppressWarnings("unchecked")
     public <T extends AbstractRow<TColumn, TCell>> T setColumns(List<TColumn> columns) {
         this.columns = columns;
+        columnsById = null;
+        columnsByIndex = null;
         return (T) this;
     }
 
@@ -17,6 +17,8 @@
 package com.smartsheet.api.models;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.smartsheet.api.internal.util.HashIndex;
+import com.smartsheet.api.internal.util.LongIndex;
 import com.smartsheet.api.models.enums.AccessLevel;
 import com.smartsheet.api.models.enums.AttachmentType;
 import com.smartsheet.api.models.enums.ResourceManagementType;
@@ -24,6 +26,8 @@ import com.smartsheet.api.models.enums.ResourceManagementType;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 public abstract class AbstractSheet<TRow extends AbstractRow<TColumn, TCell>, TColumn extends Column, TCell extends Cell>
         extends NamedModel<Long> {
@@ -146,6 +150,15 @@ public abstract class AbstractSheet<TRow extends AbstractRow<TColumn, TCell>, TC
      */
     private List<TRow> rows;
 
+    /**
+     * Indexes over {@link #rows} and {@link #columns}, created on first lookup and dropped when the lists are set
+     */
+    private volatile LongIndex<TRow> rowsById;
+    private volatile LongIndex<TRow> rowsByNumber;
+    private volatile LongIndex<TColumn> columnsById;
+    private volatile LongIndex<TColumn> columnsByIndex;
+    private volatile HashIndex<String, TColumn> columnsByTitle;
+
     /**
      * Identifies if it is enabled to show parent rows for filters.
      */
@@ -283,6 +296,9 @@ public abstract class AbstractSheet<TRow extends AbstractRow<TColumn, TCell>, TC
     @SuppressWarnings("unchecked")
     public <T extends AbstractSheet<TRow, TColumn, TCell>> T setColumns(List<TColumn> columns) {
         this.columns = columns;
+        columnsById = null;
+        columnsByIndex = null;
+        columnsByTitle = null;
         return (T) this;
     }
 
@@ -670,6 +686,8 @@ public abstract class AbstractSheet<TRow extends AbstractRow<TColumn, TCell>, TC
     @SuppressWarnings("unchecked")
     public <T extends AbstractSheet<TRow, TColumn, TCell>> T setRows(List<TRow> rows) {
         this.rows = rows;
+        rowsById = null;
+        rowsByNumber = null;
         return (T) this;
     }
 
@@ -834,18 +852,7 @@ public abstract class AbstractSheet<TRow extends AbstractRow<TColumn, TCell>, TC
      * @return the column by index
      */
     public TColumn getColumnByIndex(int index) {
-        if (columns == null) {
-            return null;
-        }
-
-        TColumn result = null;
-        for (TColumn column : columns) {
-            if (column.getIndex() == index) {
-                result = column;
-                break;
-            }
-        }
-        return result;
+        return columnsByIndex().get(columns, index);
     }
 
     /**
@@ -855,18 +862,17 @@ public abstract class AbstractSheet<TRow extends AbstractRow<TColumn, TCell>, TC
      * @return the column by id
      */
     public TColumn getColumnById(long columnId) {
-        if (columns == null) {
-            return null;
-        }
+        return columnsById().get(columns, columnId);
+    }
 
-        TColumn result = null;
-        for (TColumn column : columns) {
-            if (column.getId() == columnId) {
-                result = column;
-                break;
-            }
-        }
-        return result;
+    /**
+     * Get a {@link Column} by title.
+     *
+     * @param title the column title
+     * @return the column by title, or null if there is none
+     */
+    public TColumn getColumnByTitle(String title) {
+        return columnsByTitle().get(columns, title);
     }
 
     /**
@@ -876,17 +882,95 @@ public abstract class AbstractSheet<TRow extends AbstractRow<TColumn, TCell>, TC
      * @return the row by row number
      */
     public TRow getRowByRowNumber(int rowNumber) {
+        return rowsByNumber().get(rows, rowNumber);
+    }
+
+    /**
+     * Get a {@link Row} by ID.
+     *
+     * @param rowId the row id
+     * @return the row by id, or null if there is none
+     */
+    public TRow getRowById(long rowId) {
+        return rowsById().get(rows, rowId);
+    }
+
+    private LongIndex<TRow> rowsById() {
+        LongIndex<TRow> index = rowsById;
+        if (index == null) {
+            index = new LongIndex<>(AbstractRow::getId);
+            rowsById = index;
+        }
+        return index;
+    }
+
+    private LongIndex<TRow> rowsByNumber() {
+        LongIndex<TRow> index = rowsByNumber;
+        if (index == null) {
+            index = new LongIndex<>(AbstractRow::getRowNumber);
+            rowsByNumber = index;
+        }
+        return index;
+    }
+
+    private LongIndex<TColumn> columnsById() {
+        LongIndex<TColumn> index = columnsById;
+        if (index == null) {
+            index = new LongIndex<>(Column::getId);
+            columnsById = index;
+        }
+        return index;
+    }
+
+    private LongIndex<TColumn> columnsByIndex() {
+        LongIndex<TColumn> index = columnsByIndex;
+        if (index == null) {
+            index = new LongIndex<>(Column::getIndex);
+            columnsByIndex = index;
+        }
+        return index;
+    }
+
+    private HashIndex<String, TColumn> columnsByTitle() {
+        HashIndex<String, TColumn> index = columnsByTitle;
+        if (index == null) {
+            index = new HashIndex<>(Column::getTitle);
+            columnsByTitle = index;
+        }
+        return index;
+    }
+
+    /**
+     * Gets a stream of the rows. It can be made {@link Stream#parallel() parallel} to spread per-row work over the
+     * common fork-join pool.
+     *
+     * @return the rows, or an empty stream if the sheet has none
+     */
+    public Stream<TRow> rowStream() {
         if (rows == null) {
-            return null;
+            return Stream.empty();
         }
+        return rows.stream();
+    }
 
-        TRow result = null;
-        for (TRow row : rows) {
-            if (row.getRowNumber() == rowNumber) {
-                result = row;
-                break;
+    /**
+     * Gets a stream of the cells of a column, in row order; rows without a cell for the column are skipped. Like
+     * {@link #rowStream()}, it can be made parallel.
+     *
+     * @param columnId the column id
+     * @return the cells
+     */
+    public Stream<TCell> columnStream(long columnId) {
+        int position = -1;
+        if (columns != null) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i).getId() != null && columns.get(i).getId() == columnId) {
+                    position = i;
+                    break;
+                }
             }
         }
-        return result;
+        int expectedPosition = position;
+        return rowStream().map(row -> row.getCell(columnId, expectedPosition)).filter(Objects::nonNull);
     }
 }
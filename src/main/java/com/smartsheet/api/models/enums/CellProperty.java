@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.models.enums;
+
+/**
+ * Represents the cell properties to read when getting a sheet or report; the others are skipped. The column id (and
+ * the virtual column id of report cells) is always read.
+ */
+public enum CellProperty {
+    COLUMN_TYPE("columnType"),
+    VALUE("value"),
+    OBJECT_VALUE("objectValue"),
+    DISPLAY_VALUE("displayValue"),
+    ROW_ID("rowId"),
+    HYPERLINK("hyperlink"),
+    LINK_IN_FROM_CELL("linkInFromCell"),
+    LINKS_OUT_TO_CELLS("linksOutToCells"),
+    CONDITIONAL_FORMAT("conditionalFormat"),
+    IMAGE("image"),
+    FORMULA("formula"),
+    STRICT("strict"),
+    FORMAT("format");
+
+    String property;
+
+    CellProperty(String property) {
+        this.property = property;
+    }
+
+    @Override
+    public String toString() {
+        return property;
+    }
+}
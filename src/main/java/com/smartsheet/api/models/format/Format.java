@@ -26,6 +26,10 @@ import java.util.Arrays;
 
 /**
  * This class represents the format as applied to a cell, row or column.
+ * <p>
+ * A Format cannot be modified, so instances read from the API may be shared between cells, rows and columns. To
+ * change a format, copy it into a {@link FormatBuilder} with {@link FormatBuilder#withFormat(Format)}, change the
+ * attributes and build a new one.
  */
 @JsonSerialize(using = Format.FormatSerializer.class)
 public class Format {
@@ -33,7 +37,7 @@ public class Format {
     //The default format.
     private static final int[] DEFAULT_FORMAT = new int[]{0, 2, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0};
     static final int UNSET = Integer.MIN_VALUE;
-    int[] formatArray;
+    final int[] formatArray;
 
     /**
      * Constructs a {@link Format} object using the format string provided by the Smartsheet API.
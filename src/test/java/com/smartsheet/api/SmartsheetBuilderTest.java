@@ -22,6 +22,7 @@ import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class SmartsheetBuilderTest {
 
@@ -35,4 +36,61 @@ class SmartsheetBuilderTest {
         ss.getClass();
     }
 
+    @Test
+    void testBuildWithConnectionPoolSettings() {
+        SmartsheetBuilder builder = new SmartsheetBuilder()
+                .setAccessToken("b")
+                .setMaxConnections(200)
+                .setMaxConnectionsPerRoute(100)
+                .setConnectionTimeToLiveMillis(60000)
+                .setKeepAliveMillis(30000)
+                .setIdleConnectionTimeoutMillis(10000)
+                .setConnectTimeoutMillis(5000)
+                .setSocketTimeoutMillis(30000)
+                .setConnectionRequestTimeoutMillis(1000);
+
+        assertThat(builder.getConnectionPoolSettings().getMaxConnections()).isEqualTo(200);
+        assertThat(builder.getConnectionPoolSettings().getMaxConnectionsPerRoute()).isEqualTo(100);
+        assertThat(builder.getConnectionPoolSettings().getKeepAliveMillis()).isEqualTo(30000);
+
+        // building twice must not be affected by the HttpClient created for the first instance
+        assertThat(builder.build()).isInstanceOf(SmartsheetImpl.class);
+        assertThat(builder.build()).isInstanceOf(SmartsheetImpl.class);
+    }
+
+    @Test
+    void testBuildWithConnectionPoolSettingsAndCustomHttpClient() {
+        SmartsheetBuilder builder = new SmartsheetBuilder()
+                .setHttpClient(new DefaultHttpClient())
+                .setMaxConnections(10);
+
+        assertThatThrownBy(builder::build).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testBuildWithHttp2Enabled() {
+        SmartsheetBuilder builder = new SmartsheetBuilder()
+                .setAccessToken("b")
+                .setHttp2Enabled(true)
+                .setConnectTimeoutMillis(5000);
+
+        assertThat(builder.isHttp2Enabled()).isTrue();
+        assertThat(builder.build()).isInstanceOf(SmartsheetImpl.class);
+    }
+
+    @Test
+    void testBuildWithHttp2EnabledAndCustomHttpClient() {
+        SmartsheetBuilder builder = new SmartsheetBuilder()
+                .setHttpClient(new DefaultHttpClient())
+                .setHttp2Enabled(true);
+
+        assertThatThrownBy(builder::build).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testSetMaxConnectionsRejectsNonPositive() {
+        SmartsheetBuilder builder = new SmartsheetBuilder();
+
+        assertThatThrownBy(() -> builder.setMaxConnections(0)).isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.benchmark;
+import com.smartsheet.api.frame.Aggregation;
+import com.smartsheet.api.frame.GroupResult;
+import com.smartsheet.api.frame.SheetFrame;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ColumnType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures a filtered group-by with a sum over a sheet held as rows and cells, written as the loop callers use today,
+ * against the same computation with a {@link com.smartsheet.api.frame.FrameQuery} over a {@link SheetFrame}, run
+ * sequentially and in parallel.
+ * <p>
+ * Run with {@code ./gradlew benchmark}.
+ */
+class FrameQueryBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int ITERATIONS = 20;
+
+    private static final long OWNER = 1L;
+    private static final long STATUS = 2L;
+    private static final long AMOUNT = 3L;
+
+    @Test
+    void groupBy_frameQueryRunsFasterThanLoopOverRows() {
+        Sheet sheet = sheet();
+        SheetFrame frame = SheetFrame.of(sheet);
+
+        Map<Object, Double> expected = loopOverRows(sheet);
+        long loopNanos = measure(() -> loopOverRows(sheet));
+        long frameNanos = measure(() -> query(frame, false));
+        long parallelNanos = measure(() -> query(frame, true));
+
+        GroupResult groups = query(frame, true);
+        assertThat(groups.size()).isEqualTo(expected.size());
+        for (int group = 0; group < groups.size(); group++) {
+            assertThat(groups.getValue(group, 0)).isEqualTo(expected.get(groups.getKey(group)));
+        }
+        System.out.printf("%,d rows, sum of amount by owner for open rows: loop over rows %.2f ms, frame query %.2f ms, "
+                        + "parallel frame query %.2f ms%n", ROWS, loopNanos / 1e6, frameNanos / 1e6, parallelNanos / 1e6);
+        assertThat(frameNanos).isLessThan(loopNanos);
+    }
+
+    private static GroupResult query(SheetFrame frame, boolean parallel) {
+        return frame.query().parallel(parallel).whereText(STATUS, "Open"::equals).groupBy(OWNER, Aggregation.sum(AMOUNT));
+    }
+
+    private static Map<Object, Double> loopOverRows(Sheet sheet) {
+        Map<Object, Double> sums = new HashMap<>();
+        for (Row row : sheet.getRows()) {
+            Object owner = null;
+            Object status = null;
+            Object amount = null;
+            for (Cell cell : row.getCells()) {
+                if (cell.getColumnId() == OWNER) {
+                    owner = cell.getValue();
+                } else if (cell.getColumnId() == STATUS) {
+                    status = cell.getValue();
+                } else if (cell.getColumnId() == AMOUNT) {
+                    amount = cell.getValue();
+                }
+            }
+            if ("Open".equals(status)) {
+                double value = amount instanceof Number ? ((Number) amount).doubleValue() : 0;
+                sums.merge(owner, value, Double::sum);
+            }
+        }
+        return sums;
+    }
+
+    private static long measure(Supplier<?> task) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            task.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.get();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private static Sheet sheet() {
+        List<Column> columns = List.of(
+                new Column(OWNER).setTitle("Owner").setType(ColumnType.PICKLIST),
+                new Column(STATUS).setTitle("Status").setType(ColumnType.PICKLIST),
+                new Column(AMOUNT).setTitle("Amount").setType(ColumnType.TEXT_NUMBER));
+        List<Row> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            List<Cell> cells = List.of(
+                    new Cell().setColumnId(OWNER).setValue("Owner " + i % 50),
+                    new Cell().setColumnId(STATUS).setValue(i % 3 == 0 ? "Closed" : "Open"),
+                    new Cell().setColumnId(AMOUNT).setValue((double) (i % 1000)));
+            rows.add(new Row((long) i).setRowNumber(i + 1).setCells(cells));
+        }
+        return new Sheet().setColumns(columns).setRows(rows);
+    }
+}
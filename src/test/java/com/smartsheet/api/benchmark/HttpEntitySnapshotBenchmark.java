@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.benchmark;
+
+import com.smartsheet.api.internal.http.HttpEntity;
+import com.smartsheet.api.internal.http.HttpEntitySnapshot;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Sheet;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the memory allocated to read a large getSheet response through an eager snapshot (which copies the whole
+ * body) and a lazy one (which copies nothing unless the response is traced or logged).
+ * <p>
+ * Run with {@code ./gradlew benchmark}.
+ */
+class HttpEntitySnapshotBenchmark {
+
+    private static final int ROWS = 20_000;
+    private static final int COLUMNS = 10;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int ITERATIONS = 5;
+
+    private final JacksonJsonSerializer serializer = new JacksonJsonSerializer();
+
+    @Test
+    void getSheetResponse_lazySnapshotAllocatesLess() throws Exception {
+        byte[] body = sheetJson();
+
+        long eager = allocatedPerIteration(body, true);
+        long lazy = allocatedPerIteration(body, false);
+
+        System.out.printf("getSheet response of %,d bytes (%,d rows): eager snapshot %,d bytes allocated, "
+                + "lazy snapshot %,d bytes allocated (%.1f%% less)%n", body.length, ROWS, eager, lazy, 100.0 * (eager - lazy) / eager);
+        assertThat(eager - lazy).isGreaterThanOrEqualTo(body.length);
+    }
+
+    private long allocatedPerIteration(byte[] body, boolean eager) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            readSheet(body, eager);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            readSheet(body, eager);
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+    }
+
+    /**
+     * Read a response the way DefaultHttpClient and AbstractResources do: snapshot the entity, then parse its content.
+     */
+    private void readSheet(byte[] body, boolean eager) throws Exception {
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType("application/json;charset=UTF-8");
+        entity.setContentLength(body.length);
+        entity.setContent(new NonMarkableStream(body));
+        HttpEntitySnapshot snapshot = eager ? new HttpEntitySnapshot(entity) : HttpEntitySnapshot.lazy(entity);
+        Sheet sheet = serializer.deserialize(Sheet.class, entity.getContent());
+        assertThat(sheet.getRows()).hasSize(ROWS);
+        assertThat(snapshot.getContentLength()).isEqualTo(body.length);
+    }
+
+    private static byte[] sheetJson() {
+        StringBuilder json = new StringBuilder("{\"id\":1,\"name\":\"benchmark\",\"columns\":[");
+        for (int column = 0; column < COLUMNS; column++) {
+            json.append(column == 0 ? "" : ",")
+                    .append("{\"id\":").append(column).append(",\"index\":").append(column)
+                    .append(",\"title\":\"Column ").append(column).append("\",\"type\":\"TEXT_NUMBER\"}");
+        }
+        json.append("],\"rows\":[");
+        for (int row = 0; row < ROWS; row++) {
+            json.append(row == 0 ? "" : ",").append("{\"id\":").append(row).append(",\"rowNumber\":").append(row + 1)
+                    .append(",\"cells\":[");
+            for (int column = 0; column < COLUMNS; column++) {
+                json.append(column == 0 ? "" : ",")
+                        .append("{\"columnId\":").append(column).append(",\"value\":\"value ").append(row)
+                        .append('-').append(column).append("\",\"displayValue\":\"value ").append(row)
+                        .append('-').append(column).append("\"}");
+            }
+            json.append("]}");
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A response stream as read from the connection, which cannot be reset.
+     */
+    private static final class NonMarkableStream extends FilterInputStream {
+        private NonMarkableStream(byte[] content) {
+            super(new ByteArrayInputStream(content));
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            throw new IOException("mark/reset not supported");
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.smartsheet.api.internal.json.ObjectValueDeserializer;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.ContactObjectValue;
+import com.smartsheet.api.models.ObjectValue;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the time and memory needed to read cells holding contact object values with the ObjectValueDeserializer,
+ * against the previous approach of binding every object value through an ObjectMapper created for it.
+ * <p>
+ * Run with {@code ./gradlew benchmark}.
+ */
+class ObjectValueDeserializerBenchmark {
+
+    private static final int CELLS = 100_000;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int ITERATIONS = 5;
+
+    private static final TypeReference<List<Cell>> CELL_LIST = new TypeReference<List<Cell>>() {
+    };
+
+    @Test
+    void contactCells_singlePassAllocatesLessAndRunsFaster() throws Exception {
+        byte[] body = cellsJson();
+        ObjectMapper singlePass = mapper(new ObjectValueDeserializer());
+        ObjectMapper mapperPerValue = mapper(new MapperPerValueDeserializer());
+
+        Measurement before = measure(mapperPerValue, body);
+        Measurement after = measure(singlePass, body);
+
+        System.out.printf("%,d contact cells: mapper per value %,d ms and %,d bytes allocated, "
+                        + "single pass %,d ms and %,d bytes allocated (%.1fx faster)%n", CELLS, before.millis, before.bytes,
+                after.millis, after.bytes, (double) before.nanos / after.nanos);
+        assertThat(after.bytes).isLessThan(before.bytes);
+    }
+
+    private static Measurement measure(ObjectMapper mapper, byte[] body) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            read(mapper, body);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            read(mapper, body);
+        }
+        long nanos = (System.nanoTime() - start) / ITERATIONS;
+        return new Measurement(nanos, (threads.getThreadAllocatedBytes(threadId) - bytesBefore) / ITERATIONS);
+    }
+
+    private static void read(ObjectMapper mapper, byte[] body) throws IOException {
+        List<Cell> cells = mapper.readValue(body, CELL_LIST);
+        assertThat(cells).hasSize(CELLS);
+        assertThat(((ContactObjectValue) cells.get(CELLS - 1).getObjectValue()).getEmail()).isNotNull();
+    }
+
+    private static ObjectMapper mapper(JsonDeserializer<ObjectValue> objectValueDeserializer) {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        SimpleModule module = new SimpleModule();
+        module.addDeserializer(ObjectValue.class, objectValueDeserializer);
+        mapper.registerModule(module);
+        return mapper;
+    }
+
+    private static byte[] cellsJson() {
+        StringBuilder json = new StringBuilder("[");
+        for (int cell = 0; cell < CELLS; cell++) {
+            json.append(cell == 0 ? "" : ",").append("{\"columnId\":1,\"value\":\"user").append(cell)
+                    .append("@smartsheet.com\",\"objectValue\":{\"objectType\":\"CONTACT\",\"email\":\"user").append(cell)
+                    .append("@smartsheet.com\",\"name\":\"User ").append(cell).append("\"}}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class Measurement {
+        private final long nanos;
+        private final long millis;
+        private final long bytes;
+
+        private Measurement(long nanos, long bytes) {
+            this.nanos = nanos;
+            this.millis = nanos / 1_000_000;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * The previous implementation's approach, limited to contacts: a new ObjectMapper binds each object value to a
+     * superset of the attributes of all object types.
+     */
+    private static final class MapperPerValueDeserializer extends JsonDeserializer<ObjectValue> {
+        @Override
+        public ObjectValue deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+            ObjectMapper mapper = new ObjectMapper();
+            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+            ContactAttributes attributes = mapper.readValue(jp, ContactAttributes.class);
+            ContactObjectValue contact = new ContactObjectValue();
+            contact.setName(attributes.name);
+            contact.setEmail(attributes.email);
+            contact.setId(attributes.id);
+            return contact;
+        }
+    }
+
+    private static final class ContactAttributes {
+        public String objectType;
+        public String id;
+        public String name;
+        public String email;
+    }
+}
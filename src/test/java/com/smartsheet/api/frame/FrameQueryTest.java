@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.frame;
+
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ColumnType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FrameQueryTest {
+    private static final long OWNER = 1L;
+    private static final long AMOUNT = 2L;
+    private static final long DUE = 3L;
+    private static final long DONE = 4L;
+
+    @Test
+    void filters_combine() {
+        SheetFrame frame = frame(
+                row("Ann", 10.0, "2024-01-01", true),
+                row("Bob", 20.0, "2024-02-01", false),
+                row("Ann", null, "2024-03-01", true),
+                row("Cid", 40.0, null, true));
+
+        assertThat(frame.query().whereText(OWNER, "Ann"::equals).rows()).containsExactly(0, 2);
+        assertThat(frame.query().whereNumber(AMOUNT, amount -> amount >= 20).rows()).containsExactly(1, 3);
+        assertThat(frame.query().whereDate(DUE, LocalDate.of(2024, 1, 15), LocalDate.of(2024, 3, 1)).rows())
+                .containsExactly(1, 2);
+        assertThat(frame.query().whereBoolean(DONE, true).whereNumber(AMOUNT, amount -> amount > 5).rows())
+                .containsExactly(0, 3);
+        assertThat(frame.query().where(AMOUNT, value -> value == null).rows()).containsExactly(2);
+        assertThat(frame.query().whereText(OWNER, "Ann"::equals).count()).isEqualTo(2);
+    }
+
+    @Test
+    void filters_rejectUnknownColumnsAndWrongKinds() {
+        SheetFrame frame = frame(row("Ann", 10.0, "2024-01-01", true));
+
+        assertThatThrownBy(() -> frame.query().whereNumber(99L, amount -> true))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> frame.query().whereText(AMOUNT, "10"::equals))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> frame.query().groupBy(OWNER, Aggregation.sum(DUE)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void orderBy_sortsWithEmptyCellsLast() {
+        SheetFrame frame = frame(
+                row("Bob", 20.0, null, null),
+                row("Ann", null, null, null),
+                row("Cid", 40.0, null, null),
+                row("Ann", 10.0, null, null));
+
+        assertThat(frame.query().orderBy(AMOUNT, true).rows()).containsExactly(3, 0, 2, 1);
+        assertThat(frame.query().orderBy(AMOUNT, false).rows()).containsExactly(2, 0, 3, 1);
+        assertThat(frame.query().orderBy(OWNER, true).orderBy(AMOUNT, false).rows()).containsExactly(3, 1, 0, 2);
+        assertThat(frame.query().orderBy(AMOUNT, false).limit(2).rows()).containsExactly(2, 0);
+        assertThat(frame.query().limit(0).rows()).isEmpty();
+    }
+
+    @Test
+    void limit_matchesFullSortOnLargeFrame() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            rows.add(row("Owner " + i % 7, (double) ((i * 7919) % 1000), null, null));
+        }
+        SheetFrame frame = frame(rows.toArray(new Object[0][]));
+
+        int[] sorted = frame.query().orderBy(AMOUNT, false).rows();
+        int[] top = frame.query().orderBy(AMOUNT, false).limit(25).rows();
+
+        assertThat(top).containsExactly(Arrays.copyOf(sorted, 25));
+    }
+
+    @Test
+    void select_projectsColumnsIntoNewFrame() {
+        SheetFrame frame = frame(
+                row("Ann", 10.0, "2024-01-01", true),
+                row("Bob", 20.0, "2024-02-01", false));
+
+        SheetFrame projected = frame.query().whereText(OWNER, "Bob"::equals).select(AMOUNT, OWNER).toFrame();
+
+        assertThat(projected.getRowCount()).isEqualTo(1);
+        assertThat(projected.getRowId(0)).isEqualTo(101L);
+        assertThat(projected.getColumns()).hasSize(2);
+        assertThat(projected.getColumns().get(0).getId()).isEqualTo(AMOUNT);
+        assertThat(projected.getValue(0, OWNER)).isEqualTo("Bob");
+        assertThat(projected.getValue(0, AMOUNT)).isEqualTo(20.0);
+        assertThat(projected.getColumn(DUE)).isNull();
+    }
+
+    @Test
+    void groupBy_aggregatesPerGroup() {
+        SheetFrame frame = frame(
+                row("Ann", 10.0, null, true),
+                row("Bob", 20.0, null, false),
+                row("Ann", null, null, true),
+                row(null, 40.0, null, true),
+                row("Ann", 5.0, null, false));
+
+        GroupResult groups = frame.query().groupBy(OWNER, Aggregation.count(), Aggregation.count(AMOUNT),
+                Aggregation.sum(AMOUNT), Aggregation.min(AMOUNT), Aggregation.max(AMOUNT));
+
+        assertThat(groups.size()).isEqualTo(3);
+        assertThat(groups.getKey(0)).isEqualTo("Ann");
+        assertThat(groups.getCount(0)).isEqualTo(3);
+        assertThat(groups.getValue(0, 0)).isEqualTo(3.0);
+        assertThat(groups.getValue(0, 1)).isEqualTo(2.0);
+        assertThat(groups.getValue(0, 2)).isEqualTo(15.0);
+        assertThat(groups.getValue(0, 3)).isEqualTo(5.0);
+        assertThat(groups.getValue(0, 4)).isEqualTo(10.0);
+        assertThat(groups.getKey(2)).isNull();
+        assertThat(groups.getValue(2, 2)).isEqualTo(40.0);
+
+        GroupResult byDone = frame.query().whereNumber(AMOUNT, amount -> amount > 7)
+                .groupBy(DONE, Aggregation.sum(AMOUNT), Aggregation.min(AMOUNT));
+        assertThat(byDone.size()).isEqualTo(2);
+        assertThat(byDone.getKey(0)).isEqualTo(true);
+        assertThat(byDone.getValue(0, 0)).isEqualTo(50.0);
+        assertThat(byDone.getKey(1)).isEqualTo(false);
+        assertThat(byDone.getValue(1, 1)).isEqualTo(20.0);
+
+        GroupResult byAmount = frame.query().groupBy(AMOUNT, Aggregation.count());
+        assertThat(byAmount.size()).isEqualTo(5);
+        assertThat(byAmount.getKey(2)).isNull();
+
+        GroupResult empty = frame.query().whereText(OWNER, "Zed"::equals).groupBy(OWNER, Aggregation.max(AMOUNT));
+        assertThat(empty.size()).isZero();
+    }
+
+    @Test
+    void parallel_matchesSequential() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            rows.add(row("Owner " + i % 13, i % 10 == 0 ? null : (double) (i % 1000), null, i % 3 == 0));
+        }
+        SheetFrame frame = frame(rows.toArray(new Object[0][]));
+
+        FrameQuery sequential = frame.query().whereBoolean(DONE, true);
+        FrameQuery parallel = frame.query().whereBoolean(DONE, true).parallel(true);
+        assertThat(parallel.rows()).containsExactly(sequential.rows());
+
+        GroupResult expected = sequential.groupBy(OWNER, Aggregation.sum(AMOUNT), Aggregation.max(AMOUNT));
+        GroupResult actual = parallel.groupBy(OWNER, Aggregation.sum(AMOUNT), Aggregation.max(AMOUNT));
+        assertThat(actual.size()).isEqualTo(expected.size());
+        for (int group = 0; group < expected.size(); group++) {
+            assertThat(actual.getKey(group)).isEqualTo(expected.getKey(group));
+            assertThat(actual.getCount(group)).isEqualTo(expected.getCount(group));
+            assertThat(actual.getValue(group, 0)).isEqualTo(expected.getValue(group, 0));
+            assertThat(actual.getValue(group, 1)).isEqualTo(expected.getValue(group, 1));
+        }
+    }
+
+    private static Object[] row(String owner, Double amount, String due, Boolean done) {
+        return new Object[]{owner, amount, due, done};
+    }
+
+    private static SheetFrame frame(Object[]... values) {
+        Sheet sheet = new Sheet().setColumns(List.of(
+                new Column(OWNER).setTitle("Owner").setType(ColumnType.PICKLIST),
+                new Column(AMOUNT).setTitle("Amount").setType(ColumnType.TEXT_NUMBER),
+                new Column(DUE).setTitle("Due").setType(ColumnType.DATE),
+                new Column(DONE).setTitle("Done").setType(ColumnType.CHECKBOX)));
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            List<Cell> cells = new ArrayList<>();
+            for (int column = 0; column < values[i].length; column++) {
+                cells.add(new Cell().setColumnId(column + 1L).setValue(values[i][column]));
+            }
+            rows.add(new Row(100L + i).setRowNumber(i + 1).setCells(cells));
+        }
+        sheet.setRows(rows);
+        return SheetFrame.of(sheet);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.frame;
+
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RowHierarchyTest {
+
+    /**
+     * 1
+     *   2
+     *     3
+     *   4
+     * 5
+     *   6
+     * with the rows out of tree order
+     */
+    private static Sheet sheet() {
+        return new Sheet().setRows(List.of(
+                row(1L, null, 10),
+                row(6L, 5L, 1),
+                row(2L, 1L, 20),
+                row(5L, null, 2),
+                row(3L, 2L, 30),
+                row(4L, 1L, 40)));
+    }
+
+    @Test
+    void of_buildsChildrenAndDepths() {
+        RowHierarchy<Row> hierarchy = RowHierarchy.of(sheet());
+
+        int one = hierarchy.indexOf(1L);
+        int two = hierarchy.indexOf(2L);
+        int five = hierarchy.indexOf(5L);
+        assertThat(hierarchy.size()).isEqualTo(6);
+        assertThat(hierarchy.getRoots()).containsExactly(one, five);
+        assertThat(hierarchy.getChildren(one)).containsExactly(two, hierarchy.indexOf(4L));
+        assertThat(hierarchy.getChildCount(hierarchy.indexOf(3L))).isZero();
+        assertThat(hierarchy.getParent(two)).isEqualTo(one);
+        assertThat(hierarchy.getParent(one)).isEqualTo(-1);
+        assertThat(hierarchy.getDepth(hierarchy.indexOf(3L))).isEqualTo(2);
+        assertThat(hierarchy.getRow(five).getId()).isEqualTo(5L);
+        assertThat(hierarchy.indexOf(99L)).isEqualTo(-1);
+    }
+
+    @Test
+    void subtreeRanges_answerAncestorQueries() {
+        RowHierarchy<Row> hierarchy = RowHierarchy.of(sheet());
+        int one = hierarchy.indexOf(1L);
+        int three = hierarchy.indexOf(3L);
+        int four = hierarchy.indexOf(4L);
+
+        assertThat(hierarchy.getTreeIndex(one)).isZero();
+        assertThat(hierarchy.getSubtreeSize(one)).isEqualTo(4);
+        assertThat(hierarchy.getSubtreeEnd(one)).isEqualTo(4);
+        assertThat(hierarchy.getRowAtTreeIndex(2)).isEqualTo(three);
+        assertThat(hierarchy.isAncestor(one, three)).isTrue();
+        assertThat(hierarchy.isAncestor(three, one)).isFalse();
+        assertThat(hierarchy.isAncestor(one, one)).isFalse();
+        assertThat(hierarchy.isAncestor(four, three)).isFalse();
+        assertThat(hierarchy.getAncestors(three)).containsExactly(hierarchy.indexOf(2L), one);
+        assertThat(hierarchy.getAncestors(one)).isEmpty();
+        assertThat(hierarchy.getSubtree(one).stream().map(Row::getId).collect(Collectors.toList())).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void rollUp_sumsEverySubtree() {
+        RowHierarchy<Row> hierarchy = RowHierarchy.of(sheet());
+
+        double[] sums = hierarchy.rollUp(row -> row.getRowNumber());
+
+        assertThat(sums[hierarchy.indexOf(1L)]).isEqualTo(100.0);
+        assertThat(sums[hierarchy.indexOf(2L)]).isEqualTo(50.0);
+        assertThat(sums[hierarchy.indexOf(5L)]).isEqualTo(3.0);
+    }
+
+    @Test
+    void of_treatsRowsWithMissingParentsAsTopLevel() {
+        RowHierarchy<Row> hierarchy = RowHierarchy.of(List.of(row(1L, 42L, 1), row(2L, 1L, 2)));
+
+        assertThat(hierarchy.getRoots()).containsExactly(0);
+        assertThat(hierarchy.getDepth(1)).isEqualTo(1);
+        assertThat(RowHierarchy.of(new Sheet()).size()).isZero();
+    }
+
+    @Test
+    void of_rejectsCycles() {
+        assertThatThrownBy(() -> RowHierarchy.of(List.of(row(1L, 2L, 1), row(2L, 1L, 2), row(3L, null, 3))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RowHierarchy.of(List.of(row(1L, 1L, 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void of_handlesDeepTrees() {
+        List<Row> rows = new ArrayList<>();
+        for (long id = 1; id <= 50_000; id++) {
+            rows.add(row(id, id == 1 ? null : id - 1, 1));
+        }
+
+        RowHierarchy<Row> hierarchy = RowHierarchy.of(rows);
+
+        assertThat(hierarchy.getDepth(49_999)).isEqualTo(49_999);
+        assertThat(hierarchy.rollUp(row -> 1)[0]).isEqualTo(50_000.0);
+        assertThat(hierarchy.isAncestor(0, 49_999)).isTrue();
+    }
+
+    private static Row row(long id, Long parentId, int rowNumber) {
+        return new Row(id).setParentId(parentId).setRowNumber(rowNumber);
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.frame;
+
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Column;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import com.smartsheet.api.models.enums.ColumnType;
+import com.smartsheet.api.models.enums.SystemColumnType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SheetFrameTest {
+
+    @Test
+    void of_packsValuesByColumnType() {
+        Sheet sheet = new Sheet().setColumns(List.of(
+                column(1L, "Amount", ColumnType.TEXT_NUMBER),
+                column(2L, "Status", ColumnType.PICKLIST),
+                column(3L, "Due", ColumnType.DATE),
+                column(4L, "Modified", ColumnType.DATETIME),
+                column(5L, "Done", ColumnType.CHECKBOX)));
+        sheet.setRows(List.of(
+                row(10L, 1, cell(1L, 2.5), cell(2L, "Open"), cell(3L, "2024-01-31"),
+                        cell(4L, "2024-01-31T10:15:30Z"), cell(5L, true)),
+                row(11L, 2, cell(2L, "Closed"), cell(5L, false)),
+                row(12L, 3, cell(1L, 7), cell(2L, "Open"), cell(3L, "2024-02-01"))));
+
+        SheetFrame frame = SheetFrame.of(sheet);
+
+        assertThat(frame.getRowCount()).isEqualTo(3);
+        assertThat(frame.getRowId(2)).isEqualTo(12L);
+        assertThat(frame.getRowNumber(1)).isEqualTo(2);
+
+        NumberColumn amount = (NumberColumn) frame.getColumnByTitle("Amount");
+        assertThat(amount.getKind()).isEqualTo(FrameColumn.Kind.NUMBER);
+        assertThat(amount.getDouble(0)).isEqualTo(2.5);
+        assertThat(amount.isNull(1)).isTrue();
+        assertThat(amount.getValue(2)).isEqualTo(7.0);
+
+        TextColumn status = (TextColumn) frame.getColumn(2L);
+        assertThat(status.getDictionarySize()).isEqualTo(2);
+        assertThat(status.getCode(0)).isEqualTo(status.getCode(2));
+        assertThat(status.getString(1)).isEqualTo("Closed");
+
+        DateColumn due = (DateColumn) frame.getColumn(3L);
+        assertThat(due.getKind()).isEqualTo(FrameColumn.Kind.DATE);
+        assertThat(due.getLocalDate(2)).isEqualTo(LocalDate.of(2024, 2, 1));
+        assertThat(due.getValue(0)).isEqualTo("2024-01-31");
+        assertThat(due.getLocalDate(1)).isNull();
+
+        DateColumn modified = (DateColumn) frame.getColumn(4L);
+        assertThat(modified.getInstant(0)).isEqualTo(Instant.parse("2024-01-31T10:15:30Z"));
+        assertThat(modified.getValue(0)).isEqualTo("2024-01-31T10:15:30Z");
+
+        BooleanColumn done = (BooleanColumn) frame.getColumn(5L);
+        assertThat(done.getBoolean(0)).isTrue();
+        assertThat(done.getBoolean(1)).isFalse();
+        assertThat(done.isNull(1)).isFalse();
+        assertThat(done.isNull(2)).isTrue();
+
+        assertThatThrownBy(() -> amount.isNull(3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void of_switchesToTextForMixedValues() {
+        Sheet sheet = new Sheet().setColumns(List.of(
+                column(1L, "Mixed", ColumnType.TEXT_NUMBER),
+                column(2L, "Date", ColumnType.DATE)));
+        sheet.setRows(List.of(
+                row(1L, 1, cell(1L, 1), cell(2L, "2024-01-31")),
+                row(2L, 2),
+                row(3L, 3, cell(1L, "n/a"), cell(2L, "31/01/2024"))));
+
+        SheetFrame frame = SheetFrame.of(sheet);
+
+        FrameColumn mixed = frame.getColumn(1L);
+        assertThat(mixed.getKind()).isEqualTo(FrameColumn.Kind.TEXT);
+        assertThat(mixed.getValue(0)).isEqualTo(1.0);
+        assertThat(mixed.getValue(1)).isNull();
+        assertThat(mixed.getValue(2)).isEqualTo("n/a");
+
+        FrameColumn date = frame.getColumn(2L);
+        assertThat(date.getKind()).isEqualTo(FrameColumn.Kind.TEXT);
+        assertThat(date.getValue(0)).isEqualTo("2024-01-31");
+        assertThat(date.getValue(2)).isEqualTo("31/01/2024");
+    }
+
+    @Test
+    void toRow_keepsIdAndNonEmptyCells() {
+        Sheet sheet = new Sheet().setColumns(List.of(
+                column(1L, "Amount", ColumnType.TEXT_NUMBER),
+                column(2L, "Status", ColumnType.PICKLIST)));
+        sheet.setRows(List.of(row(10L, 1, cell(2L, "Open"), cell(1L, 3.0))));
+
+        Row row = SheetFrame.of(sheet).toRows().get(0);
+
+        assertThat(row.getId()).isEqualTo(10L);
+        assertThat(row.getCells()).hasSize(2);
+        assertThat(row.getCells().get(0).getColumnId()).isEqualTo(1L);
+        assertThat(row.getCells().get(0).getValue()).isEqualTo(3.0);
+        assertThat(row.getCells().get(1).getValue()).isEqualTo("Open");
+    }
+
+    @Test
+    void toRow_skipsCalculatedValues() {
+        Sheet sheet = new Sheet().setColumns(List.of(
+                column(1L, "Amount", ColumnType.TEXT_NUMBER),
+                column(2L, "Total", ColumnType.TEXT_NUMBER).setFormula("=[Amount]@row * 2"),
+                column(3L, "Modified", ColumnType.DATETIME).setSystemColumnType(SystemColumnType.MODIFIED_DATE),
+                column(4L, "Status", ColumnType.TEXT_NUMBER)));
+        sheet.setRows(List.of(
+                row(10L, 1, cell(1L, 3.0), cell(2L, 6.0), cell(3L, "2024-01-31T10:15:30Z"),
+                        cell(4L, 5.0).setFormula("=[Amount]@row + 2")),
+                row(11L, 2, cell(1L, 1.0), cell(2L, 2.0), cell(4L, "On time"))));
+
+        SheetFrame frame = SheetFrame.of(sheet);
+
+        assertThat(frame.getColumn(4L).hasFormula(0)).isTrue();
+        assertThat(frame.getColumn(4L).hasFormula(1)).isFalse();
+        List<Row> rows = frame.toRows();
+        assertThat(rows.get(0).getCells()).hasSize(1);
+        assertThat(rows.get(0).getCells().get(0).getColumnId()).isEqualTo(1L);
+        assertThat(rows.get(1).getCells()).hasSize(2);
+        assertThat(rows.get(1).getCells().get(1).getValue()).isEqualTo("On time");
+    }
+
+    @Test
+    void toRow_withColumnIds_keepsOnlyThoseColumns() {
+        Sheet sheet = new Sheet().setColumns(List.of(
+                column(1L, "Amount", ColumnType.TEXT_NUMBER),
+                column(2L, "Status", ColumnType.PICKLIST)));
+        sheet.setRows(List.of(row(10L, 1, cell(1L, 3.0), cell(2L, "Open"))));
+        SheetFrame frame = SheetFrame.of(sheet);
+
+        Row row = frame.toRow(0, 2L);
+
+        assertThat(row.getId()).isEqualTo(10L);
+        assertThat(row.getCells()).hasSize(1);
+        assertThat(row.getCells().get(0).getValue()).isEqualTo("Open");
+        assertThatThrownBy(() -> frame.toRow(0, 3L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void builder_readsStreamedSheet() throws Exception {
+        String json = "{\"id\":1,\"name\":\"Sheet\",\"columns\":[{\"id\":5,\"title\":\"Amount\",\"type\":\"TEXT_NUMBER\"}],"
+                + "\"rows\":[{\"id\":100,\"rowNumber\":1,\"cells\":[{\"columnId\":5,\"value\":12}]},"
+                + "{\"id\":101,\"rowNumber\":2,\"parentId\":100,\"cells\":[{\"columnId\":5}]}]}";
+        SheetFrame.SheetFrameBuilder builder = new SheetFrame.SheetFrameBuilder();
+
+        new JacksonJsonSerializer().deserializeStreaming(Sheet.class, "rows", Row.class,
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), null, builder::onSheet, builder::onRow);
+        SheetFrame frame = builder.build();
+
+        assertThat(frame.getSheetId()).isEqualTo(1L);
+        assertThat(frame.getRowCount()).isEqualTo(2);
+        assertThat(frame.getParentId(1)).isEqualTo(100L);
+        assertThat(frame.getValue(0, 5L)).isEqualTo(12.0);
+        assertThat(frame.getValue(1, 5L)).isNull();
+        assertThat(frame.getValue(1, 6L)).isNull();
+    }
+
+    @Test
+    void builder_requiresSheetFirst() {
+        SheetFrame.SheetFrameBuilder builder = new SheetFrame.SheetFrameBuilder();
+
+        assertThatThrownBy(() -> builder.onRow(new Row())).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(builder::build).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static Column column(long id, String title, ColumnType type) {
+        return new Column(id).setTitle(title).setType(type);
+    }
+
+    private static Row row(long id, int rowNumber, Cell... cells) {
+        return new Row(id).setRowNumber(rowNumber).setCells(List.of(cells));
+    }
+
+    private static Cell cell(long columnId, Object value) {
+        return new Cell().setColumnId(columnId).setValue(value);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.InvalidRequestException;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.PagedResult;
+import com.smartsheet.api.models.PaginationParameters;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncSheetResourcesImplTest extends ResourcesImplBase {
+
+    private SmartsheetImpl smartsheet;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        smartsheet = new SmartsheetImpl("http://localhost:9090/2.0/", "accessToken", new DefaultHttpClient(), serializer);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        smartsheet.getHttpClient().close();
+    }
+
+    @Test
+    void testGetSheet() throws Exception {
+        server.setResponseBody(new File("src/test/resources/getSheet.json"));
+
+        Sheet sheet = smartsheet.async().sheetResources().getSheet(123123L).get(10, TimeUnit.SECONDS);
+
+        assertThat(sheet.getColumns()).hasSize(9);
+        assertThat(server.getLastRequestUrl()).endsWith("/2.0/sheets/123123");
+    }
+
+    @Test
+    void testGetSheetConcurrently() throws Exception {
+        server.setResponseBody(new File("src/test/resources/getSheet.json"));
+
+        List<CompletableFuture<Sheet>> futures = new ArrayList<>();
+        for (long sheetId = 0; sheetId < 32; sheetId++) {
+            futures.add(smartsheet.async().sheetResources().getSheet(sheetId));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+
+        for (CompletableFuture<Sheet> future : futures) {
+            assertThat(future.join().getColumns()).hasSize(9);
+        }
+    }
+
+    @Test
+    void testListSheets() throws Exception {
+        server.setResponseBody(new File("src/test/resources/listSheets.json"));
+        PaginationParameters pagination = new PaginationParameters(true, 1, 1);
+
+        PagedResult<Sheet> result = smartsheet.async().sheetResources().listSheets(null, pagination, null)
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(result.getData()).isNotEmpty();
+    }
+
+    @Test
+    void testAddRows() throws Exception {
+        server.setResponseBody(new File("src/test/resources/insertRows.json"));
+        Cell cell = new Cell();
+        cell.setColumnId(1L);
+        cell.setValue("value");
+        Row row = new Row();
+        row.setCells(List.of(cell));
+
+        List<Row> rows = smartsheet.async().sheetResources().rowResources().addRows(1234L, List.of(row), null, null)
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(rows).isNotEmpty();
+    }
+
+    @Test
+    void testGetSheet_error() {
+        server.setStatus(400);
+        server.setResponseBody("{\"errorCode\":1032,\"message\":\"Something went wrong\"}");
+
+        CompletableFuture<Sheet> future = smartsheet.async().sheetResources().getSheet(123123L);
+
+        assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(InvalidRequestException.class)
+                .hasRootCauseMessage("Something went wrong");
+    }
+}
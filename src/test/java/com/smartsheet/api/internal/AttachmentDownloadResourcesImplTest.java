@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal;
+
+import com.smartsheet.api.SmartsheetException;
+import com.smartsheet.api.internal.http.DefaultHttpClient;
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Attachment;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AttachmentDownloadResourcesImplTest {
+
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+    private final byte[] content = new byte[100_000];
+    private final List<Long> requestedStarts = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile boolean rangesSupported = true;
+    private volatile long failingStart = -1;
+
+    private HttpServer server;
+    private String url;
+    private AttachmentDownloadResourcesImpl downloads;
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        new Random(42).nextBytes(content);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/download", this::serve);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + "/download?signature=abc";
+        SmartsheetImpl smartsheet = new SmartsheetImpl("http://localhost:9090/1.1/", "accessToken",
+                new DefaultHttpClient(), new JacksonJsonSerializer());
+        downloads = new AttachmentDownloadResourcesImpl(smartsheet, 3, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void downloadAttachment_fetchesRangesInParallelWithinLimit() throws Exception {
+        Path target = dir.resolve("file.bin");
+
+        assertThat(downloads.downloadAttachment(url, target)).isEqualTo(content.length);
+
+        assertThat(Files.readAllBytes(target)).isEqualTo(content);
+        assertThat(requestedStarts).hasSize(10);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+        assertThat(dir.resolve("file.bin.part")).doesNotExist();
+        assertThat(dir.resolve("file.bin.part.state")).doesNotExist();
+    }
+
+    @Test
+    void downloadAttachment_streamsWholeContentWithoutRangeSupport() throws Exception {
+        rangesSupported = false;
+        Path target = dir.resolve("file.bin");
+
+        assertThat(downloads.downloadAttachment(url, target)).isEqualTo(content.length);
+
+        assertThat(Files.readAllBytes(target)).isEqualTo(content);
+        assertThat(requestedStarts).hasSize(1);
+    }
+
+    @Test
+    void downloadAttachment_resumesWithMissingParts() throws Exception {
+        Path target = dir.resolve("file.bin");
+        failingStart = 50_000;
+        assertThatThrownBy(() -> downloads.downloadAttachment(url, target)).isInstanceOf(SmartsheetException.class);
+        assertThat(target).doesNotExist();
+        assertThat(dir.resolve("file.bin.part.state")).exists();
+        int firstRunRequests = requestedStarts.size();
+
+        failingStart = -1;
+        requestedStarts.clear();
+        assertThat(downloads.downloadAttachment(url, target)).isEqualTo(content.length);
+
+        assertThat(Files.readAllBytes(target)).isEqualTo(content);
+        assertThat(requestedStarts).contains(50_000L).hasSizeLessThan(10);
+        assertThat(firstRunRequests + requestedStarts.size()).isLessThanOrEqualTo(10 + 3);
+    }
+
+    @Test
+    void downloadAttachment_requiresDownloadUrl() {
+        assertThatThrownBy(() -> downloads.downloadAttachment(new Attachment(), dir.resolve("file.bin")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            String range = exchange.getRequestHeaders().getFirst("Range");
+            Matcher matcher = range == null ? null : RANGE.matcher(range);
+            exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+            if (!rangesSupported || matcher == null || !matcher.matches()) {
+                requestedStarts.add(0L);
+                send(exchange, 200, content);
+                return;
+            }
+            long start = Long.parseLong(matcher.group(1));
+            long end = Math.min(Long.parseLong(matcher.group(2)), content.length - 1);
+            requestedStarts.add(start);
+            if (start == failingStart) {
+                send(exchange, 500, new byte[0]);
+                return;
+            }
+            exchange.getResponseHeaders().add("Accept-Ranges", "bytes");
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            exchange.getResponseHeaders().add("Content-Range", "bytes " + start + "-" + end + "/" + content.length);
+            send(exchange, 206, Arrays.copyOfRange(content, (int) start, (int) end + 1));
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -65,6 +65,19 @@ class DiscussionCommentResourcesImplTest extends ResourcesImplBase {
         assertThat(newComment.getAttachments().get(0).getDescription()).isEqualTo("this is an attachment description");
     }
 
+    @Test
+    void testAddCommentWithAttachment_sendsMultipartBodyThroughHttpClient() throws SmartsheetException, IOException {
+        server.setResponseBody(new File("src/test/resources/addDiscussionCommentWithAttachment.json"));
+        File file = new File("src/test/resources/large_sheet.pdf");
+        Comment comment = new Comment.AddCommentBuilder().setText("new comment with attachment.").build();
+
+        discussionCommentResources.addCommentWithAttachment(1234L, 456L, comment, file, "application/pdf");
+        assertThat(server.getRequestBody())
+                .contains("name=\"comment\"")
+                .contains("new comment with attachment.")
+                .contains("name=\"file\"; filename=\"large_sheet.pdf\"");
+    }
+
     @Test
     void testUpdateComment() throws SmartsheetException, IOException {
         server.setResponseBody(new File("src/test/resources/addDiscussionComment.json"));
@@ -72,7 +72,7 @@ class RowAttachmentResourcesImplTest extends ResourcesImplBase {
 
     @Test
     void testAttachFile_InputValidation() {
-        assertThatThrownBy(() -> rowAttachmentResources.attachFile(1234L, 345L, null,
+        assertThatThrownBy(() -> rowAttachmentResources.attachFile(1234L, 345L, (File) null,
                 "application/pdf")).isInstanceOf(IllegalArgumentException.class);
 
         File file = new File("src/test/resources/large_sheet.pdf");
@@ -29,8 +29,11 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -103,7 +106,7 @@ class SheetAttachmentResourcesImplTest extends ResourcesImplBase {
     @Test
     void testAttachFile_InputValidation() {
         File file = new File("src/test/resources/large_sheet.pdf");
-        assertThatThrownBy(() -> sheetAttachmentResources.attachFile(1234L, null,
+        assertThatThrownBy(() -> sheetAttachmentResources.attachFile(1234L, (File) null,
                 "application/pdf")).isInstanceOf(IllegalArgumentException.class);
         assertThatThrownBy(() -> sheetAttachmentResources.attachFile(1234L, file,
                 null)).isInstanceOf(IllegalArgumentException.class);
@@ -111,6 +114,23 @@ class SheetAttachmentResourcesImplTest extends ResourcesImplBase {
                 "")).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void testAttachFileAsPath() throws SmartsheetException, IOException {
+        server.setResponseBody(new File("src/test/resources/attachFile.json"));
+        Path file = Paths.get("src/test/resources/large_sheet.pdf");
+        Attachment attachment = sheetAttachmentResources.attachFile(1234L, file, "application/pdf");
+        assertThat(attachment.getId()).isEqualTo(7265404226692996L);
+        assertThat(attachment.getMimeType()).isEqualTo("application/pdf");
+        assertThat(server.getRequestBody()).isNotEmpty();
+    }
+
+    @Test
+    void testAttachFileAsPath_MissingFile() {
+        Path file = Paths.get("src/test/resources/missing.pdf");
+        assertThatThrownBy(() -> sheetAttachmentResources.attachFile(1234L, file, "application/pdf"))
+                .isInstanceOf(FileNotFoundException.class);
+    }
+
     @Test
     void testAttachFileAsInputStream() throws SmartsheetException, IOException {
         server.setResponseBody(new File("src/test/resources/attachFile.json"));
@@ -16,6 +16,7 @@
 
 package com.smartsheet.api.internal;
 
+import com.smartsheet.api.RowHandler;
 import com.smartsheet.api.SmartsheetException;
 import com.smartsheet.api.internal.http.DefaultHttpClient;
 import com.smartsheet.api.models.Column;
@@ -27,6 +28,7 @@ import com.smartsheet.api.models.PaginationParameters;
 import com.smartsheet.api.models.Recipient;
 import com.smartsheet.api.models.RecipientEmail;
 import com.smartsheet.api.models.RecipientGroup;
+import com.smartsheet.api.models.Row;
 import com.smartsheet.api.models.Sheet;
 import com.smartsheet.api.models.SheetEmail;
 import com.smartsheet.api.models.SheetPublish;
@@ -131,6 +133,32 @@ class SheetResourcesImplTest extends ResourcesImplBase {
         assertThat(sheet.getRows()).isEmpty();
     }
 
+    @Test
+    void testStreamSheet() throws SmartsheetException, IOException {
+
+        server.setResponseBody(new File("src/test/resources/streamSheet.json"));
+        List<Object> events = new ArrayList<>();
+        Sheet sheet = sheetResource.streamSheet(123123L, new RowHandler() {
+            @Override
+            public void onSheet(Sheet sheet) {
+                assertThat(sheet.getRows()).isNull();
+                events.add(sheet);
+            }
+
+            @Override
+            public void onRow(Row row) {
+                events.add(row.getId());
+            }
+        });
+
+        // the sheet comes first, then the rows in order
+        assertThat(events).containsExactly(sheet, 1001L, 1002L, 1003L);
+        assertThat(sheet.getColumns()).hasSize(9);
+        assertThat(sheet.getRows()).isNull();
+        // accessLevel follows the rows in the response
+        assertThat(sheet.getAccessLevel()).isEqualTo(AccessLevel.OWNER);
+    }
+
     @Test
     void testGetSheetWithFormat() throws SmartsheetException, IOException {
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(1));
+
+    @Test
+    void acquireAsync_queuesRequestsOverTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, now::get);
+
+        assertThat(limiter.acquireAsync()).isDone();
+        assertThat(limiter.acquireAsync()).isDone();
+        CompletableFuture<Void> third = limiter.acquireAsync();
+
+        assertThat(third).isNotDone();
+        assertThat(limiter.getWaiting()).isEqualTo(1);
+
+        limiter.release(200, FAST);
+
+        assertThat(third).isDone();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void release_growsLimitOnFastSuccess() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, now::get);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquireAsync();
+            limiter.acquireAsync();
+            limiter.release(200, FAST);
+            limiter.release(200, FAST);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(2);
+    }
+
+    @Test
+    void release_shrinksLimitOnOverloadOncePerRoundTrip() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 10, now::get).setBackoffRatio(0.5);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquireAsync();
+        }
+
+        // a burst of rate-limit responses from the same moment only counts once
+        limiter.release(429, FAST);
+        limiter.release(429, FAST);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limiter.release(503, FAST);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void release_shrinksLimitOnSlowResponse() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, now::get).setBackoffRatio(0.5);
+        limiter.acquireAsync();
+        limiter.acquireAsync();
+
+        limiter.release(200, FAST);
+        limiter.release(200, FAST * 10);
+
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void release_comparesLatencyWithinRequestClass() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, now::get).setBackoffRatio(0.5);
+        String getRow = AdaptiveConcurrencyLimiter.requestClass("GET", URI.create("https://api/2.0/sheets/1/rows/2"));
+        String getSheet = AdaptiveConcurrencyLimiter.requestClass("GET", URI.create("https://api/2.0/sheets/3"));
+        for (int i = 0; i < 4; i++) {
+            limiter.acquireAsync();
+        }
+
+        // a large sheet taking longer than a row is not a sign of overload
+        limiter.release(getRow, 200, FAST);
+        limiter.release(getSheet, 200, FAST * 10);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        limiter.release(getRow, 200, FAST * 10);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void requestClass_replacesIdsInPath() {
+        URI rowUri = URI.create("https://api.smartsheet.com/2.0/sheets/123/rows/456?include=x");
+        assertThat(AdaptiveConcurrencyLimiter.requestClass("GET", rowUri))
+                .isEqualTo("GET /2.0/sheets/*/rows/*");
+        assertThat(AdaptiveConcurrencyLimiter.requestClass("POST", URI.create("https://api.smartsheet.com/2.0/sheets")))
+                .isEqualTo("POST /2.0/sheets");
+    }
+
+    @Test
+    void releaseWithoutSample_keepsLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(3, 1, 10, now::get);
+        limiter.acquireAsync();
+
+        limiter.releaseWithoutSample();
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void constructor_rejectsUnorderedLimits() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(5, 6, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -46,20 +46,16 @@ class DefaultHttpClientIT {
         // Note this requires an internet connection
         request.setUri(new URI("http://google.com"));
         request.setMethod(HttpMethod.GET);
-        client.request(request);
-        client.releaseConnection();
+        client.request(request).close();
 
         request.setMethod(HttpMethod.POST);
-        client.request(request);
-        client.releaseConnection();
+        client.request(request).close();
 
         request.setMethod(HttpMethod.PUT);
-        client.request(request);
-        client.releaseConnection();
+        client.request(request).close();
 
         request.setMethod(HttpMethod.DELETE);
-        client.request(request);
-        client.releaseConnection();
+        client.request(request).close();
 
         // Test request with set headers and http entity but a null content
         Map<String, String> headers = new HashMap<>();
@@ -69,21 +65,18 @@ class DefaultHttpClientIT {
         request.setEntity(entity);
         request.setHeaders(headers);
         request.setMethod(HttpMethod.POST);
-        client.request(request);
-        client.releaseConnection();
+        client.request(request).close();
 
         // Test request with set headers and http entity and some content
         entity.setContent(new ByteArrayInputStream("Hello World!".getBytes()));
         request.setEntity(entity);
-        client.request(request);
-        client.releaseConnection();
+        client.request(request).close();
 
         // Test Client Protocol Exception by passing a second content-length
         headers.put("Content-Length", "10");
         request.setHeaders(headers);
         assertThatThrownBy(() -> client.request(request))
                 .isInstanceOf(HttpClientException.class);
-        client.releaseConnection();
         headers.remove("Content-Length");
         request.setHeaders(headers);
 
@@ -91,6 +84,5 @@ class DefaultHttpClientIT {
         request.setUri(new URI("http://bad.domain"));
         assertThatThrownBy(() -> client.request(request))
                 .isInstanceOf(HttpClientException.class);
-        client.releaseConnection();
     }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.HttpTestServer;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DefaultHttpClientTest {
+
+    private static final String BODY = "{\"message\":\"SUCCESS\",\"resultCode\":0}";
+
+    private HttpTestServer server;
+    private DefaultHttpClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new HttpTestServer(BODY);
+        server.setPort(9090);
+        server.start();
+        client = new DefaultHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+        server.stop();
+    }
+
+    @Test
+    void request_sharedAcrossThreads_eachResponseOwnsItsConnection() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                tasks.add(() -> {
+                    try (HttpResponse response = client.request(newGetRequest())) {
+                        String content = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
+                        assertThat(content).isEqualTo(BODY);
+                        return response.getStatusCode();
+                    }
+                });
+            }
+            for (Future<Integer> future : executor.invokeAll(tasks, 30, TimeUnit.SECONDS)) {
+                assertThat(future.get()).isEqualTo(200);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void close_isIdempotent() throws Exception {
+        HttpResponse response = client.request(newGetRequest());
+        response.close();
+        response.close();
+
+        // the deprecated release does nothing; calling it after the response is closed must not fail
+        client.releaseConnection();
+    }
+
+    @Test
+    void request_streamingEntity_sendsSmallAndLargeBodiesWhole() throws Exception {
+        for (int size : new int[]{16, StreamingHttpEntity.BUFFER_THRESHOLD * 3}) {
+            String body = "x".repeat(size);
+            HttpRequest request = newGetRequest();
+            request.setMethod(HttpMethod.POST);
+            request.setEntity(new StreamingHttpEntity("application/json",
+                    outputStream -> outputStream.write(body.getBytes(StandardCharsets.UTF_8))));
+
+            try (HttpResponse response = client.request(request)) {
+                assertThat(response.getStatusCode()).isEqualTo(200);
+            }
+            assertThat(server.getRequestBody()).isEqualTo(body);
+        }
+    }
+
+    @Test
+    void request_errorResponse_bodyCanBeLoggedAfterRetryCheck() throws Exception {
+        String error = "{\"errorCode\":1006,\"message\":\"Not Found\"}";
+        server.setStatus(404);
+        server.setResponseBody(error);
+        List<HttpEntitySnapshot> logged = new ArrayList<>();
+        client.close();
+        client = new DefaultHttpClient() {
+            @Override
+            public void logRequest(HttpRequestBase request, HttpEntitySnapshot requestEntity, HttpResponse response,
+                                   HttpEntitySnapshot responseEntity, long durationMillis) {
+                // keep the snapshot to log it once the response has been handled, as an error handler would
+                logged.add(responseEntity);
+            }
+        };
+
+        try (HttpResponse response = client.request(newGetRequest())) {
+            assertThat(response.getStatusCode()).isEqualTo(404);
+            assertThat(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8)).isEqualTo(error);
+        }
+        assertThat(logged).hasSize(1);
+        String loggedBody = new String(logged.get(0).getContentArray(), StandardCharsets.UTF_8);
+        assertThat(loggedBody).isEqualTo(error);
+        assertThat(loggedBody).doesNotContain("**content read before it was logged**");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void request_overriddenShouldRetry_decidesOnRetries() throws Exception {
+        server.setStatus(500);
+        server.setResponseBody("{\"errorCode\":4004,\"message\":\"An unexpected error has occurred.\"}");
+        List<Integer> attempts = new ArrayList<>();
+        client.close();
+        client = new DefaultHttpClient() {
+            @Override
+            public boolean shouldRetry(int previousAttempts, long totalElapsedTimeMillis, HttpResponse response) {
+                attempts.add(previousAttempts);
+                return previousAttempts < 3;
+            }
+        };
+
+        try (HttpResponse response = client.request(newGetRequest())) {
+            assertThat(response.getStatusCode()).isEqualTo(500);
+        }
+        assertThat(attempts).containsExactly(1, 2, 3);
+    }
+
+    private static HttpRequest newGetRequest() {
+        HttpRequest request = new HttpRequest();
+        request.setUri(URI.create("http://localhost:9090/2.0/sheets"));
+        request.setMethod(HttpMethod.GET);
+        request.setHeaders(new HashMap<>());
+        return request;
+    }
+}
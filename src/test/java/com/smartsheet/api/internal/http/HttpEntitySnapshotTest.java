@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpEntitySnapshotTest {
+
+    private static final String CONTENT = "{\"id\":1,\"name\":\"sheet\"}";
+
+    private static HttpEntity jsonEntity() {
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType("application/json;charset=UTF-8");
+        entity.setContentLength(CONTENT.length());
+        // a stream which cannot be reset, like a response read from the connection
+        entity.setContent(new FilterInputStream(new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8))) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        });
+        return entity;
+    }
+
+    @Test
+    void lazy_copiesContentWhenAskedBeforeItIsRead() throws Exception {
+        HttpEntity entity = jsonEntity();
+
+        HttpEntitySnapshot snapshot = HttpEntitySnapshot.lazy(entity);
+
+        assertThat(new String(snapshot.getContentArray(), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+        assertThat(new String(entity.getContent().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void lazy_leavesContentAloneWhenNotAsked() throws Exception {
+        HttpEntity entity = jsonEntity();
+
+        HttpEntitySnapshot snapshot = HttpEntitySnapshot.lazy(entity);
+        InputStream content = entity.getContent();
+
+        assertThat(content.markSupported()).isFalse();
+        assertThat(new String(content.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+        assertThat(new String(snapshot.getContentArray(), StandardCharsets.UTF_8)).contains("read before it was logged");
+    }
+
+    @Test
+    void lazy_keepsContentTypeAndLength() {
+        HttpEntitySnapshot snapshot = HttpEntitySnapshot.lazy(jsonEntity());
+
+        assertThat(snapshot.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(snapshot.getContentLength()).isEqualTo(CONTENT.length());
+    }
+
+    @Test
+    void constructor_copiesContentStraightAway() throws Exception {
+        HttpEntity entity = jsonEntity();
+
+        HttpEntitySnapshot snapshot = new HttpEntitySnapshot(entity);
+
+        assertThat(entity.getContent().markSupported()).isTrue();
+        assertThat(new String(snapshot.getContentArray(), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+    }
+}
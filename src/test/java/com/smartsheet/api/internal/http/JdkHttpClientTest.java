@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.HttpTestServer;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JdkHttpClientTest {
+
+    private static final String BODY = "{\"message\":\"SUCCESS\",\"resultCode\":0}";
+
+    private HttpTestServer server;
+    private JdkHttpClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new HttpTestServer(BODY);
+        server.setPort(9090);
+        server.start();
+        client = new JdkHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+        server.stop();
+    }
+
+    @Test
+    void request_returnsResponse() throws Exception {
+        try (HttpResponse response = client.request(newRequest(HttpMethod.GET))) {
+            assertThat(response.getStatusCode()).isEqualTo(200);
+            assertThat(response.getHeaders().get("content-type")).startsWith("application/json");
+            assertThat(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        }
+    }
+
+    @Test
+    void request_sendsBody() throws Exception {
+        HttpRequest request = newRequest(HttpMethod.POST);
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType("application/json");
+        entity.setContent(new ByteArrayInputStream("{\"name\":\"x\"}".getBytes(StandardCharsets.UTF_8)));
+        entity.setContentLength(12);
+        request.setEntity(entity);
+
+        client.request(request).close();
+
+        assertThat(server.getRequestBody()).isEqualTo("{\"name\":\"x\"}");
+    }
+
+    @Test
+    void requestAsync_manyConcurrentRequests() throws Exception {
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            futures.add(client.requestAsync(newRequest(HttpMethod.GET)).thenApply(response -> {
+                try (HttpResponse closeable = response) {
+                    return closeable.getStatusCode();
+                }
+            }));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        for (CompletableFuture<Integer> future : futures) {
+            assertThat(future.join()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void request_doesNotRetryNonRetryableError() throws Exception {
+        server.setStatus(404);
+        server.setResponseBody("{\"errorCode\":1006,\"message\":\"Not Found\"}");
+
+        try (HttpResponse response = client.request(newRequest(HttpMethod.GET))) {
+            assertThat(response.getStatusCode()).isEqualTo(404);
+            // the body read to decide on the retry must still be readable by the caller
+            assertThat(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8)).contains("1006");
+        }
+    }
+
+    @Test
+    void request_resendsGetAfterDroppedConnection() throws Exception {
+        AtomicInteger connections = new AtomicInteger();
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            startDroppingFirstConnection(serverSocket, connections);
+
+            HttpRequest request = newRequest(HttpMethod.GET);
+            request.setUri(URI.create("http://localhost:" + serverSocket.getLocalPort() + "/2.0/sheets"));
+            try (HttpResponse response = client.request(request)) {
+                assertThat(response.getStatusCode()).isEqualTo(200);
+                assertThat(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+            }
+            assertThat(connections.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void request_doesNotResendPostAfterDroppedConnection() throws Exception {
+        AtomicInteger connections = new AtomicInteger();
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            startDroppingFirstConnection(serverSocket, connections);
+
+            // the server has read the whole request when it drops the connection, so a resend could duplicate it
+            HttpRequest request = newRequest(HttpMethod.POST);
+            request.setUri(URI.create("http://localhost:" + serverSocket.getLocalPort() + "/2.0/sheets"));
+            request.setEntity(new StreamingHttpEntity("application/json", 2,
+                    outputStream -> outputStream.write("{}".getBytes(StandardCharsets.US_ASCII))));
+            assertThatThrownBy(() -> client.request(request)).isInstanceOf(HttpClientException.class);
+            assertThat(connections.get()).isEqualTo(1);
+        }
+    }
+
+    /**
+     * Answer every connection but the first, which is dropped once the request has been read.
+     */
+    private static void startDroppingFirstConnection(ServerSocket serverSocket, AtomicInteger connections) {
+        Thread serverThread = new Thread(() -> {
+            try {
+                while (true) {
+                    try (Socket socket = serverSocket.accept()) {
+                        BufferedReader reader = new BufferedReader(
+                                new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                        int contentLength = 0;
+                        String line = reader.readLine();
+                        while (line != null && !line.isEmpty()) {
+                            if (line.toLowerCase().startsWith("content-length:")) {
+                                contentLength = Integer.parseInt(line.substring("content-length:".length()).trim());
+                            }
+                            line = reader.readLine();
+                        }
+                        reader.skip(contentLength);
+                        // drop the first connection without answering
+                        if (connections.incrementAndGet() > 1) {
+                            socket.getOutputStream().write(("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\n"
+                                    + "Content-Length: " + BODY.length() + "\r\nConnection: close\r\n\r\n" + BODY)
+                                    .getBytes(StandardCharsets.US_ASCII));
+                        }
+                    }
+                }
+            } catch (IOException ignore) {
+                // the server socket was closed
+            }
+        });
+        serverThread.setDaemon(true);
+        serverThread.start();
+    }
+
+    @Test
+    void close_failsLaterRequests() {
+        client.close();
+
+        assertThatThrownBy(() -> client.request(newRequest(HttpMethod.GET))).isInstanceOf(HttpClientException.class);
+    }
+
+    private static HttpRequest newRequest(HttpMethod method) {
+        HttpRequest request = new HttpRequest();
+        request.setUri(URI.create("http://localhost:9090/2.0/sheets"));
+        request.setMethod(method);
+        request.setHeaders(new HashMap<>());
+        return request;
+    }
+}
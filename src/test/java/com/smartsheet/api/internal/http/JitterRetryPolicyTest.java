@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.models.Error;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JitterRetryPolicyTest {
+
+    @Test
+    void getBackoffMillis_staysBetweenBaseAndThreeTimesPreviousBackoff() {
+        JitterRetryPolicy policy = new JitterRetryPolicy(100, 10000, null);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.getBackoffMillis(1, 0, 15000, response(null), error(4003))).isBetween(100L, 300L);
+            assertThat(policy.getBackoffMillis(3, 1000, 15000, response(null), error(4003))).isBetween(100L, 3000L);
+        }
+    }
+
+    @Test
+    void getBackoffMillis_isCapped() {
+        JitterRetryPolicy policy = new JitterRetryPolicy(100, 500, null);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.getBackoffMillis(5, 5000, 15000, response(null), error(4004))).isBetween(100L, 500L);
+        }
+    }
+
+    @Test
+    void getBackoffMillis_honorsRetryAfterSeconds() {
+        JitterRetryPolicy policy = new JitterRetryPolicy(100, 500, null);
+
+        assertThat(policy.getBackoffMillis(1, 0, 15000, response("3"), error(4003))).isEqualTo(3000);
+    }
+
+    @Test
+    void getBackoffMillis_honorsRetryAfterDate() {
+        JitterRetryPolicy policy = new JitterRetryPolicy(100, 500, null);
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(10));
+
+        assertThat(policy.getBackoffMillis(1, 0, 15000, response(date), error(4003))).isBetween(8000L, 10000L);
+    }
+
+    @Test
+    void getBackoffMillis_doesNotRetryPastRemainingTime() {
+        JitterRetryPolicy policy = new JitterRetryPolicy(100, 500, null);
+
+        assertThat(policy.getBackoffMillis(1, 0, 2000, response("3"), error(4003))).isEqualTo(RetryPolicy.NO_RETRY);
+    }
+
+    @Test
+    void getBackoffMillis_doesNotRetryPermanentErrors() {
+        JitterRetryPolicy policy = new JitterRetryPolicy(100, 500, null);
+
+        assertThat(policy.getBackoffMillis(1, 0, 15000, response(null), error(1006))).isEqualTo(RetryPolicy.NO_RETRY);
+    }
+
+    @Test
+    void getBackoffMillis_stopsWhenBudgetIsExhausted() {
+        RetryBudget budget = new RetryBudget(0.1, 0);
+        JitterRetryPolicy policy = new JitterRetryPolicy(100, 500, budget);
+        for (int i = 0; i < 10; i++) {
+            policy.onRequest();
+        }
+
+        assertThat(policy.getBackoffMillis(1, 0, 15000, response(null), error(4003))).isPositive();
+        assertThat(policy.getBackoffMillis(1, 0, 15000, response(null), error(4003))).isEqualTo(RetryPolicy.NO_RETRY);
+    }
+
+    @Test
+    void getRetryAfterMillis_ignoresCaseAndMalformedValues() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("retry-after", "2");
+        HttpResponse response = new HttpResponse();
+        response.setHeaders(headers);
+        assertThat(JitterRetryPolicy.getRetryAfterMillis(response)).isEqualTo(2000);
+
+        assertThat(JitterRetryPolicy.getRetryAfterMillis(response("soon"))).isEqualTo(-1);
+        assertThat(JitterRetryPolicy.getRetryAfterMillis(response(null))).isEqualTo(-1);
+    }
+
+    private static HttpResponse response(String retryAfter) {
+        Map<String, String> headers = new HashMap<>();
+        if (retryAfter != null) {
+            headers.put("Retry-After", retryAfter);
+        }
+        HttpResponse response = new HttpResponse();
+        response.setStatusCode(429);
+        response.setHeaders(headers);
+        return response;
+    }
+
+    private static Error error(int errorCode) {
+        Error error = new Error();
+        error.setErrorCode(errorCode);
+        return error;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void acquire_startsWithFullBurst() throws Exception {
+        RateLimiter limiter = new RateLimiter(60, 5, now::get);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+        }
+
+        assertThat(limiter.getAvailablePermits()).isZero();
+        assertThat(limiter.getReservedPermits()).isZero();
+    }
+
+    @Test
+    void getAvailablePermits_refillsAtConfiguredRateUpToBurst() throws Exception {
+        RateLimiter limiter = new RateLimiter(60, 5, now::get);
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+        }
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(limiter.getAvailablePermits()).isEqualTo(2);
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        assertThat(limiter.getAvailablePermits()).isEqualTo(5);
+    }
+
+    @Test
+    void acquire_failsWhenExhaustedIfConfigured() throws Exception {
+        RateLimiter limiter = new RateLimiter(60, 1, now::get).setFailWhenExhausted(true);
+        limiter.acquire();
+
+        assertThatThrownBy(limiter::acquire).isInstanceOf(RateLimitExceededException.class);
+        assertThat(limiter.acquireAsync()).isCompletedExceptionally();
+    }
+
+    @Test
+    void acquireAsync_reservesPermitInsteadOfBlocking() {
+        RateLimiter limiter = new RateLimiter(60, 1, now::get);
+        assertThat(limiter.acquireAsync()).isDone();
+
+        // the bucket is empty: the next permit is one second away, so it is reserved rather than granted
+        CompletableFuture<Void> permit = limiter.acquireAsync();
+
+        assertThat(permit).isNotDone();
+        assertThat(limiter.getReservedPermits()).isEqualTo(1);
+        assertThat(permit).succeedsWithin(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveRate() {
+        assertThatThrownBy(() -> new RateLimiter(0, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.http;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecordingSourceTest {
+
+    private static byte[] content(int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) i;
+        }
+        return content;
+    }
+
+    @Test
+    void open_readsStreamWithoutCopyingAhead() throws Exception {
+        try (RecordingSource source = new RecordingSource(new ByteArrayInputStream(content(100)), 16)) {
+            assertThat(source.recorded()).isZero();
+            try (InputStream stream = source.open()) {
+                assertThat(stream.readNBytes(10)).isEqualTo(Arrays.copyOf(content(100), 10));
+            }
+            assertThat(source.recorded()).isEqualTo(10);
+            assertThat(source.isSpilled()).isFalse();
+        }
+    }
+
+    @Test
+    void open_replaysRecordingThenContinuesWithStream() throws Exception {
+        try (RecordingSource source = new RecordingSource(new ByteArrayInputStream(content(100)), 16)) {
+            try (InputStream stream = source.open()) {
+                stream.readNBytes(40);
+            }
+            assertThat(source.isSpilled()).isTrue();
+            for (int i = 0; i < 2; i++) {
+                try (InputStream stream = source.open()) {
+                    assertThat(IOUtils.toByteArray(stream)).isEqualTo(content(100));
+                }
+            }
+            assertThat(source.recorded()).isEqualTo(100);
+        }
+    }
+
+    @Test
+    void open_keepsContentWithinThresholdInMemory() throws Exception {
+        try (RecordingSource source = new RecordingSource(new ByteArrayInputStream(content(16)), 16)) {
+            for (int i = 0; i < 2; i++) {
+                try (InputStream stream = source.open()) {
+                    assertThat(IOUtils.toByteArray(stream)).isEqualTo(content(16));
+                }
+            }
+            assertThat(source.isSpilled()).isFalse();
+        }
+    }
+
+    @Test
+    void close_deletesSpilledRecording() throws Exception {
+        RecordingSource source = new RecordingSource(new ByteArrayInputStream(content(100)), 16);
+        try (InputStream stream = source.open()) {
+            IOUtils.toByteArray(stream);
+        }
+        source.close();
+
+        try (InputStream stream = source.open()) {
+            stream.readNBytes(16);
+            assertThatThrownBy(stream::read).isInstanceOf(IOException.class);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryBudgetTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void tryWithdraw_allowsRetriesInProportionToRequests() {
+        RetryBudget budget = new RetryBudget(0.1, 0, now::get);
+
+        for (int i = 0; i < 20; i++) {
+            budget.deposit();
+        }
+
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    void tryWithdraw_usesPerSecondReserveWhenNothingWasEarned() {
+        RetryBudget budget = new RetryBudget(0.1, 2, now::get);
+
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(budget.getAvailableRetries()).isEqualTo(1);
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        assertThat(budget.getAvailableRetries()).isEqualTo(2);
+    }
+
+    @Test
+    void deposit_capsTheBalance() {
+        RetryBudget budget = new RetryBudget(0.5, 0, now::get);
+
+        for (int i = 0; i < 10000; i++) {
+            budget.deposit();
+        }
+
+        assertThat(budget.getAvailableRetries()).isEqualTo(500);
+    }
+
+    @Test
+    void constructor_rejectsInvalidArguments() {
+        assertThatThrownBy(() -> new RetryBudget(-0.1, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryBudget(Double.NaN, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryBudget(0.1, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
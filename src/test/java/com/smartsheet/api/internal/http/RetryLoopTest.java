@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryLoopTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void run_retriesUntilAttemptReturnsResponse() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryLoop retry = new RetryLoop(request());
+
+        HttpResponse response = retry.run(null, loop -> {
+            loop.countAttempt();
+            if (attempts.incrementAndGet() < 3) {
+                loop.retryAfter(10);
+                return null;
+            }
+            return response(200);
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(attempts).hasValue(3);
+        assertThat(retry.getPreviousBackoffMillis()).isEqualTo(10);
+    }
+
+    @Test
+    void run_failsWhenInterruptedWhileWaiting() {
+        RetryLoop retry = new RetryLoop(request());
+        Thread.currentThread().interrupt();
+
+        assertThatThrownBy(() -> retry.run(null, loop -> {
+            loop.retryAfter(10000);
+            return null;
+        })).isInstanceOf(HttpClientException.class);
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    @Test
+    void runAsync_doesNotHoldExecutorThreadWhileBackingOff() {
+        // each request backs off once for 200ms; on a single thread they would take 10s if the backoff blocked it
+        List<CompletableFuture<HttpResponse>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < 50; i++) {
+            AtomicInteger attempts = new AtomicInteger();
+            futures.add(new RetryLoop(request()).runAsync(null, null, executor, loop -> {
+                if (attempts.incrementAndGet() == 1) {
+                    loop.retryAfter(200);
+                    return null;
+                }
+                return response(200);
+            }));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5000);
+    }
+
+    @Test
+    void runAsync_completesExceptionallyWhenAttemptFails() {
+        CompletableFuture<HttpResponse> future = new RetryLoop(request()).runAsync(null, null, executor, loop -> {
+            throw new HttpClientException("failed");
+        });
+
+        assertThat(future).failsWithin(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void runAsync_takesPermitForEveryAttempt() {
+        RateLimiter limiter = new RateLimiter(60, 1).setFailWhenExhausted(true);
+        CompletableFuture<HttpResponse> future = new RetryLoop(request()).runAsync(limiter, null, executor, loop -> {
+            loop.retryNow();
+            return null;
+        });
+
+        assertThat(future).failsWithin(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void runAsync_waitsForConcurrencyPermitWithoutHoldingExecutorThread() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+        limiter.acquireAsync();
+        AtomicInteger sampled = new AtomicInteger();
+        CompletableFuture<HttpResponse> waiting = new RetryLoop(request()).runAsync(null, limiter, executor, loop -> {
+            AdaptiveConcurrencyLimiter permit = loop.takeConcurrencyPermit();
+            permit.release(200, 1);
+            sampled.incrementAndGet();
+            return response(200);
+        });
+
+        // the only executor thread stays free while the request waits for the permit
+        CompletableFuture<HttpResponse> other = new RetryLoop(request()).runAsync(null, null, executor, loop -> response(200));
+        assertThat(other).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(waiting).isNotDone();
+
+        limiter.releaseWithoutSample();
+
+        assertThat(waiting).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(sampled).hasValue(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void runAsync_returnsPermitTheAttemptDidNotTake() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1);
+        CompletableFuture<HttpResponse> future = new RetryLoop(request()).runAsync(null, limiter, executor, loop -> {
+            throw new HttpClientException("failed before sending");
+        });
+
+        assertThat(future).failsWithin(5, TimeUnit.SECONDS);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void constructor_replacesNonMarkableBodyWithReplayableEntity() throws Exception {
+        byte[] content = "0123456789".getBytes(StandardCharsets.UTF_8);
+        HttpEntity entity = new HttpEntity();
+        entity.setContentType("application/octet-stream");
+        entity.setContent(new FilterInputStream(new ByteArrayInputStream(content)) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        });
+        entity.setContentLength(content.length);
+        HttpRequest request = request();
+        request.setEntity(entity);
+
+        RetryLoop retry = new RetryLoop(request);
+
+        assertThat(retry.canRetryRequest()).isTrue();
+        assertThat(retry.getBodyStream()).isNull();
+        assertThat(request.getEntity()).isInstanceOf(StreamingHttpEntity.class);
+        StreamingHttpEntity replayable = (StreamingHttpEntity) request.getEntity();
+        assertThat(replayable.getContentLength()).isEqualTo(content.length);
+        assertThat(replayable.toByteArray(content.length)).isEqualTo(content);
+        assertThat(replayable.toByteArray(content.length)).isEqualTo(content);
+    }
+
+    @Test
+    void bufferContent_writesEntityOnceForAllAttempts() throws Exception {
+        AtomicInteger writes = new AtomicInteger();
+        byte[] content = "0123456789".getBytes(StandardCharsets.UTF_8);
+        StreamingHttpEntity entity = new StreamingHttpEntity("application/json", outputStream -> {
+            writes.incrementAndGet();
+            outputStream.write(content);
+        });
+        HttpRequest request = request();
+        request.setEntity(entity);
+        RetryLoop retry = new RetryLoop(request);
+
+        for (int i = 0; i < 2; i++) {
+            StreamingHttpEntity buffered = retry.bufferContent(entity);
+            assertThat(buffered.getContentLength()).isEqualTo(content.length);
+            assertThat(buffered.toByteArray(content.length)).isEqualTo(content);
+        }
+        assertThat(writes).hasValue(1);
+    }
+
+    private static HttpRequest request() {
+        HttpRequest request = new HttpRequest();
+        request.setUri(URI.create("http://localhost/"));
+        request.setMethod(HttpMethod.GET);
+        return request;
+    }
+
+    private static HttpResponse response(int statusCode) {
+        HttpResponse response = new HttpResponse();
+        response.setStatusCode(statusCode);
+        return response;
+    }
+}
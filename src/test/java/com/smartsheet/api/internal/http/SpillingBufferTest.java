@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.http;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpillingBufferTest {
+
+    private static byte[] content(int size) {
+        byte[] content = new byte[size];
+        Arrays.fill(content, (byte) 'x');
+        return content;
+    }
+
+    @Test
+    void of_keepsContentWithinThresholdInMemory() throws Exception {
+        try (SpillingBuffer buffer = SpillingBuffer.of(new ByteArrayInputStream(content(16)), 16)) {
+            assertThat(buffer.isSpilled()).isFalse();
+            assertThat(buffer.size()).isEqualTo(16);
+            try (InputStream stream = buffer.openStream()) {
+                assertThat(IOUtils.toByteArray(stream)).isEqualTo(content(16));
+            }
+        }
+    }
+
+    @Test
+    void of_spillsLargerContentAndReplaysIt() throws Exception {
+        try (SpillingBuffer buffer = SpillingBuffer.of(new ByteArrayInputStream(content(100)), 16)) {
+            assertThat(buffer.isSpilled()).isTrue();
+            assertThat(buffer.size()).isEqualTo(100);
+            for (int i = 0; i < 2; i++) {
+                try (InputStream stream = buffer.openStream()) {
+                    assertThat(IOUtils.toByteArray(stream)).isEqualTo(content(100));
+                }
+            }
+        }
+    }
+
+    @Test
+    void of_writer_spillsInSinglePass() throws Exception {
+        int[] passes = {0};
+        StreamingHttpEntity.ContentWriter writer = outputStream -> {
+            passes[0]++;
+            for (int i = 0; i < 10; i++) {
+                outputStream.write(content(10));
+            }
+        };
+        try (SpillingBuffer buffer = SpillingBuffer.of(writer, 16)) {
+            assertThat(passes[0]).isEqualTo(1);
+            assertThat(buffer.isSpilled()).isTrue();
+            assertThat(buffer.size()).isEqualTo(100);
+            try (InputStream stream = buffer.openStream()) {
+                assertThat(IOUtils.toByteArray(stream)).isEqualTo(content(100));
+            }
+        }
+    }
+
+    @Test
+    void close_deletesSpilledContent() throws Exception {
+        SpillingBuffer buffer = SpillingBuffer.of(new ByteArrayInputStream(content(100)), 16);
+        buffer.close();
+
+        assertThatThrownBy(buffer::openStream).isInstanceOf(IOException.class);
+    }
+}
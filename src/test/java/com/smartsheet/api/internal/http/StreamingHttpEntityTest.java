@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.http;
+
+import com.smartsheet.api.internal.json.JacksonJsonSerializer;
+import com.smartsheet.api.models.Row;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingHttpEntityTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    private final StreamingHttpEntity entity = new StreamingHttpEntity("application/json", out -> out.write(CONTENT));
+
+    @Test
+    void toByteArray_returnsContentWithinLimit() throws Exception {
+        assertThat(entity.toByteArray(10)).isEqualTo(CONTENT);
+        assertThat(entity.toByteArray(9)).isNull();
+    }
+
+    @Test
+    void preview_truncatesContent() throws Exception {
+        assertThat(entity.preview(4)).isEqualTo("0123".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void preview_stopsSerializerOnceFull() throws Exception {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            rows.add(new Row((long) i));
+        }
+        JacksonJsonSerializer serializer = new JacksonJsonSerializer();
+        StreamingHttpEntity rowsEntity = new StreamingHttpEntity("application/json", out -> {
+            try {
+                serializer.serialize(rows, out);
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        });
+
+        assertThat(rowsEntity.preview(100)).hasSize(100);
+        assertThat(rowsEntity.toByteArray(100)).isNull();
+    }
+
+    @Test
+    void writeTo_leavesStreamOpenAndCanRepeat() throws Exception {
+        StreamingHttpEntity closing = new StreamingHttpEntity("application/json", out -> {
+            out.write(CONTENT);
+            out.close();
+        });
+        ClosedFlagStream target = new ClosedFlagStream();
+
+        closing.writeTo(target);
+        closing.writeTo(target);
+
+        assertThat(target.closed).isFalse();
+        assertThat(target.toByteArray()).hasSize(CONTENT.length * 2);
+    }
+
+    @Test
+    void getContent_writesContentIntoMemoryOnce() throws Exception {
+        assertThat(IOUtils.toByteArray(entity.getContent())).isEqualTo(CONTENT);
+        assertThat(entity.getContentLength()).isEqualTo(CONTENT.length);
+        assertThat(entity.getContent()).isSameAs(entity.getContent());
+    }
+
+    @Test
+    void ofFile_sendsAndReopensFile(@TempDir Path dir) throws Exception {
+        Path file = Files.write(dir.resolve("content.csv"), CONTENT);
+        StreamingHttpEntity fileEntity = StreamingHttpEntity.ofFile("text/csv", file, CONTENT.length);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        fileEntity.writeTo(target);
+        fileEntity.writeTo(target);
+
+        assertThat(fileEntity.getFile()).isEqualTo(file);
+        assertThat(fileEntity.getContentLength()).isEqualTo(CONTENT.length);
+        assertThat(target.toByteArray()).hasSize(CONTENT.length * 2);
+        try (InputStream content = fileEntity.openContent()) {
+            assertThat(IOUtils.toByteArray(content)).isEqualTo(CONTENT);
+        }
+        assertThat(entity.getFile()).isNull();
+    }
+
+    private static class ClosedFlagStream extends ByteArrayOutputStream {
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.json;
+
+import com.smartsheet.api.models.Cell;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.format.Bold;
+import com.smartsheet.api.models.format.Format;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FormatDeserializerTest {
+    private final JacksonJsonSerializer jjs = new JacksonJsonSerializer();
+
+    @Test
+    void deserialize_sharesFormatsWithTheSameString() throws IOException {
+        String json = "{\"format\":\",,1,,,,,,,,,,,,,,\",\"cells\":["
+                + "{\"columnId\":1,\"format\":\",,1,,,,,,,,,,,,,,\"},"
+                + "{\"columnId\":2,\"format\":\",,1,,,,,,,,,,,,,,\"},"
+                + "{\"columnId\":3,\"format\":\",,,1,,,,,,,,,,,,,\"}]}";
+
+        Row row = jjs.deserialize(Row.class, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        Format bold = row.getFormat();
+        assertThat(bold.getBold()).isEqualTo(Bold.ON);
+        assertThat(row.getCells().get(0).getFormat()).isSameAs(bold);
+        assertThat(row.getCells().get(1).getFormat()).isSameAs(bold);
+        assertThat(row.getCells().get(2).getFormat()).isNotSameAs(bold);
+    }
+
+    @Test
+    void deserialize_changedFormatIsACopy() throws IOException {
+        String json = "{\"columnId\":1,\"format\":\",,1,,,,,,,,,,,,,,\"}";
+        Format shared = jjs.deserialize(Cell.class, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))
+                .getFormat();
+
+        Format changed = new Format.FormatBuilder().withFormat(shared).withBold(Bold.NONE).build();
+
+        assertThat(changed.getBold()).isEqualTo(Bold.NONE);
+        assertThat(shared.getBold()).isEqualTo(Bold.ON);
+        Format again = jjs.deserialize(Cell.class, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))
+                .getFormat();
+        assertThat(again).isSameAs(shared);
+        assertThat(again.getBold()).isEqualTo(Bold.ON);
+    }
+}
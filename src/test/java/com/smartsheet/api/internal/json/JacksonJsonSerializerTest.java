@@ -18,9 +18,15 @@ package com.smartsheet.api.internal.json;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.smartsheet.api.models.Cell;
 import com.smartsheet.api.models.Folder;
+import com.smartsheet.api.models.Report;
+import com.smartsheet.api.models.ReportCell;
 import com.smartsheet.api.models.Result;
+import com.smartsheet.api.models.Row;
+import com.smartsheet.api.models.Sheet;
 import com.smartsheet.api.models.User;
+import com.smartsheet.api.models.enums.CellProperty;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
@@ -30,7 +36,9 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -272,4 +280,105 @@ class JacksonJsonSerializerTest {
                 .isInstanceOf(JSONSerializerException.class);
     }
 
+    @Test
+    void testDeserializeStreaming() throws JSONSerializerException {
+        String json = "{\"id\":1,\"name\":\"Sheet\",\"columns\":[{\"id\":10,\"title\":\"A\"}],"
+                + "\"rows\":[{\"id\":100,\"cells\":[{\"columnId\":10,\"value\":\"x\"}]},{\"id\":101}],"
+                + "\"totalRowCount\":2}";
+        List<Object> events = new ArrayList<>();
+
+        Sheet sheet = jjs.deserializeStreaming(Sheet.class, "rows", Row.class,
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), null,
+                header -> {
+                    assertThat(header.getColumns()).hasSize(1);
+                    assertThat(header.getTotalRowCount()).isNull();
+                    events.add(header.getName());
+                },
+                row -> events.add(row.getId()));
+
+        assertThat(events).containsExactly("Sheet", 100L, 101L);
+        assertThat(sheet.getId()).isEqualTo(1L);
+        assertThat(sheet.getRows()).isNull();
+        assertThat(sheet.getTotalRowCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testDeserializeStreaming_withoutArray() throws JSONSerializerException {
+        List<Sheet> headers = new ArrayList<>();
+
+        Sheet sheet = jjs.deserializeStreaming(Sheet.class, "rows", Row.class,
+                new ByteArrayInputStream("{\"id\":1,\"name\":\"Sheet\"}".getBytes(StandardCharsets.UTF_8)), null,
+                headers::add, row -> {
+                    throw new AssertionError("unexpected row");
+                });
+
+        assertThat(headers).containsExactly(sheet);
+        assertThat(sheet.getName()).isEqualTo("Sheet");
+
+        assertThatThrownBy(() -> jjs.deserializeStreaming(Sheet.class, "rows", Row.class,
+                new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)), null, headers::add, row -> {
+                }))
+                .isInstanceOf(JSONSerializerException.class);
+        assertThatThrownBy(() -> jjs.deserializeStreaming(Sheet.class, "rows", Row.class, null, null, headers::add, row -> {
+        }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testDeserializeWithCellProperties() throws IOException {
+        String json = "{\"id\":1,\"rows\":[{\"id\":100,\"cells\":[{\"columnId\":10,\"value\":\"x\","
+                + "\"displayValue\":\"X\",\"format\":\",,1,,,,,,,,,,,,,\",\"hyperlink\":{\"url\":\"http://a\"},"
+                + "\"linksOutToCells\":[{\"sheetId\":2,\"rowId\":3,\"columnId\":4}],\"strict\":false}]}]}";
+
+        Sheet sheet = jjs.deserialize(Sheet.class, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                EnumSet.of(CellProperty.VALUE));
+        Cell cell = sheet.getRows().get(0).getCells().get(0);
+        assertThat(cell.getColumnId()).isEqualTo(10L);
+        assertThat(cell.getValue()).isEqualTo("x");
+        assertThat(cell.getDisplayValue()).isNull();
+        assertThat(cell.getFormat()).isNull();
+        assertThat(cell.getHyperlink()).isNull();
+        assertThat(cell.getLinksOutToCells()).isNull();
+        assertThat(cell.getStrict()).isNull();
+
+        sheet = jjs.deserialize(Sheet.class, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), null);
+        cell = sheet.getRows().get(0).getCells().get(0);
+        assertThat(cell.getDisplayValue()).isEqualTo("X");
+        assertThat(cell.getFormat()).isNotNull();
+        assertThat(cell.getHyperlink().getUrl()).isEqualTo("http://a");
+        assertThat(cell.getLinksOutToCells()).hasSize(1);
+    }
+
+    @Test
+    void testDeserializeReportWithCellProperties() throws IOException {
+        String json = "{\"id\":1,\"rows\":[{\"id\":100,\"cells\":[{\"columnId\":10,\"virtualColumnId\":20,"
+                + "\"value\":5,\"displayValue\":\"5\"}]}]}";
+
+        Report report = jjs.deserialize(Report.class, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                EnumSet.of(CellProperty.DISPLAY_VALUE));
+        ReportCell cell = report.getRows().get(0).getCells().get(0);
+        assertThat(cell.getVirtualColumnId()).isEqualTo(20L);
+        assertThat(cell.getDisplayValue()).isEqualTo("5");
+        assertThat(cell.getValue()).isNull();
+    }
+
+    @Test
+    void testDeserializeResult_readerFollowsFailOnUnknownProperties() throws JSONSerializerException {
+        String json = "{\"message\":\"SUCCESS\",\"resultCode\":0,\"result\":{\"id\":1,\"unknownProperty\":true}}";
+
+        Result<Folder> result = jjs.deserializeResult(Folder.class,
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        assertThat(result.getResult().getId()).isEqualTo(1L);
+
+        JacksonJsonSerializer.setFailOnUnknownProperties(true);
+        try {
+            assertThatThrownBy(() -> jjs.deserializeResult(Folder.class,
+                    new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))))
+                    .isInstanceOf(JSONSerializerException.class);
+        } finally {
+            JacksonJsonSerializer.setFailOnUnknownProperties(false);
+        }
+        assertThat(jjs.deserializeResult(Folder.class, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))
+                .getResult().getId()).isEqualTo(1L);
+    }
 }
@@ -16,9 +16,14 @@
 
 package com.smartsheet.api.internal.json;
 
+import com.smartsheet.api.models.ContactObjectValue;
 import com.smartsheet.api.models.DateObjectValue;
 import com.smartsheet.api.models.Duration;
+import com.smartsheet.api.models.MultiContactObjectValue;
+import com.smartsheet.api.models.MultiPicklistObjectValue;
 import com.smartsheet.api.models.ObjectValue;
+import com.smartsheet.api.models.Predecessor;
+import com.smartsheet.api.models.PredecessorList;
 import com.smartsheet.api.models.PrimitiveObjectValue;
 import com.smartsheet.api.models.enums.ObjectValueType;
 import org.junit.jupiter.api.Test;
@@ -301,6 +306,83 @@ class ObjectValueDeserializerTest {
         assertThat(jacksonJsonSerializer.serialize(actual)).isEqualTo("true");
     }
 
+    @Test
+    void contact() throws IOException, JSONSerializerException {
+        String json = "{\"objectValue\": {\"name\": \"Jane\", \"email\": \"jane@smartsheet.com\","
+                + " \"objectType\": \"CONTACT\", \"id\": 42}}";
+
+        ContactObjectValue contact = (ContactObjectValue) getObjectValue(json);
+
+        assertThat(contact.getName()).isEqualTo("Jane");
+        assertThat(contact.getEmail()).isEqualTo("jane@smartsheet.com");
+        assertThat(contact.getId()).isEqualTo("42");
+    }
+
+    @Test
+    void multiContact() throws IOException, JSONSerializerException {
+        String json = "{\"objectValue\": {\"objectType\": \"MULTI_CONTACT\", \"values\": ["
+                + "{\"objectType\": \"CONTACT\", \"email\": \"a@smartsheet.com\", \"name\": \"A\", \"refIndex\": 0},"
+                + "{\"objectType\": \"CONTACT\", \"email\": \"b@smartsheet.com\", \"imageId\": \"img\"}]}}";
+
+        MultiContactObjectValue multiContact = (MultiContactObjectValue) getObjectValue(json);
+
+        assertThat(multiContact.getValues()).hasSize(2);
+        assertThat(multiContact.getValues().get(0).getName()).isEqualTo("A");
+        assertThat(multiContact.getValues().get(0).getRefIndex()).isEqualTo(0);
+        assertThat(multiContact.getValues().get(1).getEmail()).isEqualTo("b@smartsheet.com");
+        assertThat(multiContact.getValues().get(1).getImageId()).isEqualTo("img");
+    }
+
+    @Test
+    void contact_structuredValueInScalarField_isSkipped() throws IOException, JSONSerializerException {
+        String json = "{\"objectValue\": {\"objectType\": \"CONTACT\", \"name\": {\"first\": \"Jane\"},"
+                + " \"email\": [\"jane@smartsheet.com\"], \"id\": 42}}";
+
+        ContactObjectValue contact = (ContactObjectValue) getObjectValue(json);
+
+        assertThat(contact.getName()).isNull();
+        assertThat(contact.getEmail()).isNull();
+        assertThat(contact.getId()).isEqualTo("42");
+    }
+
+    @Test
+    void multiContact_structuredValueInContactField_isSkipped() throws IOException, JSONSerializerException {
+        String json = "{\"objectValue\": {\"objectType\": \"MULTI_CONTACT\", \"values\": ["
+                + "{\"name\": {\"first\": \"A\"}, \"email\": \"a@smartsheet.com\"},"
+                + "{\"refIndex\": [1], \"email\": \"b@smartsheet.com\"}]}}";
+
+        MultiContactObjectValue multiContact = (MultiContactObjectValue) getObjectValue(json);
+
+        assertThat(multiContact.getValues()).hasSize(2);
+        assertThat(multiContact.getValues().get(0).getName()).isNull();
+        assertThat(multiContact.getValues().get(0).getEmail()).isEqualTo("a@smartsheet.com");
+        assertThat(multiContact.getValues().get(1).getEmail()).isEqualTo("b@smartsheet.com");
+    }
+
+    @Test
+    void multiPicklist() throws IOException, JSONSerializerException {
+        String json = "{\"objectValue\": {\"objectType\": \"MULTI_PICKLIST\", \"values\": [\"red\", \"blue\"]}}";
+
+        MultiPicklistObjectValue multiPicklist = (MultiPicklistObjectValue) getObjectValue(json);
+
+        assertThat(multiPicklist.getValues()).containsExactly("red", "blue");
+    }
+
+    @Test
+    void predecessorList() throws IOException, JSONSerializerException {
+        String json = "{\"objectValue\": {\"objectType\": \"PREDECESSOR_LIST\", \"predecessors\": ["
+                + "{\"rowId\": 7, \"rowNumber\": 2, \"type\": \"FS\", \"inCriticalPath\": true,"
+                + " \"lag\": {\"objectType\": \"DURATION\", \"days\": 2}}]}}";
+
+        PredecessorList predecessorList = (PredecessorList) getObjectValue(json);
+
+        assertThat(predecessorList.getPredecessors()).hasSize(1);
+        Predecessor predecessor = predecessorList.getPredecessors().get(0);
+        assertThat(predecessor.getRowId()).isEqualTo(7L);
+        assertThat(predecessor.getType()).isEqualTo("FS");
+        assertThat(predecessor.getLag().getDays()).isEqualTo(2.0, within(DELTA));
+    }
+
     private static class ExpectedAttributeValue {
         final String attributeName;
         final Object attributeValue;
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.smartsheet.api.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTeeInputStreamTest {
+    private static final String CONTENT = "fuzzy wuzzy was a bear; fuzzy wuzzy had no hair...";
+
+    private static InputStream source() {
+        return new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void passesContentThroughAndKeepsOnlyTheHead() throws Exception {
+        BoundedTeeInputStream tee = new BoundedTeeInputStream(source(), 6);
+
+        assertThat(new String(StreamUtil.readBytesFromStream(tee), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+        assertThat(tee.toUtf8StringOrHex(5)).isEqualTo("fuzzy...");
+        assertThat(tee.toUtf8StringOrHex(6)).isEqualTo("fuzzy ");
+    }
+
+    @Test
+    void keepsOnlyWhatWasReadSoFar() throws Exception {
+        BoundedTeeInputStream tee = new BoundedTeeInputStream(source(), 100);
+
+        assertThat(tee.read()).isEqualTo('f');
+        assertThat(tee.skip(4)).isEqualTo(4);
+
+        assertThat(tee.toUtf8StringOrHex(-1)).isEqualTo("fuzzy");
+    }
+
+    @Test
+    void keepsEverythingWithoutLimit() throws Exception {
+        BoundedTeeInputStream tee = new BoundedTeeInputStream(source(), -1);
+
+        StreamUtil.readBytesFromStream(tee);
+
+        assertThat(tee.toUtf8StringOrHex(-1)).isEqualTo(CONTENT);
+        assertThat(tee.markSupported()).isFalse();
+    }
+}
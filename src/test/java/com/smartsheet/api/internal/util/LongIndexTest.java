@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongIndexTest {
+
+    @Test
+    void get_findsEveryKey() {
+        List<Long> values = new ArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            values.add(i << 32);
+        }
+        LongIndex<Long> index = new LongIndex<>(value -> value);
+
+        for (Long value : values) {
+            assertThat(index.get(values, value)).isSameAs(value);
+        }
+        assertThat(index.get(values, 1L)).isNull();
+        assertThat(index.get(null, 0L)).isNull();
+    }
+
+    @Test
+    void get_firstElementWinsAndNullKeysAreSkipped() {
+        String[] keys = {null, "7", "7"};
+        List<Integer> values = Arrays.asList(0, 1, 2);
+        LongIndex<Integer> index = new LongIndex<>(value -> keys[value] == null ? null : Long.valueOf(keys[value]));
+
+        assertThat(index.get(values, 7L)).isEqualTo(1);
+        assertThat(index.get(values, 0L)).isNull();
+    }
+
+    @Test
+    void get_rebuildsWhenKeyChanges() {
+        long[] keys = {1L, 2L};
+        List<Integer> values = Arrays.asList(0, 1);
+        LongIndex<Integer> index = new LongIndex<>(value -> keys[value]);
+
+        assertThat(index.get(values, 1L)).isEqualTo(0);
+        keys[0] = 3L;
+        assertThat(index.get(values, 1L)).isNull();
+        assertThat(index.get(values, 3L)).isEqualTo(0);
+    }
+
+    @Test
+    void get_concurrentLookupsSeeCompleteIndex() throws Exception {
+        List<Long> values = new ArrayList<>();
+        for (long i = 0; i < 10_000; i++) {
+            values.add(i);
+        }
+        LongIndex<Long> index = new LongIndex<>(value -> value);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                results.add(executor.submit(() -> {
+                    for (int round = 0; round < 20; round++) {
+                        // a copy of the list makes every thread rebuild the index while the others read it
+                        List<Long> list = round % 2 == 0 ? values : new ArrayList<>(values);
+                        for (Long value : list) {
+                            if (index.get(list, value) != value) {
+                                return false;
+                            }
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
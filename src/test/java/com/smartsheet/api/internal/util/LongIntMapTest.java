@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2024 Smartsheet
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.smartsheet.api.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongIntMapTest {
+
+    @Test
+    void putIfAbsent_growsAndKeepsFirstValue() {
+        LongIntMap map = new LongIntMap(1);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(map.putIfAbsent((long) i << 32, i)).isTrue();
+        }
+
+        assertThat(map.putIfAbsent(0L, 5)).isFalse();
+        assertThat(map.size()).isEqualTo(10_000);
+        assertThat(map.get(0L)).isZero();
+        assertThat(map.get(9_999L << 32)).isEqualTo(9_999);
+        assertThat(map.get(1L)).isEqualTo(-1);
+    }
+
+    @Test
+    void putIfAbsent_rejectsNegativeValues() {
+        assertThatThrownBy(() -> new LongIntMap(4).putIfAbsent(1L, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -20,6 +20,7 @@ import com.smartsheet.api.internal.json.JacksonJsonSerializer;
 import com.smartsheet.api.models.format.Format;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -52,6 +53,49 @@ class RowTest {
         assertThat(row1.getColumnByIndex(1)).isNull();
     }
 
+    @Test
+    void testGetCellByColumnId() {
+        Cell first = new Cell().setColumnId(1L).setValue("a");
+        Cell second = new Cell().setColumnId(2L).setValue("b");
+        List<Cell> cells = new ArrayList<>(List.of(first, second));
+        Row row = new Row().setCells(cells);
+
+        assertThat(row.getCellByColumnId(2L)).isEqualTo(second);
+        assertThat(row.getCellByColumnId(3L)).isNull();
+        assertThat(new Row().getCellByColumnId(1L)).isNull();
+
+        Cell third = new Cell().setColumnId(3L);
+        cells.add(third);
+        assertThat(row.getCellByColumnId(3L)).isEqualTo(third);
+
+        // a key changed in place is found once the list is set again
+        first.setColumnId(4L);
+        row.setCells(cells);
+        assertThat(row.getCellByColumnId(4L)).isEqualTo(first);
+    }
+
+    @Test
+    void testTypedAccessors() {
+        Row row = new Row().setCells(List.of(
+                new Cell().setColumnId(1L).setValue(12),
+                new Cell().setColumnId(2L).setValue("2024-01-31"),
+                new Cell().setColumnId(3L).setValue("2024-01-31T23:30:00Z"),
+                new Cell().setColumnId(4L).setValue(true),
+                new Cell().setColumnId(5L).setValue("text"),
+                new Cell().setColumnId(6L)));
+
+        assertThat(row.getDouble(1L)).isEqualTo(12.0);
+        assertThat(row.getDouble(5L)).isNull();
+        assertThat(row.getString(1L)).isEqualTo("12");
+        assertThat(row.getLocalDate(2L)).isEqualTo(LocalDate.of(2024, 1, 31));
+        assertThat(row.getLocalDate(3L)).isEqualTo(LocalDate.of(2024, 1, 31));
+        assertThat(row.getLocalDate(5L)).isNull();
+        assertThat(row.getBoolean(4L)).isTrue();
+        assertThat(row.getBoolean(5L)).isNull();
+        assertThat(row.getValue(6L)).isNull();
+        assertThat(row.getString(7L)).isNull();
+    }
+
     @Test
     void testInsertRowBuilder() {
         Format format = new Format("new format");
@@ -19,7 +19,9 @@ package com.smartsheet.api.models;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -37,4 +39,71 @@ class SheetTest {
         assertThat(new Sheet().getRowByRowNumber(0)).isNull();
     }
 
+    @Test
+    void testGetRowById() {
+        Row first = new Row().setRowNumber(1).setRowId(11L);
+        Row second = new Row().setRowNumber(2).setRowId(22L);
+        List<Row> rows = new ArrayList<>(List.of(first, second));
+        Sheet sheet = new Sheet().setRows(rows);
+
+        assertThat(sheet.getRowById(22L)).isEqualTo(second);
+        assertThat(sheet.getRowById(33L)).isNull();
+        assertThat(new Sheet().getRowById(11L)).isNull();
+
+        // the index follows changes to the list and to the rows themselves
+        Row third = new Row().setRowNumber(3).setRowId(33L);
+        rows.add(third);
+        assertThat(sheet.getRowById(33L)).isEqualTo(third);
+        assertThat(sheet.getRowByRowNumber(3)).isEqualTo(third);
+        second.setRowNumber(5);
+        assertThat(sheet.getRowByRowNumber(2)).isNull();
+        assertThat(sheet.getRowByRowNumber(5)).isEqualTo(second);
+        sheet.setRows(List.of(first));
+        assertThat(sheet.getRowById(22L)).isNull();
+    }
+
+    @Test
+    void testGetColumnByTitle() {
+        Column primary = new Column(1L).setIndex(0).setTitle("Task");
+        Column duplicate = new Column(2L).setIndex(1).setTitle("Task");
+        Sheet sheet = new Sheet().setColumns(List.of(primary, duplicate));
+
+        assertThat(sheet.getColumnByTitle("Task")).isEqualTo(primary);
+        assertThat(sheet.getColumnByTitle("Status")).isNull();
+        assertThat(sheet.getColumnByTitle(null)).isNull();
+        assertThat(sheet.getColumnById(2L)).isEqualTo(duplicate);
+        assertThat(sheet.getColumnByIndex(1)).isEqualTo(duplicate);
+        assertThat(new Sheet().getColumnByTitle("Task")).isNull();
+    }
+
+    @Test
+    void testRowStream() {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 1; i <= 10_000; i++) {
+            rows.add(new Row().setRowNumber(i));
+        }
+        Sheet sheet = new Sheet().setRows(rows);
+
+        assertThat(sheet.rowStream().parallel().mapToLong(Row::getRowNumber).sum()).isEqualTo(50_005_000L);
+        assertThat(sheet.rowStream().parallel().map(Row::getRowNumber).collect(Collectors.toList()))
+                .isEqualTo(rows.stream().map(Row::getRowNumber).collect(Collectors.toList()));
+        assertThat(new Sheet().setRows(new LinkedList<>(rows)).rowStream().parallel().count()).isEqualTo(10_000L);
+        assertThat(new Sheet().rowStream().count()).isZero();
+    }
+
+    @Test
+    void testColumnStream() {
+        Column first = new Column(1L);
+        Column second = new Column(2L);
+        Sheet sheet = new Sheet().setColumns(List.of(first, second));
+        sheet.setRows(List.of(
+                new Row().setCells(List.of(new Cell().setColumnId(1L).setValue(1.0), new Cell().setColumnId(2L).setValue(2.0))),
+                // cells out of column order are still found
+                new Row().setCells(List.of(new Cell().setColumnId(2L).setValue(4.0), new Cell().setColumnId(1L).setValue(3.0))),
+                new Row().setCells(List.of(new Cell().setColumnId(1L).setValue(5.0)))));
+
+        assertThat(sheet.columnStream(2L).map(Cell::getValue).collect(Collectors.toList())).containsExactly(2.0, 4.0);
+        assertThat(sheet.columnStream(1L).parallel().mapToDouble(cell -> (Double) cell.getValue()).sum()).isEqualTo(9.0);
+        assertThat(sheet.columnStream(3L).count()).isZero();
+    }
 }